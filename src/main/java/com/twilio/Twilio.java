@@ -156,9 +156,13 @@ public class Twilio {
     }
 
     /**
-     * Invalidates the volatile state held in the Twilio singleton.
+     * Invalidates the volatile state held in the Twilio singleton, closing the connections of the dropped client.
      */
     private static void invalidate() {
+        TwilioRestClient restClient = Twilio.restClient;
         Twilio.restClient = null;
+        if (restClient != null) {
+            restClient.close();
+        }
     }
 }
@@ -1,11 +1,13 @@
 package com.twilio.base;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.twilio.Twilio;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
 
-import java.util.concurrent.Callable;
-
 /**
  * Executor for creation of a resource.
  *
@@ -13,6 +15,29 @@ import java.util.concurrent.Callable;
  */
 public abstract class Creator<T extends Resource> {
 
+    private boolean idempotent = true;
+
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    /**
+     * Mark whether the creation is safe to repeat.
+     *
+     * <p>
+     *     Non-idempotent creations, like sending a message, are only retried when the server reports it didn't
+     *     process them. Creators of resources with side effects, like messages, calls and tasks, are
+     *     non-idempotent unless marked otherwise.
+     * </p>
+     *
+     * @param idempotent true if the creation is safe to repeat
+     * @return this creator
+     */
+    public Creator<T> idempotent(final boolean idempotent) {
+        this.idempotent = idempotent;
+        return this;
+    }
+
     /**
      * Execute an async request using default client.
      *
@@ -29,9 +54,17 @@ public abstract class Creator<T extends Resource> {
      * @return future that resolves to requested object
      */
     public ListenableFuture<T> createAsync(final TwilioRestClient client) {
-        return Twilio.getExecutorService().submit(new Callable<T>() {
-            public T call() {
-                return create(client);
+        final Request request;
+        try {
+            request = createRequest(client);
+        } catch (final RuntimeException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+
+        return Futures.transform(client.requestAsync(request), new Function<Response, T>() {
+            @Override
+            public T apply(final Response response) {
+                return parseAndRelease(response, client);
             }
         });
     }
@@ -51,5 +84,40 @@ public abstract class Creator<T extends Resource> {
      * @param client client used to make request
      * @return Requested object
      */
-    public abstract T create(final TwilioRestClient client);
+    public T create(final TwilioRestClient client) {
+        return parseAndRelease(client.request(createRequest(client)), client);
+    }
+
+    private T parseAndRelease(final Response response, final TwilioRestClient client) {
+        try {
+            return parseResponse(response, client);
+        } finally {
+            if (response != null) {
+                response.close();
+            }
+        }
+    }
+
+    private Request createRequest(final TwilioRestClient client) {
+        Request request = buildRequest(client);
+        request.setNonIdempotent(!idempotent);
+        return request;
+    }
+
+    /**
+     * Build the request to send using specified client.
+     *
+     * @param client client the request will be made with
+     * @return Request to make
+     */
+    protected abstract Request buildRequest(final TwilioRestClient client);
+
+    /**
+     * Convert the response of a request into the requested object.
+     *
+     * @param response response of the request, null if unable to connect
+     * @param client client the request was made with
+     * @return Requested object
+     */
+    protected abstract T parseResponse(final Response response, final TwilioRestClient client);
 }
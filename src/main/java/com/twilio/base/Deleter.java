@@ -1,11 +1,13 @@
 package com.twilio.base;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.twilio.Twilio;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
 
-import java.util.concurrent.Callable;
-
 /**
  * Executor for deletes of a resource.
  *
@@ -29,9 +31,17 @@ public abstract class Deleter<T extends Resource> {
      * @return future that resolves to true if the object was deleted
      */
     public ListenableFuture<Boolean> deleteAsync(final TwilioRestClient client) {
-        return Twilio.getExecutorService().submit(new Callable<Boolean>() {
-            public Boolean call() {
-                return delete(client);
+        final Request request;
+        try {
+            request = buildRequest(client);
+        } catch (final RuntimeException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+
+        return Futures.transform(client.requestAsync(request), new Function<Response, Boolean>() {
+            @Override
+            public Boolean apply(final Response response) {
+                return parseAndRelease(response, client);
             }
         });
     }
@@ -51,5 +61,34 @@ public abstract class Deleter<T extends Resource> {
      * @param client client used to make request
      * @return true if the object was deleted
      */
-    public abstract boolean delete(final TwilioRestClient client);
+    public boolean delete(final TwilioRestClient client) {
+        return parseAndRelease(client.request(buildRequest(client)), client);
+    }
+
+    private boolean parseAndRelease(final Response response, final TwilioRestClient client) {
+        try {
+            return parseResponse(response, client);
+        } finally {
+            if (response != null) {
+                response.close();
+            }
+        }
+    }
+
+    /**
+     * Build the request to send using specified client.
+     *
+     * @param client client the request will be made with
+     * @return Request to make
+     */
+    protected abstract Request buildRequest(final TwilioRestClient client);
+
+    /**
+     * Check the response of a delete request.
+     *
+     * @param response response of the request, null if unable to connect
+     * @param client client the request was made with
+     * @return true if the object was deleted
+     */
+    protected abstract boolean parseResponse(final Response response, final TwilioRestClient client);
 }
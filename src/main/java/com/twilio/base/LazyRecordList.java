@@ -0,0 +1,84 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.twilio.exception.ApiConnectionException;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Records of a page kept as slices of the response body and decoded on first access.
+ *
+ * <p>
+ *     Each record is bound at most once; later accesses return the same object. Records that are never
+ *     read are never decoded.
+ * </p>
+ *
+ * @param <T> record class type
+ */
+class LazyRecordList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final byte[] json;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final Object[] records;
+    private final ObjectReader reader;
+
+    /**
+     * Wrap the record slices of a response body.
+     *
+     * @param json whole response body
+     * @param offsets start of each record in the body, -1 for a null record
+     * @param lengths length of each record in bytes
+     * @param size number of records
+     * @param reader reader bound to the record type
+     */
+    LazyRecordList(final byte[] json, final int[] offsets, final int[] lengths, final int size,
+                   final ObjectReader reader) {
+        this.json = json;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.records = new Object[size];
+        this.reader = reader;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        if (index < 0 || index >= records.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + records.length);
+        }
+
+        Object record = records[index];
+        if (record == null && offsets[index] >= 0) {
+            try {
+                record = reader.readValue(json, offsets[index], lengths[index]);
+            } catch (final IOException e) {
+                throw new ApiConnectionException("Unable to deserialize record: " + e.getMessage(), e);
+            }
+            records[index] = record;
+        }
+        return (T) record;
+    }
+
+    @Override
+    public int size() {
+        return records.length;
+    }
+
+    /**
+     * Get the number of records decoded so far.
+     *
+     * @return number of records decoded
+     */
+    int getDecoded() {
+        int decoded = 0;
+        for (Object record : records) {
+            if (record != null) {
+                decoded++;
+            }
+        }
+        return decoded;
+    }
+}
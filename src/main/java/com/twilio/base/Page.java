@@ -1,13 +1,19 @@
 package com.twilio.base;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.base.Joiner;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
 import com.twilio.exception.ApiConnectionException;
+import com.twilio.http.UrlTemplate;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 
 public class Page<T> {
@@ -22,7 +28,7 @@ public class Page<T> {
     private final String uri;
     private final int pageSize;
 
-    private Page(Builder<T> b) {
+    Page(Builder<T> b) {
         this.records = b.records;
         this.firstPageUri = b.firstPageUri;
         this.firstPageUrl = b.firstPageUrl;
@@ -36,7 +42,7 @@ public class Page<T> {
     }
 
     private String urlFromUri(String domain, String region, String uri) {
-        return "https://" + Joiner.on(".").skipNulls().join(domain, region, "twilio", "com") + uri;
+        return UrlTemplate.baseUrl(domain, region) + uri;
     }
 
     public List<T> getRecords() {
@@ -111,6 +117,14 @@ public class Page<T> {
         return !Strings.isNullOrEmpty(nextPageUri) || !Strings.isNullOrEmpty(nextPageUrl);
     }
 
+    Iterator<T> recordIterator() {
+        return records.iterator();
+    }
+
+    void close() {
+        // Records are already materialized, nothing to release
+    }
+
     /**
      * Create a new page of data from a json blob.
      *
@@ -123,20 +137,7 @@ public class Page<T> {
      */
     public static <T> Page<T> fromJson(String recordKey, String json, Class<T> recordType, ObjectMapper mapper) {
         try {
-            List<T> results = new ArrayList<>();
-            JsonNode root = mapper.readTree(json);
-            JsonNode records = root.get(recordKey);
-            for (final JsonNode record : records) {
-                results.add(mapper.readValue(record.toString(), recordType));
-            }
-
-            JsonNode uriNode = root.get("uri");
-            if (uriNode != null) {
-                return buildPage(root, results);
-            } else {
-                return buildNextGenPage(root, results);
-            }
-
+            return fromParser(recordKey, mapper.getFactory().createParser(json), mapper.reader(recordType), null);
         } catch (final IOException e) {
             throw new ApiConnectionException(
                 "Unable to deserialize response: " + e.getMessage() + "\nJSON: " + json, e
@@ -144,65 +145,221 @@ public class Page<T> {
         }
     }
 
-    private static <T> Page<T> buildPage(JsonNode root, List<T> results) {
-        Builder<T> builder = new Builder<T>()
-            .uri(root.get("uri").asText());
+    /**
+     * Create a new page of data from a json stream.
+     *
+     * <p>
+     *     Records are bound directly from the stream and the paging metadata is read in the same pass,
+     *     so the response body is never held in memory as a String or a tree.
+     * </p>
+     *
+     * @param recordKey key which holds the records
+     * @param json json stream
+     * @param recordType resource type
+     * @param mapper json parser
+     * @param <T> record class type
+     * @return a page of records of type T
+     */
+    public static <T> Page<T> fromJson(String recordKey, InputStream json, Class<T> recordType, ObjectMapper mapper) {
+        return fromJson(recordKey, json, mapper.reader(recordType));
+    }
 
-        JsonNode nextPageNode = root.get("next_page_uri");
-        if (nextPageNode != null && !nextPageNode.isNull()) {
-            builder.nextPageUri(nextPageNode.asText());
+    /**
+     * Create a new page of data from a json stream, binding records with a configured reader.
+     *
+     * @param recordKey key which holds the records
+     * @param json json stream
+     * @param reader reader bound to the resource type
+     * @param <T> record class type
+     * @return a page of records of type T
+     */
+    public static <T> Page<T> fromJson(String recordKey, InputStream json, ObjectReader reader) {
+        try {
+            return fromParser(recordKey, reader.getFactory().createParser(json), reader, null);
+        } catch (final IOException e) {
+            throw new ApiConnectionException("Unable to deserialize response: " + e.getMessage(), e);
         }
+    }
 
-        JsonNode previousPageNode = root.get("previous_page_uri");
-        if (previousPageNode != null && !previousPageNode.isNull()) {
-            builder.previousPageUri(previousPageNode.asText());
-        }
+    /**
+     * Create a new page of data from a json stream, decoding each record on first access.
+     *
+     * <p>
+     *     The body is read into memory and only scanned for the bounds of each record, which is bound the first
+     *     time it is read from the page. Pages whose records are mostly skipped, or read up to a limit, don't pay
+     *     for binding the rest.
+     * </p>
+     *
+     * @param recordKey key which holds the records
+     * @param json json stream
+     * @param recordType resource type
+     * @param mapper json parser
+     * @param <T> record class type
+     * @return a page of records of type T
+     */
+    public static <T> Page<T> lazyFromJson(String recordKey, InputStream json, Class<T> recordType,
+                                           ObjectMapper mapper) {
+        return lazyFromJson(recordKey, json, mapper.reader(recordType));
+    }
 
-        JsonNode firstPageNode = root.get("first_page_uri");
-        if (firstPageNode != null && !firstPageNode.isNull()) {
-            builder.firstPageUri(firstPageNode.asText());
+    /**
+     * Create a new page of data from a json stream, binding each record with a configured reader on first access.
+     *
+     * @param recordKey key which holds the records
+     * @param json json stream
+     * @param reader reader bound to the resource type
+     * @param <T> record class type
+     * @return a page of records of type T
+     */
+    public static <T> Page<T> lazyFromJson(String recordKey, InputStream json, ObjectReader reader) {
+        try {
+            byte[] body;
+            try {
+                body = ByteStreams.toByteArray(json);
+            } finally {
+                json.close();
+            }
+            return fromParser(recordKey, reader.getFactory().createParser(body), reader, body);
+        } catch (final IOException e) {
+            throw new ApiConnectionException("Unable to deserialize response: " + e.getMessage(), e);
         }
+    }
 
-        JsonNode pageSizeNode = root.get("page_size");
-        if (pageSizeNode != null && !pageSizeNode.isNull()) {
-            builder.pageSize(pageSizeNode.asInt());
-        } else {
-            builder.pageSize(results.size());
-        }
+    /**
+     * Read a list response, binding the records or, if the body is given, only noting where they are.
+     */
+    private static <T> Page<T> fromParser(String recordKey, JsonParser parser, ObjectReader reader,
+                                          byte[] body) throws IOException {
+        try {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ApiConnectionException("Unable to deserialize response: expected a JSON object");
+            }
 
-        return builder.records(results).build();
+            Builder<T> builder = new Builder<>();
+            List<T> results = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+
+                if (field.equals(recordKey)) {
+                    if (token == JsonToken.START_ARRAY && body != null) {
+                        results = sliceRecords(parser, body, reader);
+                    } else if (token == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            results.add(reader.<T>readValue(parser));
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                } else {
+                    readPagingProperty(field, parser, builder);
+                }
+            }
+
+            if (!builder.hasPageSize()) {
+                builder.pageSize(results.size());
+            }
+
+            return builder.records(results).build();
+        } finally {
+            parser.close();
+        }
     }
 
-    private static <T> Page<T> buildNextGenPage(JsonNode root, List<T> results) {
-        JsonNode meta = root.get("meta");
-        Builder<T> builder = new Builder<T>().url(meta.get("url").asText());
+    private static <T> List<T> sliceRecords(JsonParser parser, byte[] body, ObjectReader reader) throws IOException {
+        int[] offsets = new int[16];
+        int[] lengths = new int[16];
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
 
-        JsonNode nextPageNode = meta.get("next_page_url");
-        if (!nextPageNode.isNull()) {
-            builder.nextPageUrl(nextPageNode.asText());
+            if (parser.getCurrentToken() == JsonToken.START_OBJECT) {
+                // The token location can point at the separator before the record
+                int start = (int) parser.getTokenLocation().getByteOffset();
+                while (body[start] != '{') {
+                    start++;
+                }
+                parser.skipChildren();
+                offsets[size] = start;
+                lengths[size] = (int) parser.getCurrentLocation().getByteOffset() - start;
+            } else {
+                parser.skipChildren();
+                offsets[size] = -1;
+            }
+            size++;
         }
+        return new LazyRecordList<>(body, offsets, lengths, size, reader);
+    }
 
-        JsonNode previousPageNode = meta.get("previous_page_url");
-        if (!previousPageNode.isNull()) {
-            builder.previousPageUrl(previousPageNode.asText());
+    /**
+     * Read a single top level property of a list response, skipping anything that is not paging metadata.
+     *
+     * <p>
+     *     Handles both the {@code *_page_uri} properties of the 2010 API and the {@code *_page_url}
+     *     properties found in the {@code meta} block of next-gen APIs.
+     * </p>
+     */
+    static <T> void readPagingProperty(String field, JsonParser parser, Builder<T> builder) throws IOException {
+        if ("meta".equals(field) && parser.getCurrentToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String metaField = parser.getCurrentName();
+                parser.nextToken();
+                readPagingField(metaField, parser, builder);
+            }
+            return;
         }
 
-        JsonNode firstPageNode = meta.get("first_page_url");
-        if (!firstPageNode.isNull()) {
-            builder.firstPageUrl(firstPageNode.asText());
+        readPagingField(field, parser, builder);
+    }
+
+    private static <T> void readPagingField(String field, JsonParser parser, Builder<T> builder) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return;
         }
 
-        JsonNode pageSizeNode = meta.get("page_size");
-        if (!pageSizeNode.isNull()) {
-            builder.pageSize(pageSizeNode.asInt());
-        } else {
-            builder.pageSize(results.size());
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
         }
 
-        return builder.records(results).build();
+        switch (field) {
+            case "uri":
+                builder.uri(parser.getText());
+                break;
+            case "url":
+                builder.url(parser.getText());
+                break;
+            case "first_page_uri":
+                builder.firstPageUri(parser.getText());
+                break;
+            case "first_page_url":
+                builder.firstPageUrl(parser.getText());
+                break;
+            case "next_page_uri":
+                builder.nextPageUri(parser.getText());
+                break;
+            case "next_page_url":
+                builder.nextPageUrl(parser.getText());
+                break;
+            case "previous_page_uri":
+                builder.previousPageUri(parser.getText());
+                break;
+            case "previous_page_url":
+                builder.previousPageUrl(parser.getText());
+                break;
+            case "page_size":
+                builder.pageSize(parser.getValueAsInt());
+                break;
+            default:
+                break;
+        }
     }
 
-    private static class Builder<T> {
+    static class Builder<T> {
         private List<T> records;
         private String firstPageUrl;
         private String firstPageUri;
@@ -212,7 +369,7 @@ public class Page<T> {
         private String previousPageUri;
         private String uri;
         private String url;
-        private int pageSize;
+        private Integer pageSize;
 
         public Builder<T> records(List<T> records) {
             this.records = records;
@@ -264,6 +421,10 @@ public class Page<T> {
             return this;
         }
 
+        public boolean hasPageSize() {
+            return pageSize != null;
+        }
+
         public Page<T> build() {
             return new Page<>(this);
         }
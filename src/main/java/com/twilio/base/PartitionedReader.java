@@ -0,0 +1,328 @@
+package com.twilio.base;
+
+import com.google.common.base.Function;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.twilio.Twilio;
+import com.twilio.exception.InvalidRequestException;
+import com.twilio.http.TwilioRestClient;
+import org.joda.time.DateTime;
+import org.joda.time.Days;
+import org.joda.time.LocalDate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * Reads a listing as several independent slices, each on its own page chain, and merges the results.
+ *
+ * <p>
+ *     Most useful with date-filterable listings, where a long time range can be split into sub-ranges that are
+ *     read concurrently instead of walking a single {@code next_page_uri} chain.
+ * </p>
+ *
+ * @param <T> type of the resource
+ */
+public class PartitionedReader<T extends Resource> {
+
+    private static final int DEFAULT_CONCURRENCY = 4;
+    private static final int DEFAULT_BUFFER_SIZE = 1000;
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    private final List<Reader<T>> readers;
+
+    private int concurrency = DEFAULT_CONCURRENCY;
+    private int prefetchPages = 0;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private ListeningExecutorService executorService;
+    private ListeningExecutorService prefetchExecutorService;
+
+    /**
+     * Create a partitioned reader from a list of readers, one per partition.
+     *
+     * @param readers readers in the order their results should be merged
+     */
+    public PartitionedReader(final List<? extends Reader<T>> readers) {
+        this.readers = Collections.unmodifiableList(new ArrayList<Reader<T>>(readers));
+    }
+
+    /**
+     * Partition a date time range into slices read concurrently.
+     *
+     * <p>
+     *     Slices are ordered newest first, matching the order of an unpartitioned listing.
+     * </p>
+     *
+     * @param range bounded range to partition
+     * @param partitions number of slices
+     * @param factory creates the reader for a slice
+     * @param <T> type of the resource
+     * @return partitioned reader
+     */
+    public static <T extends Resource> PartitionedReader<T> byDateTime(
+        final Range<DateTime> range,
+        final int partitions,
+        final Function<Range<DateTime>, ? extends Reader<T>> factory
+    ) {
+        List<Reader<T>> readers = new ArrayList<>();
+        for (Range<DateTime> slice : partitionDateTimes(range, partitions)) {
+            readers.add(factory.apply(slice));
+        }
+        return new PartitionedReader<>(readers);
+    }
+
+    /**
+     * Partition a date range into slices read concurrently.
+     *
+     * <p>
+     *     Slices are ordered newest first, matching the order of an unpartitioned listing.
+     * </p>
+     *
+     * @param range bounded range to partition
+     * @param partitions number of slices
+     * @param factory creates the reader for a slice
+     * @param <T> type of the resource
+     * @return partitioned reader
+     */
+    public static <T extends Resource> PartitionedReader<T> byDate(
+        final Range<LocalDate> range,
+        final int partitions,
+        final Function<Range<LocalDate>, ? extends Reader<T>> factory
+    ) {
+        List<Reader<T>> readers = new ArrayList<>();
+        for (Range<LocalDate> slice : partitionDates(range, partitions)) {
+            readers.add(factory.apply(slice));
+        }
+        return new PartitionedReader<>(readers);
+    }
+
+    /**
+     * Split a date time range into contiguous, non-overlapping closed slices of whole seconds.
+     *
+     * <p>
+     *     Twilio treats both ends of a date filter as inclusive with second precision, so adjacent slices end one
+     *     second before the next one starts.
+     * </p>
+     *
+     * @param range bounded range to partition
+     * @param partitions max number of slices
+     * @return slices, newest first
+     */
+    public static List<Range<DateTime>> partitionDateTimes(final Range<DateTime> range, final int partitions) {
+        checkPartitionable(range, partitions);
+
+        long lowerMillis = range.lowerEndpoint().getMillis();
+        long upperMillis = range.upperEndpoint().getMillis();
+        long lower = range.lowerBoundType() == BoundType.OPEN ?
+            lowerMillis / MILLIS_PER_SECOND + 1 :
+            (lowerMillis + MILLIS_PER_SECOND - 1) / MILLIS_PER_SECOND;
+        long upper = range.upperBoundType() == BoundType.OPEN ?
+            (upperMillis + MILLIS_PER_SECOND - 1) / MILLIS_PER_SECOND - 1 :
+            upperMillis / MILLIS_PER_SECOND;
+
+        List<Range<DateTime>> slices = new ArrayList<>();
+        long seconds = upper - lower + 1;
+        long step = Math.max(1, (seconds + partitions - 1) / partitions);
+        for (long start = lower; start <= upper; start += step) {
+            long end = Math.min(upper, start + step - 1);
+            slices.add(Range.closed(
+                new DateTime(start * MILLIS_PER_SECOND, range.lowerEndpoint().getZone()),
+                new DateTime(end * MILLIS_PER_SECOND, range.lowerEndpoint().getZone())
+            ));
+        }
+
+        Collections.reverse(slices);
+        return slices;
+    }
+
+    /**
+     * Split a date range into contiguous, non-overlapping closed slices of whole days.
+     *
+     * @param range bounded range to partition
+     * @param partitions max number of slices
+     * @return slices, newest first
+     */
+    public static List<Range<LocalDate>> partitionDates(final Range<LocalDate> range, final int partitions) {
+        checkPartitionable(range, partitions);
+
+        LocalDate lower = range.lowerEndpoint();
+        LocalDate upper = range.upperEndpoint();
+        if (range.lowerBoundType() == BoundType.OPEN) {
+            lower = lower.plusDays(1);
+        }
+        if (range.upperBoundType() == BoundType.OPEN) {
+            upper = upper.minusDays(1);
+        }
+
+        List<Range<LocalDate>> slices = new ArrayList<>();
+        int days = Days.daysBetween(lower, upper).getDays() + 1;
+        int step = Math.max(1, (days + partitions - 1) / partitions);
+        for (LocalDate start = lower; !start.isAfter(upper); start = start.plusDays(step)) {
+            LocalDate end = start.plusDays(step - 1);
+            slices.add(Range.closed(start, end.isAfter(upper) ? upper : end));
+        }
+
+        Collections.reverse(slices);
+        return slices;
+    }
+
+    private static void checkPartitionable(final Range<?> range, final int partitions) {
+        if (!range.hasLowerBound() || !range.hasUpperBound()) {
+            throw new InvalidRequestException("Only bounded ranges can be partitioned", "range", null);
+        }
+
+        if (partitions < 1) {
+            throw new InvalidRequestException("At least one partition is required", "partitions", null);
+        }
+    }
+
+    public List<Reader<T>> getReaders() {
+        return readers;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Sets the max number of partitions read at the same time.
+     *
+     * @param concurrency max number of partitions in flight
+     * @return this reader
+     */
+    public PartitionedReader<T> concurrency(final int concurrency) {
+        this.concurrency = Math.max(concurrency, 1);
+        return this;
+    }
+
+    public int getPrefetchPages() {
+        return prefetchPages;
+    }
+
+    /**
+     * Sets the number of pages each partition requests ahead of the page its worker is reading.
+     *
+     * @param prefetchPages max number of pages in flight per partition
+     * @return this reader
+     */
+    public PartitionedReader<T> prefetchPages(final int prefetchPages) {
+        this.prefetchPages = prefetchPages;
+        return this;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the max number of records buffered ahead of the consumer, per partition for an ordered read.
+     *
+     * @param bufferSize max number of decoded records waiting to be iterated
+     * @return this reader
+     */
+    public PartitionedReader<T> bufferSize(final int bufferSize) {
+        this.bufferSize = Math.max(bufferSize, 1);
+        return this;
+    }
+
+    public ListeningExecutorService getExecutorService() {
+        return executorService == null ? Twilio.getExecutorService() : executorService;
+    }
+
+    public PartitionedReader<T> executorService(final ListeningExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    public ListeningExecutorService getPrefetchExecutorService() {
+        return prefetchExecutorService == null ? PrefetchExecutor.INSTANCE : prefetchExecutorService;
+    }
+
+    /**
+     * Sets the executor prefetched pages are requested on.
+     *
+     * <p>
+     *     Partition workers block waiting for prefetched pages, so this must not be a bounded pool shared with the
+     *     partition workers. Defaults to an unbounded pool of daemon threads.
+     * </p>
+     *
+     * @param prefetchExecutorService executor for prefetched page requests
+     * @return this reader
+     */
+    public PartitionedReader<T> prefetchExecutorService(final ListeningExecutorService prefetchExecutorService) {
+        this.prefetchExecutorService = prefetchExecutorService;
+        return this;
+    }
+
+    /**
+     * Read every partition using default client, preserving partition order.
+     *
+     * @return records of every partition, in partition order
+     */
+    public PartitionedResourceSet<T> read() {
+        return read(Twilio.getRestClient());
+    }
+
+    /**
+     * Read every partition using specified client, preserving partition order.
+     *
+     * <p>
+     *     Up to {@code concurrency} partitions are drained in the background at the same time, each walking its own
+     *     page chain and buffering at most {@code bufferSize} records until the consumer reaches it.
+     * </p>
+     *
+     * @param client client used to make requests
+     * @return records of every partition, in partition order
+     */
+    public PartitionedResourceSet<T> read(final TwilioRestClient client) {
+        return new PartitionedResourceSet<>(this, client, true);
+    }
+
+    /**
+     * Read every partition using default client, in whatever order records arrive.
+     *
+     * @return records of every partition, unordered
+     */
+    public PartitionedResourceSet<T> readUnordered() {
+        return readUnordered(Twilio.getRestClient());
+    }
+
+    /**
+     * Read every partition using specified client, in whatever order records arrive.
+     *
+     * <p>
+     *     Up to {@code concurrency} partitions are drained in the background at the same time, buffering at most
+     *     {@code bufferSize} records ahead of the consumer.
+     * </p>
+     *
+     * @param client client used to make requests
+     * @return records of every partition, unordered
+     */
+    public PartitionedResourceSet<T> readUnordered(final TwilioRestClient client) {
+        return new PartitionedResourceSet<>(this, client, false);
+    }
+
+    ResourceSet<T> readPartition(final Reader<T> reader, final TwilioRestClient client) {
+        ResourceSet<T> set = reader.read(client);
+        if (prefetchPages > 0) {
+            set.setExecutorService(getPrefetchExecutorService()).setPrefetchPages(prefetchPages);
+        }
+        return set;
+    }
+
+    /**
+     * Pool for prefetched pages, created on first use.
+     */
+    private static class PrefetchExecutor {
+        private static final ListeningExecutorService INSTANCE = MoreExecutors.listeningDecorator(
+            Executors.newCachedThreadPool(
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("twilio-prefetch-%d").build()
+            )
+        );
+    }
+}
@@ -0,0 +1,226 @@
+package com.twilio.base;
+
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.http.TwilioRestClient;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The merged results of a {@link PartitionedReader}.
+ *
+ * <p>
+ *     Partitions are read on the reader's executor, each worker walking the whole page chain of one partition
+ *     before taking the next. Close the set when abandoning it before the end so that background reads stop.
+ * </p>
+ *
+ * @param <E> type of the resource
+ */
+public class PartitionedResourceSet<E extends Resource> implements Iterable<E>, Closeable {
+
+    private static final long OFFER_TIMEOUT_MILLIS = 100L;
+    private static final Object DONE = new Object();
+
+    private final PartitionedReader<E> partitionedReader;
+    private final TwilioRestClient client;
+    private final boolean ordered;
+    private final List<Future<?>> futures = new ArrayList<>();
+
+    private volatile boolean closed;
+
+    // Ordered reads buffer each partition separately and drain them in partition order
+    private final List<BlockingQueue<Object>> partitions = new ArrayList<>();
+    private int currentPartition = 0;
+
+    // Unordered reads share one buffer and count the workers still running
+    private BlockingQueue<Object> queue;
+    private int remainingWorkers;
+
+    private E next;
+
+    PartitionedResourceSet(final PartitionedReader<E> partitionedReader,
+                           final TwilioRestClient client,
+                           final boolean ordered) {
+        this.partitionedReader = partitionedReader;
+        this.client = client;
+        this.ordered = ordered;
+
+        int size = partitionedReader.getReaders().size();
+        if (ordered) {
+            for (int i = 0; i < size; i++) {
+                partitions.add(new LinkedBlockingQueue<Object>(partitionedReader.getBufferSize()));
+            }
+        } else {
+            queue = new ArrayBlockingQueue<>(partitionedReader.getBufferSize());
+        }
+        start();
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new PartitionedResourceSetIterator();
+    }
+
+    /**
+     * Stop reading partitions in the background.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+
+        if (queue != null) {
+            queue.clear();
+        }
+        for (BlockingQueue<Object> partition : partitions) {
+            partition.clear();
+        }
+    }
+
+    private void start() {
+        final List<Reader<E>> readers = partitionedReader.getReaders();
+        final AtomicInteger nextReader = new AtomicInteger();
+        remainingWorkers = Math.min(partitionedReader.getConcurrency(), readers.size());
+
+        // Workers take partitions in order, so the partition being iterated always has a worker of its own and a
+        // worker blocked on a full buffer further ahead can't hold it up.
+        for (int i = 0; i < remainingWorkers; i++) {
+            futures.add(partitionedReader.getExecutorService().submit(new Runnable() {
+                @Override
+                public void run() {
+                    int index = nextReader.getAndIncrement();
+                    try {
+                        while (!closed && index < readers.size()) {
+                            BlockingQueue<Object> buffer = bufferFor(index);
+                            for (E record : partitionedReader.readPartition(readers.get(index), client)) {
+                                if (!offer(buffer, record)) {
+                                    return;
+                                }
+                            }
+                            if (ordered && !offer(buffer, DONE)) {
+                                return;
+                            }
+                            index = nextReader.getAndIncrement();
+                        }
+                        if (!ordered) {
+                            offer(queue, DONE);
+                        }
+                    } catch (final RuntimeException e) {
+                        offer(bufferFor(index), e);
+                    }
+                }
+            }));
+        }
+    }
+
+    private BlockingQueue<Object> bufferFor(final int index) {
+        return ordered ? partitions.get(index) : queue;
+    }
+
+    private boolean offer(final BlockingQueue<Object> buffer, final Object item) {
+        try {
+            while (!buffer.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (closed) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean advanceOrdered() {
+        while (currentPartition < partitions.size()) {
+            Object item = take(partitions.get(currentPartition));
+            if (item == DONE) {
+                currentPartition++;
+            } else if (advance(item)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean advanceUnordered() {
+        while (remainingWorkers > 0) {
+            Object item = take(queue);
+            if (item == DONE) {
+                remainingWorkers--;
+            } else if (advance(item)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean advance(final Object item) {
+        if (item instanceof RuntimeException) {
+            close();
+            throw (RuntimeException) item;
+        }
+
+        next = (E) item;
+        return true;
+    }
+
+    private Object take(final BlockingQueue<Object> buffer) {
+        try {
+            return buffer.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiConnectionException("Interrupted while waiting for a partition", e);
+        }
+    }
+
+    private class PartitionedResourceSetIterator implements Iterator<E> {
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+
+            if (closed) {
+                return false;
+            }
+
+            return ordered ? advanceOrdered() : advanceUnordered();
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            E element = next;
+            next = null;
+            return element;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Partitioned resource sets are read only");
+        }
+    }
+}
@@ -1,10 +1,22 @@
 package com.twilio.base;
 
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.twilio.Twilio;
+import com.twilio.converter.ResourceModule;
+import com.twilio.exception.InvalidRequestException;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
 
-import java.util.concurrent.Callable;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Executor for listing of a resource.
@@ -17,6 +29,8 @@ public abstract class Reader<T extends Resource> {
 
     private Integer pageSize;
     private Long limit;
+    private Boolean lazy;
+    private Set<String> selected;
 
     /**
      * Execute a request using default client.
@@ -51,13 +65,45 @@ public abstract class Reader<T extends Resource> {
      * @return future that resolves to the ResourceSet of objects
      */
     public ListenableFuture<ResourceSet<T>> readAsync(final TwilioRestClient client) {
-        return Twilio.getExecutorService().submit(new Callable<ResourceSet<T>>() {
-            public ResourceSet<T> call() {
-                return read(client);
+        final Request request;
+        try {
+            request = buildFirstPageRequest(client);
+        } catch (final RuntimeException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+
+        return Futures.transform(client.requestAsync(request), new Function<Response, ResourceSet<T>>() {
+            @Override
+            public ResourceSet<T> apply(final Response response) {
+                return new ResourceSet<>(Reader.this, client, parsePage(response, client, false));
             }
         });
     }
 
+    /**
+     * Execute a streaming request using default client.
+     *
+     * @return ResourceStream of objects
+     */
+    public ResourceStream<T> stream() {
+        return stream(Twilio.getRestClient());
+    }
+
+    /**
+     * Execute a streaming request using specified client.
+     *
+     * <p>
+     *     Records are decoded one at a time from the HTTP response instead of a page at a time, so a read of any
+     *     size runs in constant memory.
+     * </p>
+     *
+     * @param client client used to make request
+     * @return ResourceStream of objects
+     */
+    public ResourceStream<T> stream(final TwilioRestClient client) {
+        return new ResourceStream<>(this, client);
+    }
+
     /**
      * Fetch the first page of resources.
      *
@@ -73,7 +119,9 @@ public abstract class Reader<T extends Resource> {
      * @param client client used to fetch
      * @return Page containing the first pageSize of resources
      */
-    public abstract Page<T> firstPage(final TwilioRestClient client);
+    public Page<T> firstPage(final TwilioRestClient client) {
+        return parsePage(client.request(buildFirstPageRequest(client)), client, false);
+    }
 
     /**
      * Fetch the following page of resources.
@@ -92,7 +140,74 @@ public abstract class Reader<T extends Resource> {
      * @param client client used to fetch
      * @return Page containing the first pageSize of resources
      */
-    public abstract Page<T> nextPage(final Page<T> page, final TwilioRestClient client);
+    public Page<T> nextPage(final Page<T> page, final TwilioRestClient client) {
+        return parsePage(client.request(buildNextPageRequest(page, client)), client, false);
+    }
+
+    /**
+     * Build the request for the first page of resources using specified client.
+     *
+     * @param client client the request will be made with
+     * @return Request to make
+     */
+    protected abstract Request buildFirstPageRequest(final TwilioRestClient client);
+
+    /**
+     * Build the request for the page following a page of resources.
+     *
+     * @param page current page of resources
+     * @param client client the request will be made with
+     * @return Request to make
+     */
+    protected abstract Request buildNextPageRequest(final Page<T> page, final TwilioRestClient client);
+
+    /**
+     * Convert the response of a page request into a Page of resources.
+     *
+     * @param response response of the request, null if unable to connect
+     * @param client client the request was made with
+     * @param streaming true to decode records one at a time from the response
+     * @return Page for the response
+     */
+    protected abstract Page<T> parsePage(final Response response,
+                                         final TwilioRestClient client,
+                                         final boolean streaming);
+
+    Page<T> streamFirstPage(final TwilioRestClient client) {
+        return parsePage(client.request(buildFirstPageRequest(client)), client, true);
+    }
+
+    Page<T> streamNextPage(final Page<T> page, final TwilioRestClient client) {
+        return parsePage(client.request(buildNextPageRequest(page, client)), client, true);
+    }
+
+    /**
+     * Generate a Page of resources from a successful response.
+     *
+     * @param recordKey key which holds the records
+     * @param response response to decode
+     * @param recordType resource type
+     * @param client client used to make the request
+     * @param streaming true to decode records one at a time from the response
+     * @return Page of resources, decoded as they are read when streaming or lazy
+     */
+    protected Page<T> pageForResponse(final String recordKey,
+                                      final Response response,
+                                      final Class<T> recordType,
+                                      final TwilioRestClient client,
+                                      final boolean streaming) {
+        checkSelected(recordType);
+        ObjectReader reader = ResourceModule.select(client.getObjectMapper().reader(recordType), selected);
+        if (streaming) {
+            return new StreamingPage<>(recordKey, response.getStream(), reader);
+        }
+
+        if (lazy != null ? lazy : client.isLazyRecords()) {
+            return Page.lazyFromJson(recordKey, response.getStream(), reader);
+        }
+
+        return Page.fromJson(recordKey, response.getStream(), reader);
+    }
 
     public Integer getPageSize() {
         return pageSize;
@@ -123,4 +238,98 @@ public abstract class Reader<T extends Resource> {
         return this;
     }
 
+    public Boolean getLazy() {
+        return lazy;
+    }
+
+    /**
+     * Sets whether records are decoded on first access rather than when their page arrives.
+     *
+     * <p>
+     *     Overrides the default of the client the reader is used with.
+     * </p>
+     *
+     * @param lazy true to decode each record on first access
+     * @return this reader
+     */
+    public Reader<T> lazy(final boolean lazy) {
+        this.lazy = lazy;
+        return this;
+    }
+
+    public Set<String> getSelected() {
+        return selected;
+    }
+
+    /**
+     * Only bind some properties of the records read.
+     *
+     * <p>
+     *     Other properties are skipped while parsing and their getters return null. Properties are named as in the
+     *     API response, like {@code sid}, {@code price_unit} or {@code date_created}.
+     * </p>
+     *
+     * @param properties JSON names of the properties to bind
+     * @return this reader
+     * @throws InvalidRequestException if a name isn't a property of the resource
+     */
+    public Reader<T> select(final String... properties) {
+        this.selected = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(properties)));
+        Class<?> recordType = recordType();
+        if (recordType != null) {
+            checkSelected(recordType);
+        }
+        return this;
+    }
+
+    /**
+     * Only bind some properties of the records read, like {@code select(Message.Field.SID, Message.Field.PRICE)}.
+     *
+     * @param fields properties to bind
+     * @return this reader
+     * @throws InvalidRequestException if a field isn't a property of the resource
+     */
+    public Reader<T> select(final Resource.Field... fields) {
+        String[] properties = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            properties[i] = fields[i].getProperty();
+        }
+        return select(properties);
+    }
+
+    private void checkSelected(final Class<?> recordType) {
+        if (selected == null) {
+            return;
+        }
+
+        Set<String> properties = ResourceModule.properties(recordType);
+        for (String property : selected) {
+            if (!properties.contains(property)) {
+                throw new InvalidRequestException(
+                    "Unknown property " + property + " of " + recordType.getSimpleName(), property
+                );
+            }
+        }
+    }
+
+    /**
+     * Find the resource type this reader was declared with.
+     *
+     * @return class of the resource, or null if it can't be told from the class hierarchy
+     */
+    private Class<?> recordType() {
+        Type type = getClass().getGenericSuperclass();
+        while (type instanceof Class) {
+            type = ((Class<?>) type).getGenericSuperclass();
+        }
+
+        if (type instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (argument instanceof Class) {
+                return (Class<?>) argument;
+            }
+        }
+        return null;
+    }
+
 }
@@ -6,4 +6,17 @@ public abstract class Resource implements Serializable {
 
     private static final long serialVersionUID = -5898012691404059595L;
 
+    /**
+     * A property of a resource, as named in API responses.
+     */
+    public interface Field {
+
+        /**
+         * Get the JSON name of the property.
+         *
+         * @return name of the property, like {@code sid} or {@code date_created}
+         */
+        String getProperty();
+    }
+
 }
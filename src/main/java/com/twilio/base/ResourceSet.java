@@ -1,16 +1,32 @@
 package com.twilio.base;
 
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.twilio.Twilio;
+import com.twilio.exception.ApiConnectionException;
 import com.twilio.http.TwilioRestClient;
 
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 /**
  * A collection of resources.
  *
+ * <p>
+ *     Close the set when abandoning it before the last page, so that pages it prefetched are cancelled.
+ * </p>
+ *
  * @param <E> type of the resource
  */
-public class ResourceSet<E extends Resource> implements Iterable<E> {
+public class ResourceSet<E extends Resource> implements Iterable<E>, Closeable {
 
     private final Reader<E> reader;
     private final TwilioRestClient client;
@@ -22,6 +38,10 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
     private Page<E> page;
     private Iterator<E> iterator;
 
+    private int prefetchPages = 0;
+    private ListeningExecutorService executorService;
+    private final Deque<ListenableFuture<Page<E>>> prefetched = new ArrayDeque<>();
+
     /**
      * Initialize the resource set.
      *
@@ -45,8 +65,21 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
         return autoPaging;
     }
 
+    /**
+     * Sets whether iterating past the current page fetches the next one.
+     *
+     * <p>
+     *     Turning auto paging off cancels any prefetched pages.
+     * </p>
+     *
+     * @param autoPaging true to fetch pages as they are reached
+     * @return this resource set
+     */
     public ResourceSet setAutoPaging(final boolean autoPaging) {
         this.autoPaging = autoPaging;
+        if (!autoPaging) {
+            cancelPrefetched();
+        }
         return this;
     }
 
@@ -72,6 +105,46 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
         return pageLimit;
     }
 
+    public int getPrefetchPages() {
+        return prefetchPages;
+    }
+
+    /**
+     * Sets the number of pages to request ahead of the page being iterated.
+     *
+     * <p>
+     *     Each prefetched page is requested as soon as the page before it arrives, so network round trips overlap
+     *     with the processing of the current page. Prefetching never requests pages past the limit, and doesn't
+     *     happen while auto paging is off.
+     * </p>
+     *
+     * @param prefetchPages max number of pages in flight or waiting to be iterated
+     * @return this resource set
+     */
+    public ResourceSet<E> setPrefetchPages(final int prefetchPages) {
+        this.prefetchPages = Math.max(prefetchPages, 0);
+        prefetch();
+        return this;
+    }
+
+    public ListeningExecutorService getExecutorService() {
+        return executorService == null ? Twilio.getExecutorService() : executorService;
+    }
+
+    public ResourceSet<E> setExecutorService(final ListeningExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    /**
+     * Stop paging, cancelling the pages prefetched and discarding those that already arrived.
+     */
+    @Override
+    public void close() {
+        autoPaging = false;
+        cancelPrefetched();
+    }
+
     @Override
     public Iterator<E> iterator() {
         return new ResourceSetIterator<>(this);
@@ -82,9 +155,77 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
             return;
         }
 
+        Page<E> next = prefetched.isEmpty() ? reader.nextPage(page, client) : awaitPage(prefetched.poll());
+        if (next == null) {
+            return;
+        }
+
         pages++;
-        page = reader.nextPage(page, client);
+        page = next;
         iterator = page.getRecords().iterator();
+        prefetch();
+    }
+
+    private void prefetch() {
+        if (!autoPaging || (prefetched.isEmpty() && !page.hasNextPage())) {
+            return;
+        }
+
+        while (prefetched.size() < prefetchPages && pages + prefetched.size() < pageLimit) {
+            ListenableFuture<Page<E>> previous = prefetched.peekLast();
+            if (previous == null) {
+                prefetched.add(requestNextPage(page));
+            } else {
+                prefetched.add(Futures.transform(previous, new AsyncFunction<Page<E>, Page<E>>() {
+                    @Override
+                    public ListenableFuture<Page<E>> apply(final Page<E> input) {
+                        return requestNextPage(input);
+                    }
+                }));
+            }
+        }
+    }
+
+    private void cancelPrefetched() {
+        ListenableFuture<Page<E>> future;
+        while ((future = prefetched.pollLast()) != null) {
+            if (future.cancel(true)) {
+                continue;
+            }
+
+            try {
+                Page<E> arrived = Futures.getUnchecked(future);
+                if (arrived != null) {
+                    arrived.close();
+                }
+            } catch (final RuntimeException e) {
+                // The page failed, there is nothing to release
+            }
+        }
+    }
+
+    private ListenableFuture<Page<E>> requestNextPage(final Page<E> current) {
+        if (current == null || !current.hasNextPage()) {
+            return Futures.immediateFuture(null);
+        }
+
+        return getExecutorService().submit(new Callable<Page<E>>() {
+            public Page<E> call() {
+                return reader.nextPage(current, client);
+            }
+        });
+    }
+
+    private Page<E> awaitPage(final ListenableFuture<Page<E>> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiConnectionException("Interrupted while waiting for the next page", e);
+        } catch (final ExecutionException e) {
+            Throwables.propagateIfPossible(e.getCause());
+            throw new ApiConnectionException("Unable to fetch the next page", e.getCause());
+        }
     }
 
     private class ResourceSetIterator<E extends Resource> implements Iterator<E> {
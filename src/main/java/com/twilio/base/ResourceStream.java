@@ -0,0 +1,121 @@
+package com.twilio.base;
+
+import com.twilio.http.TwilioRestClient;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A single pass, streaming view of a collection of resources.
+ *
+ * <p>
+ *     Unlike {@link ResourceSet}, pages are never materialized: each record is decoded from the HTTP response as it
+ *     is iterated and the connection is released as soon as a page is exhausted. Close the stream when abandoning
+ *     it part way through a page.
+ * </p>
+ *
+ * @param <E> type of the resource
+ */
+public class ResourceStream<E extends Resource> implements Iterable<E>, Closeable {
+
+    private final Reader<E> reader;
+    private final TwilioRestClient client;
+
+    private boolean autoPaging;
+    private boolean closed;
+    private long processed = 0;
+    private Page<E> page;
+    private Iterator<E> iterator;
+
+    /**
+     * Initialize the resource stream, requesting the first page.
+     *
+     * @param reader reader used to fetch pages
+     * @param client client used to make requests
+     */
+    public ResourceStream(final Reader<E> reader, final TwilioRestClient client) {
+        this.reader = reader;
+        this.client = client;
+        this.page = reader.streamFirstPage(client);
+        this.iterator = page.recordIterator();
+        this.autoPaging = true;
+    }
+
+    public boolean isAutoPaging() {
+        return autoPaging;
+    }
+
+    public ResourceStream<E> setAutoPaging(final boolean autoPaging) {
+        this.autoPaging = autoPaging;
+        return this;
+    }
+
+    public Long getLimit() {
+        return reader.getLimit();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ResourceStreamIterator();
+    }
+
+    private boolean advance() {
+        if (closed) {
+            return false;
+        }
+
+        if (getLimit() != null && processed >= getLimit()) {
+            close();
+            return false;
+        }
+
+        while (!iterator.hasNext()) {
+            if (!autoPaging || !page.hasNextPage()) {
+                close();
+                return false;
+            }
+
+            page = reader.streamNextPage(page, client);
+            iterator = page.recordIterator();
+        }
+
+        return true;
+    }
+
+    /**
+     * Release the response currently being read.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        page.close();
+    }
+
+    private class ResourceStreamIterator implements Iterator<E> {
+
+        @Override
+        public boolean hasNext() {
+            return advance();
+        }
+
+        @Override
+        public E next() {
+            if (!advance()) {
+                throw new NoSuchElementException();
+            }
+
+            processed++;
+            return iterator.next();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Resource streams are read only");
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.twilio.exception.ApiConnectionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A page whose records are decoded one at a time from the live response stream.
+ *
+ * <p>
+ *     Paging metadata that follows the records in the response body is only known once every record has been
+ *     read, so the paging getters skip over any records that have not been consumed yet. The underlying stream
+ *     is closed as soon as the end of the response is reached.
+ * </p>
+ *
+ * @param <T> record class type
+ */
+class StreamingPage<T> extends Page<T> {
+
+    private final ObjectReader reader;
+    private final JsonParser parser;
+    private final Builder<T> builder = new Builder<>();
+
+    private boolean inRecords;
+    private boolean closed;
+    private T next;
+    private int decoded;
+    private Page<T> metadata;
+
+    /**
+     * Start decoding a page from a json stream.
+     *
+     * @param recordKey key which holds the records
+     * @param json json stream
+     * @param reader reader bound to the resource type
+     */
+    StreamingPage(String recordKey, InputStream json, ObjectReader reader) {
+        super(new Builder<T>().pageSize(0));
+        this.reader = reader;
+
+        try {
+            this.parser = reader.getFactory().createParser(json);
+        } catch (final IOException e) {
+            throw new ApiConnectionException("Unable to deserialize response: " + e.getMessage(), e);
+        }
+
+        try {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ApiConnectionException("Unable to deserialize response: expected a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+
+                if (field.equals(recordKey) && token == JsonToken.START_ARRAY) {
+                    inRecords = true;
+                    return;
+                }
+
+                if (field.equals(recordKey)) {
+                    parser.skipChildren();
+                } else {
+                    Page.readPagingProperty(field, parser, builder);
+                }
+            }
+
+            finish();
+        } catch (final IOException e) {
+            close();
+            throw new ApiConnectionException("Unable to deserialize response: " + e.getMessage(), e);
+        } catch (final RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private boolean hasNextRecord() {
+        try {
+            while (next == null && inRecords) {
+                if (parser.nextToken() == JsonToken.END_ARRAY) {
+                    inRecords = false;
+                    finish();
+                } else {
+                    next = reader.readValue(parser);
+                    decoded++;
+                }
+            }
+        } catch (final IOException e) {
+            close();
+            throw new ApiConnectionException("Unable to deserialize response: " + e.getMessage(), e);
+        }
+
+        return next != null;
+    }
+
+    private T nextRecord() {
+        if (!hasNextRecord()) {
+            throw new NoSuchElementException();
+        }
+
+        T record = next;
+        next = null;
+        return record;
+    }
+
+    /**
+     * Read the rest of the response after the records and release the stream.
+     */
+    private void finish() throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            Page.readPagingProperty(field, parser, builder);
+        }
+
+        if (!builder.hasPageSize()) {
+            builder.pageSize(decoded);
+        }
+
+        metadata = builder.records(Collections.<T>emptyList()).build();
+        close();
+    }
+
+    private Page<T> metadata() {
+        if (metadata != null) {
+            return metadata;
+        }
+
+        if (closed) {
+            throw new IllegalStateException("Page was closed before its paging metadata was read");
+        }
+
+        try {
+            next = null;
+            while (inRecords) {
+                if (parser.nextToken() == JsonToken.END_ARRAY) {
+                    inRecords = false;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            finish();
+        } catch (final IOException e) {
+            close();
+            throw new ApiConnectionException("Unable to deserialize response: " + e.getMessage(), e);
+        }
+
+        return metadata;
+    }
+
+    /**
+     * Decode every record that has not been consumed yet.
+     *
+     * @return the remaining records of the page
+     */
+    @Override
+    public List<T> getRecords() {
+        List<T> records = new ArrayList<>();
+        while (hasNextRecord()) {
+            records.add(nextRecord());
+        }
+        return records;
+    }
+
+    @Override
+    public String getFirstPageUrl(String domain, String region) {
+        return metadata().getFirstPageUrl(domain, region);
+    }
+
+    @Override
+    public String getNextPageUrl(String domain, String region) {
+        return metadata().getNextPageUrl(domain, region);
+    }
+
+    @Override
+    public String getPreviousPageUrl(String domain, String region) {
+        return metadata().getPreviousPageUrl(domain, region);
+    }
+
+    @Override
+    public int getPageSize() {
+        return metadata().getPageSize();
+    }
+
+    @Override
+    public String getUrl(String domain, String region) {
+        return metadata().getUrl(domain, region);
+    }
+
+    @Override
+    public boolean hasNextPage() {
+        return metadata().hasNextPage();
+    }
+
+    @Override
+    Iterator<T> recordIterator() {
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return hasNextRecord();
+            }
+
+            @Override
+            public T next() {
+                return nextRecord();
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        try {
+            parser.close();
+        } catch (final IOException e) {
+            // Nothing left to read, the connection is released either way
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.twilio.base;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.twilio.Twilio;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
 
-import java.util.concurrent.Callable;
-
 /**
  * Executor for updates of a resource.
  *
@@ -29,9 +31,17 @@ public abstract class Updater<T extends Resource> {
      * @return future that resolves to requested object
      */
     public ListenableFuture<T> updateAsync(final TwilioRestClient client) {
-        return Twilio.getExecutorService().submit(new Callable<T>() {
-            public T call() {
-                return update(client);
+        final Request request;
+        try {
+            request = buildRequest(client);
+        } catch (final RuntimeException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+
+        return Futures.transform(client.requestAsync(request), new Function<Response, T>() {
+            @Override
+            public T apply(final Response response) {
+                return parseAndRelease(response, client);
             }
         });
     }
@@ -51,5 +61,34 @@ public abstract class Updater<T extends Resource> {
      * @param client client used to make request
      * @return Requested object
      */
-    public abstract T update(final TwilioRestClient client);
+    public T update(final TwilioRestClient client) {
+        return parseAndRelease(client.request(buildRequest(client)), client);
+    }
+
+    private T parseAndRelease(final Response response, final TwilioRestClient client) {
+        try {
+            return parseResponse(response, client);
+        } finally {
+            if (response != null) {
+                response.close();
+            }
+        }
+    }
+
+    /**
+     * Build the request to send using specified client.
+     *
+     * @param client client the request will be made with
+     * @return Request to make
+     */
+    protected abstract Request buildRequest(final TwilioRestClient client);
+
+    /**
+     * Convert the response of a request into the requested object.
+     *
+     * @param response response of the request, null if unable to connect
+     * @param client client the request was made with
+     * @return Requested object
+     */
+    protected abstract T parseResponse(final Response response, final TwilioRestClient client);
 }
@@ -6,6 +6,14 @@ import org.joda.time.LocalDate;
 import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 
+/**
+ * Converts the date formats used by the API.
+ *
+ * <p>
+ *     Timestamps in the exact shapes the API emits are parsed by hand, and the last few hundred are cached since a
+ *     page of records repeats the same seconds over and over. Anything else falls back to the Joda formatters.
+ * </p>
+ */
 public class DateConverter {
 
     private static final String DATE_PATTERN = "yyyy-MM-dd";
@@ -21,6 +29,19 @@ public class DateConverter {
     private static final DateTimeFormatter ISO8601_DATE_TIME_FORMATTER =
         DateTimeFormat.forPattern(ISO8601_DATE_TIME).withZone(DateTimeZone.UTC);
 
+    private static final String[] DAYS = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+    private static final String[] MONTHS = {
+        "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"
+    };
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long SECONDS_PER_DAY = 86400L;
+    private static final int CACHE_SIZE = 256;
+
+    private static final Cached[] RFC2822_CACHE = new Cached[CACHE_SIZE];
+    private static final Cached[] ISO8601_CACHE = new Cached[CACHE_SIZE];
+
     /**
      * Parse a @see org.joda.time.DateTime from a String.
      *
@@ -28,6 +49,22 @@ public class DateConverter {
      * @return parsed @see org.joda.time.DateTime if parseable, null otherwise
      */
     public static DateTime rfc2822DateTimeFromString(String dateTimeString) {
+        if (dateTimeString == null || dateTimeString.isEmpty()) {
+            return null;
+        }
+
+        int slot = dateTimeString.hashCode() & (CACHE_SIZE - 1);
+        Cached cached = RFC2822_CACHE[slot];
+        if (cached != null && cached.text.equals(dateTimeString)) {
+            return cached.dateTime;
+        }
+
+        DateTime dateTime = parseRfc2822(dateTimeString);
+        if (dateTime != null) {
+            RFC2822_CACHE[slot] = new Cached(dateTimeString, dateTime);
+            return dateTime;
+        }
+
         try {
             return DateTime.parse(dateTimeString, RFC2822_DATE_TIME_FORMATTER);
         } catch (Exception e) {
@@ -42,6 +79,22 @@ public class DateConverter {
      * @return parsed @see org.joda.time.DateTime if parseable, null otherwise
      */
     public static DateTime iso8601DateTimeFromString(String dateTimeString) {
+        if (dateTimeString == null || dateTimeString.isEmpty()) {
+            return null;
+        }
+
+        int slot = dateTimeString.hashCode() & (CACHE_SIZE - 1);
+        Cached cached = ISO8601_CACHE[slot];
+        if (cached != null && cached.text.equals(dateTimeString)) {
+            return cached.dateTime;
+        }
+
+        DateTime dateTime = parseIso8601(dateTimeString);
+        if (dateTime != null) {
+            ISO8601_CACHE[slot] = new Cached(dateTimeString, dateTime);
+            return dateTime;
+        }
+
         try {
             return DateTime.parse(dateTimeString, ISO8601_DATE_TIME_FORMATTER);
         } catch (Exception e) {
@@ -76,4 +129,151 @@ public class DateConverter {
            return null;
        }
     }
+
+    /**
+     * Parse {@code EEE, dd MMM yyyy HH:mm:ss +HHMM}, as in {@code Thu, 30 Jul 2015 20:12:31 +0000}.
+     *
+     * @return parsed timestamp, or null if the text has any other shape
+     */
+    static DateTime parseRfc2822(final String text) {
+        if (text.length() != 31 || text.charAt(3) != ',' || text.charAt(4) != ' ' || text.charAt(7) != ' ' ||
+            text.charAt(11) != ' ' || text.charAt(16) != ' ' || text.charAt(25) != ' ') {
+            return null;
+        }
+
+        int month = -1;
+        for (int i = 0; i < MONTHS.length; i++) {
+            if (text.regionMatches(8, MONTHS[i], 0, 3)) {
+                month = i + 1;
+                break;
+            }
+        }
+
+        int year = digits(text, 12, 4);
+        int day = digits(text, 5, 2);
+        long millis = toMillis(year, month, day, text, 17, offsetMinutes(text, 26, false));
+        if (millis == Long.MIN_VALUE) {
+            return null;
+        }
+
+        // Leave a day of week that doesn't match the date to Joda
+        int dayOfWeek = (int) (((epochDay(year, month, day) + 3) % 7 + 7) % 7);
+        return text.regionMatches(0, DAYS[dayOfWeek], 0, 3) ? new DateTime(millis, DateTimeZone.UTC) : null;
+    }
+
+    /**
+     * Parse {@code yyyy-MM-dd'T'HH:mm:ss} followed by {@code Z}, {@code +HHMM} or {@code +HH:MM}.
+     *
+     * @return parsed timestamp, or null if the text has any other shape
+     */
+    static DateTime parseIso8601(final String text) {
+        if (text.length() < 20 || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T') {
+            return null;
+        }
+
+        int offset;
+        if (text.length() == 20 && text.charAt(19) == 'Z') {
+            offset = 0;
+        } else if (text.length() == 24) {
+            offset = offsetMinutes(text, 19, false);
+        } else if (text.length() == 25) {
+            offset = offsetMinutes(text, 19, true);
+        } else {
+            return null;
+        }
+
+        long millis = toMillis(digits(text, 0, 4), digits(text, 5, 2), digits(text, 8, 2), text, 11, offset);
+        return millis == Long.MIN_VALUE ? null : new DateTime(millis, DateTimeZone.UTC);
+    }
+
+    /**
+     * Combine the date, the {@code HH:mm:ss} time at {@code timeStart} and the offset into epoch millis.
+     *
+     * @return epoch millis, or {@code Long.MIN_VALUE} if any field is invalid
+     */
+    private static long toMillis(final int year,
+                                 final int month,
+                                 final int day,
+                                 final String text,
+                                 final int timeStart,
+                                 final int offsetMinutes) {
+        if (text.charAt(timeStart + 2) != ':' || text.charAt(timeStart + 5) != ':') {
+            return Long.MIN_VALUE;
+        }
+
+        int hour = digits(text, timeStart, 2);
+        int minute = digits(text, timeStart + 3, 2);
+        int second = digits(text, timeStart + 6, 2);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month) ||
+            hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 ||
+            offsetMinutes == Integer.MIN_VALUE) {
+            return Long.MIN_VALUE;
+        }
+
+        long seconds = epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second;
+        return (seconds - offsetMinutes * 60L) * MILLIS_PER_SECOND;
+    }
+
+    /**
+     * Read a {@code +HHMM} or {@code +HH:MM} offset.
+     *
+     * @return offset in minutes, or {@code Integer.MIN_VALUE} if invalid
+     */
+    private static int offsetMinutes(final String text, final int start, final boolean colon) {
+        char sign = text.charAt(start);
+        if ((sign != '+' && sign != '-') || (colon && text.charAt(start + 3) != ':')) {
+            return Integer.MIN_VALUE;
+        }
+
+        int hours = digits(text, start + 1, 2);
+        int minutes = digits(text, colon ? start + 4 : start + 3, 2);
+        if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59) {
+            return Integer.MIN_VALUE;
+        }
+
+        int offset = hours * 60 + minutes;
+        return sign == '-' ? -offset : offset;
+    }
+
+    private static int digits(final String text, final int start, final int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int daysInMonth(final int year, final int month) {
+        boolean leap = year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+        return month == 2 && leap ? 29 : DAYS_IN_MONTH[month - 1];
+    }
+
+    /**
+     * Days since 1970-01-01 of a proleptic Gregorian date.
+     */
+    private static long epochDay(final int year, final int month, final int day) {
+        int shifted = month <= 2 ? year - 1 : year;
+        int era = shifted / 400;
+        int yearOfEra = shifted - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+
+    /**
+     * A parsed timestamp and the text it came from.
+     */
+    private static class Cached {
+        private final String text;
+        private final DateTime dateTime;
+
+        Cached(final String text, final DateTime dateTime) {
+            this.text = text;
+            this.dateTime = dateTime;
+        }
+    }
 }
@@ -0,0 +1,118 @@
+package com.twilio.converter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Precomputed table mapping API values to the constants of an enum.
+ *
+ * <p>
+ *     Both the constant names and their {@code toString()} values are keyed, so values sent by the API are found
+ *     in a single lookup. Anything else is normalized like {@code forValue} always did, replacing {@code -} with
+ *     {@code _} and upper-casing. Values that still don't match, for example a status added to the API after this
+ *     library was released, return null and are counted rather than thrown.
+ * </p>
+ *
+ * @param <E> type of the enum
+ */
+public class EnumLookup<E extends Enum<E>> {
+
+    private static final ConcurrentMap<Class<?>, EnumLookup<?>> LOOKUPS = new ConcurrentHashMap<>();
+
+    private final Class<E> type;
+    private final Map<String, E> constants;
+    private final AtomicLong unknown = new AtomicLong();
+    private volatile String lastUnknown;
+
+    private EnumLookup(final Class<E> type) {
+        this.type = type;
+
+        Map<String, E> table = new HashMap<>();
+        for (E constant : type.getEnumConstants()) {
+            table.put(constant.name(), constant);
+        }
+        for (E constant : type.getEnumConstants()) {
+            if (!table.containsKey(constant.toString())) {
+                table.put(constant.toString(), constant);
+            }
+        }
+        this.constants = Collections.unmodifiableMap(table);
+    }
+
+    /**
+     * Build the lookup table for an enum.
+     *
+     * @param type class of the enum
+     * @param <E> type of the enum
+     * @return lookup table for the enum
+     */
+    public static <E extends Enum<E>> EnumLookup<E> of(final Class<E> type) {
+        EnumLookup<E> lookup = new EnumLookup<>(type);
+        LOOKUPS.put(type, lookup);
+        return lookup;
+    }
+
+    /**
+     * Find the constant for a value.
+     *
+     * @param value value sent by the API
+     * @return matching constant, or null if there is none
+     */
+    public E forValue(final String value) {
+        if (value == null) {
+            return null;
+        }
+
+        E constant = constants.get(value);
+        if (constant == null) {
+            constant = constants.get(value.replace("-", "_").toUpperCase());
+        }
+        if (constant == null) {
+            unknown.incrementAndGet();
+            lastUnknown = value;
+        }
+        return constant;
+    }
+
+    public Class<E> getType() {
+        return type;
+    }
+
+    /**
+     * Get the number of values that didn't match any constant.
+     *
+     * @return number of unknown values seen
+     */
+    public long getUnknown() {
+        return unknown.get();
+    }
+
+    /**
+     * Get the most recent value that didn't match any constant.
+     *
+     * @return last unknown value, or null if there was none
+     */
+    public String getLastUnknown() {
+        return lastUnknown;
+    }
+
+    /**
+     * Get the number of unknown values seen by every enum that has had at least one.
+     *
+     * @return unknown value counts by enum
+     */
+    public static Map<Class<?>, Long> getUnknownCounts() {
+        Map<Class<?>, Long> counts = new HashMap<>();
+        for (EnumLookup<?> lookup : LOOKUPS.values()) {
+            long count = lookup.getUnknown();
+            if (count > 0) {
+                counts.put(lookup.getType(), count);
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,179 @@
+package com.twilio.converter;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.twilio.type.PhoneNumber;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Base of the hand-written deserializers of the most read resources.
+ *
+ * <p>
+ *     A subclass walks the fields of a record with {@link #nextField} and switches on their names, reading each
+ *     value straight off the parser with the helpers below. Values decode as they do through the resource's
+ *     {@link com.fasterxml.jackson.annotation.JsonCreator} constructor, unknown fields are skipped, and fields a
+ *     reader didn't {@link ResourceModule#select} are skipped without being decoded.
+ * </p>
+ *
+ * @param <T> type of the resource
+ */
+public abstract class ResourceDeserializer<T> extends StdDeserializer<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final CurrencyDeserializer CURRENCY = new CurrencyDeserializer();
+
+    protected ResourceDeserializer(final Class<T> type) {
+        super(type);
+    }
+
+    /**
+     * Check that the parser is on a record and get the properties to bind.
+     *
+     * @param parser parser on the start of the record
+     * @param ctxt deserialization context
+     * @return JSON names of the properties to bind, null to bind all of them
+     * @throws IOException if the parser isn't on an object
+     */
+    protected Set<?> begin(final JsonParser parser, final DeserializationContext ctxt) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token != JsonToken.START_OBJECT && token != JsonToken.FIELD_NAME) {
+            throw ctxt.mappingException(handledType(), token);
+        }
+        return (Set<?>) ctxt.getAttribute(ResourceModule.SELECTED);
+    }
+
+    /**
+     * Move to the value of the next selected field of the record.
+     *
+     * @param parser parser on the start of the record or the end of the previous value
+     * @param selected properties to bind, null for all of them
+     * @return name of the field, or null at the end of the record
+     * @throws IOException if the JSON can't be read
+     */
+    protected static String nextField(final JsonParser parser, final Set<?> selected) throws IOException {
+        JsonToken token = parser.getCurrentToken() == JsonToken.FIELD_NAME ? JsonToken.FIELD_NAME : parser.nextToken();
+        while (token == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            if (selected == null || selected.contains(name)) {
+                return name;
+            }
+
+            parser.skipChildren();
+            token = parser.nextToken();
+        }
+        return null;
+    }
+
+    protected static String text(final JsonParser parser, final DeserializationContext ctxt) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isScalarValue()) {
+            return parser.getText();
+        }
+        throw ctxt.mappingException(String.class, token);
+    }
+
+    protected static Integer integer(final JsonParser parser, final DeserializationContext ctxt) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            if (text.isEmpty()) {
+                return null;
+            }
+
+            try {
+                return Integer.valueOf(text);
+            } catch (final NumberFormatException e) {
+                throw ctxt.weirdStringException(text, Integer.class, "not a valid Integer value");
+            }
+        }
+        throw ctxt.mappingException(Integer.class, token);
+    }
+
+    protected static BigDecimal decimal(final JsonParser parser, final DeserializationContext ctxt) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDecimalValue();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            if (text.isEmpty()) {
+                return null;
+            }
+
+            try {
+                return new BigDecimal(text);
+            } catch (final NumberFormatException e) {
+                throw ctxt.weirdStringException(text, BigDecimal.class, "not a valid representation");
+            }
+        }
+        throw ctxt.mappingException(BigDecimal.class, token);
+    }
+
+    protected static Currency currency(final JsonParser parser, final DeserializationContext ctxt) throws IOException {
+        return parser.getCurrentToken() == JsonToken.VALUE_NULL ? null : CURRENCY.deserialize(parser, ctxt);
+    }
+
+    protected static URI uri(final JsonParser parser, final DeserializationContext ctxt) throws IOException {
+        String text = text(parser, ctxt);
+        if (text == null || text.trim().isEmpty()) {
+            return null;
+        }
+
+        try {
+            return URI.create(text.trim());
+        } catch (final IllegalArgumentException e) {
+            throw ctxt.weirdStringException(text, URI.class, e.getMessage());
+        }
+    }
+
+    protected static PhoneNumber phoneNumber(final JsonParser parser,
+                                             final DeserializationContext ctxt) throws IOException {
+        String text = text(parser, ctxt);
+        return text == null ? null : new PhoneNumber(text);
+    }
+
+    protected static Map<String, String> stringMap(final JsonParser parser,
+                                                   final DeserializationContext ctxt) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw ctxt.mappingException(Map.class, token);
+        }
+
+        Map<String, String> map = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.getCurrentName();
+            parser.nextToken();
+            map.put(key, text(parser, ctxt));
+        }
+        return map;
+    }
+}
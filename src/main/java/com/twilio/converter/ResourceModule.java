@@ -0,0 +1,123 @@
+package com.twilio.converter;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleDeserializers;
+import com.twilio.base.Resource;
+import com.twilio.rest.api.v2010.account.Call;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.rest.api.v2010.account.Recording;
+import com.twilio.rest.api.v2010.account.usage.Record;
+import com.twilio.rest.taskrouter.v1.workspace.Task;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Jackson module decoding {@link Resource}s, and letting a reader bind only some of their properties.
+ *
+ * <p>
+ *     The resources read most, {@link Message}, {@link Call}, {@link Recording}, usage {@link Record} and TaskRouter
+ *     {@link Task}, are decoded by their hand-written {@link ResourceDeserializer}, which switches on property
+ *     names instead of going through Jackson's reflective creator path. Other resources are still decoded by
+ *     Jackson's bean deserializer through their {@link JsonCreator} constructor.
+ * </p>
+ *
+ * <p>
+ *     A reader made with {@link #select} skips the properties it wasn't given at the token level, so they are never
+ *     bound and are left null.
+ * </p>
+ */
+public class ResourceModule extends Module {
+
+    static final String SELECTED = ResourceModule.class.getName() + ".selected";
+
+    private static final ConcurrentMap<Class<?>, Set<String>> PROPERTIES = new ConcurrentHashMap<>();
+
+    /**
+     * Restrict the properties bound by a reader.
+     *
+     * @param reader reader of resources, from a mapper with this module registered
+     * @param properties JSON names of the properties to bind, like {@code sid} or {@code date_created}
+     * @return reader binding only the given properties, or the same reader if properties is null
+     */
+    public static ObjectReader select(final ObjectReader reader, final Set<String> properties) {
+        return properties == null ? reader : reader.withAttribute(SELECTED, properties);
+    }
+
+    /**
+     * Get the properties a resource is created from.
+     *
+     * @param type class of the resource
+     * @return JSON names of the parameters of its {@link JsonCreator} constructor
+     */
+    public static Set<String> properties(final Class<?> type) {
+        Set<String> properties = PROPERTIES.get(type);
+        if (properties != null) {
+            return properties;
+        }
+
+        Set<String> names = new HashSet<>();
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (!constructor.isAnnotationPresent(JsonCreator.class)) {
+                continue;
+            }
+            for (Annotation[] annotations : constructor.getParameterAnnotations()) {
+                for (Annotation annotation : annotations) {
+                    if (annotation instanceof JsonProperty) {
+                        names.add(((JsonProperty) annotation).value());
+                    }
+                }
+            }
+        }
+
+        properties = Collections.unmodifiableSet(names);
+        PROPERTIES.putIfAbsent(type, properties);
+        return properties;
+    }
+
+    @Override
+    public String getModuleName() {
+        return "TwilioResourceModule";
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public void setupModule(final SetupContext context) {
+        SimpleDeserializers deserializers = new SimpleDeserializers();
+        deserializers.addDeserializer(Message.class, new Message.Deserializer());
+        deserializers.addDeserializer(Call.class, new Call.Deserializer());
+        deserializers.addDeserializer(Recording.class, new Recording.Deserializer());
+        deserializers.addDeserializer(Record.class, new Record.Deserializer());
+        deserializers.addDeserializer(Task.class, new Task.Deserializer());
+        context.addDeserializers(deserializers);
+
+        context.addBeanDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public JsonDeserializer<?> modifyDeserializer(final DeserializationConfig config,
+                                                          final BeanDescription beanDesc,
+                                                          final JsonDeserializer<?> deserializer) {
+                if (!Resource.class.isAssignableFrom(beanDesc.getBeanClass())) {
+                    return deserializer;
+                }
+                return new SelectingDeserializer(deserializer);
+            }
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package com.twilio.converter;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Hands a resource to its bean deserializer, hiding the top level properties the reader didn't select.
+ */
+class SelectingDeserializer extends DelegatingDeserializer {
+
+    private static final long serialVersionUID = 1L;
+
+    SelectingDeserializer(final JsonDeserializer<?> delegatee) {
+        super(delegatee);
+    }
+
+    @Override
+    protected JsonDeserializer<?> newDelegatingInstance(final JsonDeserializer<?> newDelegatee) {
+        return new SelectingDeserializer(newDelegatee);
+    }
+
+    @Override
+    public Object deserialize(final JsonParser parser, final DeserializationContext ctxt) throws IOException {
+        Set<?> selected = (Set<?>) ctxt.getAttribute(ResourceModule.SELECTED);
+        if (selected == null || parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            return _delegatee.deserialize(parser, ctxt);
+        }
+        return _delegatee.deserialize(new SelectingParser(parser, selected), ctxt);
+    }
+
+    /**
+     * Parser skipping the unselected fields of the object it starts on.
+     */
+    private static class SelectingParser extends JsonParserDelegate {
+        private final Set<?> selected;
+        private int depth = 1;
+
+        SelectingParser(final JsonParser parser, final Set<?> selected) {
+            super(parser);
+            this.selected = selected;
+        }
+
+        @Override
+        public JsonToken nextToken() throws IOException {
+            JsonToken token = delegate.nextToken();
+            while (depth == 1 && token == JsonToken.FIELD_NAME && !selected.contains(delegate.getCurrentName())) {
+                delegate.nextToken();
+                delegate.skipChildren();
+                token = delegate.nextToken();
+            }
+
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                depth++;
+            } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                depth--;
+            }
+            return token;
+        }
+
+        @Override
+        public JsonToken nextValue() throws IOException {
+            JsonToken token = nextToken();
+            return token == JsonToken.FIELD_NAME ? nextToken() : token;
+        }
+
+        @Override
+        public JsonParser skipChildren() throws IOException {
+            JsonToken token = delegate.getCurrentToken();
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                delegate.skipChildren();
+                depth--;
+            }
+            return this;
+        }
+    }
+}
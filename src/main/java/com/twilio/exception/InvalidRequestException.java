@@ -6,6 +6,10 @@ public class InvalidRequestException extends TwilioException {
 
     private final String param;
 
+    public InvalidRequestException(final String message, final String param) {
+        this(message, param, null);
+    }
+
     public InvalidRequestException(final String message, final String param, final Throwable cause) {
         super(message, cause);
         this.param = param;
@@ -48,7 +48,14 @@ public class RestException {
     public static RestException fromJson(final InputStream json, final ObjectMapper objectMapper) {
         // Convert all checked exception to Runtime
         try {
-            return objectMapper.readValue(json, RestException.class);
+            try {
+                return objectMapper.readValue(json, RestException.class);
+            } finally {
+                // Release the connection even if the error body couldn't be parsed
+                if (json != null) {
+                    json.close();
+                }
+            }
         } catch (final JsonMappingException | JsonParseException e) {
             throw new ApiException(e.getMessage(), e);
         } catch (final IOException e) {
@@ -0,0 +1,96 @@
+package com.twilio.http;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Additive increase, multiplicative decrease.
+ *
+ * <p>
+ *     The limit grows by one for every request that completes while the limit is at least half used, and is cut
+ *     by {@code backoffRatio} whenever a request is dropped or exceeds {@code timeout}.
+ * </p>
+ */
+public class AimdConcurrencyLimit extends ConcurrencyLimit {
+
+    private static final int INITIAL_LIMIT = 20;
+    private static final int MIN_LIMIT = 1;
+    private static final int MAX_LIMIT = 200;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long timeoutNanos;
+    private int limit;
+
+    private AimdConcurrencyLimit(final Builder b) {
+        this.minLimit = b.minLimit;
+        this.maxLimit = b.maxLimit;
+        this.backoffRatio = b.backoffRatio;
+        this.timeoutNanos = b.timeoutNanos;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, b.initialLimit));
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public void onSample(final long rttNanos, final int inFlight, final boolean dropped) {
+        if (dropped || (timeoutNanos > 0 && rttNanos > timeoutNanos)) {
+            limit = Math.max(minLimit, Math.min(limit - 1, (int) (limit * backoffRatio)));
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    public static class Builder {
+        private int initialLimit = INITIAL_LIMIT;
+        private int minLimit = MIN_LIMIT;
+        private int maxLimit = MAX_LIMIT;
+        private double backoffRatio = BACKOFF_RATIO;
+        private long timeoutNanos;
+
+        public Builder initialLimit(final int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        public Builder minLimit(final int minLimit) {
+            this.minLimit = Math.max(minLimit, 1);
+            return this;
+        }
+
+        public Builder maxLimit(final int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Sets the factor the limit is multiplied by when a request is dropped.
+         *
+         * @param backoffRatio ratio between 0 and 1
+         * @return this builder
+         */
+        public Builder backoffRatio(final double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Treat requests slower than a timeout as dropped.
+         *
+         * @param timeoutMillis latency in milliseconds, 0 to only back off on dropped requests
+         * @return this builder
+         */
+        public Builder timeout(final long timeoutMillis) {
+            this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            return this;
+        }
+
+        public AimdConcurrencyLimit build() {
+            return new AimdConcurrencyLimit(this);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.twilio.http;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.exception.ApiException;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * HTTP client backed by a non-blocking I/O reactor.
+ *
+ * <p>
+ *     Asynchronous requests complete on the reactor's I/O callbacks instead of holding a thread each, so a large
+ *     number of requests can be in flight at once. Response bodies are buffered in memory before the future
+ *     resolves.
+ * </p>
+ */
+public class AsyncHttpClient extends HttpClient implements Closeable {
+
+    private static final int CONNECTION_TIMEOUT = 10000;
+    private static final int SOCKET_TIMEOUT = 30500;
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 10;
+    private static final int MAX_CONNECTIONS = 50;
+
+    private final CloseableHttpAsyncClient client;
+    private final ContentDecoder contentDecoder = new ContentDecoder();
+
+    /**
+     * Create a new asynchronous HTTP Client.
+     */
+    public AsyncHttpClient() {
+        this(HttpAsyncClients.custom()
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectTimeout(CONNECTION_TIMEOUT)
+                .setSocketTimeout(SOCKET_TIMEOUT)
+                .build())
+            .setDefaultHeaders(NetworkHttpClient.defaultHeaders())
+            .setMaxConnPerRoute(MAX_CONNECTIONS_PER_ROUTE)
+            .setMaxConnTotal(MAX_CONNECTIONS)
+            .build());
+    }
+
+    /**
+     * Create a new asynchronous HTTP Client using a custom Apache client.
+     *
+     * @param client underlying client, started if it isn't running yet
+     */
+    public AsyncHttpClient(final CloseableHttpAsyncClient client) {
+        this.client = client;
+        if (!client.isRunning()) {
+            client.start();
+        }
+    }
+
+    public ContentDecoder getContentDecoder() {
+        return contentDecoder;
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
+
+    /**
+     * Make a request, blocking until it completes.
+     *
+     * @param request request to make
+     * @return Response of the HTTP request
+     */
+    public Response makeRequest(final Request request) {
+        try {
+            return makeRequestAsync(request).get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiConnectionException("Interrupted during API request to Twilio", e);
+        } catch (final ExecutionException e) {
+            Throwables.propagateIfPossible(e.getCause());
+            throw new ApiConnectionException("Unable to make API request to Twilio", e.getCause());
+        }
+    }
+
+    /**
+     * Make an asynchronous request.
+     *
+     * @param request request to make
+     * @return future that resolves on the I/O callback to the Response of the HTTP request
+     */
+    @Override
+    public ListenableFuture<Response> makeRequestAsync(final Request request) {
+        final SettableFuture<Response> future = SettableFuture.create();
+        final Future<HttpResponse> execution = client.execute(
+            NetworkHttpClient.buildRequest(request),
+            new FutureCallback<HttpResponse>() {
+                @Override
+                public void completed(final HttpResponse response) {
+                    try {
+                        future.set(new Response(
+                            response.getEntity() == null ? null : contentDecoder.decode(
+                                response.getEntity().getContent(),
+                                NetworkHttpClient.contentEncoding(response)
+                            ),
+                            response.getStatusLine().getStatusCode(),
+                            NetworkHttpClient.headers(response)
+                        ));
+                    } catch (final IOException e) {
+                        future.setException(new ApiException(e.getMessage()));
+                    }
+                }
+
+                @Override
+                public void failed(final Exception e) {
+                    future.setException(new ApiException(e.getMessage()));
+                }
+
+                @Override
+                public void cancelled() {
+                    future.cancel(false);
+                }
+            }
+        );
+
+        future.addListener(new Runnable() {
+            @Override
+            public void run() {
+                if (future.isCancelled()) {
+                    execution.cancel(true);
+                }
+            }
+        }, MoreExecutors.sameThreadExecutor());
+
+        return future;
+    }
+
+    /**
+     * Shut down the I/O reactor and release pooled connections.
+     *
+     * @throws IOException if the client fails to shut down
+     */
+    @Override
+    public void close() throws IOException {
+        client.close();
+    }
+}
@@ -0,0 +1,257 @@
+package com.twilio.http;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.utils.DateUtils;
+
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Retries with capped exponential backoff and full jitter.
+ *
+ * <p>
+ *     The delay before attempt {@code n + 1} is picked uniformly between zero and
+ *     {@code min(maxDelay, baseDelay * 2^(n - 1))}, so clients throttled at the same time don't retry in lockstep.
+ *     A {@code Retry-After} header is honored as a lower bound. Retries stop after {@code maxAttempts}, once
+ *     {@code maxElapsed} would be exceeded, or when the retry budget shared by every request using the policy
+ *     runs out.
+ * </p>
+ */
+public class BackoffRetryPolicy extends RetryPolicy {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BASE_DELAY = 100L;
+    private static final long MAX_DELAY = 10000L;
+    private static final long MAX_ELAPSED = 30000L;
+    private static final double BUDGET_RATIO = 0.2;
+    private static final int BUDGET_CAPACITY = 100;
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long TOKEN = 1000L;
+
+    private final int maxAttempts;
+    private final long baseDelay;
+    private final long maxDelay;
+    private final long maxElapsed;
+    private final boolean jitter;
+    private final boolean retryAfter;
+    private final int[] retryCodes;
+    private final int[] nonIdempotentRetryCodes;
+    private final long budgetDeposit;
+    private final long budgetCapacity;
+    private final AtomicLong budget;
+
+    private BackoffRetryPolicy(final Builder b) {
+        this.maxAttempts = b.maxAttempts;
+        this.baseDelay = b.baseDelay;
+        this.maxDelay = b.maxDelay;
+        this.maxElapsed = b.maxElapsed;
+        this.jitter = b.jitter;
+        this.retryAfter = b.retryAfter;
+        this.retryCodes = b.retryCodes;
+        this.nonIdempotentRetryCodes = b.nonIdempotentRetryCodes;
+        this.budgetDeposit = b.budgetCapacity > 0 ? (long) (b.budgetRatio * TOKEN) : 0;
+        this.budgetCapacity = (long) b.budgetCapacity * TOKEN;
+        this.budget = new AtomicLong(budgetCapacity);
+    }
+
+    @Override
+    public void onRequest(final Request request) {
+        if (budgetDeposit <= 0) {
+            return;
+        }
+
+        long current;
+        do {
+            current = budget.get();
+            if (current >= budgetCapacity) {
+                return;
+            }
+        } while (!budget.compareAndSet(current, Math.min(budgetCapacity, current + budgetDeposit)));
+    }
+
+    @Override
+    public long retryDelay(final Request request,
+                           final Response response,
+                           final int attempts,
+                           final long elapsedMillis) {
+        if (attempts >= maxAttempts || !isRetryable(request, response)) {
+            return NO_RETRY;
+        }
+
+        long delay = backoff(attempts);
+        if (retryAfter && response != null) {
+            long serverDelay = parseRetryAfter(response.getHeader(HttpHeaders.RETRY_AFTER));
+            delay = Math.max(delay, serverDelay);
+        }
+
+        if (elapsedMillis + delay > maxElapsed || !withdraw()) {
+            return NO_RETRY;
+        }
+
+        return delay;
+    }
+
+    /**
+     * Get the number of retries left in the shared budget.
+     *
+     * @return whole retries available, or -1 if there is no budget
+     */
+    public long getRemainingBudget() {
+        return budgetCapacity > 0 ? budget.get() / TOKEN : -1;
+    }
+
+    private boolean isRetryable(final Request request, final Response response) {
+        if (request.isNonIdempotent()) {
+            return response != null && HttpClient.matches(response.getStatusCode(), nonIdempotentRetryCodes);
+        }
+
+        return response == null || HttpClient.matches(response.getStatusCode(), retryCodes);
+    }
+
+    private long backoff(final int attempts) {
+        long ceiling = baseDelay << Math.min(attempts - 1, 30);
+        if (ceiling <= 0 || ceiling > maxDelay) {
+            ceiling = maxDelay;
+        }
+
+        return jitter ? ThreadLocalRandom.current().nextLong(ceiling + 1) : ceiling;
+    }
+
+    private boolean withdraw() {
+        if (budgetCapacity <= 0) {
+            return true;
+        }
+
+        long current;
+        do {
+            current = budget.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    static long parseRetryAfter(final String value) {
+        if (value == null || value.isEmpty()) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(value.trim()) * MILLIS_PER_SECOND;
+        } catch (final NumberFormatException e) {
+            Date date = DateUtils.parseDate(value);
+            return date == null ? -1 : date.getTime() - System.currentTimeMillis();
+        }
+    }
+
+    public static class Builder {
+        private int maxAttempts = MAX_ATTEMPTS;
+        private long baseDelay = BASE_DELAY;
+        private long maxDelay = MAX_DELAY;
+        private long maxElapsed = MAX_ELAPSED;
+        private boolean jitter = true;
+        private boolean retryAfter = true;
+        private int[] retryCodes = new int[]{HttpClient.ANY_500, HttpClient.TOO_MANY_REQUESTS};
+        private int[] nonIdempotentRetryCodes = new int[]{HttpClient.TOO_MANY_REQUESTS};
+        private double budgetRatio = BUDGET_RATIO;
+        private int budgetCapacity = BUDGET_CAPACITY;
+
+        /**
+         * Sets the max number of attempts, including the first one.
+         *
+         * @param maxAttempts max number of attempts
+         * @return this builder
+         */
+        public Builder maxAttempts(final int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder baseDelay(final long baseDelay) {
+            this.baseDelay = Math.max(baseDelay, 1);
+            return this;
+        }
+
+        public Builder maxDelay(final long maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Sets the max time from the first attempt to the start of the last retry.
+         *
+         * @param maxElapsed max elapsed time in milliseconds
+         * @return this builder
+         */
+        public Builder maxElapsed(final long maxElapsed) {
+            this.maxElapsed = maxElapsed;
+            return this;
+        }
+
+        /**
+         * Sets whether delays are randomized between zero and the backoff.
+         *
+         * @param jitter false to wait for the full backoff
+         * @return this builder
+         */
+        public Builder jitter(final boolean jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        public Builder retryAfter(final boolean retryAfter) {
+            this.retryAfter = retryAfter;
+            return this;
+        }
+
+        /**
+         * Sets the status codes retried for idempotent requests.
+         *
+         * @param retryCodes status codes or {@link HttpClient} categories such as {@code ANY_500}
+         * @return this builder
+         */
+        public Builder retryCodes(final int... retryCodes) {
+            this.retryCodes = retryCodes.clone();
+            return this;
+        }
+
+        /**
+         * Sets the status codes retried for non-idempotent requests.
+         *
+         * <p>
+         *     Only codes meaning the server didn't act on the request are safe here.
+         * </p>
+         *
+         * @param nonIdempotentRetryCodes status codes or {@link HttpClient} categories
+         * @return this builder
+         */
+        public Builder nonIdempotentRetryCodes(final int... nonIdempotentRetryCodes) {
+            this.nonIdempotentRetryCodes = nonIdempotentRetryCodes.clone();
+            return this;
+        }
+
+        /**
+         * Sets the retry budget shared by every request using the policy.
+         *
+         * <p>
+         *     Each request adds {@code ratio} of a retry to the budget, up to {@code capacity}, and each retry
+         *     spends one. Under sustained failure retries are limited to {@code ratio} of the request rate.
+         * </p>
+         *
+         * @param ratio retries earned per request
+         * @param capacity max retries saved up, 0 to disable the budget
+         * @return this builder
+         */
+        public Builder retryBudget(final double ratio, final int capacity) {
+            this.budgetRatio = ratio;
+            this.budgetCapacity = capacity;
+            return this;
+        }
+
+        public BackoffRetryPolicy build() {
+            return new BackoffRetryPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.twilio.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stops sending requests to a backend that keeps failing.
+ *
+ * <p>
+ *     While closed, the outcome of the last {@code windowSize} attempts is tracked; once at least
+ *     {@code minimumCalls} have been made and the share of failures reaches {@code failureRateThreshold}, the
+ *     breaker opens and rejects every attempt without touching the network. After {@code openDuration} it lets
+ *     {@code halfOpenCalls} trial attempts through: if they all succeed it closes again, and the first failure
+ *     opens it for another {@code openDuration}.
+ * </p>
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private static final double FAILURE_RATE_THRESHOLD = 0.5;
+    private static final int WINDOW_SIZE = 20;
+    private static final int MINIMUM_CALLS = 10;
+    private static final long OPEN_DURATION = 30000L;
+    private static final int HALF_OPEN_CALLS = 3;
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final int[] failureCodes;
+
+    private final boolean[] window;
+    private int index;
+    private int calls;
+    private int failures;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong opened = new AtomicLong();
+
+    private CircuitBreaker(final Builder b) {
+        this.failureRateThreshold = b.failureRateThreshold;
+        this.minimumCalls = b.minimumCalls;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(b.openDuration);
+        this.halfOpenCalls = b.halfOpenCalls;
+        this.failureCodes = b.failureCodes;
+        this.window = new boolean[b.windowSize];
+    }
+
+    /**
+     * Get the current state, moving from open to half open once the open duration is over.
+     *
+     * @return current state
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+            halfOpen();
+        }
+        return state;
+    }
+
+    /**
+     * Get the share of failed attempts among the ones tracked while closed.
+     *
+     * @return failure rate between 0 and 1
+     */
+    public synchronized double getFailureRate() {
+        return calls == 0 ? 0 : failures / (double) calls;
+    }
+
+    /**
+     * Get the number of attempts rejected without being made.
+     *
+     * @return number of rejected attempts
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * Get the number of times the breaker opened.
+     *
+     * @return number of times opened
+     */
+    public long getOpened() {
+        return opened.get();
+    }
+
+    /**
+     * Ask to make an attempt.
+     *
+     * @return true if the attempt may be made, false if it must fail fast
+     */
+    synchronized boolean tryAcquire() {
+        State current = getState();
+        if (current == State.CLOSED) {
+            return true;
+        }
+
+        if (current == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+            return true;
+        }
+
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Give back an attempt that was allowed but never made.
+     */
+    synchronized void cancel() {
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits++;
+        }
+    }
+
+    /**
+     * Record the outcome of an attempt.
+     *
+     * @param response response received, null if the attempt failed to connect
+     */
+    synchronized void onResult(final Response response) {
+        boolean failure = response == null || HttpClient.matches(response.getStatusCode(), failureCodes);
+
+        if (state == State.HALF_OPEN) {
+            if (failure) {
+                open();
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+
+        if (state == State.OPEN) {
+            // Attempt started before the breaker opened
+            return;
+        }
+
+        if (calls == window.length) {
+            failures -= window[index] ? 1 : 0;
+        } else {
+            calls++;
+        }
+        window[index] = failure;
+        failures += failure ? 1 : 0;
+        index = (index + 1) % window.length;
+
+        if (calls >= minimumCalls && failures >= failureRateThreshold * calls) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        opened.incrementAndGet();
+    }
+
+    private void halfOpen() {
+        state = State.HALF_OPEN;
+        halfOpenPermits = halfOpenCalls;
+        halfOpenSuccesses = 0;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        index = 0;
+        calls = 0;
+        failures = 0;
+    }
+
+    public static class Builder {
+        private double failureRateThreshold = FAILURE_RATE_THRESHOLD;
+        private int windowSize = WINDOW_SIZE;
+        private int minimumCalls = MINIMUM_CALLS;
+        private long openDuration = OPEN_DURATION;
+        private int halfOpenCalls = HALF_OPEN_CALLS;
+        private int[] failureCodes = new int[]{HttpClient.ANY_500};
+
+        /**
+         * Sets the share of failed attempts that opens the breaker.
+         *
+         * @param failureRateThreshold failure rate between 0 and 1
+         * @return this builder
+         */
+        public Builder failureRateThreshold(final double failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets how many of the latest attempts are tracked, and how many are needed before the breaker can open.
+         *
+         * @param windowSize number of attempts tracked
+         * @param minimumCalls number of attempts needed to compute the failure rate
+         * @return this builder
+         */
+        public Builder window(final int windowSize, final int minimumCalls) {
+            this.windowSize = Math.max(windowSize, 1);
+            this.minimumCalls = Math.max(Math.min(minimumCalls, this.windowSize), 1);
+            return this;
+        }
+
+        /**
+         * Sets how long the breaker stays open before letting trial attempts through.
+         *
+         * @param openDuration open duration in milliseconds
+         * @return this builder
+         */
+        public Builder openDuration(final long openDuration) {
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        public Builder halfOpenCalls(final int halfOpenCalls) {
+            this.halfOpenCalls = Math.max(halfOpenCalls, 1);
+            return this;
+        }
+
+        /**
+         * Sets the status codes counted as failures. Failures to connect always count.
+         *
+         * @param failureCodes status codes or {@link HttpClient} categories
+         * @return this builder
+         */
+        public Builder failureCodes(final int... failureCodes) {
+            this.failureCodes = failureCodes.clone();
+            return this;
+        }
+
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+    }
+}
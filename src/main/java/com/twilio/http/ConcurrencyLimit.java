@@ -0,0 +1,28 @@
+package com.twilio.http;
+
+/**
+ * Algorithm deciding how many requests may be in flight at once.
+ *
+ * <p>
+ *     The limit is updated from every completed request. {@link ConcurrencyLimiter} serializes calls, so
+ *     implementations don't need to be thread safe.
+ * </p>
+ */
+public abstract class ConcurrencyLimit {
+
+    /**
+     * Get the current number of requests allowed in flight.
+     *
+     * @return current limit, at least 1
+     */
+    public abstract int getLimit();
+
+    /**
+     * Update the limit from a completed request.
+     *
+     * @param rttNanos time the request took
+     * @param inFlight number of requests in flight when it completed, including itself
+     * @param dropped true if the request was throttled or failed to connect
+     */
+    public abstract void onSample(final long rttNanos, final int inFlight, final boolean dropped);
+}
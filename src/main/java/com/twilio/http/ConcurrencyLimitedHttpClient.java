@@ -0,0 +1,85 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.twilio.exception.ApiConnectionException;
+
+/**
+ * Makes every attempt through another client while holding a slot from a {@link ConcurrencyLimiter}.
+ */
+class ConcurrencyLimitedHttpClient extends HttpClient {
+
+    private final HttpClient httpClient;
+    private final ConcurrencyLimiter limiter;
+
+    ConcurrencyLimitedHttpClient(final HttpClient httpClient, final ConcurrencyLimiter limiter) {
+        this.httpClient = httpClient;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public RequestListener getRequestListener() {
+        return httpClient.getRequestListener();
+    }
+
+    @Override
+    public void setRequestListener(final RequestListener requestListener) {
+        httpClient.setRequestListener(requestListener);
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return httpClient.isNonBlocking();
+    }
+
+    @Override
+    public Response makeRequest(final Request request) {
+        try {
+            limiter.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiConnectionException("Interrupted while waiting for a concurrency slot", e);
+        }
+
+        long start = System.nanoTime();
+        Response response = null;
+        try {
+            response = httpClient.makeRequest(request);
+            return response;
+        } finally {
+            limiter.release(System.nanoTime() - start, response);
+        }
+    }
+
+    @Override
+    public ListenableFuture<Response> makeRequestAsync(final Request request) {
+        return Futures.transform(limiter.acquireAsync(), new AsyncFunction<Void, Response>() {
+            @Override
+            public ListenableFuture<Response> apply(final Void input) {
+                final long start = System.nanoTime();
+                ListenableFuture<Response> future;
+                try {
+                    future = httpClient.makeRequestAsync(request);
+                } catch (final RuntimeException e) {
+                    limiter.release(System.nanoTime() - start, null);
+                    throw e;
+                }
+
+                Futures.addCallback(future, new FutureCallback<Response>() {
+                    @Override
+                    public void onSuccess(final Response response) {
+                        limiter.release(System.nanoTime() - start, response);
+                    }
+
+                    @Override
+                    public void onFailure(final Throwable t) {
+                        limiter.release(System.nanoTime() - start, null);
+                    }
+                });
+                return future;
+            }
+        });
+    }
+}
@@ -0,0 +1,149 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Caps the number of requests in flight at a limit that adapts to observed latency and throttling.
+ *
+ * <p>
+ *     Each attempt holds a slot while it is on the wire and reports its latency, and whether it was dropped, when
+ *     it completes. Requests over the limit are queued until a slot frees up; async callers are queued without
+ *     holding a thread.
+ * </p>
+ */
+public class ConcurrencyLimiter {
+
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private final ConcurrencyLimit limit;
+    private final int[] dropCodes;
+    private final Queue<SettableFuture<Void>> waiters = new ArrayDeque<>();
+    private int inFlight;
+
+    private ConcurrencyLimiter(final Builder b) {
+        this.limit = b.limit;
+        this.dropCodes = b.dropCodes;
+    }
+
+    /**
+     * Get the current number of requests allowed in flight.
+     *
+     * @return current limit
+     */
+    public synchronized int getLimit() {
+        return limit.getLimit();
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Get the number of requests waiting for a slot.
+     *
+     * @return number of queued requests
+     */
+    public synchronized int getQueued() {
+        return waiters.size();
+    }
+
+    synchronized ListenableFuture<Void> acquireAsync() {
+        if (inFlight < limit.getLimit()) {
+            inFlight++;
+            return Futures.immediateFuture(null);
+        }
+
+        SettableFuture<Void> waiter = SettableFuture.create();
+        waiters.add(waiter);
+        return waiter;
+    }
+
+    void acquire() throws InterruptedException {
+        ListenableFuture<Void> waiter = acquireAsync();
+        try {
+            waiter.get();
+        } catch (final InterruptedException e) {
+            if (!waiter.cancel(false)) {
+                cancel();
+            }
+            throw e;
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    void release(final long rttNanos, final Response response) {
+        synchronized (this) {
+            limit.onSample(rttNanos, inFlight, isDropped(response));
+            inFlight--;
+        }
+        dispatch();
+    }
+
+    private void cancel() {
+        synchronized (this) {
+            inFlight--;
+        }
+        dispatch();
+    }
+
+    private boolean isDropped(final Response response) {
+        return response == null || HttpClient.matches(response.getStatusCode(), dropCodes);
+    }
+
+    private void dispatch() {
+        while (true) {
+            SettableFuture<Void> next;
+            synchronized (this) {
+                if (waiters.isEmpty() || inFlight >= limit.getLimit()) {
+                    return;
+                }
+                next = waiters.poll();
+                inFlight++;
+            }
+
+            if (!next.set(null)) {
+                synchronized (this) {
+                    inFlight--;
+                }
+            }
+        }
+    }
+
+    public static class Builder {
+        private ConcurrencyLimit limit = new AimdConcurrencyLimit.Builder().build();
+        private int[] dropCodes = new int[]{HttpClient.TOO_MANY_REQUESTS, SERVICE_UNAVAILABLE};
+
+        /**
+         * Sets the algorithm adapting the limit.
+         *
+         * @param limit algorithm such as {@link AimdConcurrencyLimit} or {@link GradientConcurrencyLimit}
+         * @return this builder
+         */
+        public Builder limit(final ConcurrencyLimit limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * Sets the status codes meaning the request was throttled. Failures to connect always count as dropped.
+         *
+         * @param dropCodes status codes or {@link HttpClient} categories
+         * @return this builder
+         */
+        public Builder dropCodes(final int... dropCodes) {
+            this.dropCodes = dropCodes.clone();
+            return this;
+        }
+
+        public ConcurrencyLimiter build() {
+            return new ConcurrencyLimiter(this);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.twilio.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Decompresses gzip and deflate response bodies as they are read.
+ *
+ * <p>
+ *     Counts the bytes read off the wire and the bytes handed to the caller once decoded, so the saving from
+ *     compression can be measured. Bodies are never buffered: the decoded stream feeds the JSON parser directly.
+ * </p>
+ */
+public class ContentDecoder {
+
+    public static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int DEFLATE_METHOD = 8;
+    private static final int ZLIB_CHECK = 31;
+
+    private final AtomicLong wireBytes = new AtomicLong();
+    private final AtomicLong decodedBytes = new AtomicLong();
+
+    /**
+     * Get the number of response body bytes read off the wire.
+     *
+     * @return bytes received
+     */
+    public long getWireBytes() {
+        return wireBytes.get();
+    }
+
+    /**
+     * Get the number of response body bytes after decompression.
+     *
+     * @return bytes decoded
+     */
+    public long getDecodedBytes() {
+        return decodedBytes.get();
+    }
+
+    /**
+     * Wrap a response body so that it is decoded and counted as it is read.
+     *
+     * @param body response body as received, may be null
+     * @param contentEncoding value of the {@code Content-Encoding} header, may be null
+     * @return decoded body, null if there is no body
+     * @throws IOException if the body can't be read
+     */
+    public InputStream decode(final InputStream body, final String contentEncoding) throws IOException {
+        if (body == null) {
+            return null;
+        }
+
+        InputStream wire = new CountingInputStream(body, wireBytes);
+        String coding = contentEncoding == null ? "" : contentEncoding.trim().toLowerCase(Locale.ROOT);
+        boolean gzip = "gzip".equals(coding) || "x-gzip".equals(coding);
+        if (!gzip && !"deflate".equals(coding)) {
+            return new CountingInputStream(wire, decodedBytes);
+        }
+
+        PushbackInputStream pushback = new PushbackInputStream(wire, 2);
+        int first = pushback.read();
+        if (first < 0) {
+            return pushback;
+        }
+        int second = pushback.read();
+        if (second >= 0) {
+            pushback.unread(second);
+        }
+        pushback.unread(first);
+
+        if (gzip) {
+            return new CountingInputStream(new GZIPInputStream(pushback, BUFFER_SIZE), decodedBytes);
+        }
+
+        // Servers disagree on whether deflate is zlib-wrapped, so check for a zlib header
+        boolean zlib = (first & 0x0F) == DEFLATE_METHOD && second >= 0 && ((first << 8) | second) % ZLIB_CHECK == 0;
+        final Inflater inflater = new Inflater(!zlib);
+        InputStream inflated = new InflaterInputStream(pushback, inflater, BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+        return new CountingInputStream(inflated, decodedBytes);
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private final AtomicLong count;
+
+        CountingInputStream(final InputStream in, final AtomicLong count) {
+            super(in);
+            this.count = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count.incrementAndGet();
+            }
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count.addAndGet(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            long skipped = super.skip(n);
+            count.addAndGet(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
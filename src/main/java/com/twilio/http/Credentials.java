@@ -0,0 +1,98 @@
+package com.twilio.http;
+
+import org.apache.commons.codec.binary.Base64;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Username and password a client authenticates with, and the Authorization header they encode to.
+ *
+ * <p>
+ *     The header is encoded once when the credentials are created, so every request sharing them sends it as is.
+ *     Credentials are immutable; rotate them by giving the client a new instance.
+ * </p>
+ */
+public class Credentials {
+
+    private final String username;
+    private final String password;
+    private final String authorization;
+
+    /**
+     * Create credentials for HTTP basic authentication.
+     *
+     * @param username username to use
+     * @param password password for the username
+     */
+    public Credentials(final String username, final String password) {
+        this.username = username;
+        this.password = password;
+        this.authorization = "Basic " + Base64.encodeBase64String(
+            (username + ":" + password).getBytes(StandardCharsets.US_ASCII)
+        );
+    }
+
+    /**
+     * Create credentials from an account SID and its auth token.
+     *
+     * @param accountSid account to use
+     * @param authToken auth token for the account
+     * @return credentials for the account
+     */
+    public static Credentials authToken(final String accountSid, final String authToken) {
+        return new Credentials(accountSid, authToken);
+    }
+
+    /**
+     * Create credentials from an API key.
+     *
+     * <p>
+     *     The key doesn't identify the account, so clients using it need their account SID set separately.
+     * </p>
+     *
+     * @param apiKeySid SID of the API key
+     * @param apiKeySecret secret of the API key
+     * @return credentials for the API key
+     */
+    public static Credentials apiKey(final String apiKeySid, final String apiKeySecret) {
+        return new Credentials(apiKeySid, apiKeySecret);
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    /**
+     * Get the value of the Authorization header.
+     *
+     * @return basic authentication string
+     */
+    public String getAuthorization() {
+        return authorization;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        Credentials other = (Credentials) o;
+        return Objects.equals(this.username, other.username) &&
+               Objects.equals(this.password, other.password);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(username, password);
+    }
+}
@@ -0,0 +1,162 @@
+package com.twilio.http;
+
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.rest.Domains;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps a slow or failing Twilio domain from starving requests to the others.
+ *
+ * <p>
+ *     Each domain can get a {@link Bulkhead} capping its attempts in flight and a {@link CircuitBreaker} failing
+ *     its attempts fast while its backend keeps failing. Rejected attempts throw an
+ *     {@link ApiConnectionException} without touching the network.
+ * </p>
+ */
+public class DomainIsolation {
+
+    private final Map<String, Bulkhead> bulkheads;
+    private final Map<String, CircuitBreaker> circuitBreakers;
+
+    private DomainIsolation(final Builder b) {
+        this.bulkheads = new HashMap<>(b.bulkheads);
+        this.circuitBreakers = new HashMap<>(b.circuitBreakers);
+        if (b.defaultCircuitBreaker != null) {
+            for (Domains domain : Domains.values()) {
+                if (!circuitBreakers.containsKey(domain.toString())) {
+                    circuitBreakers.put(domain.toString(), b.defaultCircuitBreaker.build());
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the bulkhead of a domain.
+     *
+     * @param domain Twilio domain
+     * @return bulkhead of the domain, null if it has none
+     */
+    public Bulkhead getBulkhead(final Domains domain) {
+        return bulkheads.get(domain.toString());
+    }
+
+    /**
+     * Get the circuit breaker of a domain.
+     *
+     * @param domain Twilio domain
+     * @return circuit breaker of the domain, null if it has none
+     */
+    public CircuitBreaker getCircuitBreaker(final Domains domain) {
+        return circuitBreakers.get(domain.toString());
+    }
+
+    /**
+     * Get the state of every circuit breaker.
+     *
+     * @return states keyed by domain
+     */
+    public Map<String, CircuitBreaker.State> getCircuitStates() {
+        Map<String, CircuitBreaker.State> states = new TreeMap<>();
+        for (Map.Entry<String, CircuitBreaker> entry : circuitBreakers.entrySet()) {
+            states.put(entry.getKey(), entry.getValue().getState());
+        }
+        return Collections.unmodifiableMap(states);
+    }
+
+    /**
+     * Get the guard of the domain a request is made to.
+     *
+     * @param request request about to be made
+     * @return guard of the domain, null if the domain isn't isolated
+     */
+    Guard guard(final Request request) {
+        String url = request.getUrl();
+        int start = url.indexOf("://");
+        start = start < 0 ? 0 : start + 3;
+        int end = url.indexOf('.', start);
+        String domain = end < 0 ? url.substring(start) : url.substring(start, end);
+
+        Bulkhead bulkhead = bulkheads.get(domain);
+        CircuitBreaker circuitBreaker = circuitBreakers.get(domain);
+        return bulkhead == null && circuitBreaker == null ? null : new Guard(domain, bulkhead, circuitBreaker);
+    }
+
+    /**
+     * Bulkhead and circuit breaker an attempt goes through.
+     */
+    static class Guard {
+        private final String domain;
+        private final Bulkhead bulkhead;
+        private final CircuitBreaker circuitBreaker;
+
+        Guard(final String domain, final Bulkhead bulkhead, final CircuitBreaker circuitBreaker) {
+            this.domain = domain;
+            this.bulkhead = bulkhead;
+            this.circuitBreaker = circuitBreaker;
+        }
+
+        void acquire() {
+            if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+                throw new ApiConnectionException("Circuit breaker open for the " + domain + " domain");
+            }
+
+            if (bulkhead != null && !bulkhead.tryAcquire()) {
+                if (circuitBreaker != null) {
+                    circuitBreaker.cancel();
+                }
+                throw new ApiConnectionException("Too many requests in flight to the " + domain + " domain");
+            }
+        }
+
+        void release(final Response response) {
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+            if (circuitBreaker != null) {
+                circuitBreaker.onResult(response);
+            }
+        }
+    }
+
+    public static class Builder {
+        private final Map<String, Bulkhead> bulkheads = new HashMap<>();
+        private final Map<String, CircuitBreaker> circuitBreakers = new HashMap<>();
+        private CircuitBreaker.Builder defaultCircuitBreaker;
+
+        /**
+         * Caps the attempts in flight to a domain.
+         *
+         * @param domain Twilio domain
+         * @param maxConcurrent max number of attempts in flight
+         * @return this builder
+         */
+        public Builder bulkhead(final Domains domain, final int maxConcurrent) {
+            this.bulkheads.put(domain.toString(), new Bulkhead(maxConcurrent));
+            return this;
+        }
+
+        public Builder circuitBreaker(final Domains domain, final CircuitBreaker circuitBreaker) {
+            this.circuitBreakers.put(domain.toString(), circuitBreaker);
+            return this;
+        }
+
+        /**
+         * Gives every domain without its own circuit breaker one built from a template.
+         *
+         * @param circuitBreaker template of the circuit breakers
+         * @return this builder
+         */
+        public Builder circuitBreakers(final CircuitBreaker.Builder circuitBreaker) {
+            this.defaultCircuitBreaker = circuitBreaker;
+            return this;
+        }
+
+        public DomainIsolation build() {
+            return new DomainIsolation(this);
+        }
+    }
+}
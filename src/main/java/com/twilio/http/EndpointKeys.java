@@ -0,0 +1,45 @@
+package com.twilio.http;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded set of the endpoints requests are keyed on by metrics and hedging.
+ *
+ * <p>
+ *     Endpoints are named by {@link RequestEvent#endpoint}. Once the maximum number of distinct endpoints has been
+ *     seen, requests to any new one share the {@link #OTHER} key, so paths the templating doesn't recognise can't
+ *     grow the keyed maps without bound.
+ * </p>
+ */
+class EndpointKeys {
+
+    static final String OTHER = "{other}";
+
+    private final Set<String> keys = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private final int maxKeys;
+
+    EndpointKeys(final int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Get the key of the endpoint a request is made to.
+     *
+     * @param request request to an endpoint
+     * @return templated path of the endpoint, or {@link #OTHER} once the maximum number of keys is reached
+     */
+    String key(final Request request) {
+        String key = RequestEvent.endpoint(request);
+        if (keys.contains(key)) {
+            return key;
+        }
+        if (keys.size() >= maxKeys) {
+            return OTHER;
+        }
+
+        keys.add(key);
+        return key;
+    }
+}
@@ -0,0 +1,197 @@
+package com.twilio.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Percent-encodes parameters as {@code application/x-www-form-urlencoded}, the same way as
+ * {@link java.net.URLEncoder} with UTF-8.
+ *
+ * <p>
+ *     The encoded length is computed first, then every pair is written straight into a buffer of that size
+ *     reused by the thread, so encoding allocates nothing but the result.
+ * </p>
+ */
+class FormEncoder {
+
+    private static final boolean[] SAFE = new boolean[0x80];
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final int MAX_RETAINED = 64 * 1024;
+    private static final ThreadLocal<byte[]> BUFFERS = new ThreadLocal<>();
+
+    static {
+        for (char ch = 'a'; ch <= 'z'; ch++) {
+            SAFE[ch] = true;
+        }
+        for (char ch = 'A'; ch <= 'Z'; ch++) {
+            SAFE[ch] = true;
+        }
+        for (char ch = '0'; ch <= '9'; ch++) {
+            SAFE[ch] = true;
+        }
+        SAFE['.'] = true;
+        SAFE['-'] = true;
+        SAFE['*'] = true;
+        SAFE['_'] = true;
+    }
+
+    private FormEncoder() {
+    }
+
+    /**
+     * Encode parameters to a string.
+     *
+     * @param params parameters to encode, null values are skipped
+     * @return encoded parameters
+     */
+    static String encode(final Map<String, List<String>> params) {
+        int length = length(params);
+        if (length == 0) {
+            return "";
+        }
+
+        byte[] buffer = buffer(length);
+        write(params, buffer);
+        return new String(buffer, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Encode parameters into a stream.
+     *
+     * @param params parameters to encode, null values are skipped
+     * @param out stream to write to
+     * @throws IOException if the stream can't be written to
+     */
+    static void writeTo(final Map<String, List<String>> params, final OutputStream out) throws IOException {
+        int length = length(params);
+        if (length == 0) {
+            return;
+        }
+
+        byte[] buffer = buffer(length);
+        write(params, buffer);
+        out.write(buffer, 0, length);
+    }
+
+    /**
+     * Get the length of the encoded parameters.
+     *
+     * @param params parameters to encode, null values are skipped
+     * @return length in bytes
+     */
+    static int length(final Map<String, List<String>> params) {
+        int length = 0;
+        for (Map.Entry<String, List<String>> entry : params.entrySet()) {
+            int name = -1;
+            for (String value : entry.getValue()) {
+                if (value == null) {
+                    continue;
+                }
+
+                if (name < 0) {
+                    name = encodedLength(entry.getKey());
+                }
+                length += (length == 0 ? 0 : 1) + name + 1 + encodedLength(value);
+            }
+        }
+        return length;
+    }
+
+    private static byte[] buffer(final int length) {
+        byte[] buffer = BUFFERS.get();
+        if (buffer == null || buffer.length < length) {
+            buffer = new byte[Math.max(length, buffer == null ? 0 : buffer.length * 2)];
+            if (buffer.length <= MAX_RETAINED) {
+                BUFFERS.set(buffer);
+            }
+        }
+        return buffer;
+    }
+
+    private static void write(final Map<String, List<String>> params, final byte[] buffer) {
+        int position = 0;
+        for (Map.Entry<String, List<String>> entry : params.entrySet()) {
+            for (String value : entry.getValue()) {
+                if (value == null) {
+                    continue;
+                }
+
+                if (position > 0) {
+                    buffer[position++] = '&';
+                }
+                position = writeEncoded(entry.getKey(), buffer, position);
+                buffer[position++] = '=';
+                position = writeEncoded(value, buffer, position);
+            }
+        }
+    }
+
+    private static int encodedLength(final String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                length += SAFE[ch] || ch == ' ' ? 1 : 3;
+            } else if (ch < 0x800) {
+                length += 6;
+            } else if (isSurrogatePair(value, i)) {
+                length += 12;
+                i++;
+            } else if (Character.isSurrogate(ch)) {
+                length += 3;
+            } else {
+                length += 9;
+            }
+        }
+        return length;
+    }
+
+    private static int writeEncoded(final String value, final byte[] buffer, final int start) {
+        int position = start;
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                if (SAFE[ch]) {
+                    buffer[position++] = (byte) ch;
+                } else if (ch == ' ') {
+                    buffer[position++] = '+';
+                } else {
+                    position = escape(ch, buffer, position);
+                }
+            } else if (ch < 0x800) {
+                position = escape(0xC0 | (ch >> 6), buffer, position);
+                position = escape(0x80 | (ch & 0x3F), buffer, position);
+            } else if (isSurrogatePair(value, i)) {
+                int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                position = escape(0xF0 | (codePoint >> 18), buffer, position);
+                position = escape(0x80 | ((codePoint >> 12) & 0x3F), buffer, position);
+                position = escape(0x80 | ((codePoint >> 6) & 0x3F), buffer, position);
+                position = escape(0x80 | (codePoint & 0x3F), buffer, position);
+            } else if (Character.isSurrogate(ch)) {
+                // Unpaired surrogates can't be encoded, replaced like String.getBytes does
+                position = escape('?', buffer, position);
+            } else {
+                position = escape(0xE0 | (ch >> 12), buffer, position);
+                position = escape(0x80 | ((ch >> 6) & 0x3F), buffer, position);
+                position = escape(0x80 | (ch & 0x3F), buffer, position);
+            }
+        }
+        return position;
+    }
+
+    private static boolean isSurrogatePair(final String value, final int index) {
+        return Character.isHighSurrogate(value.charAt(index)) &&
+            index + 1 < value.length() &&
+            Character.isLowSurrogate(value.charAt(index + 1));
+    }
+
+    private static int escape(final int octet, final byte[] buffer, final int position) {
+        buffer[position] = '%';
+        buffer[position + 1] = HEX[(octet >> 4) & 0xF];
+        buffer[position + 2] = HEX[octet & 0xF];
+        return position + 3;
+    }
+}
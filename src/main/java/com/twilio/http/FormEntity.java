@@ -0,0 +1,59 @@
+package com.twilio.http;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Form body encoded straight into the connection's output stream by a {@link FormEncoder}.
+ */
+class FormEntity extends AbstractHttpEntity {
+
+    private static final ContentType CONTENT_TYPE = ContentType.create(
+        "application/x-www-form-urlencoded",
+        "UTF-8"
+    );
+
+    private final Map<String, List<String>> params;
+    private final int length;
+
+    FormEntity(final Map<String, List<String>> params) {
+        this.params = params;
+        this.length = FormEncoder.length(params);
+        setContentType(CONTENT_TYPE.toString());
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return length;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length);
+        FormEncoder.writeTo(params, out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    @Override
+    public void writeTo(final OutputStream out) throws IOException {
+        FormEncoder.writeTo(params, out);
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+}
@@ -0,0 +1,151 @@
+package com.twilio.http;
+
+/**
+ * Limit following the gradient between long-term and recent latency.
+ *
+ * <p>
+ *     While recent latency stays within {@code tolerance} of the long-term average the limit keeps growing by a
+ *     queue allowance of {@code sqrt(limit)}; as recent latency climbs above it, the limit shrinks in proportion.
+ *     Dropped requests cut the limit by {@code backoffRatio} directly.
+ * </p>
+ */
+public class GradientConcurrencyLimit extends ConcurrencyLimit {
+
+    private static final int INITIAL_LIMIT = 20;
+    private static final int MIN_LIMIT = 1;
+    private static final int MAX_LIMIT = 200;
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LONG_RTT_DRIFT = 0.95;
+    private static final int SHORT_WINDOW = 10;
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final double backoffRatio;
+    private final double shortAlpha;
+    private final double longAlpha;
+    private double limit;
+    private double shortRtt;
+    private double longRtt;
+
+    private GradientConcurrencyLimit(final Builder b) {
+        this.minLimit = b.minLimit;
+        this.maxLimit = b.maxLimit;
+        this.tolerance = b.tolerance;
+        this.smoothing = b.smoothing;
+        this.backoffRatio = b.backoffRatio;
+        this.shortAlpha = 2.0 / (b.shortWindow + 1);
+        this.longAlpha = 2.0 / (b.longWindow + 1);
+        this.limit = Math.max(minLimit, Math.min(maxLimit, b.initialLimit));
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public void onSample(final long rttNanos, final int inFlight, final boolean dropped) {
+        if (dropped) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+            return;
+        }
+
+        if (longRtt == 0) {
+            shortRtt = rttNanos;
+            longRtt = rttNanos;
+        } else {
+            shortRtt += shortAlpha * (rttNanos - shortRtt);
+            longRtt += longAlpha * (rttNanos - longRtt);
+        }
+
+        // Let the baseline recover quickly once a latency spike is over
+        if (longRtt / shortRtt > 2) {
+            longRtt *= LONG_RTT_DRIFT;
+        }
+
+        // Not enough load to tell whether more requests would help
+        if (inFlight * 2 < limit) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - smoothing) + target * smoothing));
+    }
+
+    public static class Builder {
+        private int initialLimit = INITIAL_LIMIT;
+        private int minLimit = MIN_LIMIT;
+        private int maxLimit = MAX_LIMIT;
+        private double tolerance = TOLERANCE;
+        private double smoothing = SMOOTHING;
+        private double backoffRatio = BACKOFF_RATIO;
+        private int shortWindow = SHORT_WINDOW;
+        private int longWindow = LONG_WINDOW;
+
+        public Builder initialLimit(final int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        public Builder minLimit(final int minLimit) {
+            this.minLimit = Math.max(minLimit, 1);
+            return this;
+        }
+
+        public Builder maxLimit(final int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Sets how much recent latency may exceed the long-term average before the limit shrinks.
+         *
+         * @param tolerance ratio of at least 1
+         * @return this builder
+         */
+        public Builder tolerance(final double tolerance) {
+            this.tolerance = tolerance;
+            return this;
+        }
+
+        /**
+         * Sets how far the limit moves toward its target on each sample.
+         *
+         * @param smoothing ratio between 0 and 1
+         * @return this builder
+         */
+        public Builder smoothing(final double smoothing) {
+            this.smoothing = smoothing;
+            return this;
+        }
+
+        public Builder backoffRatio(final double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Sets the number of samples averaged for recent and long-term latency.
+         *
+         * @param shortWindow samples in the recent average
+         * @param longWindow samples in the long-term average
+         * @return this builder
+         */
+        public Builder windows(final int shortWindow, final int longWindow) {
+            this.shortWindow = shortWindow;
+            this.longWindow = longWindow;
+            return this;
+        }
+
+        public GradientConcurrencyLimit build() {
+            return new GradientConcurrencyLimit(this);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.twilio.http;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.twilio.exception.ApiConnectionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Makes every attempt through another client, racing slow GETs against a duplicate as a {@link RequestHedger}
+ * decides.
+ *
+ * <p>
+ *     Blocking requests are only hedged over a non-blocking transport. Over a blocking one the attempt would have
+ *     to move to another thread just in case it needs a hedge, so it is made on the calling thread instead.
+ * </p>
+ */
+class HedgedHttpClient extends HttpClient {
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("twilio-hedge-%d").build()
+    );
+    private static final int[] FAILURE_CODES = new int[]{ANY_500};
+
+    private final HttpClient httpClient;
+    private final RequestHedger hedger;
+
+    HedgedHttpClient(final HttpClient httpClient, final RequestHedger hedger) {
+        this.httpClient = httpClient;
+        this.hedger = hedger;
+    }
+
+    @Override
+    public RequestListener getRequestListener() {
+        return httpClient.getRequestListener();
+    }
+
+    @Override
+    public void setRequestListener(final RequestListener requestListener) {
+        httpClient.setRequestListener(requestListener);
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return httpClient.isNonBlocking();
+    }
+
+    @Override
+    public Response makeRequest(final Request request) {
+        if (!hedger.applies(request) || !httpClient.isNonBlocking()) {
+            return httpClient.makeRequest(request);
+        }
+
+        ListenableFuture<Response> future = makeRequestAsync(request);
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ApiConnectionException("Interrupted during API request to Twilio", e);
+        } catch (final ExecutionException e) {
+            Throwables.propagateIfPossible(e.getCause());
+            throw new ApiConnectionException("Unable to make API request to Twilio", e.getCause());
+        }
+    }
+
+    @Override
+    public ListenableFuture<Response> makeRequestAsync(final Request request) {
+        if (!hedger.applies(request)) {
+            return httpClient.makeRequestAsync(request);
+        }
+
+        hedger.onRequest();
+        final Race race = new Race(request);
+        race.launch(false);
+
+        final ScheduledFuture<?> timer = SCHEDULER.schedule(new Runnable() {
+            @Override
+            public void run() {
+                if (!race.result.isDone() && hedger.tryHedge()) {
+                    race.launch(true);
+                }
+            }
+        }, hedger.delayNanos(request), TimeUnit.NANOSECONDS);
+
+        race.result.addListener(new Runnable() {
+            @Override
+            public void run() {
+                timer.cancel(false);
+                race.cancelAll();
+            }
+        }, MoreExecutors.sameThreadExecutor());
+        return race.result;
+    }
+
+    /**
+     * Attempts racing to answer the same request.
+     */
+    private class Race {
+        private final Request request;
+        private final SettableFuture<Response> result = SettableFuture.create();
+        private final List<ListenableFuture<Response>> attempts = new ArrayList<>(2);
+        private int pending;
+        private Response failed;
+
+        Race(final Request request) {
+            this.request = request;
+        }
+
+        void launch(final boolean hedge) {
+            synchronized (this) {
+                if (result.isDone()) {
+                    return;
+                }
+                pending++;
+            }
+
+            final long start = System.nanoTime();
+            ListenableFuture<Response> attempt;
+            try {
+                attempt = httpClient.makeRequestAsync(request);
+            } catch (final RuntimeException e) {
+                finish(hedge, start, null, e);
+                return;
+            }
+
+            synchronized (this) {
+                attempts.add(attempt);
+            }
+            if (result.isDone()) {
+                attempt.cancel(true);
+            }
+
+            Futures.addCallback(attempt, new FutureCallback<Response>() {
+                @Override
+                public void onSuccess(final Response response) {
+                    finish(hedge, start, response, null);
+                }
+
+                @Override
+                public void onFailure(final Throwable t) {
+                    finish(hedge, start, null, t);
+                }
+            });
+        }
+
+        synchronized void finish(final boolean hedge, final long start, final Response response, final Throwable t) {
+            pending--;
+            if (result.isDone()) {
+                // A loser took at least this long, leaving it out would skew the delay towards the winners
+                if (response != null || t instanceof CancellationException) {
+                    hedger.record(request, System.nanoTime() - start);
+                }
+                if (response != null) {
+                    response.close();
+                }
+                return;
+            }
+
+            if (response != null) {
+                hedger.record(request, System.nanoTime() - start);
+                if (HttpClient.matches(response.getStatusCode(), FAILURE_CODES)) {
+                    if (failed != null) {
+                        failed.close();
+                    }
+                    failed = response;
+                } else {
+                    if (hedge) {
+                        hedger.onWin();
+                    }
+                    if (failed != null) {
+                        failed.close();
+                    }
+                    result.set(response);
+                    return;
+                }
+            }
+
+            if (pending > 0) {
+                // Wait for the other attempt
+                return;
+            }
+
+            if (failed != null) {
+                result.set(failed);
+            } else {
+                result.setException(t);
+            }
+        }
+
+        void cancelAll() {
+            List<ListenableFuture<Response>> running;
+            synchronized (this) {
+                running = new ArrayList<>(attempts);
+            }
+            for (ListenableFuture<Response> attempt : running) {
+                attempt.cancel(true);
+            }
+        }
+    }
+}
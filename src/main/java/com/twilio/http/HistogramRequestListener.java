@@ -0,0 +1,243 @@
+package com.twilio.http;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps latency histograms and counters in memory.
+ *
+ * <p>
+ *     Attempts and requests are keyed by method and templated path, like
+ *     {@code POST /2010-04-01/Accounts/{AccountSid}/Messages.json}; connection lease waits are keyed by host.
+ *     Latencies are recorded in microseconds. Endpoints past the maximum number of keys are counted under
+ *     {@code {other}}.
+ * </p>
+ */
+public class HistogramRequestListener extends RequestListener {
+
+    public static final int DEFAULT_MAX_ENDPOINTS = 1000;
+
+    private final ConcurrentMap<String, Histogram> attemptLatencies = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Histogram> requestLatencies = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Histogram> leaseWaits = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> statusCounts = new ConcurrentHashMap<>();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong requestBytes = new AtomicLong();
+    private final AtomicLong responseBytes = new AtomicLong();
+    private final EndpointKeys endpoints;
+
+    public HistogramRequestListener() {
+        this(DEFAULT_MAX_ENDPOINTS);
+    }
+
+    /**
+     * Create a listener that keys at most a number of endpoints.
+     *
+     * @param maxEndpoints maximum number of distinct endpoints to keep histograms for
+     */
+    public HistogramRequestListener(final int maxEndpoints) {
+        this.endpoints = new EndpointKeys(maxEndpoints);
+    }
+
+    @Override
+    public void onAttempt(final RequestEvent event) {
+        String key = key(event);
+        histogram(attemptLatencies, key).record(TimeUnit.NANOSECONDS.toMicros(event.getLatencyNanos()));
+
+        String status = key + " " + event.getStatusCode();
+        AtomicLong count = statusCounts.get(status);
+        if (count == null) {
+            AtomicLong created = new AtomicLong();
+            count = statusCounts.putIfAbsent(status, created);
+            if (count == null) {
+                count = created;
+            }
+        }
+        count.incrementAndGet();
+
+        if (event.getAttempt() > 1) {
+            retries.incrementAndGet();
+        }
+
+        requestBytes.addAndGet(event.getRequestBytes());
+        long bytes = event.getResponseBytes();
+        if (bytes > 0) {
+            responseBytes.addAndGet(bytes);
+        }
+    }
+
+    @Override
+    public void onRequest(final RequestEvent event) {
+        histogram(requestLatencies, key(event)).record(TimeUnit.NANOSECONDS.toMicros(event.getLatencyNanos()));
+    }
+
+    @Override
+    public void onConnectionLeased(final String host, final long waitNanos) {
+        histogram(leaseWaits, host).record(TimeUnit.NANOSECONDS.toMicros(waitNanos));
+    }
+
+    /**
+     * Get the latency of every attempt, including retries.
+     *
+     * @return histograms keyed by method and templated path
+     */
+    public Map<String, Histogram> getAttemptLatencies() {
+        return Collections.unmodifiableMap(attemptLatencies);
+    }
+
+    /**
+     * Get the latency of requests from their first attempt to their last.
+     *
+     * @return histograms keyed by method and templated path
+     */
+    public Map<String, Histogram> getRequestLatencies() {
+        return Collections.unmodifiableMap(requestLatencies);
+    }
+
+    /**
+     * Get the time attempts waited for a pooled connection.
+     *
+     * @return histograms keyed by host
+     */
+    public Map<String, Histogram> getLeaseWaits() {
+        return Collections.unmodifiableMap(leaseWaits);
+    }
+
+    /**
+     * Get the number of attempts per status code.
+     *
+     * @return counts keyed by method, templated path and status code, which is 0 for failed attempts
+     */
+    public Map<String, Long> getStatusCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Map.Entry<String, AtomicLong> entry : statusCounts.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().get());
+        }
+        return counts;
+    }
+
+    public long getRetries() {
+        return retries.get();
+    }
+
+    public long getRequestBytes() {
+        return requestBytes.get();
+    }
+
+    /**
+     * Get the total size of response bodies that declared a {@code Content-Length}.
+     *
+     * @return total size in bytes
+     */
+    public long getResponseBytes() {
+        return responseBytes.get();
+    }
+
+    private String key(final RequestEvent event) {
+        return event.getMethod() + " " + endpoints.key(event.getRequest());
+    }
+
+    private static Histogram histogram(final ConcurrentMap<String, Histogram> histograms, final String key) {
+        Histogram histogram = histograms.get(key);
+        if (histogram == null) {
+            Histogram created = new Histogram();
+            histogram = histograms.putIfAbsent(key, created);
+            if (histogram == null) {
+                histogram = created;
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Lock-free log-linear histogram of non-negative values, accurate to 12.5%.
+     */
+    public static class Histogram {
+        private static final int LINEAR = 16;
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int LINEAR_BITS = 4;
+        private static final int BUCKETS = LINEAR + (Long.SIZE - 1 - LINEAR_BITS) * SUB_BUCKETS;
+        private static final double PERCENT = 100.0;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sum = new AtomicLong();
+        private final AtomicLong max = new AtomicLong();
+
+        /**
+         * Record a value.
+         *
+         * @param value value to record, negative values are recorded as 0
+         */
+        public void record(final long value) {
+            long recorded = Math.max(value, 0);
+            buckets.incrementAndGet(index(recorded));
+            count.incrementAndGet();
+            sum.addAndGet(recorded);
+
+            long current = max.get();
+            while (recorded > current && !max.compareAndSet(current, recorded)) {
+                current = max.get();
+            }
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public long getMax() {
+            return max.get();
+        }
+
+        public double getMean() {
+            long recorded = count.get();
+            return recorded == 0 ? 0 : sum.get() / (double) recorded;
+        }
+
+        /**
+         * Get the value below which a percentage of the recorded values fall.
+         *
+         * @param percentile percentage between 0 and 100, like 99 for the p99
+         * @return upper bound of the bucket holding the percentile, 0 if nothing was recorded
+         */
+        public long getPercentile(final double percentile) {
+            long target = (long) Math.ceil(count.get() * percentile / PERCENT);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen > 0 && seen >= target) {
+                    return Math.min(upperBound(i), max.get());
+                }
+            }
+            return max.get();
+        }
+
+        static int index(final long value) {
+            if (value < LINEAR) {
+                return (int) value;
+            }
+
+            int msb = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+            int sub = (int) ((value >>> (msb - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+            return LINEAR + (msb - LINEAR_BITS) * SUB_BUCKETS + sub;
+        }
+
+        static long upperBound(final int index) {
+            if (index < LINEAR) {
+                return index;
+            }
+
+            int msb = (index - LINEAR) / SUB_BUCKETS + LINEAR_BITS;
+            int sub = (index - LINEAR) % SUB_BUCKETS;
+            long bound = ((long) SUB_BUCKETS + sub + 1) << (msb - SUB_BUCKET_BITS);
+            return bound <= 0 ? Long.MAX_VALUE : bound - 1;
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.twilio.exception.ApiException;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Connection;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.BufferedSink;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP client multiplexing concurrent requests as HTTP/2 streams over a few connections.
+ *
+ * <p>
+ *     HTTP/2 is negotiated with ALPN on TLS connections; servers and JVMs without it get HTTP/1.1 instead, with a
+ *     connection per request in flight. Async requests run on the dispatcher's threads, up to
+ *     {@code maxConcurrentStreams} to a host at once, and the rest wait in the dispatcher's queue without a thread.
+ *     Blocking requests run on the calling thread and aren't counted against the dispatcher's limits. Response
+ *     bodies are buffered in memory before they are returned.
+ * </p>
+ *
+ * <p>
+ *     Needs {@code com.squareup.okhttp3:okhttp} on the classpath.
+ * </p>
+ */
+public class Http2HttpClient extends HttpClient implements Closeable {
+
+    private static final int CONNECTION_TIMEOUT = 10000;
+    private static final int SOCKET_TIMEOUT = 30500;
+    private static final int MAX_CONCURRENT_STREAMS = 100;
+    private static final int MAX_REQUESTS = 256;
+    private static final int MAX_IDLE_CONNECTIONS = 5;
+    private static final long KEEP_ALIVE = 300000L;
+    private static final MediaType FORM = MediaType.parse("application/x-www-form-urlencoded; charset=utf-8");
+    private static final Headers DEFAULT_HEADERS = defaultHeaders();
+
+    private final OkHttpClient client;
+    private final ContentDecoder contentDecoder = new ContentDecoder();
+
+    /**
+     * Create a new HTTP/2 Client.
+     */
+    public Http2HttpClient() {
+        this(new Builder());
+    }
+
+    private Http2HttpClient(final Builder b) {
+        setRequestListener(b.requestListener);
+
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(b.maxConcurrentStreams);
+        dispatcher.setMaxRequests(Math.max(b.maxRequests, b.maxConcurrentStreams));
+
+        List<Protocol> protocols = b.http2 ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1) :
+            Collections.singletonList(Protocol.HTTP_1_1);
+
+        client = new OkHttpClient.Builder()
+            .dispatcher(dispatcher)
+            .connectionPool(new ConnectionPool(b.maxIdleConnections, b.keepAlive, TimeUnit.MILLISECONDS))
+            .protocols(protocols)
+            .connectTimeout(b.connectionTimeout, TimeUnit.MILLISECONDS)
+            .readTimeout(b.socketTimeout, TimeUnit.MILLISECONDS)
+            .writeTimeout(b.socketTimeout, TimeUnit.MILLISECONDS)
+            .eventListenerFactory(new EventListener.Factory() {
+                @Override
+                public EventListener create(final Call call) {
+                    return new LeaseTimer();
+                }
+            })
+            .build();
+    }
+
+    public ContentDecoder getContentDecoder() {
+        return contentDecoder;
+    }
+
+    /**
+     * Get the number of requests on the wire.
+     *
+     * @return number of running requests
+     */
+    public int getRunningRequests() {
+        return client.dispatcher().runningCallsCount();
+    }
+
+    /**
+     * Get the number of requests waiting for a free stream.
+     *
+     * @return number of queued requests
+     */
+    public int getQueuedRequests() {
+        return client.dispatcher().queuedCallsCount();
+    }
+
+    /**
+     * Make a request on the calling thread.
+     *
+     * @param request request to make
+     * @return Response of the HTTP request
+     */
+    public Response makeRequest(final Request request) {
+        try (okhttp3.Response response = client.newCall(buildRequest(request)).execute()) {
+            return toResponse(response);
+        } catch (final IOException e) {
+            throw new ApiException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
+
+    /**
+     * Make an asynchronous request.
+     *
+     * @param request request to make
+     * @return future that resolves to the Response of the HTTP request
+     */
+    @Override
+    public ListenableFuture<Response> makeRequestAsync(final Request request) {
+        final SettableFuture<Response> future = SettableFuture.create();
+        final Call call = client.newCall(buildRequest(request));
+        call.enqueue(new Callback() {
+            @Override
+            public void onResponse(final Call call, final okhttp3.Response response) {
+                try (okhttp3.Response closed = response) {
+                    future.set(toResponse(closed));
+                } catch (final IOException e) {
+                    future.setException(new ApiException(e.getMessage(), e));
+                }
+            }
+
+            @Override
+            public void onFailure(final Call call, final IOException e) {
+                future.setException(new ApiException(e.getMessage(), e));
+            }
+        });
+
+        future.addListener(new Runnable() {
+            @Override
+            public void run() {
+                if (future.isCancelled()) {
+                    call.cancel();
+                }
+            }
+        }, MoreExecutors.sameThreadExecutor());
+
+        return future;
+    }
+
+    private Response toResponse(final okhttp3.Response response) throws IOException {
+        ResponseBody body = response.body();
+        return new Response(
+            contentDecoder.decode(
+                new ByteArrayInputStream(body == null ? new byte[0] : body.bytes()),
+                response.header(HttpHeaders.CONTENT_ENCODING)
+            ),
+            response.code(),
+            response.headers().toMultimap()
+        );
+    }
+
+    static okhttp3.Request buildRequest(final Request request) {
+        String url = request.buildUrl();
+        okhttp3.Request.Builder builder;
+        try {
+            builder = new okhttp3.Request.Builder().url(url).headers(DEFAULT_HEADERS);
+        } catch (final IllegalArgumentException e) {
+            throw new ApiException("Bad URL: " + url, e);
+        }
+
+        if (request.requiresAuthentication()) {
+            builder.header(HttpHeaders.AUTHORIZATION, request.getAuthString());
+        }
+
+        RequestBody body = null;
+        if (request.getMethod() == HttpMethod.POST) {
+            body = formBody(request.getPostParams());
+        } else if (request.getMethod() == HttpMethod.PUT) {
+            body = RequestBody.create(FORM, "");
+        }
+
+        return builder.method(request.getMethod().toString(), body).build();
+    }
+
+    private static RequestBody formBody(final Map<String, List<String>> params) {
+        final long length = FormEncoder.length(params);
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return FORM;
+            }
+
+            @Override
+            public long contentLength() {
+                return length;
+            }
+
+            @Override
+            public void writeTo(final BufferedSink sink) throws IOException {
+                FormEncoder.writeTo(params, sink.outputStream());
+            }
+        };
+    }
+
+    private static Headers defaultHeaders() {
+        Headers.Builder headers = new Headers.Builder();
+        for (Header header : NetworkHttpClient.defaultHeaders()) {
+            headers.add(header.getName(), header.getValue());
+        }
+        return headers.build();
+    }
+
+    /**
+     * Stop the dispatcher and close every pooled connection.
+     */
+    @Override
+    public void close() {
+        client.dispatcher().executorService().shutdown();
+        client.connectionPool().evictAll();
+    }
+
+    /**
+     * Reports how long each request waited for a stream, from being dispatched to holding a connection.
+     */
+    private class LeaseTimer extends EventListener {
+        private long start;
+
+        @Override
+        public void callStart(final Call call) {
+            start = System.nanoTime();
+        }
+
+        @Override
+        public void connectionAcquired(final Call call, final Connection connection) {
+            getRequestListener().onConnectionLeased(call.request().url().host(), System.nanoTime() - start);
+        }
+    }
+
+    public static class Builder {
+        private int maxConcurrentStreams = MAX_CONCURRENT_STREAMS;
+        private int maxRequests = MAX_REQUESTS;
+        private int maxIdleConnections = MAX_IDLE_CONNECTIONS;
+        private long keepAlive = KEEP_ALIVE;
+        private int connectionTimeout = CONNECTION_TIMEOUT;
+        private int socketTimeout = SOCKET_TIMEOUT;
+        private boolean http2 = true;
+        private RequestListener requestListener;
+
+        /**
+         * Sets the max number of requests in flight to a single host.
+         *
+         * <p>
+         *     Over HTTP/2 these share a connection as long as the server allows that many concurrent streams;
+         *     over HTTP/1.1 each needs its own connection.
+         * </p>
+         *
+         * @param maxConcurrentStreams max number of requests in flight per host
+         * @return this builder
+         */
+        public Builder maxConcurrentStreams(final int maxConcurrentStreams) {
+            this.maxConcurrentStreams = maxConcurrentStreams;
+            return this;
+        }
+
+        /**
+         * Sets the max number of requests in flight across all hosts.
+         *
+         * @param maxRequests max number of requests in flight
+         * @return this builder
+         */
+        public Builder maxRequests(final int maxRequests) {
+            this.maxRequests = maxRequests;
+            return this;
+        }
+
+        public Builder maxIdleConnections(final int maxIdleConnections) {
+            this.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        public Builder keepAlive(final long keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        public Builder connectionTimeout(final int connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+            return this;
+        }
+
+        public Builder socketTimeout(final int socketTimeout) {
+            this.socketTimeout = socketTimeout;
+            return this;
+        }
+
+        /**
+         * Sets whether HTTP/2 is offered to servers.
+         *
+         * @param http2 false to only use HTTP/1.1
+         * @return this builder
+         */
+        public Builder http2(final boolean http2) {
+            this.http2 = http2;
+            return this;
+        }
+
+        public Builder requestListener(final RequestListener requestListener) {
+            this.requestListener = requestListener;
+            return this;
+        }
+
+        public Http2HttpClient build() {
+            return new Http2HttpClient(this);
+        }
+    }
+}
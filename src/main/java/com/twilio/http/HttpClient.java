@@ -1,5 +1,17 @@
 package com.twilio.http;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.twilio.Twilio;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 public abstract class HttpClient {
 
     public static final int ANY_500 = -500;
@@ -8,18 +20,99 @@ public abstract class HttpClient {
     public static final int ANY_200 = -200;
     public static final int ANY_100 = -100;
 
+    public static final int TOO_MANY_REQUESTS = 429;
+
     public static final int[] RETRY_CODES = new int[]{ANY_500};
     public static final int RETRIES = 3;
     public static final long DELAY_MILLIS = 100L;
 
+    private static final ScheduledExecutorService RETRY_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("twilio-retry-%d").build()
+    );
+
+    private volatile RequestListener requestListener = RequestListener.NO_OP;
+    private final RetryPolicy defaultRetryPolicy = new BackoffRetryPolicy.Builder().build();
+
+    public RequestListener getRequestListener() {
+        return requestListener;
+    }
+
     /**
-     * Make a request.
+     * Sets the listener timing every attempt and request made by this client.
+     *
+     * @param requestListener listener to call, null for none
+     */
+    public void setRequestListener(final RequestListener requestListener) {
+        this.requestListener = requestListener == null ? RequestListener.NO_OP : requestListener;
+    }
+
+    /**
+     * Get the retry policy used when none is given, with a retry budget of its own for this client.
+     *
+     * @return default retry policy of this client
+     */
+    public RetryPolicy getDefaultRetryPolicy() {
+        return defaultRetryPolicy;
+    }
+
+    /**
+     * Make a request, retrying with the default retry policy.
      *
      * @param request request to make
      * @return Response of the HTTP request
      */
     public Response reliableRequest(final Request request) {
-        return reliableRequest(request, RETRY_CODES, RETRIES, DELAY_MILLIS);
+        return reliableRequest(request, getDefaultRetryPolicy());
+    }
+
+    /**
+     * Make a request, retrying as the policy decides.
+     *
+     * <p>
+     *     If the thread is interrupted while waiting to retry, the last response is returned and the interrupt
+     *     flag is kept.
+     * </p>
+     *
+     * @param request request to make
+     * @param retryPolicy policy deciding retries
+     * @return Response of the HTTP request
+     */
+    public Response reliableRequest(final Request request, final RetryPolicy retryPolicy) {
+        RequestListener listener = getRequestListener();
+        long start = System.nanoTime();
+        retryPolicy.onRequest(request);
+
+        int attempts = 0;
+        Response response = null;
+        try {
+            while (true) {
+                attempts++;
+                response = timedRequest(request, attempts, listener);
+
+                long delay = retryPolicy.retryDelay(request, response, attempts, elapsedMillis(start));
+                if (delay < 0) {
+                    break;
+                }
+
+                try {
+                    Thread.sleep(delay);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                // Release the connection of the response given up on
+                if (response != null) {
+                    response.close();
+                }
+            }
+        } catch (final RuntimeException e) {
+            listener.onRequest(new RequestEvent(request, null, e, attempts, System.nanoTime() - start));
+            throw e;
+        }
+
+        listener.onRequest(new RequestEvent(request, response, null, attempts, System.nanoTime() - start));
+        return response;
     }
 
     /**
@@ -44,25 +137,149 @@ public abstract class HttpClient {
             try {
                 Thread.sleep(delayMillis);
             } catch (final InterruptedException e) {
-                // Delay failed, continue
+                Thread.currentThread().interrupt();
+                return response;
             }
 
             // Decrement retries
             retries--;
+            if (retries > 0 && response != null) {
+                response.close();
+            }
         }
         return response;
     }
 
-    protected boolean shouldRetry(final Response response, final int[] retryCodes) {
-        if (response == null) {
-            return true;
+    /**
+     * Make an asynchronous request, retrying with the default retry policy.
+     *
+     * @param request request to make
+     * @return future that resolves to the Response of the HTTP request
+     */
+    public ListenableFuture<Response> reliableRequestAsync(final Request request) {
+        return reliableRequestAsync(request, getDefaultRetryPolicy());
+    }
+
+    /**
+     * Make an asynchronous request, retrying as the policy decides.
+     *
+     * <p>
+     *     Retries are scheduled after the delay instead of sleeping, so no thread is held between attempts.
+     * </p>
+     *
+     * @param request request to make
+     * @param retryPolicy policy deciding retries
+     * @return future that resolves to the Response of the HTTP request
+     */
+    public ListenableFuture<Response> reliableRequestAsync(final Request request, final RetryPolicy retryPolicy) {
+        SettableFuture<Response> future = SettableFuture.create();
+        try {
+            retryPolicy.onRequest(request);
+        } catch (final RuntimeException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+        attempt(request, retryPolicy, getRequestListener(), 1, System.nanoTime(), future);
+        return future;
+    }
+
+    /**
+     * Make one attempt of an asynchronous request.
+     *
+     * <p>
+     *     Runs on the caller's thread for the first attempt and on the retry scheduler afterwards, so anything
+     *     thrown here or in the callback fails the future instead of escaping.
+     * </p>
+     */
+    private void attempt(final Request request, final RetryPolicy retryPolicy, final RequestListener listener,
+                         final int attempt, final long start, final SettableFuture<Response> future) {
+        if (future.isCancelled()) {
+            return;
+        }
+
+        final long attemptStart = System.nanoTime();
+        ListenableFuture<Response> pending;
+        try {
+            pending = makeRequestAsync(request);
+        } catch (final RuntimeException e) {
+            pending = Futures.immediateFailedFuture(e);
         }
 
-        int statusCode = response.getStatusCode();
+        Futures.addCallback(pending, new FutureCallback<Response>() {
+            @Override
+            public void onSuccess(final Response response) {
+                try {
+                    long now = System.nanoTime();
+                    listener.onAttempt(new RequestEvent(request, response, null, attempt, now - attemptStart));
+
+                    long delay = retryPolicy.retryDelay(request, response, attempt, elapsedMillis(start));
+                    if (delay < 0) {
+                        listener.onRequest(new RequestEvent(request, response, null, attempt, now - start));
+                        future.set(response);
+                        return;
+                    }
+
+                    if (response != null) {
+                        response.close();
+                    }
+                    RETRY_SCHEDULER.schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            attempt(request, retryPolicy, listener, attempt + 1, start, future);
+                        }
+                    }, delay, TimeUnit.MILLISECONDS);
+                } catch (final RuntimeException e) {
+                    if (response != null) {
+                        response.close();
+                    }
+                    future.setException(e);
+                }
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                try {
+                    long now = System.nanoTime();
+                    listener.onAttempt(new RequestEvent(request, null, t, attempt, now - attemptStart));
+                    listener.onRequest(new RequestEvent(request, null, t, attempt, now - start));
+                } finally {
+                    future.setException(t);
+                }
+            }
+        });
+    }
+
+    private Response timedRequest(final Request request, final int attempt, final RequestListener listener) {
+        long start = System.nanoTime();
+        try {
+            Response response = makeRequest(request);
+            listener.onAttempt(new RequestEvent(request, response, null, attempt, System.nanoTime() - start));
+            return response;
+        } catch (final RuntimeException e) {
+            listener.onAttempt(new RequestEvent(request, null, e, attempt, System.nanoTime() - start));
+            throw e;
+        }
+    }
+
+    private static long elapsedMillis(final long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    protected boolean shouldRetry(final Response response, final int[] retryCodes) {
+        return response == null || matches(response.getStatusCode(), retryCodes);
+    }
+
+    /**
+     * Check a status code against a list of codes.
+     *
+     * @param statusCode status code to check
+     * @param codes status codes or categories such as {@link #ANY_500}
+     * @return true if the status code matches one of the codes
+     */
+    public static boolean matches(final int statusCode, final int[] codes) {
         int category = (int) Math.floor(statusCode / 100.0);
 
-        for (final int retryCode : retryCodes) {
-            switch (retryCode) {
+        for (final int code : codes) {
+            switch (code) {
                 case ANY_100:
                     if (category == 1) {
                         return true;
@@ -89,7 +306,7 @@ public abstract class HttpClient {
                     }
                     break;
                 default:
-                    if (statusCode == retryCode) {
+                    if (statusCode == code) {
                         return true;
                     }
                     break;
@@ -99,4 +316,32 @@ public abstract class HttpClient {
     }
 
     public abstract Response makeRequest(final Request request);
+
+    /**
+     * Check whether {@link #makeRequestAsync(Request)} waits for the response without holding a thread.
+     *
+     * @return true if the transport is non-blocking
+     */
+    public boolean isNonBlocking() {
+        return false;
+    }
+
+    /**
+     * Make an asynchronous request.
+     *
+     * <p>
+     *     Runs {@link #makeRequest(Request)} on the shared Twilio executor; clients with a non-blocking transport
+     *     override this so that no thread is held while the request is in flight.
+     * </p>
+     *
+     * @param request request to make
+     * @return future that resolves to the Response of the HTTP request
+     */
+    public ListenableFuture<Response> makeRequestAsync(final Request request) {
+        return Twilio.getExecutorService().submit(new Callable<Response>() {
+            public Response call() {
+                return makeRequest(request);
+            }
+        });
+    }
 }
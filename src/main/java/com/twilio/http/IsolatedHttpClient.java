@@ -0,0 +1,86 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Makes every attempt through another client after passing the bulkhead and circuit breaker of its domain.
+ */
+class IsolatedHttpClient extends HttpClient {
+
+    private final HttpClient httpClient;
+    private final DomainIsolation isolation;
+
+    IsolatedHttpClient(final HttpClient httpClient, final DomainIsolation isolation) {
+        this.httpClient = httpClient;
+        this.isolation = isolation;
+    }
+
+    @Override
+    public RequestListener getRequestListener() {
+        return httpClient.getRequestListener();
+    }
+
+    @Override
+    public void setRequestListener(final RequestListener requestListener) {
+        httpClient.setRequestListener(requestListener);
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return httpClient.isNonBlocking();
+    }
+
+    @Override
+    public Response makeRequest(final Request request) {
+        DomainIsolation.Guard guard = isolation.guard(request);
+        if (guard == null) {
+            return httpClient.makeRequest(request);
+        }
+
+        guard.acquire();
+        Response response = null;
+        try {
+            response = httpClient.makeRequest(request);
+            return response;
+        } finally {
+            guard.release(response);
+        }
+    }
+
+    @Override
+    public ListenableFuture<Response> makeRequestAsync(final Request request) {
+        final DomainIsolation.Guard guard = isolation.guard(request);
+        if (guard == null) {
+            return httpClient.makeRequestAsync(request);
+        }
+
+        try {
+            guard.acquire();
+        } catch (final RuntimeException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+
+        ListenableFuture<Response> future;
+        try {
+            future = httpClient.makeRequestAsync(request);
+        } catch (final RuntimeException e) {
+            guard.release(null);
+            throw e;
+        }
+
+        Futures.addCallback(future, new FutureCallback<Response>() {
+            @Override
+            public void onSuccess(final Response response) {
+                guard.release(response);
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                guard.release(null);
+            }
+        });
+        return future;
+    }
+}
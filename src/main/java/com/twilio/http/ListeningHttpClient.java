@@ -0,0 +1,36 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Makes every attempt through another client, reporting attempts and requests to a listener of its own.
+ *
+ * <p>
+ *     Unlike the other wrappers, the listener isn't passed down, so the wrapped client keeps whatever listener it
+ *     was given.
+ * </p>
+ */
+class ListeningHttpClient extends HttpClient {
+
+    private final HttpClient httpClient;
+
+    ListeningHttpClient(final HttpClient httpClient, final RequestListener requestListener) {
+        this.httpClient = httpClient;
+        setRequestListener(requestListener);
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return httpClient.isNonBlocking();
+    }
+
+    @Override
+    public Response makeRequest(final Request request) {
+        return httpClient.makeRequest(request);
+    }
+
+    @Override
+    public ListenableFuture<Response> makeRequestAsync(final Request request) {
+        return httpClient.makeRequestAsync(request);
+    }
+}
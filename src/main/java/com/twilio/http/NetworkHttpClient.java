@@ -1,53 +1,128 @@
 package com.twilio.http;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.twilio.Twilio;
 import com.twilio.exception.ApiException;
+import com.twilio.rest.Domains;
 import org.apache.http.Header;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
 import org.apache.http.HttpVersion;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.config.SocketConfig;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicHeader;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
-public class NetworkHttpClient extends HttpClient {
+public class NetworkHttpClient extends HttpClient implements Closeable {
 
     private static final int CONNECTION_TIMEOUT = 10000;
     private static final int SOCKET_TIMEOUT = 30500;
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 10;
+    private static final int MAX_CONNECTIONS = 20;
+    private static final int VALIDATE_AFTER_INACTIVITY = 2000;
+    private static final long MAX_IDLE_TIME = 30000L;
+    private static final long REAPER_INTERVAL = 5000L;
+    private static final String TWILIO_HOST = ".twilio.com";
 
-    private final org.apache.http.client.HttpClient client;
+    // One thread reaps the pools of every client
+    private static final ScheduledExecutorService REAPER = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("twilio-connection-reaper-%d").build()
+    );
+
+    private final CloseableHttpClient client;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final ScheduledFuture<?> reaper;
+    private final ContentDecoder contentDecoder = new ContentDecoder();
 
     /**
      * Create a new HTTP Client.
      */
     public NetworkHttpClient() {
+        this(new Builder());
+    }
+
+    private NetworkHttpClient(final Builder b) {
+        setRequestListener(b.requestListener);
+
+        connectionManager = new LeaseTimingConnectionManager(b.connectionTimeToLive, b.maxConnectionsPerDomain);
+        connectionManager.setMaxTotal(b.maxConnections);
+        connectionManager.setDefaultMaxPerRoute(b.maxConnectionsPerRoute);
+        connectionManager.setValidateAfterInactivity(b.validateAfterInactivity);
+
+        SocketConfig.Builder socketConfig = SocketConfig.custom()
+            .setSoTimeout(b.socketTimeout)
+            .setSoKeepAlive(true)
+            .setTcpNoDelay(true);
+        if (b.sendBufferSize > 0) {
+            socketConfig.setSndBufSize(b.sendBufferSize);
+        }
+        if (b.receiveBufferSize > 0) {
+            socketConfig.setRcvBufSize(b.receiveBufferSize);
+        }
+        connectionManager.setDefaultSocketConfig(socketConfig.build());
+
         RequestConfig config = RequestConfig.custom()
-            .setConnectTimeout(CONNECTION_TIMEOUT)
-            .setSocketTimeout(SOCKET_TIMEOUT)
+            .setConnectTimeout(b.connectionTimeout)
+            .setSocketTimeout(b.socketTimeout)
+            .setConnectionRequestTimeout(b.connectionRequestTimeout)
             .build();
-        
-        Collection<Header> headers = Lists.<Header>newArrayList(
-            new BasicHeader("X-Twilio-Client", "java-" + Twilio.VERSION),
-            new BasicHeader(HttpHeaders.USER_AGENT, "twilio-java/" + Twilio.VERSION + " (" + Twilio.JAVA_VERSION + ")"),
-            new BasicHeader(HttpHeaders.ACCEPT, "application/json"),
-            new BasicHeader(HttpHeaders.ACCEPT_ENCODING, "utf-8")
-        );
 
         client = HttpClientBuilder.create()
-            .setConnectionManager(new PoolingHttpClientConnectionManager())
+            .setConnectionManager(connectionManager)
+            .setKeepAliveStrategy(new KeepAliveStrategy(b.keepAlive))
             .setDefaultRequestConfig(config)
-            .setDefaultHeaders(headers)
-            .setMaxConnPerRoute(10)
+            .setDefaultHeaders(defaultHeaders())
+            .disableContentCompression()
             .build();
+
+        if (b.maxIdleTime > 0) {
+            long interval = Math.min(b.maxIdleTime, REAPER_INTERVAL);
+            Reaper task = new Reaper(connectionManager, b.maxIdleTime);
+            reaper = REAPER.scheduleWithFixedDelay(task, interval, interval, TimeUnit.MILLISECONDS);
+            task.future = reaper;
+        } else {
+            reaper = null;
+        }
+    }
+
+    public PoolingHttpClientConnectionManager getConnectionManager() {
+        return connectionManager;
+    }
+
+    public ContentDecoder getContentDecoder() {
+        return contentDecoder;
     }
 
     /**
@@ -57,11 +132,64 @@ public class NetworkHttpClient extends HttpClient {
      * @return Response of the HTTP request
      */
     public Response makeRequest(final Request request) {
+        try {
+            HttpResponse response = client.execute(buildRequest(request));
+            HttpEntity entity = response.getEntity();
+            try {
+                return new Response(
+                    entity == null ? null : contentDecoder.decode(entity.getContent(), contentEncoding(response)),
+                    response.getStatusLine().getStatusCode(),
+                    headers(response)
+                );
+            } catch (final IOException | RuntimeException e) {
+                // Release the connection, the body will never be read
+                EntityUtils.consumeQuietly(entity);
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new ApiException(e.getMessage());
+        }
 
-        RequestBuilder builder = RequestBuilder.create(request.getMethod().toString())
-            .setUri(request.constructURL().toString())
-            .setVersion(HttpVersion.HTTP_1_1)
-            .setCharset(StandardCharsets.UTF_8);
+    }
+
+    static Collection<Header> defaultHeaders() {
+        return Lists.<Header>newArrayList(
+            new BasicHeader("X-Twilio-Client", "java-" + Twilio.VERSION),
+            new BasicHeader(HttpHeaders.USER_AGENT, "twilio-java/" + Twilio.VERSION + " (" + Twilio.JAVA_VERSION + ")"),
+            new BasicHeader(HttpHeaders.ACCEPT, "application/json"),
+            new BasicHeader(HttpHeaders.ACCEPT_ENCODING, ContentDecoder.ACCEPT_ENCODING)
+        );
+    }
+
+    static String contentEncoding(final HttpResponse response) {
+        Header header = response.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+        return header == null ? null : header.getValue();
+    }
+
+    static Map<String, List<String>> headers(final HttpResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (Header header : response.getAllHeaders()) {
+            List<String> values = headers.get(header.getName());
+            if (values == null) {
+                values = new ArrayList<>();
+                headers.put(header.getName(), values);
+            }
+            values.add(header.getValue());
+        }
+        return headers;
+    }
+
+    static HttpUriRequest buildRequest(final Request request) {
+        String url = request.buildUrl();
+        RequestBuilder builder;
+        try {
+            builder = RequestBuilder.create(request.getMethod().toString())
+                .setUri(url)
+                .setVersion(HttpVersion.HTTP_1_1)
+                .setCharset(StandardCharsets.UTF_8);
+        } catch (final IllegalArgumentException e) {
+            throw new ApiException("Bad URI: " + url, e);
+        }
 
         if (request.requiresAuthentication()) {
             builder.addHeader(HttpHeaders.AUTHORIZATION, request.getAuthString());
@@ -71,22 +199,285 @@ public class NetworkHttpClient extends HttpClient {
         if (method == HttpMethod.POST) {
             builder.addHeader(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded");
 
-            for (Map.Entry<String, List<String>> entry : request.getPostParams().entrySet()) {
-                for (String value : entry.getValue()) {
-                    builder.addParameter(entry.getKey(), value);
+            builder.setEntity(new FormEntity(request.getPostParams()));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Stop reaping idle connections and close every pooled connection.
+     *
+     * @throws IOException if the client fails to close
+     */
+    @Override
+    public void close() throws IOException {
+        if (reaper != null) {
+            reaper.cancel(false);
+        }
+        client.close();
+    }
+
+    /**
+     * Reports how long each lease waited for a pooled connection.
+     *
+     * <p>
+     *     The max connections of a Twilio domain are applied to each host it is reached at, like
+     *     {@code api.twilio.com} or {@code api.ie1.twilio.com}, the first time that host is requested.
+     * </p>
+     */
+    private class LeaseTimingConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private final Map<String, Integer> maxConnectionsPerDomain = new LinkedHashMap<>();
+        private final Set<HttpRoute> limited = Collections.newSetFromMap(new ConcurrentHashMap<HttpRoute, Boolean>());
+
+        LeaseTimingConnectionManager(final long timeToLive, final Map<Domains, Integer> maxConnectionsPerDomain) {
+            super(timeToLive, TimeUnit.MILLISECONDS);
+            for (Map.Entry<Domains, Integer> entry : maxConnectionsPerDomain.entrySet()) {
+                this.maxConnectionsPerDomain.put(entry.getKey().toString(), entry.getValue());
+            }
+        }
+
+        @Override
+        public ConnectionRequest requestConnection(final HttpRoute route, final Object state) {
+            limit(route);
+            final ConnectionRequest lease = super.requestConnection(route, state);
+            final long start = System.nanoTime();
+            return new ConnectionRequest() {
+                @Override
+                public HttpClientConnection get(final long timeout, final TimeUnit unit)
+                    throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                    HttpClientConnection connection = lease.get(timeout, unit);
+                    getRequestListener().onConnectionLeased(
+                        route.getTargetHost().getHostName(),
+                        System.nanoTime() - start
+                    );
+                    return connection;
+                }
+
+                @Override
+                public boolean cancel() {
+                    return lease.cancel();
+                }
+            };
+        }
+
+        private void limit(final HttpRoute route) {
+            if (maxConnectionsPerDomain.isEmpty() || limited.contains(route)) {
+                return;
+            }
+
+            String host = route.getTargetHost().getHostName();
+            int dot = host.indexOf('.');
+            if (dot > 0 && host.endsWith(TWILIO_HOST)) {
+                Integer max = maxConnectionsPerDomain.get(host.substring(0, dot));
+                if (max != null) {
+                    setMaxPerRoute(route, max);
                 }
             }
+            limited.add(route);
         }
+    }
 
-        try {
-            HttpResponse response = client.execute(builder.build());
-            return new Response(
-                response.getEntity() == null ? null : response.getEntity().getContent(),
-                response.getStatusLine().getStatusCode()
-            );
-        } catch (IOException e) {
-            throw new ApiException(e.getMessage());
+    /**
+     * Closes the expired and idle connections of a pool.
+     *
+     * <p>
+     *     The pool is only weakly held, so a client dropped without being closed can still be collected, and the
+     *     task cancels itself once it is.
+     * </p>
+     */
+    private static class Reaper implements Runnable {
+        private final WeakReference<PoolingHttpClientConnectionManager> connectionManager;
+        private final long maxIdleTime;
+        private volatile ScheduledFuture<?> future;
+
+        Reaper(final PoolingHttpClientConnectionManager connectionManager, final long maxIdleTime) {
+            this.connectionManager = new WeakReference<>(connectionManager);
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        @Override
+        public void run() {
+            PoolingHttpClientConnectionManager manager = connectionManager.get();
+            if (manager == null) {
+                ScheduledFuture<?> scheduled = future;
+                if (scheduled != null) {
+                    scheduled.cancel(false);
+                }
+                return;
+            }
+
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(maxIdleTime, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static class KeepAliveStrategy extends DefaultConnectionKeepAliveStrategy {
+        private final long keepAlive;
+
+        KeepAliveStrategy(final long keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+
+        @Override
+        public long getKeepAliveDuration(final HttpResponse response, final HttpContext context) {
+            long duration = super.getKeepAliveDuration(response, context);
+            if (duration > 0 && keepAlive > 0) {
+                return Math.min(duration, keepAlive);
+            }
+            return duration > 0 ? duration : keepAlive;
+        }
+    }
+
+    public static class Builder {
+        private int maxConnections = MAX_CONNECTIONS;
+        private int maxConnectionsPerRoute = MAX_CONNECTIONS_PER_ROUTE;
+        private int connectionTimeout = CONNECTION_TIMEOUT;
+        private int socketTimeout = SOCKET_TIMEOUT;
+        private int connectionRequestTimeout = -1;
+        private long keepAlive = -1;
+        private long maxIdleTime = MAX_IDLE_TIME;
+        private long connectionTimeToLive = -1;
+        private int validateAfterInactivity = VALIDATE_AFTER_INACTIVITY;
+        private int sendBufferSize = 0;
+        private int receiveBufferSize = 0;
+        private RequestListener requestListener;
+        private final Map<Domains, Integer> maxConnectionsPerDomain = new EnumMap<>(Domains.class);
+
+        /**
+         * Sets the max number of pooled connections across all hosts.
+         *
+         * @param maxConnections max number of connections
+         * @return this builder
+         */
+        public Builder maxConnections(final int maxConnections) {
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        /**
+         * Sets the max number of pooled connections to a single host.
+         *
+         * @param maxConnectionsPerRoute max number of connections per host
+         * @return this builder
+         */
+        public Builder maxConnectionsPerRoute(final int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            return this;
+        }
+
+        /**
+         * Sets the max number of pooled connections to a Twilio domain, partitioning the pool between domains.
+         * The limit applies separately to each region the domain is reached in.
+         *
+         * @param domain Twilio domain
+         * @param maxConnections max number of connections to the domain
+         * @return this builder
+         */
+        public Builder maxConnectionsPerDomain(final Domains domain, final int maxConnections) {
+            this.maxConnectionsPerDomain.put(domain, maxConnections);
+            return this;
+        }
+
+        public Builder connectionTimeout(final int connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+            return this;
+        }
+
+        public Builder socketTimeout(final int socketTimeout) {
+            this.socketTimeout = socketTimeout;
+            return this;
+        }
+
+        /**
+         * Sets how long a request waits for a pooled connection to free up, in milliseconds.
+         *
+         * @param connectionRequestTimeout timeout in milliseconds, negative to wait indefinitely
+         * @return this builder
+         */
+        public Builder connectionRequestTimeout(final int connectionRequestTimeout) {
+            this.connectionRequestTimeout = connectionRequestTimeout;
+            return this;
+        }
+
+        /**
+         * Sets how long an idle connection is kept alive, in milliseconds.
+         *
+         * <p>
+         *     Used when the server doesn't send a {@code Keep-Alive} timeout, and caps the server's timeout
+         *     otherwise.
+         * </p>
+         *
+         * @param keepAlive keep alive in milliseconds, negative to keep connections indefinitely
+         * @return this builder
+         */
+        public Builder keepAlive(final long keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        /**
+         * Sets how long a pooled connection may stay idle before the background reaper closes it.
+         *
+         * <p>
+         *     The reaper also closes connections past their keep alive or time to live. It only runs when this
+         *     is positive; defaults to 30 seconds. A single background thread reaps the pools of every client.
+         * </p>
+         *
+         * @param maxIdleTime max idle time in milliseconds
+         * @return this builder
+         */
+        public Builder maxIdleTime(final long maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+            return this;
+        }
+
+        /**
+         * Sets the total lifetime of a pooled connection, in milliseconds.
+         *
+         * @param connectionTimeToLive time to live in milliseconds, negative for no limit
+         * @return this builder
+         */
+        public Builder connectionTimeToLive(final long connectionTimeToLive) {
+            this.connectionTimeToLive = connectionTimeToLive;
+            return this;
+        }
+
+        /**
+         * Sets how long a pooled connection may stay idle before it is checked for staleness on lease.
+         *
+         * @param validateAfterInactivity inactivity in milliseconds, negative to never validate
+         * @return this builder
+         */
+        public Builder validateAfterInactivity(final int validateAfterInactivity) {
+            this.validateAfterInactivity = validateAfterInactivity;
+            return this;
         }
 
+        public Builder sendBufferSize(final int sendBufferSize) {
+            this.sendBufferSize = sendBufferSize;
+            return this;
+        }
+
+        public Builder receiveBufferSize(final int receiveBufferSize) {
+            this.receiveBufferSize = receiveBufferSize;
+            return this;
+        }
+
+        /**
+         * Sets the listener timing every attempt, request and connection lease.
+         *
+         * @param requestListener listener to call
+         * @return this builder
+         */
+        public Builder requestListener(final RequestListener requestListener) {
+            this.requestListener = requestListener;
+            return this;
+        }
+
+        public NetworkHttpClient build() {
+            return new NetworkHttpClient(this);
+        }
     }
 }
@@ -1,21 +1,16 @@
 package com.twilio.http;
 
-import com.google.common.base.Joiner;
 import com.google.common.collect.Range;
 import com.twilio.exception.ApiException;
-import com.twilio.exception.InvalidRequestException;
-import org.apache.commons.codec.binary.Base64;
 import org.joda.time.DateTime;
 import org.joda.time.LocalDate;
 
-import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.net.URLEncoder;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,6 +27,9 @@ public class Request {
 
     private String username;
     private String password;
+    private Credentials credentials;
+    private boolean nonIdempotent;
+    private UrlTemplate template;
 
     /**
      * Create a new API request.
@@ -42,8 +40,8 @@ public class Request {
     public Request(final HttpMethod method, final String url) {
         this.method = method;
         this.url = url;
-        this.queryParams = new HashMap<>();
-        this.postParams = new HashMap<>();
+        this.queryParams = new LinkedHashMap<>();
+        this.postParams = new LinkedHashMap<>();
     }
 
     /**
@@ -71,9 +69,9 @@ public class Request {
         final String region
     ) {
         this.method = method;
-        this.url = "https://" + Joiner.on(".").skipNulls().join(domain, region, "twilio", "com") + uri;
-        this.queryParams = new HashMap<>();
-        this.postParams = new HashMap<>();
+        this.url = UrlTemplate.baseUrl(domain, region) + uri;
+        this.queryParams = new LinkedHashMap<>();
+        this.postParams = new LinkedHashMap<>();
     }
 
     public HttpMethod getMethod() {
@@ -84,9 +82,39 @@ public class Request {
         return url;
     }
 
+    /**
+     * Authenticate with a username and password.
+     *
+     * @param username username to use
+     * @param password password for the username
+     */
     public void setAuth(final String username, final String password) {
         this.username = username;
         this.password = password;
+        this.credentials = null;
+    }
+
+    /**
+     * Authenticate with shared credentials, reusing their encoded Authorization header.
+     *
+     * @param credentials credentials to use
+     */
+    public void setCredentials(final Credentials credentials) {
+        this.username = credentials.getUsername();
+        this.password = credentials.getPassword();
+        this.credentials = credentials;
+    }
+
+    /**
+     * Get the credentials of the request, creating them from the username and password if needed.
+     *
+     * @return credentials of the request
+     */
+    public Credentials getCredentials() {
+        if (credentials == null) {
+            credentials = new Credentials(username, password);
+        }
+        return credentials;
     }
 
     /**
@@ -95,17 +123,7 @@ public class Request {
      * @return basic authentication string
      */
     public String getAuthString() {
-        String credentials = this.username + ":" + this.password;
-        try {
-
-            String encoded = new Base64().encodeAsString(credentials.getBytes("ascii"));
-            return "Basic " + encoded;
-
-        } catch (final UnsupportedEncodingException e) {
-
-            throw new InvalidRequestException("It must be possible to encode credentials as ascii", credentials, e);
-
-        }
+        return getCredentials().getAuthorization();
     }
 
     public String getUsername() {
@@ -116,6 +134,40 @@ public class Request {
         return password;
     }
 
+    public boolean isNonIdempotent() {
+        return nonIdempotent;
+    }
+
+    /**
+     * Mark whether repeating the request could have a different effect than making it once.
+     *
+     * <p>
+     *     Retry policies only retry non-idempotent requests when the server reports it didn't process them.
+     * </p>
+     *
+     * @param nonIdempotent true if the request isn't safe to repeat
+     */
+    public void setNonIdempotent(final boolean nonIdempotent) {
+        this.nonIdempotent = nonIdempotent;
+    }
+
+    public UrlTemplate getTemplate() {
+        return template;
+    }
+
+    /**
+     * Set the template of the endpoint the request is made to.
+     *
+     * <p>
+     *     Metrics and hedging key the request on the template's path rather than on its URL.
+     * </p>
+     *
+     * @param template template the URL was built from
+     */
+    public void setTemplate(final UrlTemplate template) {
+        this.template = template;
+    }
+
     public boolean requiresAuthentication() {
         return username != null || password != null;
     }
@@ -127,13 +179,7 @@ public class Request {
      */
     @SuppressWarnings("checkstyle:abbreviationaswordinname")
     public URL constructURL() {
-        String params = encodeQueryParams();
-        String stringUri = url;
-
-        if (params.length() > 0) {
-            stringUri += "?" + params;
-        }
-
+        String stringUri = buildUrl();
         try {
             URI uri = new URI(stringUri);
             return uri.toURL();
@@ -144,6 +190,21 @@ public class Request {
         }
     }
 
+    /**
+     * Build the URL for the request without parsing it.
+     *
+     * <p>
+     *     Transports that parse the URL themselves use this instead of {@link #constructURL()}, so the URL is
+     *     parsed once.
+     * </p>
+     *
+     * @return URL for the request, with its query string
+     */
+    public String buildUrl() {
+        String params = encodeQueryParams();
+        return params.isEmpty() ? url : url + "?" + params;
+    }
+
     /**
      * Add query parameters for date ranges.
      *
@@ -201,11 +262,14 @@ public class Request {
     }
 
     private void addParam(final Map<String, List<String>> params, final String name, final String value) {
-        if (!params.containsKey(name)) {
-            params.put(name, new ArrayList<String>());
+        List<String> values = params.get(name);
+        if (values == null) {
+            // Most parameters have a single value
+            values = new ArrayList<>(1);
+            params.put(name, values);
         }
 
-        params.get(name).add(value);
+        values.add(value);
     }
 
     /**
@@ -214,7 +278,7 @@ public class Request {
      * @return url encoded form body
      */
     public String encodeFormBody() {
-        return encodeParameters(postParams);
+        return FormEncoder.encode(postParams);
     }
 
     /**
@@ -223,28 +287,7 @@ public class Request {
      * @return url encoded query parameters
      */
     public String encodeQueryParams() {
-        return encodeParameters(queryParams);
-    }
-
-    private static String encodeParameters(final Map<String, List<String>> params) {
-        List<String> parameters = new ArrayList<>();
-
-        for (final Map.Entry<String, List<String>> entry : params.entrySet()) {
-            try {
-                String encodedName = URLEncoder.encode(entry.getKey(), "UTF-8");
-                for (final String value : entry.getValue()) {
-                    if (value == null) {
-                        continue;
-                    }
-
-                    String encodedValue = URLEncoder.encode(value, "UTF-8");
-                    parameters.add(encodedName + "=" + encodedValue);
-                }
-            } catch (final UnsupportedEncodingException e) {
-                throw new InvalidRequestException("Couldn't encode params", entry.getKey(), e);
-            }
-        }
-        return Joiner.on("&").join(parameters);
+        return FormEncoder.encode(queryParams);
     }
 
     public Map<String, List<String>> getQueryParams() {
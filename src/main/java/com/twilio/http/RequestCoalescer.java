@@ -0,0 +1,296 @@
+package com.twilio.http;
+
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.rest.Domains;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collapses concurrent identical GETs into a single request.
+ *
+ * <p>
+ *     The first GET for a URL, query and set of credentials is made as usual; identical GETs arriving while it is
+ *     in flight wait for it and get the same response, buffered so that each caller can read it. Requests are only
+ *     shared while in flight: once the response arrives the next GET is made again. Async callers each get their
+ *     own future, so cancelling one doesn't affect the others.
+ * </p>
+ */
+public class RequestCoalescer {
+
+    private final Set<Domains> domains;
+    private final ConcurrentMap<Key, Flight> flights = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong collapsed = new AtomicLong();
+
+    private RequestCoalescer(final Builder b) {
+        this.domains = b.domains;
+    }
+
+    /**
+     * Get the number of requests actually made.
+     *
+     * @return number of requests made
+     */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * Get the number of requests answered by an identical request already in flight.
+     *
+     * @return number of collapsed requests
+     */
+    public long getCollapsed() {
+        return collapsed.get();
+    }
+
+    public int getInFlight() {
+        return flights.size();
+    }
+
+    /**
+     * Check whether a request can be collapsed.
+     *
+     * @param request request about to be made
+     * @return true for GETs to one of the domains
+     */
+    boolean applies(final Request request) {
+        if (request.getMethod() != HttpMethod.GET) {
+            return false;
+        }
+        if (domains.isEmpty()) {
+            return true;
+        }
+
+        String host;
+        try {
+            host = new URI(request.getUrl()).getHost();
+        } catch (final URISyntaxException e) {
+            return false;
+        }
+
+        for (Domains domain : domains) {
+            if (host != null && host.startsWith(domain.toString() + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Make a request, or wait for an identical one in flight.
+     *
+     * @param request request to make
+     * @param send makes the request
+     * @return Response of the request
+     */
+    Response request(final Request request, final Function<Request, Response> send) {
+        Flight flight = new Flight();
+        Flight current = board(request, flight);
+        if (current != flight) {
+            return await(current.future);
+        }
+
+        Response response;
+        try {
+            response = send.apply(request);
+            response = land(request, flight) > 0 ? response.buffer() : response;
+        } catch (final RuntimeException e) {
+            land(request, flight);
+            flight.future.setException(e);
+            throw e;
+        }
+
+        flight.future.set(response);
+        return response;
+    }
+
+    /**
+     * Make an asynchronous request, or wait for an identical one in flight.
+     *
+     * @param request request to make
+     * @param send makes the request
+     * @return future that resolves to the Response of the request
+     */
+    ListenableFuture<Response> requestAsync(final Request request, final AsyncFunction<Request, Response> send) {
+        final Flight flight = new Flight();
+        Flight current = board(request, flight);
+        if (current != flight) {
+            return follow(current.future);
+        }
+
+        ListenableFuture<Response> response;
+        try {
+            response = send.apply(request);
+        } catch (final Exception e) {
+            land(request, flight);
+            flight.future.setException(e);
+            return follow(flight.future);
+        }
+
+        Futures.addCallback(response, new FutureCallback<Response>() {
+            @Override
+            public void onSuccess(final Response result) {
+                try {
+                    flight.future.set(land(request, flight) > 0 ? result.buffer() : result);
+                } catch (final RuntimeException e) {
+                    flight.future.setException(e);
+                }
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                land(request, flight);
+                flight.future.setException(t);
+            }
+        });
+        return follow(flight.future);
+    }
+
+    /**
+     * Give a caller its own future completing with a shared one.
+     */
+    private static ListenableFuture<Response> follow(final ListenableFuture<Response> shared) {
+        final SettableFuture<Response> own = SettableFuture.create();
+        Futures.addCallback(shared, new FutureCallback<Response>() {
+            @Override
+            public void onSuccess(final Response result) {
+                own.set(result);
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                own.setException(t);
+            }
+        });
+        return own;
+    }
+
+    private Flight board(final Request request, final Flight flight) {
+        Key key = new Key(request);
+        while (true) {
+            Flight current = flights.get(key);
+            if (current != null && current.join()) {
+                collapsed.incrementAndGet();
+                return current;
+            }
+
+            boolean boarded = current == null ? flights.putIfAbsent(key, flight) == null :
+                flights.replace(key, current, flight);
+            if (boarded) {
+                requests.incrementAndGet();
+                return flight;
+            }
+        }
+    }
+
+    private int land(final Request request, final Flight flight) {
+        flights.remove(new Key(request), flight);
+        return flight.land();
+    }
+
+    private static Response await(final ListenableFuture<Response> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiConnectionException("Interrupted while waiting for an identical request", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ApiConnectionException("Identical request failed", e.getCause());
+        }
+    }
+
+    /**
+     * Credentials and full URL of a request.
+     *
+     * <p>
+     *     Holds the request's credentials rather than copying the secret into a string.
+     * </p>
+     */
+    private static class Key {
+        private final Credentials credentials;
+        private final String url;
+
+        Key(final Request request) {
+            this.credentials = request.getCredentials();
+            this.url = request.getUrl() + "?" + request.encodeQueryParams();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            Key other = (Key) o;
+            return url.equals(other.url) && credentials.equals(other.credentials);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * url.hashCode() + credentials.hashCode();
+        }
+    }
+
+    /**
+     * A request in flight and the number of callers waiting for it.
+     */
+    private static class Flight {
+        private final SettableFuture<Response> future = SettableFuture.create();
+        private int joined;
+        private boolean landed;
+
+        synchronized boolean join() {
+            if (landed) {
+                return false;
+            }
+            joined++;
+            return true;
+        }
+
+        synchronized int land() {
+            landed = true;
+            return joined;
+        }
+    }
+
+    public static class Builder {
+        private final Set<Domains> domains = EnumSet.noneOf(Domains.class);
+
+        /**
+         * Only collapse requests to some domains. Requests to every domain are collapsed by default.
+         *
+         * @param domains domains whose requests are collapsed
+         * @return this builder
+         */
+        public Builder domains(final Domains... domains) {
+            this.domains.addAll(Arrays.asList(domains));
+            return this;
+        }
+
+        public RequestCoalescer build() {
+            return new RequestCoalescer(this);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.twilio.http;
+
+import java.util.regex.Pattern;
+
+/**
+ * A completed attempt or request, as reported to a {@link RequestListener}.
+ */
+public class RequestEvent {
+
+    private static final Pattern SID = Pattern.compile("[A-Z]{2}[0-9a-fA-F]{32}");
+    private static final Pattern COLLECTION = Pattern.compile("[A-Z][a-z][A-Za-z]*");
+    private static final String SID_TEMPLATE = "{sid}";
+    private static final String ID_TEMPLATE = "{id}";
+    private static final String EXTENSION = ".json";
+
+    private final Request request;
+    private final Response response;
+    private final Throwable exception;
+    private final int attempt;
+    private final long latencyNanos;
+
+    /**
+     * Create a new event.
+     *
+     * @param request request that was made
+     * @param response response received, null if the request failed
+     * @param exception exception the request failed with, null if a response was received
+     * @param attempt attempt number starting at 1, or number of attempts made for a whole request
+     * @param latencyNanos time the attempt or request took
+     */
+    public RequestEvent(final Request request,
+                        final Response response,
+                        final Throwable exception,
+                        final int attempt,
+                        final long latencyNanos) {
+        this.request = request;
+        this.response = response;
+        this.exception = exception;
+        this.attempt = attempt;
+        this.latencyNanos = latencyNanos;
+    }
+
+    public Request getRequest() {
+        return request;
+    }
+
+    public Response getResponse() {
+        return response;
+    }
+
+    public Throwable getException() {
+        return exception;
+    }
+
+    public HttpMethod getMethod() {
+        return request.getMethod();
+    }
+
+    /**
+     * Get the host the request was made to.
+     *
+     * @return host name
+     */
+    public String getHost() {
+        String url = request.getUrl();
+        int start = url.indexOf("://");
+        start = start < 0 ? 0 : start + 3;
+        int end = url.indexOf('/', start);
+        return end < 0 ? url.substring(start) : url.substring(start, end);
+    }
+
+    /**
+     * Get the path of the endpoint, like {@code /2010-04-01/Accounts/{AccountSid}/Messages.json}.
+     *
+     * @return path of the request's template, or its URL path templated by {@link #endpoint}
+     */
+    public String getPath() {
+        return endpoint(request);
+    }
+
+    /**
+     * Get the status code of the response.
+     *
+     * @return status code, 0 if the request failed
+     */
+    public int getStatusCode() {
+        return response == null ? 0 : response.getStatusCode();
+    }
+
+    public int getAttempt() {
+        return attempt;
+    }
+
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    /**
+     * Get the size of the encoded request body.
+     *
+     * @return body size in bytes
+     */
+    public long getRequestBytes() {
+        if (request.getMethod() != HttpMethod.POST) {
+            return 0;
+        }
+        return FormEncoder.length(request.getPostParams());
+    }
+
+    /**
+     * Get the size of the response body.
+     *
+     * <p>
+     *     Once the whole body has been read this is the number of bytes read, after decompression. Before that it
+     *     is the {@code Content-Length} declared by the server.
+     * </p>
+     *
+     * @return body size in bytes, -1 if unknown
+     */
+    public long getResponseBytes() {
+        if (response == null) {
+            return -1;
+        }
+        return response.isBodyRead() ? response.getBodyBytes() : response.getContentLength();
+    }
+
+    /**
+     * Get the path of the endpoint a request is made to.
+     *
+     * <p>
+     *     Requests built from a {@link UrlTemplate} use its path. Otherwise SIDs in the URL path become
+     *     {@code {sid}}, and any other value following a collection name, like the number in
+     *     {@code /v1/PhoneNumbers/+14155552671} or the country in {@code /Countries/US}, becomes {@code {id}}.
+     * </p>
+     *
+     * @param request request to an endpoint
+     * @return templated path
+     */
+    static String endpoint(final Request request) {
+        UrlTemplate template = request.getTemplate();
+        return template == null ? templatePath(request.getUrl()) : template.getPath();
+    }
+
+    static String templatePath(final String url) {
+        int start = url.indexOf("://");
+        start = url.indexOf('/', start < 0 ? 0 : start + 3);
+        if (start < 0) {
+            return "/";
+        }
+
+        int end = url.indexOf('?', start);
+        if (end < 0) {
+            end = url.length();
+        }
+
+        StringBuilder sb = new StringBuilder(end - start);
+        boolean afterCollection = false;
+        for (String segment : url.substring(start + 1, end).split("/", -1)) {
+            String suffix = segment.endsWith(EXTENSION) ? EXTENSION : "";
+            String name = segment.substring(0, segment.length() - suffix.length());
+
+            sb.append('/');
+            if (SID.matcher(name).matches()) {
+                sb.append(SID_TEMPLATE);
+                afterCollection = false;
+            } else if (afterCollection && !COLLECTION.matcher(name).matches()) {
+                sb.append(ID_TEMPLATE);
+                afterCollection = false;
+            } else {
+                sb.append(name);
+                afterCollection = COLLECTION.matcher(name).matches();
+            }
+            sb.append(suffix);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,292 @@
+package com.twilio.http;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides when a slow GET gets a duplicate attempt.
+ *
+ * <p>
+ *     An attempt still in flight after the hedge delay is raced against a second, identical attempt; the first
+ *     success wins and the other is cancelled. The delay is a percentile of the latencies seen for the same
+ *     endpoint over the last minute or so, so only the slowest attempts are hedged and the delay follows the
+ *     endpoint as it speeds up or slows down. Hedges spend from a budget refilled by every hedgeable
+ *     request, so they can't add more than a fraction of the load. Only GETs are ever hedged. Latencies are kept
+ *     for a bounded number of endpoints; past it, new endpoints share one window.
+ * </p>
+ */
+public class RequestHedger {
+
+    private static final double PERCENTILE = 95;
+    private static final long DELAY = 100L;
+    private static final int MIN_SAMPLES = 20;
+    private static final double BUDGET_RATIO = 0.05;
+    private static final int BUDGET_CAPACITY = 10;
+    private static final long TOKEN = 1000L;
+    private static final long WINDOW = 60000L;
+    private static final int MAX_ENDPOINTS = 1000;
+
+    private final double percentile;
+    private final long delayNanos;
+    private final long minDelayNanos;
+    private final int minSamples;
+    private final long windowNanos;
+    private final long budgetDeposit;
+    private final long budgetCapacity;
+    private final AtomicLong budget;
+    private final ConcurrentMap<String, Window> latencies = new ConcurrentHashMap<>();
+    private final EndpointKeys endpoints;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hedged = new AtomicLong();
+    private final AtomicLong wins = new AtomicLong();
+
+    private RequestHedger(final Builder b) {
+        this.percentile = b.percentile;
+        this.delayNanos = TimeUnit.MILLISECONDS.toNanos(b.delay);
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(b.minDelay);
+        this.minSamples = b.minSamples;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(b.window);
+        this.budgetDeposit = (long) (b.budgetRatio * TOKEN);
+        this.budgetCapacity = (long) b.budgetCapacity * TOKEN;
+        this.budget = new AtomicLong(budgetCapacity);
+        this.endpoints = new EndpointKeys(b.maxEndpoints);
+    }
+
+    /**
+     * Get the number of attempts that could have been hedged.
+     *
+     * @return number of hedgeable attempts
+     */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * Get the number of duplicate attempts sent.
+     *
+     * @return number of hedges
+     */
+    public long getHedged() {
+        return hedged.get();
+    }
+
+    /**
+     * Get the number of hedges that answered before the attempt they duplicated.
+     *
+     * @return number of hedges that won
+     */
+    public long getWins() {
+        return wins.get();
+    }
+
+    /**
+     * Get the number of hedges left in the budget.
+     *
+     * @return whole hedges available
+     */
+    public long getRemainingBudget() {
+        return budget.get() / TOKEN;
+    }
+
+    /**
+     * Get the current hedge delay of an endpoint.
+     *
+     * @param request request to the endpoint
+     * @return delay in milliseconds
+     */
+    public long getDelayMillis(final Request request) {
+        return TimeUnit.NANOSECONDS.toMillis(delayNanos(request));
+    }
+
+    boolean applies(final Request request) {
+        return request.getMethod() == HttpMethod.GET && !request.isNonIdempotent();
+    }
+
+    long delayNanos(final Request request) {
+        Window window = latencies.get(key(request));
+        HistogramRequestListener.Histogram histogram = window == null ? null : window.histogram(minSamples);
+        if (percentile <= 0 || histogram == null) {
+            return delayNanos;
+        }
+        return Math.max(histogram.getPercentile(percentile), minDelayNanos);
+    }
+
+    void onRequest() {
+        requests.incrementAndGet();
+
+        long current;
+        do {
+            current = budget.get();
+            if (current >= budgetCapacity) {
+                return;
+            }
+        } while (!budget.compareAndSet(current, Math.min(budgetCapacity, current + budgetDeposit)));
+    }
+
+    boolean tryHedge() {
+        long current;
+        do {
+            current = budget.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - TOKEN));
+
+        hedged.incrementAndGet();
+        return true;
+    }
+
+    void onWin() {
+        wins.incrementAndGet();
+    }
+
+    void record(final Request request, final long latencyNanos) {
+        String key = key(request);
+        Window window = latencies.get(key);
+        if (window == null) {
+            Window created = new Window(windowNanos);
+            window = latencies.putIfAbsent(key, created);
+            if (window == null) {
+                window = created;
+            }
+        }
+        window.record(latencyNanos);
+    }
+
+    private String key(final Request request) {
+        return endpoints.key(request);
+    }
+
+    /**
+     * Latencies of the current window, and of the previous one until the current has enough samples.
+     */
+    static class Window {
+        private final long length;
+        private long start = System.nanoTime();
+        private HistogramRequestListener.Histogram current = new HistogramRequestListener.Histogram();
+        private HistogramRequestListener.Histogram previous;
+
+        Window(final long length) {
+            this.length = length;
+        }
+
+        void record(final long value) {
+            HistogramRequestListener.Histogram histogram;
+            synchronized (this) {
+                roll();
+                histogram = current;
+            }
+            histogram.record(value);
+        }
+
+        synchronized HistogramRequestListener.Histogram histogram(final int minSamples) {
+            roll();
+            if (current.getCount() >= minSamples) {
+                return current;
+            }
+            return previous != null && previous.getCount() >= minSamples ? previous : null;
+        }
+
+        private void roll() {
+            long elapsed = System.nanoTime() - start;
+            if (elapsed < length) {
+                return;
+            }
+
+            previous = elapsed < 2 * length ? current : null;
+            current = new HistogramRequestListener.Histogram();
+            start += elapsed - elapsed % length;
+        }
+    }
+
+    public static class Builder {
+        private double percentile = PERCENTILE;
+        private long delay = DELAY;
+        private long minDelay;
+        private int minSamples = MIN_SAMPLES;
+        private double budgetRatio = BUDGET_RATIO;
+        private int budgetCapacity = BUDGET_CAPACITY;
+        private long window = WINDOW;
+        private int maxEndpoints = MAX_ENDPOINTS;
+
+        /**
+         * Sets the percentile of an endpoint's latencies after which an attempt is hedged.
+         *
+         * @param percentile percentage between 0 and 100, 0 to always use the fixed delay
+         * @param minSamples latencies to see before using the percentile instead of the fixed delay
+         * @return this builder
+         */
+        public Builder percentile(final double percentile, final int minSamples) {
+            this.percentile = percentile;
+            this.minSamples = minSamples;
+            return this;
+        }
+
+        public Builder percentile(final double percentile) {
+            return percentile(percentile, MIN_SAMPLES);
+        }
+
+        /**
+         * Sets the hedge delay used until an endpoint has enough latencies for the percentile.
+         *
+         * @param delay delay in milliseconds
+         * @return this builder
+         */
+        public Builder delay(final long delay) {
+            this.delay = delay;
+            return this;
+        }
+
+        public Builder minDelay(final long minDelay) {
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        /**
+         * Sets the hedge budget shared by every request.
+         *
+         * <p>
+         *     Each hedgeable request adds {@code ratio} of a hedge to the budget, up to {@code capacity}, and each
+         *     hedge spends one, so hedges are limited to {@code ratio} of the request rate.
+         * </p>
+         *
+         * @param ratio hedges earned per request
+         * @param capacity max hedges saved up
+         * @return this builder
+         */
+        public Builder budget(final double ratio, final int capacity) {
+            this.budgetRatio = ratio;
+            this.budgetCapacity = capacity;
+            return this;
+        }
+
+        /**
+         * Sets how long latencies count towards the percentile.
+         *
+         * @param window length of a window in milliseconds; the delay uses the current or the previous window
+         * @return this builder
+         */
+        public Builder window(final long window) {
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Sets how many endpoints get their own latencies.
+         *
+         * @param maxEndpoints maximum number of distinct endpoints; any others share one window
+         * @return this builder
+         */
+        public Builder maxEndpoints(final int maxEndpoints) {
+            this.maxEndpoints = maxEndpoints;
+            return this;
+        }
+
+        public RequestHedger build() {
+            return new RequestHedger(this);
+        }
+    }
+}
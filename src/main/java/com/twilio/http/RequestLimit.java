@@ -0,0 +1,416 @@
+package com.twilio.http;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.twilio.rest.Domains;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * A throughput and/or concurrency limit applied to matching requests.
+ *
+ * <p>
+ *     Every account gets its own budget. Requests can be further partitioned by a parameter, for example the
+ *     {@code From} number of a message, so that each value gets its own budget. Budgets left idle are dropped,
+ *     and only the most recently used are kept when there are more than {@code maxPartitions}.
+ * </p>
+ */
+public class RequestLimit {
+
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final int MAX_PARTITIONS = 10000;
+    private static final long PARTITION_IDLE_MILLIS = 600000L;
+
+    private final Domains domain;
+    private final Pattern path;
+    private final String partitionParam;
+    private final double permitsPerSecond;
+    private final int burst;
+    private final int maxConcurrent;
+    private final LoadingCache<String, Partition> partitions;
+
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong queuedNanos = new AtomicLong();
+    private final AtomicLong maxQueuedNanos = new AtomicLong();
+
+    private RequestLimit(final Builder b) {
+        this.domain = b.domain;
+        this.path = b.path;
+        this.partitionParam = b.partitionParam;
+        this.permitsPerSecond = b.permitsPerSecond;
+        this.burst = b.burst;
+        this.maxConcurrent = b.maxConcurrent;
+        this.partitions = CacheBuilder.newBuilder()
+            .maximumSize(b.maxPartitions)
+            .expireAfterAccess(b.partitionIdleMillis, TimeUnit.MILLISECONDS)
+            .build(new CacheLoader<String, Partition>() {
+                @Override
+                public Partition load(final String key) {
+                    return new Partition(
+                        permitsPerSecond > 0 ? new TokenBucket(permitsPerSecond, burst) : null,
+                        maxConcurrent > 0 ? new AsyncSemaphore(maxConcurrent) : null
+                    );
+                }
+            });
+    }
+
+    public Domains getDomain() {
+        return domain;
+    }
+
+    public Pattern getPath() {
+        return path;
+    }
+
+    public String getPartitionParam() {
+        return partitionParam;
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * Get the number of account and partition budgets currently kept.
+     *
+     * @return number of budgets
+     */
+    public long getPartitions() {
+        return partitions.size();
+    }
+
+    /**
+     * Get the number of requests that went through the limit.
+     *
+     * @return number of acquired permits
+     */
+    public long getAcquired() {
+        return acquired.get();
+    }
+
+    /**
+     * Get the number of requests that had to wait for a permit.
+     *
+     * @return number of queued requests
+     */
+    public long getQueued() {
+        return queued.get();
+    }
+
+    public long getTotalQueuedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(queuedNanos.get());
+    }
+
+    public long getMaxQueuedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxQueuedNanos.get());
+    }
+
+    /**
+     * Get the mean time spent waiting for a permit across all requests, including those that didn't wait.
+     *
+     * @return mean queued time in milliseconds
+     */
+    public double getMeanQueuedMillis() {
+        long count = acquired.get();
+        return count == 0 ? 0 : queuedNanos.get() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    boolean matches(final Request request, final URI uri) {
+        if (domain != null && (uri.getHost() == null || !uri.getHost().startsWith(domain.toString() + "."))) {
+            return false;
+        }
+
+        return path == null || (uri.getPath() != null && path.matcher(uri.getPath()).matches());
+    }
+
+    Partition partition(final String accountSid, final Request request) {
+        String key = accountSid;
+        if (partitionParam != null) {
+            key = key + "|" + param(request, partitionParam);
+        }
+
+        return partitions.getUnchecked(key);
+    }
+
+    void record(final boolean waited, final long nanos) {
+        acquired.incrementAndGet();
+        if (!waited) {
+            return;
+        }
+
+        queued.incrementAndGet();
+        queuedNanos.addAndGet(nanos);
+
+        long max = maxQueuedNanos.get();
+        while (nanos > max && !maxQueuedNanos.compareAndSet(max, nanos)) {
+            max = maxQueuedNanos.get();
+        }
+    }
+
+    private static String param(final Request request, final String name) {
+        List<String> values = request.getPostParams().get(name);
+        if (values == null || values.isEmpty()) {
+            values = request.getQueryParams().get(name);
+        }
+        return values == null || values.isEmpty() ? "" : values.get(0);
+    }
+
+    /**
+     * Budget of a single account or partition.
+     */
+    static class Partition {
+        private final TokenBucket bucket;
+        private final AsyncSemaphore semaphore;
+
+        Partition(final TokenBucket bucket, final AsyncSemaphore semaphore) {
+            this.bucket = bucket;
+            this.semaphore = semaphore;
+        }
+
+        boolean acquire() throws InterruptedException {
+            long wait = bucket == null ? 0 : bucket.reserve();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+
+            boolean waited = wait > 0;
+            if (semaphore != null) {
+                waited |= semaphore.acquire();
+            }
+            return waited;
+        }
+
+        ListenableFuture<Void> acquireAsync(final ScheduledExecutorService scheduler) {
+            long wait = bucket == null ? 0 : bucket.reserve();
+            if (wait <= 0) {
+                return semaphore == null ? Futures.<Void>immediateFuture(null) : semaphore.acquireAsync();
+            }
+
+            final SettableFuture<Void> timer = SettableFuture.create();
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    timer.set(null);
+                }
+            }, wait, TimeUnit.NANOSECONDS);
+
+            if (semaphore == null) {
+                return timer;
+            }
+
+            return Futures.transform(timer, new AsyncFunction<Void, Void>() {
+                @Override
+                public ListenableFuture<Void> apply(final Void input) {
+                    return semaphore.acquireAsync();
+                }
+            });
+        }
+
+        void release() {
+            if (semaphore != null) {
+                semaphore.release();
+            }
+        }
+    }
+
+    /**
+     * Token bucket handing out reservations, so waiters are served in order without holding a lock.
+     */
+    static class TokenBucket {
+        private final double permitsPerNano;
+        private final double capacity;
+        private double tokens;
+        private long last;
+
+        TokenBucket(final double permitsPerSecond, final int burst) {
+            this.permitsPerNano = permitsPerSecond / NANOS_PER_SECOND;
+            this.capacity = Math.max(burst, 1);
+            this.tokens = capacity;
+            this.last = System.nanoTime();
+        }
+
+        synchronized long reserve() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - last) * permitsPerNano);
+            last = now;
+
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+        }
+    }
+
+    /**
+     * Semaphore whose waiters are futures, so async callers don't hold a thread while queued.
+     */
+    static class AsyncSemaphore {
+        private final Queue<SettableFuture<Void>> waiters = new ArrayDeque<>();
+        private int available;
+
+        AsyncSemaphore(final int permits) {
+            this.available = permits;
+        }
+
+        synchronized ListenableFuture<Void> acquireAsync() {
+            if (available > 0) {
+                available--;
+                return Futures.immediateFuture(null);
+            }
+
+            SettableFuture<Void> waiter = SettableFuture.create();
+            waiters.add(waiter);
+            return waiter;
+        }
+
+        boolean acquire() throws InterruptedException {
+            ListenableFuture<Void> waiter = acquireAsync();
+            if (waiter.isDone()) {
+                return false;
+            }
+
+            try {
+                waiter.get();
+                return true;
+            } catch (final InterruptedException e) {
+                if (!waiter.cancel(false)) {
+                    release();
+                }
+                throw e;
+            } catch (final ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        void release() {
+            while (true) {
+                SettableFuture<Void> next;
+                synchronized (this) {
+                    next = waiters.poll();
+                    if (next == null) {
+                        available++;
+                        return;
+                    }
+                }
+
+                if (next.set(null)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    public static class Builder {
+        private Domains domain;
+        private Pattern path;
+        private String partitionParam;
+        private double permitsPerSecond;
+        private int burst = 1;
+        private int maxConcurrent;
+        private int maxPartitions = MAX_PARTITIONS;
+        private long partitionIdleMillis = PARTITION_IDLE_MILLIS;
+
+        /**
+         * Only apply the limit to requests to a domain.
+         *
+         * @param domain domain of limited requests
+         * @return this builder
+         */
+        public Builder domain(final Domains domain) {
+            this.domain = domain;
+            return this;
+        }
+
+        /**
+         * Only apply the limit to requests whose URL path matches a pattern.
+         *
+         * @param path regular expression matching the whole path, like {@code .*Messages\.json}
+         * @return this builder
+         */
+        public Builder path(final String path) {
+            this.path = Pattern.compile(path);
+            return this;
+        }
+
+        /**
+         * Give each value of a request parameter its own budget.
+         *
+         * @param partitionParam name of the post or query parameter, like {@code From}
+         * @return this builder
+         */
+        public Builder partitionBy(final String partitionParam) {
+            this.partitionParam = partitionParam;
+            return this;
+        }
+
+        /**
+         * Sets the sustained throughput allowed.
+         *
+         * @param permitsPerSecond requests per second, 0 for no throughput limit
+         * @param burst requests allowed back to back after being idle
+         * @return this builder
+         */
+        public Builder permitsPerSecond(final double permitsPerSecond, final int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+            return this;
+        }
+
+        public Builder permitsPerSecond(final double permitsPerSecond) {
+            return permitsPerSecond(permitsPerSecond, 1);
+        }
+
+        /**
+         * Sets the max number of requests in flight at once.
+         *
+         * @param maxConcurrent max number of requests in flight, 0 for no concurrency limit
+         * @return this builder
+         */
+        public Builder maxConcurrent(final int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+            return this;
+        }
+
+        /**
+         * Sets the max number of account and partition budgets kept, dropping the least recently used first.
+         *
+         * @param maxPartitions max number of budgets
+         * @return this builder
+         */
+        public Builder maxPartitions(final int maxPartitions) {
+            this.maxPartitions = maxPartitions;
+            return this;
+        }
+
+        /**
+         * Sets how long an unused account or partition budget is kept.
+         *
+         * @param partitionIdleMillis idle time in milliseconds before a budget is dropped
+         * @return this builder
+         */
+        public Builder partitionIdleMillis(final long partitionIdleMillis) {
+            this.partitionIdleMillis = partitionIdleMillis;
+            return this;
+        }
+
+        public RequestLimit build() {
+            return new RequestLimit(this);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.exception.InvalidRequestException;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Client-side throttle applied before requests are sent.
+ *
+ * <p>
+ *     Each {@link RequestLimit} matching a request must hand out a permit before the request is made. Blocking
+ *     callers wait on their own thread; async callers are queued without holding a thread.
+ * </p>
+ */
+public class RequestLimiter {
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("twilio-limiter-%d").build()
+    );
+
+    private final List<RequestLimit> limits;
+
+    private RequestLimiter(final Builder b) {
+        this.limits = Collections.unmodifiableList(new ArrayList<>(b.limits));
+    }
+
+    public List<RequestLimit> getLimits() {
+        return limits;
+    }
+
+    /**
+     * Wait for a permit from every limit matching the request.
+     *
+     * @param request request about to be made
+     * @param accountSid account making the request
+     * @return permit to release once the request completes
+     */
+    public Permit acquire(final Request request, final String accountSid) {
+        Permit permit = new Permit();
+        for (Match match : match(request, accountSid)) {
+            long start = System.nanoTime();
+            boolean waited;
+            try {
+                waited = match.partition.acquire();
+            } catch (final InterruptedException e) {
+                permit.release();
+                Thread.currentThread().interrupt();
+                throw new ApiConnectionException("Interrupted while waiting for a request permit", e);
+            }
+            match.limit.record(waited, System.nanoTime() - start);
+            permit.held.add(match.partition);
+        }
+        return permit;
+    }
+
+    /**
+     * Queue for a permit from every limit matching the request.
+     *
+     * @param request request about to be made
+     * @param accountSid account making the request
+     * @return future that resolves to the permit to release once the request completes
+     */
+    public ListenableFuture<Permit> acquireAsync(final Request request, final String accountSid) {
+        final Permit permit = new Permit();
+        ListenableFuture<Permit> future;
+        try {
+            future = acquireAsync(match(request, accountSid), 0, permit);
+        } catch (final RuntimeException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+
+        Futures.addCallback(future, new FutureCallback<Permit>() {
+            @Override
+            public void onSuccess(final Permit result) {
+                // Released by the caller
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                permit.release();
+            }
+        });
+        return future;
+    }
+
+    private ListenableFuture<Permit> acquireAsync(final List<Match> matches, final int index, final Permit permit) {
+        if (index == matches.size()) {
+            return Futures.immediateFuture(permit);
+        }
+
+        final Match match = matches.get(index);
+        final long start = System.nanoTime();
+        ListenableFuture<Void> ready = match.partition.acquireAsync(SCHEDULER);
+        final boolean waited = !ready.isDone();
+        return Futures.transform(ready, new AsyncFunction<Void, Permit>() {
+            @Override
+            public ListenableFuture<Permit> apply(final Void input) {
+                match.limit.record(waited, System.nanoTime() - start);
+                permit.held.add(match.partition);
+                return acquireAsync(matches, index + 1, permit);
+            }
+        });
+    }
+
+    private List<Match> match(final Request request, final String accountSid) {
+        URI uri;
+        try {
+            uri = new URI(request.getUrl());
+        } catch (final URISyntaxException e) {
+            throw new InvalidRequestException("Bad URI: " + request.getUrl(), request.getUrl(), e);
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (RequestLimit limit : limits) {
+            if (limit.matches(request, uri)) {
+                matches.add(new Match(limit, limit.partition(accountSid, request)));
+            }
+        }
+        return matches;
+    }
+
+    private static class Match {
+        private final RequestLimit limit;
+        private final RequestLimit.Partition partition;
+
+        Match(final RequestLimit limit, final RequestLimit.Partition partition) {
+            this.limit = limit;
+            this.partition = partition;
+        }
+    }
+
+    /**
+     * Permits held by a request in flight.
+     */
+    public static class Permit {
+        private final List<RequestLimit.Partition> held = Collections.synchronizedList(
+            new ArrayList<RequestLimit.Partition>()
+        );
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        /**
+         * Give the permits back. Only the first call has an effect.
+         */
+        public void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+
+            synchronized (held) {
+                for (RequestLimit.Partition partition : held) {
+                    partition.release();
+                }
+            }
+        }
+    }
+
+    public static class Builder {
+        private final List<RequestLimit> limits = new ArrayList<>();
+
+        public Builder limit(final RequestLimit limit) {
+            limits.add(limit);
+            return this;
+        }
+
+        public RequestLimiter build() {
+            return new RequestLimiter(this);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.twilio.http;
+
+/**
+ * Receives timings of the requests made by an {@link HttpClient}.
+ *
+ * <p>
+ *     Every method does nothing by default, so listeners only override what they record. Listeners are called on
+ *     the thread completing the request and must be thread safe and quick.
+ * </p>
+ */
+public abstract class RequestListener {
+
+    public static final RequestListener NO_OP = new RequestListener() {
+    };
+
+    /**
+     * Called after every attempt, including retries.
+     *
+     * @param event the attempt that completed
+     */
+    public void onAttempt(final RequestEvent event) {
+        // Nothing to record by default
+    }
+
+    /**
+     * Called once a request completes, after its last attempt.
+     *
+     * @param event the request that completed, timed from its first attempt to its last
+     */
+    public void onRequest(final RequestEvent event) {
+        // Nothing to record by default
+    }
+
+    /**
+     * Called when a pooled connection has been leased for an attempt.
+     *
+     * @param host host the connection is to
+     * @param waitNanos time spent waiting for the connection
+     */
+    public void onConnectionLeased(final String host, final long waitNanos) {
+        // Nothing to record by default
+    }
+}
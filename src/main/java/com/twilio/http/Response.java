@@ -1,19 +1,37 @@
 package com.twilio.http;
 
 import com.twilio.exception.ApiConnectionException;
-import com.twilio.exception.ApiException;
+import org.apache.http.HttpHeaders;
 
 import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.UnsupportedEncodingException;
-import java.util.Scanner;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
-public class Response {
+/**
+ * Response to a request made to Twilio.
+ *
+ * <p>
+ *     A response backed by a stream holds its connection until the stream is read to the end or the response is
+ *     closed. Reading the content reads the whole body through a buffer reused by the thread and closes the stream.
+ * </p>
+ */
+public class Response implements Closeable {
 
-    private final InputStream stream;
-    private final String content;
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_RETAINED = 1024 * 1024;
+    private static final ThreadLocal<byte[]> BUFFERS = new ThreadLocal<>();
+
+    private final BodyStream stream;
     private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private volatile String content;
 
     /**
      * Create a Response from content string and status code.
@@ -22,9 +40,21 @@ public class Response {
      * @param statusCode status code
      */
     public Response(final String content, final int statusCode) {
+        this(content, statusCode, Collections.<String, List<String>>emptyMap());
+    }
+
+    /**
+     * Create a Response from content string, status code and headers.
+     *
+     * @param content content string
+     * @param statusCode status code
+     * @param headers response headers
+     */
+    public Response(final String content, final int statusCode, final Map<String, List<String>> headers) {
         this.stream = null;
         this.content = content;
         this.statusCode = statusCode;
+        this.headers = caseInsensitive(headers);
     }
 
     /**
@@ -34,9 +64,27 @@ public class Response {
      * @param statusCode status code
      */
     public Response(final InputStream stream, final int statusCode) {
-        this.stream = stream;
+        this(stream, statusCode, Collections.<String, List<String>>emptyMap());
+    }
+
+    /**
+     * Create a Response from input stream, status code and headers.
+     *
+     * @param stream input stream
+     * @param statusCode status code
+     * @param headers response headers
+     */
+    public Response(final InputStream stream, final int statusCode, final Map<String, List<String>> headers) {
+        this.stream = stream == null ? null : new BodyStream(stream);
         this.content = null;
         this.statusCode = statusCode;
+        this.headers = caseInsensitive(headers);
+    }
+
+    private static Map<String, List<String>> caseInsensitive(final Map<String, List<String>> headers) {
+        Map<String, List<String>> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        map.putAll(headers);
+        return Collections.unmodifiableMap(map);
     }
 
     /**
@@ -44,30 +92,26 @@ public class Response {
      *
      * <p>
      *     If there is a content string, that will be returned.
-     *     Otherwise, will get content from input stream
+     *     Otherwise, the whole body is read from the input stream, which is then closed.
      * </p>
      *
      * @return the content string
      */
     public String getContent() {
-        if (content != null) {
-            return content;
+        String read = content;
+        if (read != null) {
+            return read;
         }
-        // XXX we probably don't need this and should convert strings into
-        // streams in the mock scaffolding
-        try {
-            if (stream.available() == 0) {
-                return "";
-            }
-        } catch (final IOException e) {
-            throw new ApiConnectionException("IOException during API request to Twilio", e);
+        if (stream == null) {
+            return "";
         }
 
-        Scanner scanner = new Scanner(stream, "UTF-8").useDelimiter("\\A");
-        String data = scanner.next();
-        scanner.close();
-
-        return data;
+        synchronized (this) {
+            if (content == null) {
+                content = read(stream);
+            }
+            return content;
+        }
     }
 
     /**
@@ -76,17 +120,183 @@ public class Response {
      * @return the response data as a stream
      */
     public InputStream getStream() {
-        if (stream != null) {
-            return stream;
+        String read = content;
+        if (read != null) {
+            return new ByteArrayInputStream(read.getBytes(StandardCharsets.UTF_8));
+        }
+        return stream;
+    }
+
+    /**
+     * Read the whole body into memory, so that the response can be read any number of times.
+     *
+     * @return this response if its body is already in memory, otherwise a copy holding the body
+     */
+    public Response buffer() {
+        if (stream == null) {
+            return content == null ? new Response("", statusCode, headers) : this;
+        }
+        return new Response(getContent(), statusCode, headers);
+    }
+
+    /**
+     * Release the connection holding the body, if it wasn't read to the end. Only the first call has an effect.
+     */
+    @Override
+    public void close() {
+        if (stream == null) {
+            return;
         }
+
+        try {
+            stream.close();
+        } catch (final IOException e) {
+            // The connection is discarded instead of going back to the pool
+        }
+    }
+
+    /**
+     * Get the size of the body declared by the server.
+     *
+     * @return Content-Length of the body, -1 if not declared
+     */
+    public long getContentLength() {
+        String value = getHeader(HttpHeaders.CONTENT_LENGTH);
+        if (value == null) {
+            return -1;
+        }
+
         try {
-            return new ByteArrayInputStream(content.getBytes("utf-8"));
-        } catch (final UnsupportedEncodingException e) {
-            throw new ApiException("UTF-8 encoding not supported", e);
+            return Long.parseLong(value.trim());
+        } catch (final NumberFormatException e) {
+            return -1;
         }
     }
 
+    /**
+     * Get the number of body bytes read so far, after decompression.
+     *
+     * @return bytes read from the body
+     */
+    public long getBodyBytes() {
+        if (stream != null) {
+            return stream.count;
+        }
+        return content == null ? 0 : content.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Check whether the whole body has been read, so that {@link #getBodyBytes()} is its full size.
+     *
+     * @return true if the body is in memory or its stream was read to the end
+     */
+    public boolean isBodyRead() {
+        return content != null || stream == null || stream.finished;
+    }
+
     public int getStatusCode() {
         return statusCode;
     }
+
+    /**
+     * Get the response headers.
+     *
+     * @return headers keyed by case-insensitive name
+     */
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Get the first value of a response header.
+     *
+     * @param name case-insensitive header name
+     * @return first value of the header, null if absent
+     */
+    public String getHeader(final String name) {
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    private static String read(final InputStream in) {
+        byte[] buffer = BUFFERS.get();
+        if (buffer == null) {
+            buffer = new byte[BUFFER_SIZE];
+        }
+
+        int length = 0;
+        try {
+            try {
+                int read;
+                while ((read = in.read(buffer, length, buffer.length - length)) >= 0) {
+                    length += read;
+                    if (length == buffer.length) {
+                        byte[] grown = new byte[buffer.length * 2];
+                        System.arraycopy(buffer, 0, grown, 0, length);
+                        buffer = grown;
+                    }
+                }
+            } finally {
+                in.close();
+            }
+        } catch (final IOException e) {
+            throw new ApiConnectionException("IOException during API request to Twilio", e);
+        } finally {
+            if (buffer.length <= MAX_RETAINED) {
+                BUFFERS.set(buffer);
+            }
+        }
+
+        return new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Body stream counting the bytes read and closing the underlying stream once.
+     */
+    private static class BodyStream extends FilterInputStream {
+        private volatile long count;
+        private volatile boolean finished;
+        private boolean closed;
+
+        BodyStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read >= 0) {
+                count++;
+            } else {
+                finished = true;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            } else if (read < 0) {
+                finished = true;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                super.close();
+            }
+        }
+    }
 }
@@ -0,0 +1,356 @@
+package com.twilio.http;
+
+import com.google.common.base.Utf8;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Caches successful GET responses in memory.
+ *
+ * <p>
+ *     Each resource type gets its own time to live, picked by the first rule whose pattern matches the URL path.
+ *     The least recently used entries are evicted once the cache holds {@code maxEntries} responses or
+ *     {@code maxBytes} of UTF-8 encoded bodies. A POST, PUT or DELETE to a URL invalidates every response cached
+ *     for it, so updates and deletes made through the same client are never hidden. That includes a GET of the URL
+ *     still in flight when the write is made: its response is handed to the caller but not cached.
+ * </p>
+ */
+public class ResponseCache {
+
+    private static final int MAX_ENTRIES = 1000;
+    private static final long MAX_BYTES = 10L * 1024 * 1024;
+    private static final int GENERATIONS = 64;
+
+    private final List<Rule> rules;
+    private final long defaultTtlNanos;
+    private final int maxEntries;
+    private final long maxBytes;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Set<String>> keysByUrl = new HashMap<>();
+    private final long[] generations = new long[GENERATIONS];
+    private long bytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private ResponseCache(final Builder b) {
+        this.rules = new ArrayList<>(b.rules);
+        this.defaultTtlNanos = b.defaultTtlNanos;
+        this.maxEntries = b.maxEntries;
+        this.maxBytes = b.maxBytes;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Get the number of cacheable requests that weren't cached or had expired.
+     *
+     * @return number of misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Get the number of entries dropped to stay within the size bounds.
+     *
+     * @return number of evictions
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Get the number of entries dropped by writes to their URL.
+     *
+     * @return number of invalidated entries
+     */
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    public synchronized int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * Get the size of the cached bodies.
+     *
+     * @return total UTF-8 encoded length of the bodies
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Drop every cached response.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        keysByUrl.clear();
+        bytes = 0;
+        for (int i = 0; i < generations.length; i++) {
+            generations[i]++;
+        }
+    }
+
+    /**
+     * Look up a cached response.
+     *
+     * @param request request about to be made
+     * @return cached response, null if the request has to be made
+     */
+    Response get(final Request request) {
+        if (request.getMethod() != HttpMethod.GET || ttlNanos(request) <= 0) {
+            return null;
+        }
+
+        String key = key(request);
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+                hits.incrementAndGet();
+                return entry.response;
+            }
+
+            if (entry != null) {
+                remove(key);
+            }
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Get the invalidation generation of the URL of a request, to be passed to {@link #put} once it completes.
+     *
+     * @param request request about to be made
+     * @return current generation of the URL
+     */
+    synchronized long generation(final Request request) {
+        return generations[stripe(urlKey(request))];
+    }
+
+    /**
+     * Cache the response to a GET, or invalidate the URL of a write.
+     *
+     * @param request request that was made
+     * @param response response received
+     * @param generation generation of the URL from before the request was made
+     * @return response to hand to the caller, with its body buffered if it was cached
+     */
+    Response put(final Request request, final Response response, final long generation) {
+        if (request.getMethod() != HttpMethod.GET) {
+            invalidate(request);
+            return response;
+        }
+
+        long ttl = ttlNanos(request);
+        if (ttl <= 0 || !TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
+            return response;
+        }
+
+        Response buffered = response.buffer();
+        long size = Utf8.encodedLength(buffered.getContent());
+        if (size > maxBytes) {
+            return buffered;
+        }
+
+        String key = key(request);
+        String url = urlKey(request);
+        synchronized (this) {
+            if (generations[stripe(url)] != generation) {
+                // Written to while the GET was in flight, so the response may predate the write
+                return buffered;
+            }
+
+            remove(key);
+            entries.put(key, new Entry(buffered, url, System.nanoTime() + ttl, size));
+            bytes += size;
+
+            Set<String> keys = keysByUrl.get(url);
+            if (keys == null) {
+                keys = new HashSet<>();
+                keysByUrl.put(url, keys);
+            }
+            keys.add(key);
+
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || bytes > maxBytes) && eldest.hasNext()) {
+                Map.Entry<String, Entry> next = eldest.next();
+                eldest.remove();
+                forget(next.getKey(), next.getValue());
+                evictions.incrementAndGet();
+            }
+        }
+        return buffered;
+    }
+
+    /**
+     * Drop every response cached for the URL of a write.
+     *
+     * @param request write request
+     */
+    void invalidate(final Request request) {
+        if (request.getMethod() == HttpMethod.GET) {
+            return;
+        }
+
+        String url = urlKey(request);
+        synchronized (this) {
+            generations[stripe(url)]++;
+
+            Set<String> keys = keysByUrl.get(url);
+            if (keys == null) {
+                return;
+            }
+
+            for (String key : new ArrayList<>(keys)) {
+                remove(key);
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    private void remove(final String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            forget(key, entry);
+        }
+    }
+
+    private void forget(final String key, final Entry entry) {
+        bytes -= entry.size;
+        Set<String> keys = keysByUrl.get(entry.url);
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                keysByUrl.remove(entry.url);
+            }
+        }
+    }
+
+    private long ttlNanos(final Request request) {
+        if (rules.isEmpty()) {
+            return defaultTtlNanos;
+        }
+
+        String path;
+        try {
+            path = new URI(request.getUrl()).getPath();
+        } catch (final URISyntaxException e) {
+            return 0;
+        }
+
+        for (Rule rule : rules) {
+            if (path != null && rule.path.matcher(path).matches()) {
+                return rule.ttlNanos;
+            }
+        }
+        return defaultTtlNanos;
+    }
+
+    private static int stripe(final String url) {
+        return (url.hashCode() & Integer.MAX_VALUE) % GENERATIONS;
+    }
+
+    private static String urlKey(final Request request) {
+        return request.getUsername() + "@" + request.getUrl();
+    }
+
+    private static String key(final Request request) {
+        return urlKey(request) + "?" + request.encodeQueryParams();
+    }
+
+    private static class Entry {
+        private final Response response;
+        private final String url;
+        private final long expiresAt;
+        private final long size;
+
+        Entry(final Response response, final String url, final long expiresAt, final long size) {
+            this.response = response;
+            this.url = url;
+            this.expiresAt = expiresAt;
+            this.size = size;
+        }
+    }
+
+    private static class Rule {
+        private final Pattern path;
+        private final long ttlNanos;
+
+        Rule(final Pattern path, final long ttlNanos) {
+            this.path = path;
+            this.ttlNanos = ttlNanos;
+        }
+    }
+
+    public static class Builder {
+        private final List<Rule> rules = new ArrayList<>();
+        private long defaultTtlNanos;
+        private int maxEntries = MAX_ENTRIES;
+        private long maxBytes = MAX_BYTES;
+
+        /**
+         * Sets the time to live of responses not matched by any rule. Defaults to 0, caching nothing else.
+         *
+         * @param ttlMillis time to live in milliseconds
+         * @return this builder
+         */
+        public Builder ttl(final long ttlMillis) {
+            this.defaultTtlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+            return this;
+        }
+
+        /**
+         * Sets the time to live of responses whose URL path matches a pattern.
+         *
+         * @param path regular expression matching the whole path, like {@code .*Pricing.*}
+         * @param ttlMillis time to live in milliseconds, 0 to not cache
+         * @return this builder
+         */
+        public Builder ttl(final String path, final long ttlMillis) {
+            this.rules.add(new Rule(Pattern.compile(path), TimeUnit.MILLISECONDS.toNanos(ttlMillis)));
+            return this;
+        }
+
+        public Builder maxEntries(final int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Sets the max total size of the cached bodies, encoded as UTF-8.
+         *
+         * @param maxBytes max size in bytes
+         * @return this builder
+         */
+        public Builder maxBytes(final long maxBytes) {
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        public ResponseCache build() {
+            return new ResponseCache(this);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.twilio.http;
+
+/**
+ * Decides whether and when a request is retried.
+ *
+ * <p>
+ *     One policy instance is shared by every request it governs, so implementations must be thread safe.
+ * </p>
+ */
+public abstract class RetryPolicy {
+
+    public static final long NO_RETRY = -1L;
+
+    /**
+     * Called once per request, before its first attempt.
+     *
+     * @param request request about to be made
+     */
+    public void onRequest(final Request request) {
+        // Nothing to track by default
+    }
+
+    /**
+     * Get the delay before the next attempt of a request.
+     *
+     * @param request request that was made
+     * @param response response of the last attempt, null if unable to connect
+     * @param attempts number of attempts made so far
+     * @param elapsedMillis time since the first attempt started
+     * @return delay in milliseconds before retrying, or {@link #NO_RETRY} to return the response
+     */
+    public abstract long retryDelay(final Request request,
+                                    final Response response,
+                                    final int attempts,
+                                    final long elapsedMillis);
+}
@@ -1,9 +1,21 @@
 package com.twilio.http;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Function;
 import com.google.common.base.Predicate;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.twilio.converter.ResourceModule;
+import com.twilio.exception.ApiConnectionException;
 
-public class TwilioRestClient {
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TwilioRestClient implements Closeable {
 
     public static final int HTTP_STATUS_CODE_CREATED = 201;
     public static final int HTTP_STATUS_CODE_NO_CONTENT = 204;
@@ -16,30 +28,217 @@ public class TwilioRestClient {
     };
 
     private final ObjectMapper objectMapper;
-    private final String username;
-    private final String password;
+    private final AtomicReference<Credentials> credentials;
     private final String accountSid;
     private final String region;
     private final HttpClient httpClient;
+    private final boolean ownsHttpClient;
+    private final RetryPolicy retryPolicy;
+    private final RequestLimiter requestLimiter;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final DomainIsolation domainIsolation;
+    private final RequestHedger requestHedger;
+    private final HttpClient limitedHttpClient;
+    private final ResponseCache responseCache;
+    private final RequestCoalescer requestCoalescer;
+    private final boolean lazyRecords;
 
     private TwilioRestClient(Builder b) {
-        this.username = b.username;
-        this.password = b.password;
+        this.credentials = new AtomicReference<>(
+            b.credentials == null ? new Credentials(b.username, b.password) : b.credentials
+        );
         this.accountSid = b.accountSid;
         this.region = b.region;
-        this.httpClient = b.httpClient;
-        this.objectMapper = new ObjectMapper();
+        this.httpClient = b.httpClient == null ?
+            new NetworkHttpClient.Builder().requestListener(b.requestListener).build() : b.httpClient;
+        this.ownsHttpClient = b.httpClient == null;
+        this.retryPolicy = b.retryPolicy;
+        this.requestLimiter = b.requestLimiter;
+        this.concurrencyLimiter = b.concurrencyLimiter;
+        this.domainIsolation = b.domainIsolation;
+        this.requestHedger = b.requestHedger;
+        this.responseCache = b.responseCache;
+        this.requestCoalescer = b.requestCoalescer;
+        this.lazyRecords = b.lazyRecords;
+        HttpClient limited = concurrencyLimiter == null ? httpClient :
+            new ConcurrencyLimitedHttpClient(httpClient, concurrencyLimiter);
+        HttpClient isolated = domainIsolation == null ? limited :
+            new IsolatedHttpClient(limited, domainIsolation);
+        HttpClient hedged = requestHedger == null ? isolated :
+            new HedgedHttpClient(isolated, requestHedger);
+        this.limitedHttpClient = b.requestListener == null ? hedged :
+            new ListeningHttpClient(hedged, b.requestListener);
+        this.objectMapper = new ObjectMapper().registerModule(new ResourceModule());
     }
 
     /**
      * Make a request to Twilio.
      *
+     * <p>
+     *     Blocks until the request limiter, if any, lets the request through. GETs may be answered from the
+     *     response cache or by an identical GET in flight, if enabled.
+     * </p>
+     *
      * @param request request to make
      * @return Response object
      */
     public Response request(final Request request) {
-        request.setAuth(username, password);
-        return httpClient.reliableRequest(request);
+        request.setCredentials(credentials.get());
+        if (requestCoalescer == null || !requestCoalescer.applies(request)) {
+            return cachedRequest(request);
+        }
+
+        return requestCoalescer.request(request, new Function<Request, Response>() {
+            @Override
+            public Response apply(final Request input) {
+                return cachedRequest(input);
+            }
+        });
+    }
+
+    private Response cachedRequest(final Request request) {
+        if (responseCache == null) {
+            return limitedRequest(request);
+        }
+
+        Response cached = responseCache.get(request);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = responseCache.generation(request);
+        Response response;
+        try {
+            response = limitedRequest(request);
+        } catch (final RuntimeException e) {
+            responseCache.invalidate(request);
+            throw e;
+        }
+        return responseCache.put(request, response, generation);
+    }
+
+    private Response limitedRequest(final Request request) {
+        if (requestLimiter == null) {
+            return send(request);
+        }
+
+        RequestLimiter.Permit permit = requestLimiter.acquire(request, accountSid);
+        try {
+            return send(request);
+        } finally {
+            permit.release();
+        }
+    }
+
+    /**
+     * Make an asynchronous request to Twilio.
+     *
+     * @param request request to make
+     * @return future that resolves to the Response object
+     */
+    public ListenableFuture<Response> requestAsync(final Request request) {
+        request.setCredentials(credentials.get());
+        if (requestCoalescer == null || !requestCoalescer.applies(request)) {
+            return cachedRequestAsync(request);
+        }
+
+        return requestCoalescer.requestAsync(request, new AsyncFunction<Request, Response>() {
+            @Override
+            public ListenableFuture<Response> apply(final Request input) {
+                return cachedRequestAsync(input);
+            }
+        });
+    }
+
+    private ListenableFuture<Response> cachedRequestAsync(final Request request) {
+        if (responseCache == null) {
+            return limitedRequestAsync(request);
+        }
+
+        Response cached = responseCache.get(request);
+        if (cached != null) {
+            return Futures.immediateFuture(cached);
+        }
+
+        final long generation = responseCache.generation(request);
+        ListenableFuture<Response> response = limitedRequestAsync(request);
+        Futures.addCallback(response, new FutureCallback<Response>() {
+            @Override
+            public void onSuccess(final Response result) {
+                // Cached by the transform below
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                responseCache.invalidate(request);
+            }
+        });
+        return Futures.transform(response, new Function<Response, Response>() {
+            @Override
+            public Response apply(final Response result) {
+                return responseCache.put(request, result, generation);
+            }
+        });
+    }
+
+    private ListenableFuture<Response> limitedRequestAsync(final Request request) {
+        if (requestLimiter == null) {
+            return sendAsync(request);
+        }
+
+        return Futures.transform(
+            requestLimiter.acquireAsync(request, accountSid),
+            new AsyncFunction<RequestLimiter.Permit, Response>() {
+                @Override
+                public ListenableFuture<Response> apply(final RequestLimiter.Permit permit) {
+                    ListenableFuture<Response> response;
+                    try {
+                        response = sendAsync(request);
+                    } catch (final RuntimeException e) {
+                        permit.release();
+                        throw e;
+                    }
+                    response.addListener(new Runnable() {
+                        @Override
+                        public void run() {
+                            permit.release();
+                        }
+                    }, MoreExecutors.sameThreadExecutor());
+                    return response;
+                }
+            }
+        );
+    }
+
+    private Response send(final Request request) {
+        if (retryPolicy == null) {
+            return limitedHttpClient.reliableRequest(request);
+        }
+        return limitedHttpClient.reliableRequest(request, retryPolicy);
+    }
+
+    private ListenableFuture<Response> sendAsync(final Request request) {
+        if (retryPolicy == null) {
+            return limitedHttpClient.reliableRequestAsync(request);
+        }
+        return limitedHttpClient.reliableRequestAsync(request, retryPolicy);
+    }
+
+    public Credentials getCredentials() {
+        return credentials.get();
+    }
+
+    /**
+     * Swap the credentials used by later requests, for example when rotating an auth token or API key.
+     *
+     * <p>
+     *     Requests already made keep the credentials they started with.
+     * </p>
+     *
+     * @param credentials new credentials
+     */
+    public void setCredentials(final Credentials credentials) {
+        this.credentials.set(credentials);
     }
 
     public String getAccountSid() {
@@ -58,12 +257,73 @@ public class TwilioRestClient {
         return httpClient;
     }
 
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    public RequestLimiter getRequestLimiter() {
+        return requestLimiter;
+    }
+
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    public DomainIsolation getDomainIsolation() {
+        return domainIsolation;
+    }
+
+    public RequestHedger getRequestHedger() {
+        return requestHedger;
+    }
+
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    public RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
+
+    public boolean isLazyRecords() {
+        return lazyRecords;
+    }
+
+    /**
+     * Release the connections of the HTTP client, if this client created it. A client given to the builder is left
+     * open for its owner to close.
+     *
+     * @throws ApiConnectionException if the HTTP client fails to close
+     */
+    @Override
+    public void close() {
+        if (!ownsHttpClient || !(httpClient instanceof Closeable)) {
+            return;
+        }
+
+        try {
+            ((Closeable) httpClient).close();
+        } catch (final IOException e) {
+            throw new ApiConnectionException("Unable to close HTTP client: " + e.getMessage(), e);
+        }
+    }
+
     public static class Builder {
         private String username;
         private String password;
+        private Credentials credentials;
         private String accountSid;
         private String region;
-        private HttpClient httpClient = new NetworkHttpClient();
+        private HttpClient httpClient;
+        private RetryPolicy retryPolicy;
+        private RequestLimiter requestLimiter;
+        private ConcurrencyLimiter concurrencyLimiter;
+        private DomainIsolation domainIsolation;
+        private RequestHedger requestHedger;
+        private RequestListener requestListener;
+        private ResponseCache responseCache;
+        private RequestCoalescer requestCoalescer;
+        private boolean lazyRecords;
 
         /**
          * Create a new Twilio Rest Client.
@@ -77,6 +337,20 @@ public class TwilioRestClient {
             this.accountSid = username;
         }
 
+        /**
+         * Create a new Twilio Rest Client.
+         *
+         * <p>
+         *     The account SID defaults to the username, so it must be set when authenticating with an API key.
+         * </p>
+         *
+         * @param credentials credentials to use
+         */
+        public Builder(Credentials credentials) {
+            this.credentials = credentials;
+            this.accountSid = credentials.getUsername();
+        }
+
         public Builder accountSid(String accountSid) {
             this.accountSid = accountSid;
             return this;
@@ -92,6 +366,116 @@ public class TwilioRestClient {
             return this;
         }
 
+        /**
+         * Sets the policy deciding retries, instead of the HTTP client's default.
+         *
+         * @param retryPolicy policy deciding retries
+         * @return this builder
+         */
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        /**
+         * Sets the client-side throttle applied to every request.
+         *
+         * @param requestLimiter limiter queuing requests before they are sent
+         * @return this builder
+         */
+        public Builder requestLimiter(RequestLimiter requestLimiter) {
+            this.requestLimiter = requestLimiter;
+            return this;
+        }
+
+        /**
+         * Sets the limiter adapting the number of requests in flight to observed latency and throttling.
+         *
+         * @param concurrencyLimiter limiter holding a slot for every attempt
+         * @return this builder
+         */
+        public Builder concurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+            this.concurrencyLimiter = concurrencyLimiter;
+            return this;
+        }
+
+        /**
+         * Sets the bulkheads and circuit breakers isolating Twilio domains from each other.
+         *
+         * @param domainIsolation bulkheads and circuit breakers per domain
+         * @return this builder
+         */
+        public Builder domainIsolation(DomainIsolation domainIsolation) {
+            this.domainIsolation = domainIsolation;
+            return this;
+        }
+
+        /**
+         * Sets the hedger racing slow GET attempts against a duplicate.
+         *
+         * <p>
+         *     Asynchronous GETs are always hedged. Blocking GETs are only hedged when the HTTP client is
+         *     non-blocking, like {@link Http2HttpClient} or {@link AsyncHttpClient}; over a blocking client such as
+         *     the default {@link NetworkHttpClient} they are made once, as if there were no hedger.
+         * </p>
+         *
+         * @param requestHedger hedger deciding when GETs are duplicated
+         * @return this builder
+         */
+        public Builder requestHedger(RequestHedger requestHedger) {
+            this.requestHedger = requestHedger;
+            return this;
+        }
+
+        /**
+         * Sets the listener timing every attempt and request made through this client.
+         *
+         * <p>
+         *     An HTTP client given to the builder is left untouched, so its own listener, if any, still gets its
+         *     connection lease waits; the HTTP client this one creates reports them to this listener.
+         * </p>
+         *
+         * @param requestListener listener to call
+         * @return this builder
+         */
+        public Builder requestListener(RequestListener requestListener) {
+            this.requestListener = requestListener;
+            return this;
+        }
+
+        /**
+         * Sets the cache answering repeated GETs, invalidated by writes made through this client.
+         *
+         * @param responseCache cache of GET responses
+         * @return this builder
+         */
+        public Builder responseCache(ResponseCache responseCache) {
+            this.responseCache = responseCache;
+            return this;
+        }
+
+        /**
+         * Sets the coalescer collapsing concurrent identical GETs into a single request.
+         *
+         * @param requestCoalescer coalescer of GETs in flight
+         * @return this builder
+         */
+        public Builder requestCoalescer(RequestCoalescer requestCoalescer) {
+            this.requestCoalescer = requestCoalescer;
+            return this;
+        }
+
+        /**
+         * Sets whether listed records are decoded on first access rather than when their page arrives.
+         *
+         * @param lazyRecords true to decode each record on first access, unless the reader says otherwise
+         * @return this builder
+         */
+        public Builder lazyRecords(boolean lazyRecords) {
+            this.lazyRecords = lazyRecords;
+            return this;
+        }
+
         public TwilioRestClient build() {
             return new TwilioRestClient(this);
         }
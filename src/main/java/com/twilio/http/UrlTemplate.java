@@ -0,0 +1,219 @@
+package com.twilio.http;
+
+import com.twilio.exception.InvalidRequestException;
+import com.twilio.rest.Domains;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Precompiled URL of an endpoint, like {@code /2010-04-01/Accounts/{AccountSid}/Calls/{Sid}.json}.
+ *
+ * <p>
+ *     The path is split once into literal segments and holes. Expanding it appends the cached base URL of the
+ *     domain and region, the literals and the hole values into a single presized buffer, escaping a value only
+ *     if it holds characters that aren't allowed in a path. The result is ready to send as is.
+ * </p>
+ */
+public class UrlTemplate {
+
+    private static final ConcurrentMap<String, String> BASE_URLS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, ConcurrentMap<String, String>> REGIONAL_BASE_URLS =
+        new ConcurrentHashMap<>();
+    private static final int HOLE_SIZE = 34;
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final String domain;
+    private final String path;
+    private final String[] literals;
+    private final String[] holes;
+    private final int size;
+
+    private UrlTemplate(final String domain, final String path, final List<String> literals,
+                        final List<String> holes) {
+        this.domain = domain;
+        this.path = path;
+        this.literals = literals.toArray(new String[literals.size()]);
+        this.holes = holes.toArray(new String[holes.size()]);
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.size = length + holes.size() * HOLE_SIZE;
+    }
+
+    /**
+     * Compile the URL of an endpoint.
+     *
+     * @param domain Twilio domain of the endpoint
+     * @param path path of the endpoint, with holes like {@code {Sid}}
+     * @return compiled template
+     */
+    public static UrlTemplate compile(final Domains domain, final String path) {
+        return compile(domain.toString(), path);
+    }
+
+    /**
+     * Compile the URL of an endpoint.
+     *
+     * @param domain Twilio domain of the endpoint
+     * @param path path of the endpoint, with holes like {@code {Sid}}
+     * @return compiled template
+     */
+    public static UrlTemplate compile(final String domain, final String path) {
+        List<String> literals = new ArrayList<>();
+        List<String> holes = new ArrayList<>();
+
+        int start = 0;
+        while (true) {
+            int open = path.indexOf('{', start);
+            if (open < 0) {
+                literals.add(path.substring(start));
+                break;
+            }
+
+            int close = path.indexOf('}', open);
+            if (close < 0) {
+                throw new InvalidRequestException("Unclosed hole in URL template", path);
+            }
+            literals.add(path.substring(start, open));
+            holes.add(path.substring(open + 1, close));
+            start = close + 1;
+        }
+
+        return new UrlTemplate(domain, path, literals, holes);
+    }
+
+    /**
+     * Get the base URL of a domain, like {@code https://api.twilio.com}.
+     *
+     * @param domain Twilio domain
+     * @param region region to make requests to, null for the default region
+     * @return base URL, without a trailing slash
+     */
+    public static String baseUrl(final String domain, final String region) {
+        if (domain == null) {
+            return region == null ? "https://twilio.com" : "https://" + region + ".twilio.com";
+        }
+
+        ConcurrentMap<String, String> baseUrls = BASE_URLS;
+        if (region != null) {
+            baseUrls = REGIONAL_BASE_URLS.get(domain);
+            if (baseUrls == null) {
+                ConcurrentMap<String, String> created = new ConcurrentHashMap<>();
+                baseUrls = REGIONAL_BASE_URLS.putIfAbsent(domain, created);
+                if (baseUrls == null) {
+                    baseUrls = created;
+                }
+            }
+        }
+
+        String key = region == null ? domain : region;
+        String baseUrl = baseUrls.get(key);
+        if (baseUrl == null) {
+            baseUrl = region == null ? "https://" + domain + ".twilio.com" :
+                "https://" + domain + "." + region + ".twilio.com";
+            baseUrls.putIfAbsent(key, baseUrl);
+        }
+        return baseUrl;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Get the names of the holes, in order.
+     *
+     * @return hole names
+     */
+    public String[] getHoles() {
+        return holes.clone();
+    }
+
+    /**
+     * Fill the holes to build the URL of a request.
+     *
+     * @param region region to make the request to, null for the default region
+     * @param values values of the holes, in order
+     * @return URL of the request
+     */
+    public String expand(final String region, final Object... values) {
+        if (values.length != holes.length) {
+            throw new InvalidRequestException(
+                "Expected " + holes.length + " values for " + path + ", got " + values.length, path
+            );
+        }
+
+        String baseUrl = baseUrl(domain, region);
+        StringBuilder sb = new StringBuilder(baseUrl.length() + size);
+        sb.append(baseUrl).append(literals[0]);
+        for (int i = 0; i < holes.length; i++) {
+            if (values[i] == null) {
+                throw new InvalidRequestException("Missing value for " + holes[i] + " in " + path, holes[i]);
+            }
+            appendSegment(sb, values[i].toString());
+            sb.append(literals[i + 1]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Fill the holes to build a request.
+     *
+     * @param method HTTP method
+     * @param region region to make the request to, null for the default region
+     * @param values values of the holes, in order
+     * @return request to the endpoint
+     */
+    public Request request(final HttpMethod method, final String region, final Object... values) {
+        Request request = new Request(method, expand(region, values));
+        request.setTemplate(this);
+        return request;
+    }
+
+    static void appendSegment(final StringBuilder sb, final String value) {
+        int length = value.length();
+        int clean = 0;
+        while (clean < length && isSegmentChar(value.charAt(clean))) {
+            clean++;
+        }
+
+        if (clean == length) {
+            sb.append(value);
+            return;
+        }
+
+        sb.append(value, 0, clean);
+        for (byte octet : value.substring(clean).getBytes(StandardCharsets.UTF_8)) {
+            char ch = (char) (octet & 0xFF);
+            if (ch < 0x80 && isSegmentChar(ch)) {
+                sb.append(ch);
+            } else {
+                sb.append('%').append(HEX[ch >> 4]).append(HEX[ch & 0xF]);
+            }
+        }
+    }
+
+    /**
+     * Check whether a character can appear in a path segment unescaped, per RFC 3986.
+     */
+    private static boolean isSegmentChar(final char ch) {
+        if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9')) {
+            return true;
+        }
+
+        switch (ch) {
+            case '-': case '.': case '_': case '~':
+            case '!': case '$': case '&': case '\'': case '(': case ')':
+            case '*': case '+': case ',': case ';': case '=': case ':': case '@':
+                return true;
+            default:
+                return false;
+        }
+    }
+}
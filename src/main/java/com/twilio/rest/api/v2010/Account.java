@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -35,11 +36,36 @@ import java.util.Objects;
 public class Account extends Resource {
     private static final long serialVersionUID = 68381032403131L;
 
+    public enum Field implements Resource.Field {
+        AUTH_TOKEN("auth_token"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        FRIENDLY_NAME("friendly_name"),
+        OWNER_ACCOUNT_SID("owner_account_sid"),
+        SID("sid"),
+        STATUS("status"),
+        SUBRESOURCE_URIS("subresource_uris"),
+        TYPE("type"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum Status {
         ACTIVE("active"),
         SUSPENDED("suspended"),
         CLOSED("closed");
     
+        private static final EnumLookup<Status> LOOKUP = EnumLookup.of(Status.class);
+        
         private final String value;
         
         private Status(final String value) {
@@ -57,14 +83,7 @@ public class Account extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Status.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -72,6 +91,8 @@ public class Account extends Resource {
         TRIAL("Trial"),
         FULL("Full");
     
+        private static final EnumLookup<Type> LOOKUP = EnumLookup.of(Type.class);
+        
         private final String value;
         
         private Type(final String value) {
@@ -89,14 +110,7 @@ public class Account extends Resource {
          */
         @JsonCreator
         public static Type forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Type.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
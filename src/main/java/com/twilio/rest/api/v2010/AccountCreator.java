@@ -15,9 +15,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class AccountCreator extends Creator<Account> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts.json"
+    );
+
     private String friendlyName;
 
     /**
@@ -33,24 +39,30 @@ public class AccountCreator extends Creator<Account> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the create.
+     * Build the request to the Twilio API to perform the create.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Created Account
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Account create(final TwilioRestClient client) {
-        Request request = new Request(
-            HttpMethod.POST,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts.json",
-            client.getRegion()
-        );
+    protected Request buildRequest(final TwilioRestClient client) {
+        Request request = URL.request(HttpMethod.POST, client.getRegion());
         
         addPostParams(request);
-        Response response = client.request(request);
-        
+        return request;
+    }
+
+    /**
+     * Convert the response of the Twilio API to the result of the create.
+     * 
+     * @param response Response of the request
+     * @param client TwilioRestClient with which the request was made
+     * @return Created Account
+     */
+    @Override
+    @SuppressWarnings("checkstyle:linelength")
+    protected Account parseResponse(final Response response, final TwilioRestClient client) {
         if (response == null) {
             throw new ApiConnectionException("Account creation failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
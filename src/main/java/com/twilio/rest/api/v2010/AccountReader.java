@@ -17,9 +17,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class AccountReader extends Reader<Account> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts.json"
+    );
+
     private String friendlyName;
     private Account.Status status;
 
@@ -58,35 +64,30 @@ public class AccountReader extends Reader<Account> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Account ResourceSet
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Account> firstPage(final TwilioRestClient client) {
-        Request request = new Request(
-            HttpMethod.GET,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts.json",
-            client.getRegion()
-        );
+    protected Request buildFirstPageRequest(final TwilioRestClient client) {
+        Request request = URL.request(HttpMethod.GET, client.getRegion());
         
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
-     * Retrieve the next page from the Twilio API.
+     * Build the request to the Twilio API for the next page of the read.
      * 
      * @param page current page
      * @param client TwilioRestClient with which to make the request
-     * @return Next Page
+     * @return Request to make
      */
     @Override
-    public Page<Account> nextPage(final Page<Account> page, 
-                                  final TwilioRestClient client) {
+    protected Request buildNextPageRequest(final Page<Account> page, 
+                                           final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             page.getNextPageUrl(
@@ -94,19 +95,22 @@ public class AccountReader extends Reader<Account> {
                 client.getRegion()
             )
         );
-        return pageForRequest(client, request);
+        request.setTemplate(URL);
+        return request;
     }
 
     /**
-     * Generate a Page of Account Resources for a given request.
+     * Generate a Page of Account Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param response Response to generate a page for
+     * @param client TwilioRestClient with which the request was made
+     * @param streaming whether records are decoded one at a time from the response
+     * @return Page for the Response
      */
-    private Page<Account> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-        
+    @Override
+    protected Page<Account> parsePage(final Response response, 
+                                      final TwilioRestClient client, 
+                                      final boolean streaming) {
         if (response == null) {
             throw new ApiConnectionException("Account read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -124,11 +128,12 @@ public class AccountReader extends Reader<Account> {
             );
         }
         
-        return Page.fromJson(
+        return pageForResponse(
             "accounts",
-            response.getContent(),
+            response,
             Account.class,
-            client.getObjectMapper()
+            client,
+            streaming
         );
     }
 
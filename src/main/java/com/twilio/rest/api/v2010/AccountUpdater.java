@@ -15,9 +15,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class AccountUpdater extends Updater<Account> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{Sid}.json"
+    );
+
     private String sid;
     private String friendlyName;
     private Account.Status status;
@@ -60,25 +66,31 @@ public class AccountUpdater extends Updater<Account> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the update.
+     * Build the request to the Twilio API to perform the update.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Updated Account
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Account update(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.sid = this.sid == null ? client.getAccountSid() : this.sid;
-        Request request = new Request(
-            HttpMethod.POST,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts/" + this.sid + ".json",
-            client.getRegion()
-        );
+        Request request = URL.request(HttpMethod.POST, client.getRegion(), this.sid);
         
         addPostParams(request);
-        Response response = client.request(request);
-        
+        return request;
+    }
+
+    /**
+     * Convert the response of the Twilio API to the result of the update.
+     * 
+     * @param response Response of the request
+     * @param client TwilioRestClient with which the request was made
+     * @return Updated Account
+     */
+    @Override
+    @SuppressWarnings("checkstyle:linelength")
+    protected Account parseResponse(final Response response, final TwilioRestClient client) {
         if (response == null) {
             throw new ApiConnectionException("Account update failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -35,6 +35,31 @@ import java.util.Objects;
 public class Address extends Resource {
     private static final long serialVersionUID = 241863313934407L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        CITY("city"),
+        CUSTOMER_NAME("customer_name"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        FRIENDLY_NAME("friendly_name"),
+        ISO_COUNTRY("iso_country"),
+        POSTAL_CODE("postal_code"),
+        REGION("region"),
+        SID("sid"),
+        STREET("street"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a AddressCreator to execute create.
      * 
@@ -15,9 +15,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class AddressCreator extends Creator<Address> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{AccountSid}/Addresses.json"
+    );
+
     private String accountSid;
     private final String customerName;
     private final String street;
@@ -90,25 +96,31 @@ public class AddressCreator extends Creator<Address> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the create.
+     * Build the request to the Twilio API to perform the create.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Created Address
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Address create(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.accountSid = this.accountSid == null ? client.getAccountSid() : this.accountSid;
-        Request request = new Request(
-            HttpMethod.POST,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts/" + this.accountSid + "/Addresses.json",
-            client.getRegion()
-        );
+        Request request = URL.request(HttpMethod.POST, client.getRegion(), this.accountSid);
         
         addPostParams(request);
-        Response response = client.request(request);
-        
+        return request;
+    }
+
+    /**
+     * Convert the response of the Twilio API to the result of the create.
+     * 
+     * @param response Response of the request
+     * @param client TwilioRestClient with which the request was made
+     * @return Created Address
+     */
+    @Override
+    @SuppressWarnings("checkstyle:linelength")
+    protected Address parseResponse(final Response response, final TwilioRestClient client) {
         if (response == null) {
             throw new ApiConnectionException("Address creation failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -15,9 +15,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class AddressUpdater extends Updater<Address> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{AccountSid}/Addresses/{Sid}.json"
+    );
+
     private String accountSid;
     private final String sid;
     private String friendlyName;
@@ -115,25 +121,31 @@ public class AddressUpdater extends Updater<Address> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the update.
+     * Build the request to the Twilio API to perform the update.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Updated Address
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Address update(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.accountSid = this.accountSid == null ? client.getAccountSid() : this.accountSid;
-        Request request = new Request(
-            HttpMethod.POST,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts/" + this.accountSid + "/Addresses/" + this.sid + ".json",
-            client.getRegion()
-        );
+        Request request = URL.request(HttpMethod.POST, client.getRegion(), this.accountSid, this.sid);
         
         addPostParams(request);
-        Response response = client.request(request);
-        
+        return request;
+    }
+
+    /**
+     * Convert the response of the Twilio API to the result of the update.
+     * 
+     * @param response Response of the request
+     * @param client TwilioRestClient with which the request was made
+     * @return Updated Address
+     */
+    @Override
+    @SuppressWarnings("checkstyle:linelength")
+    protected Address parseResponse(final Response response, final TwilioRestClient client) {
         if (response == null) {
             throw new ApiConnectionException("Address update failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -36,6 +36,39 @@ import java.util.Objects;
 public class Application extends Resource {
     private static final long serialVersionUID = 30273898590025L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        API_VERSION("api_version"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        FRIENDLY_NAME("friendly_name"),
+        MESSAGE_STATUS_CALLBACK("message_status_callback"),
+        SID("sid"),
+        SMS_FALLBACK_METHOD("sms_fallback_method"),
+        SMS_FALLBACK_URL("sms_fallback_url"),
+        SMS_METHOD("sms_method"),
+        SMS_STATUS_CALLBACK("sms_status_callback"),
+        SMS_URL("sms_url"),
+        STATUS_CALLBACK("status_callback"),
+        STATUS_CALLBACK_METHOD("status_callback_method"),
+        URI("uri"),
+        VOICE_CALLER_ID_LOOKUP("voice_caller_id_lookup"),
+        VOICE_FALLBACK_METHOD("voice_fallback_method"),
+        VOICE_FALLBACK_URL("voice_fallback_url"),
+        VOICE_METHOD("voice_method"),
+        VOICE_URL("voice_url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a ApplicationCreator to execute create.
      * 
@@ -15,9 +15,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class ApplicationDeleter extends Deleter<Application> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{AccountSid}/Applications/{Sid}.json"
+    );
+
     private String accountSid;
     private final String sid;
 
@@ -43,23 +49,28 @@ public class ApplicationDeleter extends Deleter<Application> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the delete.
+     * Build the request to the Twilio API to perform the delete.
      * 
      * @param client TwilioRestClient with which to make the request
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public boolean delete(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.accountSid = this.accountSid == null ? client.getAccountSid() : this.accountSid;
-        Request request = new Request(
-            HttpMethod.DELETE,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts/" + this.accountSid + "/Applications/" + this.sid + ".json",
-            client.getRegion()
-        );
-        
-        Response response = client.request(request);
-        
+        Request request = URL.request(HttpMethod.DELETE, client.getRegion(), this.accountSid, this.sid);
+        return request;
+    }
+
+    /**
+     * Convert the response of the Twilio API to the result of the delete.
+     * 
+     * @param response Response of the request
+     * @param client TwilioRestClient with which the request was made
+     */
+    @Override
+    @SuppressWarnings("checkstyle:linelength")
+    protected boolean parseResponse(final Response response, final TwilioRestClient client) {
         if (response == null) {
             throw new ApiConnectionException("Application delete failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -37,10 +38,35 @@ import java.util.Objects;
 public class AuthorizedConnectApp extends Resource {
     private static final long serialVersionUID = 77011834457452L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        CONNECT_APP_COMPANY_NAME("connect_app_company_name"),
+        CONNECT_APP_DESCRIPTION("connect_app_description"),
+        CONNECT_APP_FRIENDLY_NAME("connect_app_friendly_name"),
+        CONNECT_APP_HOMEPAGE_URL("connect_app_homepage_url"),
+        CONNECT_APP_SID("connect_app_sid"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        PERMISSIONS("permissions"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum Permission {
         GET_ALL("get-all"),
         POST_ALL("post-all");
     
+        private static final EnumLookup<Permission> LOOKUP = EnumLookup.of(Permission.class);
+        
         private final String value;
         
         private Permission(final String value) {
@@ -58,14 +84,7 @@ public class AuthorizedConnectApp extends Resource {
          */
         @JsonCreator
         public static Permission forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Permission.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -15,9 +15,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class AuthorizedConnectAppFetcher extends Fetcher<AuthorizedConnectApp> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{AccountSid}/AuthorizedConnectApps/{ConnectAppSid}.json"
+    );
+
     private String accountSid;
     private final String connectAppSid;
 
@@ -43,24 +49,29 @@ public class AuthorizedConnectAppFetcher extends Fetcher<AuthorizedConnectApp> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the fetch.
+     * Build the request to the Twilio API to perform the fetch.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Fetched AuthorizedConnectApp
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public AuthorizedConnectApp fetch(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.accountSid = this.accountSid == null ? client.getAccountSid() : this.accountSid;
-        Request request = new Request(
-            HttpMethod.GET,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts/" + this.accountSid + "/AuthorizedConnectApps/" + this.connectAppSid + ".json",
-            client.getRegion()
-        );
-        
-        Response response = client.request(request);
-        
+        Request request = URL.request(HttpMethod.GET, client.getRegion(), this.accountSid, this.connectAppSid);
+        return request;
+    }
+
+    /**
+     * Convert the response of the Twilio API to the result of the fetch.
+     * 
+     * @param response Response of the request
+     * @param client TwilioRestClient with which the request was made
+     * @return Fetched AuthorizedConnectApp
+     */
+    @Override
+    @SuppressWarnings("checkstyle:linelength")
+    protected AuthorizedConnectApp parseResponse(final Response response, final TwilioRestClient client) {
         if (response == null) {
             throw new ApiConnectionException("AuthorizedConnectApp fetch failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -17,9 +17,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class AuthorizedConnectAppReader extends Reader<AuthorizedConnectApp> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{AccountSid}/AuthorizedConnectApps.json"
+    );
+
     private String accountSid;
 
     /**
@@ -49,36 +55,31 @@ public class AuthorizedConnectAppReader extends Reader<AuthorizedConnectApp> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return AuthorizedConnectApp ResourceSet
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<AuthorizedConnectApp> firstPage(final TwilioRestClient client) {
+    protected Request buildFirstPageRequest(final TwilioRestClient client) {
         this.accountSid = this.accountSid == null ? client.getAccountSid() : this.accountSid;
-        Request request = new Request(
-            HttpMethod.GET,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts/" + this.accountSid + "/AuthorizedConnectApps.json",
-            client.getRegion()
-        );
+        Request request = URL.request(HttpMethod.GET, client.getRegion(), this.accountSid);
         
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
-     * Retrieve the next page from the Twilio API.
+     * Build the request to the Twilio API for the next page of the read.
      * 
      * @param page current page
      * @param client TwilioRestClient with which to make the request
-     * @return Next Page
+     * @return Request to make
      */
     @Override
-    public Page<AuthorizedConnectApp> nextPage(final Page<AuthorizedConnectApp> page, 
-                                               final TwilioRestClient client) {
+    protected Request buildNextPageRequest(final Page<AuthorizedConnectApp> page, 
+                                           final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             page.getNextPageUrl(
@@ -86,19 +87,22 @@ public class AuthorizedConnectAppReader extends Reader<AuthorizedConnectApp> {
                 client.getRegion()
             )
         );
-        return pageForRequest(client, request);
+        request.setTemplate(URL);
+        return request;
     }
 
     /**
-     * Generate a Page of AuthorizedConnectApp Resources for a given request.
+     * Generate a Page of AuthorizedConnectApp Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param response Response to generate a page for
+     * @param client TwilioRestClient with which the request was made
+     * @param streaming whether records are decoded one at a time from the response
+     * @return Page for the Response
      */
-    private Page<AuthorizedConnectApp> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-        
+    @Override
+    protected Page<AuthorizedConnectApp> parsePage(final Response response, 
+                                                   final TwilioRestClient client, 
+                                                   final boolean streaming) {
         if (response == null) {
             throw new ApiConnectionException("AuthorizedConnectApp read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -116,11 +120,12 @@ public class AuthorizedConnectAppReader extends Reader<AuthorizedConnectApp> {
             );
         }
         
-        return Page.fromJson(
+        return pageForResponse(
             "authorized_connect_apps",
-            response.getContent(),
+            response,
             AuthorizedConnectApp.class,
-            client.getObjectMapper()
+            client,
+            streaming
         );
     }
 
@@ -34,6 +34,24 @@ import java.util.Objects;
 public class AvailablePhoneNumberCountry extends Resource {
     private static final long serialVersionUID = 118317602820324L;
 
+    public enum Field implements Resource.Field {
+        COUNTRY_CODE("country_code"),
+        COUNTRY("country"),
+        URI("uri"),
+        BETA("beta"),
+        SUBRESOURCE_URIS("subresource_uris");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a AvailablePhoneNumberCountryReader to execute read.
      * 
@@ -11,12 +11,16 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
+import com.twilio.converter.ResourceDeserializer;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -35,17 +39,58 @@ import java.net.URI;
 import java.util.Currency;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class Call extends Resource {
     private static final long serialVersionUID = 224465341716803L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        ANNOTATION("annotation"),
+        ANSWERED_BY("answered_by"),
+        API_VERSION("api_version"),
+        CALLER_NAME("caller_name"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        DIRECTION("direction"),
+        DURATION("duration"),
+        END_TIME("end_time"),
+        FORWARDED_FROM("forwarded_from"),
+        FROM("from"),
+        FROM_FORMATTED("from_formatted"),
+        GROUP_SID("group_sid"),
+        PARENT_CALL_SID("parent_call_sid"),
+        PHONE_NUMBER_SID("phone_number_sid"),
+        PRICE("price"),
+        PRICE_UNIT("price_unit"),
+        SID("sid"),
+        START_TIME("start_time"),
+        STATUS("status"),
+        SUBRESOURCE_URIS("subresource_uris"),
+        TO("to"),
+        TO_FORMATTED("to_formatted"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum Event {
         INITIATED("initiated"),
         RINGING("ringing"),
         ANSWERED("answered"),
         COMPLETED("completed");
     
+        private static final EnumLookup<Event> LOOKUP = EnumLookup.of(Event.class);
+        
         private final String value;
         
         private Event(final String value) {
@@ -63,14 +108,7 @@ public class Call extends Resource {
          */
         @JsonCreator
         public static Event forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Event.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -84,6 +122,8 @@ public class Call extends Resource {
         NO_ANSWER("no-answer"),
         CANCELED("canceled");
     
+        private static final EnumLookup<Status> LOOKUP = EnumLookup.of(Status.class);
+        
         private final String value;
         
         private Status(final String value) {
@@ -101,14 +141,7 @@ public class Call extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Status.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -116,6 +149,8 @@ public class Call extends Resource {
         CANCELED("canceled"),
         COMPLETED("completed");
     
+        private static final EnumLookup<UpdateStatus> LOOKUP = EnumLookup.of(UpdateStatus.class);
+        
         private final String value;
         
         private UpdateStatus(final String value) {
@@ -133,14 +168,7 @@ public class Call extends Resource {
          */
         @JsonCreator
         public static UpdateStatus forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return UpdateStatus.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -799,4 +827,155 @@ public class Call extends Resource {
                           .add("uri", uri)
                           .toString();
     }
+
+    /**
+     * Decodes a Call by switching on its property names as they are read.
+     */
+    public static class Deserializer extends ResourceDeserializer<Call> {
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(Call.class);
+        }
+
+        @Override
+        public Call deserialize(final JsonParser parser, 
+                                final DeserializationContext ctxt) throws IOException {
+            Set<?> selected = begin(parser, ctxt);
+            String accountSid = null;
+            String annotation = null;
+            String answeredBy = null;
+            String apiVersion = null;
+            String callerName = null;
+            String dateCreated = null;
+            String dateUpdated = null;
+            String direction = null;
+            String duration = null;
+            String endTime = null;
+            String forwardedFrom = null;
+            String from = null;
+            String fromFormatted = null;
+            String groupSid = null;
+            String parentCallSid = null;
+            String phoneNumberSid = null;
+            BigDecimal price = null;
+            Currency priceUnit = null;
+            String sid = null;
+            String startTime = null;
+            Call.Status status = null;
+            Map<String, String> subresourceUris = null;
+            String to = null;
+            String toFormatted = null;
+            String uri = null;
+
+            for (String field = nextField(parser, selected); field != null; field = nextField(parser, selected)) {
+                switch (field) {
+                    case "account_sid":
+                        accountSid = text(parser, ctxt);
+                        break;
+                    case "annotation":
+                        annotation = text(parser, ctxt);
+                        break;
+                    case "answered_by":
+                        answeredBy = text(parser, ctxt);
+                        break;
+                    case "api_version":
+                        apiVersion = text(parser, ctxt);
+                        break;
+                    case "caller_name":
+                        callerName = text(parser, ctxt);
+                        break;
+                    case "date_created":
+                        dateCreated = text(parser, ctxt);
+                        break;
+                    case "date_updated":
+                        dateUpdated = text(parser, ctxt);
+                        break;
+                    case "direction":
+                        direction = text(parser, ctxt);
+                        break;
+                    case "duration":
+                        duration = text(parser, ctxt);
+                        break;
+                    case "end_time":
+                        endTime = text(parser, ctxt);
+                        break;
+                    case "forwarded_from":
+                        forwardedFrom = text(parser, ctxt);
+                        break;
+                    case "from":
+                        from = text(parser, ctxt);
+                        break;
+                    case "from_formatted":
+                        fromFormatted = text(parser, ctxt);
+                        break;
+                    case "group_sid":
+                        groupSid = text(parser, ctxt);
+                        break;
+                    case "parent_call_sid":
+                        parentCallSid = text(parser, ctxt);
+                        break;
+                    case "phone_number_sid":
+                        phoneNumberSid = text(parser, ctxt);
+                        break;
+                    case "price":
+                        price = decimal(parser, ctxt);
+                        break;
+                    case "price_unit":
+                        priceUnit = currency(parser, ctxt);
+                        break;
+                    case "sid":
+                        sid = text(parser, ctxt);
+                        break;
+                    case "start_time":
+                        startTime = text(parser, ctxt);
+                        break;
+                    case "status":
+                        status = Call.Status.forValue(text(parser, ctxt));
+                        break;
+                    case "subresource_uris":
+                        subresourceUris = stringMap(parser, ctxt);
+                        break;
+                    case "to":
+                        to = text(parser, ctxt);
+                        break;
+                    case "to_formatted":
+                        toFormatted = text(parser, ctxt);
+                        break;
+                    case "uri":
+                        uri = text(parser, ctxt);
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+
+            return new Call(accountSid,
+                            annotation,
+                            answeredBy,
+                            apiVersion,
+                            callerName,
+                            dateCreated,
+                            dateUpdated,
+                            direction,
+                            duration,
+                            endTime,
+                            forwardedFrom,
+                            from,
+                            fromFormatted,
+                            groupSid,
+                            parentCallSid,
+                            phoneNumberSid,
+                            price,
+                            priceUnit,
+                            sid,
+                            startTime,
+                            status,
+                            subresourceUris,
+                            to,
+                            toFormatted,
+                            uri);
+        }
+    }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 import com.twilio.type.Endpoint;
 
@@ -23,6 +24,11 @@ import java.net.URI;
 import java.util.List;
 
 public class CallCreator extends Creator<Call> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{AccountSid}/Calls.json"
+    );
+
     private String accountSid;
     private final com.twilio.type.Endpoint to;
     private final com.twilio.type.PhoneNumber from;
@@ -54,6 +60,7 @@ public class CallCreator extends Creator<Call> {
     public CallCreator(final com.twilio.type.Endpoint to, 
                        final com.twilio.type.PhoneNumber from, 
                        final URI url) {
+        idempotent(false);
         this.to = to;
         this.from = from;
         this.url = url;
@@ -71,6 +78,7 @@ public class CallCreator extends Creator<Call> {
                        final com.twilio.type.Endpoint to, 
                        final com.twilio.type.PhoneNumber from, 
                        final URI url) {
+        idempotent(false);
         this.accountSid = accountSid;
         this.to = to;
         this.from = from;
@@ -88,6 +96,7 @@ public class CallCreator extends Creator<Call> {
     public CallCreator(final com.twilio.type.Endpoint to, 
                        final com.twilio.type.PhoneNumber from, 
                        final String applicationSid) {
+        idempotent(false);
         this.to = to;
         this.from = from;
         this.applicationSid = applicationSid;
@@ -106,6 +115,7 @@ public class CallCreator extends Creator<Call> {
                        final com.twilio.type.Endpoint to, 
                        final com.twilio.type.PhoneNumber from, 
                        final String applicationSid) {
+        idempotent(false);
         this.accountSid = accountSid;
         this.to = to;
         this.from = from;
@@ -365,25 +375,31 @@ public class CallCreator extends Creator<Call> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the create.
+     * Build the request to the Twilio API to perform the create.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Created Call
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Call create(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.accountSid = this.accountSid == null ? client.getAccountSid() : this.accountSid;
-        Request request = new Request(
-            HttpMethod.POST,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts/" + this.accountSid + "/Calls.json",
-            client.getRegion()
-        );
+        Request request = URL.request(HttpMethod.POST, client.getRegion(), this.accountSid);
         
         addPostParams(request);
-        Response response = client.request(request);
-        
+        return request;
+    }
+
+    /**
+     * Convert the response of the Twilio API to the result of the create.
+     * 
+     * @param response Response of the request
+     * @param client TwilioRestClient with which the request was made
+     * @return Created Call
+     */
+    @Override
+    @SuppressWarnings("checkstyle:linelength")
+    protected Call parseResponse(final Response response, final TwilioRestClient client) {
         if (response == null) {
             throw new ApiConnectionException("Call creation failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
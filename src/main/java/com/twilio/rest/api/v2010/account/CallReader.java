@@ -19,10 +19,16 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 import org.joda.time.DateTime;
 
 public class CallReader extends Reader<Call> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{AccountSid}/Calls.json"
+    );
+
     private String accountSid;
     private com.twilio.type.PhoneNumber to;
     private com.twilio.type.PhoneNumber from;
@@ -152,36 +158,31 @@ public class CallReader extends Reader<Call> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Call ResourceSet
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Call> firstPage(final TwilioRestClient client) {
+    protected Request buildFirstPageRequest(final TwilioRestClient client) {
         this.accountSid = this.accountSid == null ? client.getAccountSid() : this.accountSid;
-        Request request = new Request(
-            HttpMethod.GET,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts/" + this.accountSid + "/Calls.json",
-            client.getRegion()
-        );
+        Request request = URL.request(HttpMethod.GET, client.getRegion(), this.accountSid);
         
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
-     * Retrieve the next page from the Twilio API.
+     * Build the request to the Twilio API for the next page of the read.
      * 
      * @param page current page
      * @param client TwilioRestClient with which to make the request
-     * @return Next Page
+     * @return Request to make
      */
     @Override
-    public Page<Call> nextPage(final Page<Call> page, 
-                               final TwilioRestClient client) {
+    protected Request buildNextPageRequest(final Page<Call> page, 
+                                           final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             page.getNextPageUrl(
@@ -189,19 +190,22 @@ public class CallReader extends Reader<Call> {
                 client.getRegion()
             )
         );
-        return pageForRequest(client, request);
+        request.setTemplate(URL);
+        return request;
     }
 
     /**
-     * Generate a Page of Call Resources for a given request.
+     * Generate a Page of Call Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param response Response to generate a page for
+     * @param client TwilioRestClient with which the request was made
+     * @param streaming whether records are decoded one at a time from the response
+     * @return Page for the Response
      */
-    private Page<Call> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-        
+    @Override
+    protected Page<Call> parsePage(final Response response, 
+                                   final TwilioRestClient client, 
+                                   final boolean streaming) {
         if (response == null) {
             throw new ApiConnectionException("Call read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -219,11 +223,12 @@ public class CallReader extends Reader<Call> {
             );
         }
         
-        return Page.fromJson(
+        return pageForResponse(
             "calls",
-            response.getContent(),
+            response,
             Call.class,
-            client.getObjectMapper()
+            client,
+            streaming
         );
     }
 
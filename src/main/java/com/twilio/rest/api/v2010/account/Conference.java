@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -35,11 +36,35 @@ import java.util.Objects;
 public class Conference extends Resource {
     private static final long serialVersionUID = 26859400656542L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        API_VERSION("api_version"),
+        FRIENDLY_NAME("friendly_name"),
+        SID("sid"),
+        STATUS("status"),
+        URI("uri"),
+        SUBRESOURCE_URIS("subresource_uris");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum Status {
         INIT("init"),
         IN_PROGRESS("in-progress"),
         COMPLETED("completed");
     
+        private static final EnumLookup<Status> LOOKUP = EnumLookup.of(Status.class);
+        
         private final String value;
         
         private Status(final String value) {
@@ -57,14 +82,7 @@ public class Conference extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Status.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
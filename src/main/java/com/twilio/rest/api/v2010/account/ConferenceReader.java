@@ -19,10 +19,16 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 import org.joda.time.LocalDate;
 
 public class ConferenceReader extends Reader<Conference> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{AccountSid}/Conferences.json"
+    );
+
     private String accountSid;
     private LocalDate absoluteDateCreated;
     private Range<LocalDate> rangeDateCreated;
@@ -135,36 +141,31 @@ public class ConferenceReader extends Reader<Conference> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Conference ResourceSet
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Conference> firstPage(final TwilioRestClient client) {
+    protected Request buildFirstPageRequest(final TwilioRestClient client) {
         this.accountSid = this.accountSid == null ? client.getAccountSid() : this.accountSid;
-        Request request = new Request(
-            HttpMethod.GET,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts/" + this.accountSid + "/Conferences.json",
-            client.getRegion()
-        );
+        Request request = URL.request(HttpMethod.GET, client.getRegion(), this.accountSid);
         
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
-     * Retrieve the next page from the Twilio API.
+     * Build the request to the Twilio API for the next page of the read.
      * 
      * @param page current page
      * @param client TwilioRestClient with which to make the request
-     * @return Next Page
+     * @return Request to make
      */
     @Override
-    public Page<Conference> nextPage(final Page<Conference> page, 
-                                     final TwilioRestClient client) {
+    protected Request buildNextPageRequest(final Page<Conference> page, 
+                                           final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             page.getNextPageUrl(
@@ -172,19 +173,22 @@ public class ConferenceReader extends Reader<Conference> {
                 client.getRegion()
             )
         );
-        return pageForRequest(client, request);
+        request.setTemplate(URL);
+        return request;
     }
 
     /**
-     * Generate a Page of Conference Resources for a given request.
+     * Generate a Page of Conference Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param response Response to generate a page for
+     * @param client TwilioRestClient with which the request was made
+     * @param streaming whether records are decoded one at a time from the response
+     * @return Page for the Response
      */
-    private Page<Conference> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-        
+    @Override
+    protected Page<Conference> parsePage(final Response response, 
+                                         final TwilioRestClient client, 
+                                         final boolean streaming) {
         if (response == null) {
             throw new ApiConnectionException("Conference read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -202,11 +206,12 @@ public class ConferenceReader extends Reader<Conference> {
             );
         }
         
-        return Page.fromJson(
+        return pageForResponse(
             "conferences",
-            response.getContent(),
+            response,
             Conference.class,
-            client.getObjectMapper()
+            client,
+            streaming
         );
     }
 
@@ -15,6 +15,7 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
+import com.twilio.converter.EnumLookup;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -35,10 +36,36 @@ import java.util.Objects;
 public class ConnectApp extends Resource {
     private static final long serialVersionUID = 247633580579926L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        AUTHORIZE_REDIRECT_URL("authorize_redirect_url"),
+        COMPANY_NAME("company_name"),
+        DEAUTHORIZE_CALLBACK_METHOD("deauthorize_callback_method"),
+        DEAUTHORIZE_CALLBACK_URL("deauthorize_callback_url"),
+        DESCRIPTION("description"),
+        FRIENDLY_NAME("friendly_name"),
+        HOMEPAGE_URL("homepage_url"),
+        PERMISSIONS("permissions"),
+        SID("sid"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum Permission {
         GET_ALL("get-all"),
         POST_ALL("post-all");
     
+        private static final EnumLookup<Permission> LOOKUP = EnumLookup.of(Permission.class);
+        
         private final String value;
         
         private Permission(final String value) {
@@ -56,14 +83,7 @@ public class ConnectApp extends Resource {
          */
         @JsonCreator
         public static Permission forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Permission.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -17,9 +17,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class IncomingPhoneNumberReader extends Reader<IncomingPhoneNumber> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{OwnerAccountSid}/IncomingPhoneNumbers.json"
+    );
+
     private String ownerAccountSid;
     private Boolean beta;
     private String friendlyName;
@@ -86,36 +92,31 @@ public class IncomingPhoneNumberReader extends Reader<IncomingPhoneNumber> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return IncomingPhoneNumber ResourceSet
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<IncomingPhoneNumber> firstPage(final TwilioRestClient client) {
+    protected Request buildFirstPageRequest(final TwilioRestClient client) {
         this.ownerAccountSid = this.ownerAccountSid == null ? client.getAccountSid() : this.ownerAccountSid;
-        Request request = new Request(
-            HttpMethod.GET,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts/" + this.ownerAccountSid + "/IncomingPhoneNumbers.json",
-            client.getRegion()
-        );
+        Request request = URL.request(HttpMethod.GET, client.getRegion(), this.ownerAccountSid);
         
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
-     * Retrieve the next page from the Twilio API.
+     * Build the request to the Twilio API for the next page of the read.
      * 
      * @param page current page
      * @param client TwilioRestClient with which to make the request
-     * @return Next Page
+     * @return Request to make
      */
     @Override
-    public Page<IncomingPhoneNumber> nextPage(final Page<IncomingPhoneNumber> page, 
-                                              final TwilioRestClient client) {
+    protected Request buildNextPageRequest(final Page<IncomingPhoneNumber> page, 
+                                           final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             page.getNextPageUrl(
@@ -123,19 +124,22 @@ public class IncomingPhoneNumberReader extends Reader<IncomingPhoneNumber> {
                 client.getRegion()
             )
         );
-        return pageForRequest(client, request);
+        request.setTemplate(URL);
+        return request;
     }
 
     /**
-     * Generate a Page of IncomingPhoneNumber Resources for a given request.
+     * Generate a Page of IncomingPhoneNumber Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param response Response to generate a page for
+     * @param client TwilioRestClient with which the request was made
+     * @param streaming whether records are decoded one at a time from the response
+     * @return Page for the Response
      */
-    private Page<IncomingPhoneNumber> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-        
+    @Override
+    protected Page<IncomingPhoneNumber> parsePage(final Response response, 
+                                                  final TwilioRestClient client, 
+                                                  final boolean streaming) {
         if (response == null) {
             throw new ApiConnectionException("IncomingPhoneNumber read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -153,11 +157,12 @@ public class IncomingPhoneNumberReader extends Reader<IncomingPhoneNumber> {
             );
         }
         
-        return Page.fromJson(
+        return pageForResponse(
             "incoming_phone_numbers",
-            response.getContent(),
+            response,
             IncomingPhoneNumber.class,
-            client.getObjectMapper()
+            client,
+            streaming
         );
     }
 
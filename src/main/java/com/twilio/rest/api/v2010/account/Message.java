@@ -11,12 +11,16 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
+import com.twilio.converter.ResourceDeserializer;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -35,11 +39,45 @@ import java.util.Currency;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class Message extends Resource {
     private static final long serialVersionUID = 201754449447651L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        API_VERSION("api_version"),
+        BODY("body"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        DATE_SENT("date_sent"),
+        DIRECTION("direction"),
+        ERROR_CODE("error_code"),
+        ERROR_MESSAGE("error_message"),
+        FROM("from"),
+        MESSAGING_SERVICE_SID("messaging_service_sid"),
+        NUM_MEDIA("num_media"),
+        NUM_SEGMENTS("num_segments"),
+        PRICE("price"),
+        PRICE_UNIT("price_unit"),
+        SID("sid"),
+        STATUS("status"),
+        SUBRESOURCE_URIS("subresource_uris"),
+        TO("to"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum Status {
         QUEUED("queued"),
         SENDING("sending"),
@@ -50,6 +88,8 @@ public class Message extends Resource {
         RECEIVING("receiving"),
         RECEIVED("received");
     
+        private static final EnumLookup<Status> LOOKUP = EnumLookup.of(Status.class);
+        
         private final String value;
         
         private Status(final String value) {
@@ -67,14 +107,7 @@ public class Message extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Status.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -84,6 +117,8 @@ public class Message extends Resource {
         OUTBOUND_CALL("outbound-call"),
         OUTBOUND_REPLY("outbound-reply");
     
+        private static final EnumLookup<Direction> LOOKUP = EnumLookup.of(Direction.class);
+        
         private final String value;
         
         private Direction(final String value) {
@@ -101,14 +136,7 @@ public class Message extends Resource {
          */
         @JsonCreator
         public static Direction forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Direction.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -706,4 +734,130 @@ public class Message extends Resource {
                           .add("uri", uri)
                           .toString();
     }
+
+    /**
+     * Decodes a Message by switching on its property names as they are read.
+     */
+    public static class Deserializer extends ResourceDeserializer<Message> {
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(Message.class);
+        }
+
+        @Override
+        public Message deserialize(final JsonParser parser, 
+                                   final DeserializationContext ctxt) throws IOException {
+            Set<?> selected = begin(parser, ctxt);
+            String accountSid = null;
+            String apiVersion = null;
+            String body = null;
+            String dateCreated = null;
+            String dateUpdated = null;
+            String dateSent = null;
+            Message.Direction direction = null;
+            Integer errorCode = null;
+            String errorMessage = null;
+            com.twilio.type.PhoneNumber from = null;
+            String messagingServiceSid = null;
+            String numMedia = null;
+            String numSegments = null;
+            BigDecimal price = null;
+            Currency priceUnit = null;
+            String sid = null;
+            Message.Status status = null;
+            Map<String, String> subresourceUris = null;
+            String to = null;
+            String uri = null;
+
+            for (String field = nextField(parser, selected); field != null; field = nextField(parser, selected)) {
+                switch (field) {
+                    case "account_sid":
+                        accountSid = text(parser, ctxt);
+                        break;
+                    case "api_version":
+                        apiVersion = text(parser, ctxt);
+                        break;
+                    case "body":
+                        body = text(parser, ctxt);
+                        break;
+                    case "date_created":
+                        dateCreated = text(parser, ctxt);
+                        break;
+                    case "date_updated":
+                        dateUpdated = text(parser, ctxt);
+                        break;
+                    case "date_sent":
+                        dateSent = text(parser, ctxt);
+                        break;
+                    case "direction":
+                        direction = Message.Direction.forValue(text(parser, ctxt));
+                        break;
+                    case "error_code":
+                        errorCode = integer(parser, ctxt);
+                        break;
+                    case "error_message":
+                        errorMessage = text(parser, ctxt);
+                        break;
+                    case "from":
+                        from = phoneNumber(parser, ctxt);
+                        break;
+                    case "messaging_service_sid":
+                        messagingServiceSid = text(parser, ctxt);
+                        break;
+                    case "num_media":
+                        numMedia = text(parser, ctxt);
+                        break;
+                    case "num_segments":
+                        numSegments = text(parser, ctxt);
+                        break;
+                    case "price":
+                        price = decimal(parser, ctxt);
+                        break;
+                    case "price_unit":
+                        priceUnit = currency(parser, ctxt);
+                        break;
+                    case "sid":
+                        sid = text(parser, ctxt);
+                        break;
+                    case "status":
+                        status = Message.Status.forValue(text(parser, ctxt));
+                        break;
+                    case "subresource_uris":
+                        subresourceUris = stringMap(parser, ctxt);
+                        break;
+                    case "to":
+                        to = text(parser, ctxt);
+                        break;
+                    case "uri":
+                        uri = text(parser, ctxt);
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+
+            return new Message(accountSid,
+                               apiVersion,
+                               body,
+                               dateCreated,
+                               dateUpdated,
+                               dateSent,
+                               direction,
+                               errorCode,
+                               errorMessage,
+                               from,
+                               messagingServiceSid,
+                               numMedia,
+                               numSegments,
+                               price,
+                               priceUnit,
+                               sid,
+                               status,
+                               subresourceUris,
+                               to,
+                               uri);
+        }
+    }
 }
\ No newline at end of file
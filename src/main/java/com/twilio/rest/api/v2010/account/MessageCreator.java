@@ -16,6 +16,7 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 import java.math.BigDecimal;
@@ -23,6 +24,11 @@ import java.net.URI;
 import java.util.List;
 
 public class MessageCreator extends Creator<Message> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{AccountSid}/Messages.json"
+    );
+
     private String accountSid;
     private final com.twilio.type.PhoneNumber to;
     private com.twilio.type.PhoneNumber from;
@@ -44,6 +50,7 @@ public class MessageCreator extends Creator<Message> {
     public MessageCreator(final com.twilio.type.PhoneNumber to, 
                           final com.twilio.type.PhoneNumber from, 
                           final String body) {
+        idempotent(false);
         this.to = to;
         this.from = from;
         this.body = body;
@@ -61,6 +68,7 @@ public class MessageCreator extends Creator<Message> {
                           final com.twilio.type.PhoneNumber to, 
                           final com.twilio.type.PhoneNumber from, 
                           final String body) {
+        idempotent(false);
         this.accountSid = accountSid;
         this.to = to;
         this.from = from;
@@ -77,6 +85,7 @@ public class MessageCreator extends Creator<Message> {
     public MessageCreator(final com.twilio.type.PhoneNumber to, 
                           final com.twilio.type.PhoneNumber from, 
                           final List<URI> mediaUrl) {
+        idempotent(false);
         this.to = to;
         this.from = from;
         this.mediaUrl = mediaUrl;
@@ -94,6 +103,7 @@ public class MessageCreator extends Creator<Message> {
                           final com.twilio.type.PhoneNumber to, 
                           final com.twilio.type.PhoneNumber from, 
                           final List<URI> mediaUrl) {
+        idempotent(false);
         this.accountSid = accountSid;
         this.to = to;
         this.from = from;
@@ -110,6 +120,7 @@ public class MessageCreator extends Creator<Message> {
     public MessageCreator(final com.twilio.type.PhoneNumber to, 
                           final String messagingServiceSid, 
                           final String body) {
+        idempotent(false);
         this.to = to;
         this.messagingServiceSid = messagingServiceSid;
         this.body = body;
@@ -127,6 +138,7 @@ public class MessageCreator extends Creator<Message> {
                           final com.twilio.type.PhoneNumber to, 
                           final String messagingServiceSid, 
                           final String body) {
+        idempotent(false);
         this.accountSid = accountSid;
         this.to = to;
         this.messagingServiceSid = messagingServiceSid;
@@ -143,6 +155,7 @@ public class MessageCreator extends Creator<Message> {
     public MessageCreator(final com.twilio.type.PhoneNumber to, 
                           final String messagingServiceSid, 
                           final List<URI> mediaUrl) {
+        idempotent(false);
         this.to = to;
         this.messagingServiceSid = messagingServiceSid;
         this.mediaUrl = mediaUrl;
@@ -160,6 +173,7 @@ public class MessageCreator extends Creator<Message> {
                           final com.twilio.type.PhoneNumber to, 
                           final String messagingServiceSid, 
                           final List<URI> mediaUrl) {
+        idempotent(false);
         this.accountSid = accountSid;
         this.to = to;
         this.messagingServiceSid = messagingServiceSid;
@@ -287,25 +301,31 @@ public class MessageCreator extends Creator<Message> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the create.
+     * Build the request to the Twilio API to perform the create.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Created Message
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Message create(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.accountSid = this.accountSid == null ? client.getAccountSid() : this.accountSid;
-        Request request = new Request(
-            HttpMethod.POST,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts/" + this.accountSid + "/Messages.json",
-            client.getRegion()
-        );
+        Request request = URL.request(HttpMethod.POST, client.getRegion(), this.accountSid);
         
         addPostParams(request);
-        Response response = client.request(request);
-        
+        return request;
+    }
+
+    /**
+     * Convert the response of the Twilio API to the result of the create.
+     * 
+     * @param response Response of the request
+     * @param client TwilioRestClient with which the request was made
+     * @return Created Message
+     */
+    @Override
+    @SuppressWarnings("checkstyle:linelength")
+    protected Message parseResponse(final Response response, final TwilioRestClient client) {
         if (response == null) {
             throw new ApiConnectionException("Message creation failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -35,6 +35,24 @@ import java.util.Objects;
 public class NewSigningKey extends Resource {
     private static final long serialVersionUID = 61650791237409L;
 
+    public enum Field implements Resource.Field {
+        SID("sid"),
+        FRIENDLY_NAME("friendly_name"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        SECRET("secret");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a NewSigningKeyCreator to execute create.
      * 
@@ -36,6 +36,36 @@ import java.util.Objects;
 public class Notification extends Resource {
     private static final long serialVersionUID = 203437902819777L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        API_VERSION("api_version"),
+        CALL_SID("call_sid"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        ERROR_CODE("error_code"),
+        LOG("log"),
+        MESSAGE_DATE("message_date"),
+        MESSAGE_TEXT("message_text"),
+        MORE_INFO("more_info"),
+        REQUEST_METHOD("request_method"),
+        REQUEST_URL("request_url"),
+        REQUEST_VARIABLES("request_variables"),
+        RESPONSE_BODY("response_body"),
+        RESPONSE_HEADERS("response_headers"),
+        SID("sid"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a NotificationFetcher to execute fetch.
      * 
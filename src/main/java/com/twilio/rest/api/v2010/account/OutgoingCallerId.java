@@ -35,6 +35,26 @@ import java.util.Objects;
 public class OutgoingCallerId extends Resource {
     private static final long serialVersionUID = 160246512577628L;
 
+    public enum Field implements Resource.Field {
+        SID("sid"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        FRIENDLY_NAME("friendly_name"),
+        ACCOUNT_SID("account_sid"),
+        PHONE_NUMBER("phone_number"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a OutgoingCallerIdFetcher to execute fetch.
      * 
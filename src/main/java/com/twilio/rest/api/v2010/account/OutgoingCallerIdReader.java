@@ -17,9 +17,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class OutgoingCallerIdReader extends Reader<OutgoingCallerId> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{AccountSid}/OutgoingCallerIds.json"
+    );
+
     private String accountSid;
     private com.twilio.type.PhoneNumber phoneNumber;
     private String friendlyName;
@@ -73,35 +79,30 @@ public class OutgoingCallerIdReader extends Reader<OutgoingCallerId> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return OutgoingCallerId ResourceSet
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<OutgoingCallerId> firstPage(final TwilioRestClient client) {
+    protected Request buildFirstPageRequest(final TwilioRestClient client) {
         this.accountSid = this.accountSid == null ? client.getAccountSid() : this.accountSid;
-        Request request = new Request(
-            HttpMethod.GET,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts/" + this.accountSid + "/OutgoingCallerIds.json",
-            client.getRegion()
-        );
+        Request request = URL.request(HttpMethod.GET, client.getRegion(), this.accountSid);
         
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
-     * Retrieve the next page from the Twilio API.
+     * Build the request to the Twilio API for the next page of the read.
      * 
      * @param page current page
      * @param client TwilioRestClient with which to make the request
-     * @return Next Page
+     * @return Request to make
      */
     @Override
-    public Page<OutgoingCallerId> nextPage(final Page<OutgoingCallerId> page, 
+    protected Request buildNextPageRequest(final Page<OutgoingCallerId> page, 
                                            final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
@@ -110,19 +111,22 @@ public class OutgoingCallerIdReader extends Reader<OutgoingCallerId> {
                 client.getRegion()
             )
         );
-        return pageForRequest(client, request);
+        request.setTemplate(URL);
+        return request;
     }
 
     /**
-     * Generate a Page of OutgoingCallerId Resources for a given request.
+     * Generate a Page of OutgoingCallerId Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param response Response to generate a page for
+     * @param client TwilioRestClient with which the request was made
+     * @param streaming whether records are decoded one at a time from the response
+     * @return Page for the Response
      */
-    private Page<OutgoingCallerId> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-        
+    @Override
+    protected Page<OutgoingCallerId> parsePage(final Response response, 
+                                               final TwilioRestClient client, 
+                                               final boolean streaming) {
         if (response == null) {
             throw new ApiConnectionException("OutgoingCallerId read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -140,11 +144,12 @@ public class OutgoingCallerIdReader extends Reader<OutgoingCallerId> {
             );
         }
         
-        return Page.fromJson(
+        return pageForResponse(
             "outgoing_caller_ids",
-            response.getContent(),
+            response,
             OutgoingCallerId.class,
-            client.getObjectMapper()
+            client,
+            streaming
         );
     }
 
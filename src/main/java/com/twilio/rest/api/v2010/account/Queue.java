@@ -35,6 +35,28 @@ import java.util.Objects;
 public class Queue extends Resource {
     private static final long serialVersionUID = 51300543687284L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        AVERAGE_WAIT_TIME("average_wait_time"),
+        CURRENT_SIZE("current_size"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        FRIENDLY_NAME("friendly_name"),
+        MAX_SIZE("max_size"),
+        SID("sid"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a QueueFetcher to execute fetch.
      * 
@@ -11,11 +11,15 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
+import com.twilio.converter.ResourceDeserializer;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -30,11 +34,38 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class Recording extends Resource {
     private static final long serialVersionUID = 153152921511997L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        API_VERSION("api_version"),
+        CALL_SID("call_sid"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        DURATION("duration"),
+        SID("sid"),
+        PRICE("price"),
+        PRICE_UNIT("price_unit"),
+        STATUS("status"),
+        CHANNELS("channels"),
+        SOURCE("source"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum Source {
         DIALVERB("DialVerb"),
         CONFERENCE("Conference"),
@@ -42,6 +73,8 @@ public class Recording extends Resource {
         TRUNKING("Trunking"),
         RECORDVERB("RecordVerb");
     
+        private static final EnumLookup<Source> LOOKUP = EnumLookup.of(Source.class);
+        
         private final String value;
         
         private Source(final String value) {
@@ -59,14 +92,7 @@ public class Recording extends Resource {
          */
         @JsonCreator
         public static Source forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Source.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -74,6 +100,8 @@ public class Recording extends Resource {
         PROCESSING("processing"),
         COMPLETED("completed");
     
+        private static final EnumLookup<Status> LOOKUP = EnumLookup.of(Status.class);
+        
         private final String value;
         
         private Status(final String value) {
@@ -91,14 +119,7 @@ public class Recording extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Status.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -438,4 +459,95 @@ public class Recording extends Resource {
                           .add("uri", uri)
                           .toString();
     }
+
+    /**
+     * Decodes a Recording by switching on its property names as they are read.
+     */
+    public static class Deserializer extends ResourceDeserializer<Recording> {
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(Recording.class);
+        }
+
+        @Override
+        public Recording deserialize(final JsonParser parser, 
+                                     final DeserializationContext ctxt) throws IOException {
+            Set<?> selected = begin(parser, ctxt);
+            String accountSid = null;
+            String apiVersion = null;
+            String callSid = null;
+            String dateCreated = null;
+            String dateUpdated = null;
+            String duration = null;
+            String sid = null;
+            String price = null;
+            String priceUnit = null;
+            Recording.Status status = null;
+            Integer channels = null;
+            Recording.Source source = null;
+            String uri = null;
+
+            for (String field = nextField(parser, selected); field != null; field = nextField(parser, selected)) {
+                switch (field) {
+                    case "account_sid":
+                        accountSid = text(parser, ctxt);
+                        break;
+                    case "api_version":
+                        apiVersion = text(parser, ctxt);
+                        break;
+                    case "call_sid":
+                        callSid = text(parser, ctxt);
+                        break;
+                    case "date_created":
+                        dateCreated = text(parser, ctxt);
+                        break;
+                    case "date_updated":
+                        dateUpdated = text(parser, ctxt);
+                        break;
+                    case "duration":
+                        duration = text(parser, ctxt);
+                        break;
+                    case "sid":
+                        sid = text(parser, ctxt);
+                        break;
+                    case "price":
+                        price = text(parser, ctxt);
+                        break;
+                    case "price_unit":
+                        priceUnit = text(parser, ctxt);
+                        break;
+                    case "status":
+                        status = Recording.Status.forValue(text(parser, ctxt));
+                        break;
+                    case "channels":
+                        channels = integer(parser, ctxt);
+                        break;
+                    case "source":
+                        source = Recording.Source.forValue(text(parser, ctxt));
+                        break;
+                    case "uri":
+                        uri = text(parser, ctxt);
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+
+            return new Recording(accountSid,
+                                 apiVersion,
+                                 callSid,
+                                 dateCreated,
+                                 dateUpdated,
+                                 duration,
+                                 sid,
+                                 price,
+                                 priceUnit,
+                                 status,
+                                 channels,
+                                 source,
+                                 uri);
+        }
+    }
 }
\ No newline at end of file
@@ -36,6 +36,33 @@ import java.util.Objects;
 public class Sandbox extends Resource {
     private static final long serialVersionUID = 227479628535986L;
 
+    public enum Field implements Resource.Field {
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        PIN("pin"),
+        ACCOUNT_SID("account_sid"),
+        PHONE_NUMBER("phone_number"),
+        APPLICATION_SID("application_sid"),
+        API_VERSION("api_version"),
+        VOICE_URL("voice_url"),
+        VOICE_METHOD("voice_method"),
+        SMS_URL("sms_url"),
+        SMS_METHOD("sms_method"),
+        STATUS_CALLBACK("status_callback"),
+        STATUS_CALLBACK_METHOD("status_callback_method"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a SandboxFetcher to execute fetch.
      * 
@@ -36,6 +36,31 @@ import java.util.Objects;
 public class ShortCode extends Resource {
     private static final long serialVersionUID = 186171326966142L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        API_VERSION("api_version"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        FRIENDLY_NAME("friendly_name"),
+        SHORT_CODE("short_code"),
+        SID("sid"),
+        SMS_FALLBACK_METHOD("sms_fallback_method"),
+        SMS_FALLBACK_URL("sms_fallback_url"),
+        SMS_METHOD("sms_method"),
+        SMS_URL("sms_url"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a ShortCodeFetcher to execute fetch.
      * 
@@ -35,6 +35,23 @@ import java.util.Objects;
 public class SigningKey extends Resource {
     private static final long serialVersionUID = 96350302686036L;
 
+    public enum Field implements Resource.Field {
+        SID("sid"),
+        FRIENDLY_NAME("friendly_name"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a SigningKeyFetcher to execute fetch.
      * 
@@ -37,6 +37,26 @@ import java.util.Objects;
 public class Token extends Resource {
     private static final long serialVersionUID = 281090396283982L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        ICE_SERVERS("ice_servers"),
+        PASSWORD("password"),
+        TTL("ttl"),
+        USERNAME("username");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a TokenCreator to execute create.
      * 
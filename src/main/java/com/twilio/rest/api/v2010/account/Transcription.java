@@ -17,6 +17,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -38,11 +39,39 @@ import java.util.Objects;
 public class Transcription extends Resource {
     private static final long serialVersionUID = 226252531194892L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        API_VERSION("api_version"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        DURATION("duration"),
+        PRICE("price"),
+        PRICE_UNIT("price_unit"),
+        RECORDING_SID("recording_sid"),
+        SID("sid"),
+        STATUS("status"),
+        TRANSCRIPTION_TEXT("transcription_text"),
+        TYPE("type"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum Status {
         IN_PROGRESS("in-progress"),
         COMPLETED("completed"),
         FAILED("failed");
     
+        private static final EnumLookup<Status> LOOKUP = EnumLookup.of(Status.class);
+        
         private final String value;
         
         private Status(final String value) {
@@ -60,14 +89,7 @@ public class Transcription extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Status.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -33,6 +33,24 @@ import java.util.Objects;
 public class ValidationRequest extends Resource {
     private static final long serialVersionUID = 227253393242231L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        PHONE_NUMBER("phone_number"),
+        FRIENDLY_NAME("friendly_name"),
+        VALIDATION_CODE("validation_code"),
+        CALL_SID("call_sid");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a ValidationRequestCreator to execute create.
      * 
@@ -16,11 +16,17 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 import java.net.URI;
 
 public class ValidationRequestCreator extends Creator<ValidationRequest> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{AccountSid}/OutgoingCallerIds.json"
+    );
+
     private String accountSid;
     private final com.twilio.type.PhoneNumber phoneNumber;
     private String friendlyName;
@@ -35,6 +41,7 @@ public class ValidationRequestCreator extends Creator<ValidationRequest> {
      * @param phoneNumber The phone_number
      */
     public ValidationRequestCreator(final com.twilio.type.PhoneNumber phoneNumber) {
+        idempotent(false);
         this.phoneNumber = phoneNumber;
     }
 
@@ -46,6 +53,7 @@ public class ValidationRequestCreator extends Creator<ValidationRequest> {
      */
     public ValidationRequestCreator(final String accountSid, 
                                     final com.twilio.type.PhoneNumber phoneNumber) {
+        idempotent(false);
         this.accountSid = accountSid;
         this.phoneNumber = phoneNumber;
     }
@@ -116,25 +124,31 @@ public class ValidationRequestCreator extends Creator<ValidationRequest> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the create.
+     * Build the request to the Twilio API to perform the create.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Created ValidationRequest
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public ValidationRequest create(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.accountSid = this.accountSid == null ? client.getAccountSid() : this.accountSid;
-        Request request = new Request(
-            HttpMethod.POST,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts/" + this.accountSid + "/OutgoingCallerIds.json",
-            client.getRegion()
-        );
+        Request request = URL.request(HttpMethod.POST, client.getRegion(), this.accountSid);
         
         addPostParams(request);
-        Response response = client.request(request);
-        
+        return request;
+    }
+
+    /**
+     * Convert the response of the Twilio API to the result of the create.
+     * 
+     * @param response Response of the request
+     * @param client TwilioRestClient with which the request was made
+     * @return Created ValidationRequest
+     */
+    @Override
+    @SuppressWarnings("checkstyle:linelength")
+    protected ValidationRequest parseResponse(final Response response, final TwilioRestClient client) {
         if (response == null) {
             throw new ApiConnectionException("ValidationRequest creation failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
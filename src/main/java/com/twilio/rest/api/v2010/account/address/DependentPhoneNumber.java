@@ -34,6 +34,30 @@ import java.util.Objects;
 public class DependentPhoneNumber extends Resource {
     private static final long serialVersionUID = 249031953071048L;
 
+    public enum Field implements Resource.Field {
+        FRIENDLY_NAME("friendly_name"),
+        PHONE_NUMBER("phone_number"),
+        LATA("lata"),
+        RATE_CENTER("rate_center"),
+        LATITUDE("latitude"),
+        LONGITUDE("longitude"),
+        REGION("region"),
+        POSTAL_CODE("postal_code"),
+        ISO_COUNTRY("iso_country"),
+        ADDRESS_REQUIREMENTS("address_requirements"),
+        CAPABILITIES("capabilities");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a DependentPhoneNumberReader to execute read.
      * 
@@ -17,9 +17,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class DependentPhoneNumberReader extends Reader<DependentPhoneNumber> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{AccountSid}/Addresses/{AddressSid}/DependentPhoneNumbers.json"
+    );
+
     private String accountSid;
     private final String addressSid;
 
@@ -56,36 +62,31 @@ public class DependentPhoneNumberReader extends Reader<DependentPhoneNumber> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return DependentPhoneNumber ResourceSet
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<DependentPhoneNumber> firstPage(final TwilioRestClient client) {
+    protected Request buildFirstPageRequest(final TwilioRestClient client) {
         this.accountSid = this.accountSid == null ? client.getAccountSid() : this.accountSid;
-        Request request = new Request(
-            HttpMethod.GET,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts/" + this.accountSid + "/Addresses/" + this.addressSid + "/DependentPhoneNumbers.json",
-            client.getRegion()
-        );
+        Request request = URL.request(HttpMethod.GET, client.getRegion(), this.accountSid, this.addressSid);
         
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
-     * Retrieve the next page from the Twilio API.
+     * Build the request to the Twilio API for the next page of the read.
      * 
      * @param page current page
      * @param client TwilioRestClient with which to make the request
-     * @return Next Page
+     * @return Request to make
      */
     @Override
-    public Page<DependentPhoneNumber> nextPage(final Page<DependentPhoneNumber> page, 
-                                               final TwilioRestClient client) {
+    protected Request buildNextPageRequest(final Page<DependentPhoneNumber> page, 
+                                           final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             page.getNextPageUrl(
@@ -93,19 +94,22 @@ public class DependentPhoneNumberReader extends Reader<DependentPhoneNumber> {
                 client.getRegion()
             )
         );
-        return pageForRequest(client, request);
+        request.setTemplate(URL);
+        return request;
     }
 
     /**
-     * Generate a Page of DependentPhoneNumber Resources for a given request.
+     * Generate a Page of DependentPhoneNumber Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param response Response to generate a page for
+     * @param client TwilioRestClient with which the request was made
+     * @param streaming whether records are decoded one at a time from the response
+     * @return Page for the Response
      */
-    private Page<DependentPhoneNumber> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-        
+    @Override
+    protected Page<DependentPhoneNumber> parsePage(final Response response, 
+                                                   final TwilioRestClient client, 
+                                                   final boolean streaming) {
         if (response == null) {
             throw new ApiConnectionException("DependentPhoneNumber read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -123,11 +127,12 @@ public class DependentPhoneNumberReader extends Reader<DependentPhoneNumber> {
             );
         }
         
-        return Page.fromJson(
+        return pageForResponse(
             "dependent_phone_numbers",
-            response.getContent(),
+            response,
             DependentPhoneNumber.class,
-            client.getObjectMapper()
+            client,
+            streaming
         );
     }
 
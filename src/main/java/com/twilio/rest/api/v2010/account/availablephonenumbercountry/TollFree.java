@@ -35,6 +35,31 @@ import java.util.Objects;
 public class TollFree extends Resource {
     private static final long serialVersionUID = 250162359733040L;
 
+    public enum Field implements Resource.Field {
+        FRIENDLY_NAME("friendly_name"),
+        PHONE_NUMBER("phone_number"),
+        LATA("lata"),
+        RATE_CENTER("rate_center"),
+        LATITUDE("latitude"),
+        LONGITUDE("longitude"),
+        REGION("region"),
+        POSTAL_CODE("postal_code"),
+        ISO_COUNTRY("iso_country"),
+        ADDRESS_REQUIREMENTS("address_requirements"),
+        BETA("beta"),
+        CAPABILITIES("capabilities");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a TollFreeReader to execute read.
      * 
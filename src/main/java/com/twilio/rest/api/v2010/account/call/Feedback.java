@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -36,6 +37,25 @@ import java.util.Objects;
 public class Feedback extends Resource {
     private static final long serialVersionUID = 234556362553174L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        ISSUES("issues"),
+        QUALITY_SCORE("quality_score"),
+        SID("sid");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum Issues {
         AUDIO_LATENCY("audio-latency"),
         DIGITS_NOT_CAPTURED("digits-not-captured"),
@@ -46,6 +66,8 @@ public class Feedback extends Resource {
         POST_DIAL_DELAY("post-dial-delay"),
         UNSOLICITED_CALL("unsolicited-call");
     
+        private static final EnumLookup<Issues> LOOKUP = EnumLookup.of(Issues.class);
+        
         private final String value;
         
         private Issues(final String value) {
@@ -63,14 +85,7 @@ public class Feedback extends Resource {
          */
         @JsonCreator
         public static Issues forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Issues.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
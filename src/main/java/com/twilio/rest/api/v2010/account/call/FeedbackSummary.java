@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -39,12 +40,41 @@ import java.util.Objects;
 public class FeedbackSummary extends Resource {
     private static final long serialVersionUID = 167286727474638L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        CALL_COUNT("call_count"),
+        CALL_FEEDBACK_COUNT("call_feedback_count"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        END_DATE("end_date"),
+        INCLUDE_SUBACCOUNTS("include_subaccounts"),
+        ISSUES("issues"),
+        QUALITY_SCORE_AVERAGE("quality_score_average"),
+        QUALITY_SCORE_MEDIAN("quality_score_median"),
+        QUALITY_SCORE_STANDARD_DEVIATION("quality_score_standard_deviation"),
+        SID("sid"),
+        START_DATE("start_date"),
+        STATUS("status");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum Status {
         QUEUED("queued"),
         IN_PROGRESS("in-progress"),
         COMPLETED("completed"),
         FAILED("failed");
     
+        private static final EnumLookup<Status> LOOKUP = EnumLookup.of(Status.class);
+        
         private final String value;
         
         private Status(final String value) {
@@ -62,14 +92,7 @@ public class FeedbackSummary extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Status.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -17,12 +17,18 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 import org.joda.time.LocalDate;
 
 import java.net.URI;
 
 public class FeedbackSummaryCreator extends Creator<FeedbackSummary> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{AccountSid}/Calls/FeedbackSummary.json"
+    );
+
     private String accountSid;
     private final LocalDate startDate;
     private final LocalDate endDate;
@@ -101,25 +107,31 @@ public class FeedbackSummaryCreator extends Creator<FeedbackSummary> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the create.
+     * Build the request to the Twilio API to perform the create.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Created FeedbackSummary
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public FeedbackSummary create(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.accountSid = this.accountSid == null ? client.getAccountSid() : this.accountSid;
-        Request request = new Request(
-            HttpMethod.POST,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts/" + this.accountSid + "/Calls/FeedbackSummary.json",
-            client.getRegion()
-        );
+        Request request = URL.request(HttpMethod.POST, client.getRegion(), this.accountSid);
         
         addPostParams(request);
-        Response response = client.request(request);
-        
+        return request;
+    }
+
+    /**
+     * Convert the response of the Twilio API to the result of the create.
+     * 
+     * @param response Response of the request
+     * @param client TwilioRestClient with which the request was made
+     * @return Created FeedbackSummary
+     */
+    @Override
+    @SuppressWarnings("checkstyle:linelength")
+    protected FeedbackSummary parseResponse(final Response response, final TwilioRestClient client) {
         if (response == null) {
             throw new ApiConnectionException("FeedbackSummary creation failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
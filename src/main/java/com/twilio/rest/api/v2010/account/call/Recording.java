@@ -36,6 +36,28 @@ import java.util.Objects;
 public class Recording extends Resource {
     private static final long serialVersionUID = 115057158409790L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        API_VERSION("api_version"),
+        CALL_SID("call_sid"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        DURATION("duration"),
+        SID("sid"),
+        PRICE("price"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a RecordingFetcher to execute fetch.
      * 
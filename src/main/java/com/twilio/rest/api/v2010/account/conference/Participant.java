@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -35,6 +36,30 @@ import java.util.Objects;
 public class Participant extends Resource {
     private static final long serialVersionUID = 45291997382517L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        CALL_SID("call_sid"),
+        CONFERENCE_SID("conference_sid"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        END_CONFERENCE_ON_EXIT("end_conference_on_exit"),
+        MUTED("muted"),
+        HOLD("hold"),
+        START_CONFERENCE_ON_ENTER("start_conference_on_enter"),
+        STATUS("status"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum Status {
         QUEUED("queued"),
         CONNECTING("connecting"),
@@ -43,6 +68,8 @@ public class Participant extends Resource {
         COMPLETE("complete"),
         FAILED("failed");
     
+        private static final EnumLookup<Status> LOOKUP = EnumLookup.of(Status.class);
+        
         private final String value;
         
         private Status(final String value) {
@@ -60,14 +87,7 @@ public class Participant extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Status.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -77,6 +97,8 @@ public class Participant extends Resource {
         ONENTER("onEnter"),
         ONEXIT("onExit");
     
+        private static final EnumLookup<Beep> LOOKUP = EnumLookup.of(Beep.class);
+        
         private final String value;
         
         private Beep(final String value) {
@@ -94,14 +116,7 @@ public class Participant extends Resource {
          */
         @JsonCreator
         public static Beep forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Beep.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -109,6 +124,8 @@ public class Participant extends Resource {
         DO_NOT_RECORD("do-not-record"),
         RECORD_FROM_START("record-from-start");
     
+        private static final EnumLookup<ConferenceRecord> LOOKUP = EnumLookup.of(ConferenceRecord.class);
+        
         private final String value;
         
         private ConferenceRecord(final String value) {
@@ -126,14 +143,7 @@ public class Participant extends Resource {
          */
         @JsonCreator
         public static ConferenceRecord forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return ConferenceRecord.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -16,12 +16,18 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 import java.net.URI;
 import java.util.List;
 
 public class ParticipantCreator extends Creator<Participant> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{AccountSid}/Conferences/{ConferenceSid}/Participants.json"
+    );
+
     private String accountSid;
     private final String conferenceSid;
     private final com.twilio.type.PhoneNumber from;
@@ -55,6 +61,7 @@ public class ParticipantCreator extends Creator<Participant> {
     public ParticipantCreator(final String conferenceSid, 
                               final com.twilio.type.PhoneNumber from, 
                               final com.twilio.type.PhoneNumber to) {
+        idempotent(false);
         this.conferenceSid = conferenceSid;
         this.from = from;
         this.to = to;
@@ -72,6 +79,7 @@ public class ParticipantCreator extends Creator<Participant> {
                               final String conferenceSid, 
                               final com.twilio.type.PhoneNumber from, 
                               final com.twilio.type.PhoneNumber to) {
+        idempotent(false);
         this.accountSid = accountSid;
         this.conferenceSid = conferenceSid;
         this.from = from;
@@ -327,25 +335,31 @@ public class ParticipantCreator extends Creator<Participant> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the create.
+     * Build the request to the Twilio API to perform the create.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Created Participant
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Participant create(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.accountSid = this.accountSid == null ? client.getAccountSid() : this.accountSid;
-        Request request = new Request(
-            HttpMethod.POST,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts/" + this.accountSid + "/Conferences/" + this.conferenceSid + "/Participants.json",
-            client.getRegion()
-        );
+        Request request = URL.request(HttpMethod.POST, client.getRegion(), this.accountSid, this.conferenceSid);
         
         addPostParams(request);
-        Response response = client.request(request);
-        
+        return request;
+    }
+
+    /**
+     * Convert the response of the Twilio API to the result of the create.
+     * 
+     * @param response Response of the request
+     * @param client TwilioRestClient with which the request was made
+     * @return Created Participant
+     */
+    @Override
+    @SuppressWarnings("checkstyle:linelength")
+    protected Participant parseResponse(final Response response, final TwilioRestClient client) {
         if (response == null) {
             throw new ApiConnectionException("Participant creation failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
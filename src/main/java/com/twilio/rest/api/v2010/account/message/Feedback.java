@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -35,10 +36,31 @@ import java.util.Objects;
 public class Feedback extends Resource {
     private static final long serialVersionUID = 255348385418437L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        MESSAGE_SID("message_sid"),
+        OUTCOME("outcome"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum Outcome {
         CONFIRMED("confirmed"),
         UMCONFIRMED("umconfirmed");
     
+        private static final EnumLookup<Outcome> LOOKUP = EnumLookup.of(Outcome.class);
+        
         private final String value;
         
         private Outcome(final String value) {
@@ -56,14 +78,7 @@ public class Feedback extends Resource {
          */
         @JsonCreator
         public static Outcome forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Outcome.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
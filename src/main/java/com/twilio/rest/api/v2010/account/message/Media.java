@@ -35,6 +35,26 @@ import java.util.Objects;
 public class Media extends Resource {
     private static final long serialVersionUID = 138990472819672L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        CONTENT_TYPE("content_type"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        PARENT_SID("parent_sid"),
+        SID("sid"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a MediaDeleter to execute delete.
      * 
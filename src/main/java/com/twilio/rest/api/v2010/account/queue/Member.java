@@ -36,6 +36,24 @@ import java.util.Objects;
 public class Member extends Resource {
     private static final long serialVersionUID = 27782479642114L;
 
+    public enum Field implements Resource.Field {
+        CALL_SID("call_sid"),
+        DATE_ENQUEUED("date_enqueued"),
+        POSITION("position"),
+        URI("uri"),
+        WAIT_TIME("wait_time");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a MemberFetcher to execute fetch.
      * 
@@ -35,6 +35,26 @@ import java.util.Objects;
 public class CredentialList extends Resource {
     private static final long serialVersionUID = 214188792953524L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        FRIENDLY_NAME("friendly_name"),
+        SID("sid"),
+        SUBRESOURCE_URIS("subresource_uris"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a CredentialListReader to execute read.
      * 
@@ -36,6 +36,35 @@ import java.util.Objects;
 public class Domain extends Resource {
     private static final long serialVersionUID = 72982381631904L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        API_VERSION("api_version"),
+        AUTH_TYPE("auth_type"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        DOMAIN_NAME("domain_name"),
+        FRIENDLY_NAME("friendly_name"),
+        SID("sid"),
+        URI("uri"),
+        VOICE_FALLBACK_METHOD("voice_fallback_method"),
+        VOICE_FALLBACK_URL("voice_fallback_url"),
+        VOICE_METHOD("voice_method"),
+        VOICE_STATUS_CALLBACK_METHOD("voice_status_callback_method"),
+        VOICE_STATUS_CALLBACK_URL("voice_status_callback_url"),
+        VOICE_URL("voice_url"),
+        SUBRESOURCE_URIS("subresource_uris");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a DomainReader to execute read.
      * 
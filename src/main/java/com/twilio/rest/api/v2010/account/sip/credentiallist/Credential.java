@@ -35,6 +35,26 @@ import java.util.Objects;
 public class Credential extends Resource {
     private static final long serialVersionUID = 207131851434233L;
 
+    public enum Field implements Resource.Field {
+        SID("sid"),
+        ACCOUNT_SID("account_sid"),
+        CREDENTIAL_LIST_SID("credential_list_sid"),
+        USERNAME("username"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a CredentialReader to execute read.
      * 
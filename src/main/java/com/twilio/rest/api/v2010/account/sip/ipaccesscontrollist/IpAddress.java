@@ -35,6 +35,27 @@ import java.util.Objects;
 public class IpAddress extends Resource {
     private static final long serialVersionUID = 118701358673463L;
 
+    public enum Field implements Resource.Field {
+        SID("sid"),
+        ACCOUNT_SID("account_sid"),
+        FRIENDLY_NAME("friendly_name"),
+        IP_ADDRESS("ip_address"),
+        IP_ACCESS_CONTROL_LIST_SID("ip_access_control_list_sid"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        URI("uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a IpAddressReader to execute read.
      * 
@@ -11,12 +11,16 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
+import com.twilio.converter.ResourceDeserializer;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -33,11 +37,39 @@ import java.math.BigDecimal;
 import java.util.Currency;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class Record extends Resource {
     private static final long serialVersionUID = 174526935435776L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        API_VERSION("api_version"),
+        CATEGORY("category"),
+        COUNT("count"),
+        COUNT_UNIT("count_unit"),
+        DESCRIPTION("description"),
+        END_DATE("end_date"),
+        PRICE("price"),
+        PRICE_UNIT("price_unit"),
+        START_DATE("start_date"),
+        SUBRESOURCE_URIS("subresource_uris"),
+        URI("uri"),
+        USAGE("usage"),
+        USAGE_UNIT("usage_unit");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum Category {
         AUTHY_AUTHENTICATIONS("authy-authentications"),
         AUTHY_CALLS_OUTBOUND("authy-calls-outbound"),
@@ -130,6 +162,8 @@ public class Record extends Resource {
         TURNMEGABYTES_USEAST("turnmegabytes-useast"),
         TURNMEGABYTES_USWEST("turnmegabytes-uswest");
     
+        private static final EnumLookup<Category> LOOKUP = EnumLookup.of(Category.class);
+        
         private final String value;
         
         private Category(final String value) {
@@ -147,14 +181,7 @@ public class Record extends Resource {
          */
         @JsonCreator
         public static Category forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Category.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -466,4 +493,100 @@ public class Record extends Resource {
                           .add("usageUnit", usageUnit)
                           .toString();
     }
+
+    /**
+     * Decodes a Record by switching on its property names as they are read.
+     */
+    public static class Deserializer extends ResourceDeserializer<Record> {
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(Record.class);
+        }
+
+        @Override
+        public Record deserialize(final JsonParser parser, 
+                                  final DeserializationContext ctxt) throws IOException {
+            Set<?> selected = begin(parser, ctxt);
+            String accountSid = null;
+            String apiVersion = null;
+            Record.Category category = null;
+            String count = null;
+            String countUnit = null;
+            String description = null;
+            String endDate = null;
+            BigDecimal price = null;
+            Currency priceUnit = null;
+            String startDate = null;
+            Map<String, String> subresourceUris = null;
+            String uri = null;
+            String usage = null;
+            String usageUnit = null;
+
+            for (String field = nextField(parser, selected); field != null; field = nextField(parser, selected)) {
+                switch (field) {
+                    case "account_sid":
+                        accountSid = text(parser, ctxt);
+                        break;
+                    case "api_version":
+                        apiVersion = text(parser, ctxt);
+                        break;
+                    case "category":
+                        category = Record.Category.forValue(text(parser, ctxt));
+                        break;
+                    case "count":
+                        count = text(parser, ctxt);
+                        break;
+                    case "count_unit":
+                        countUnit = text(parser, ctxt);
+                        break;
+                    case "description":
+                        description = text(parser, ctxt);
+                        break;
+                    case "end_date":
+                        endDate = text(parser, ctxt);
+                        break;
+                    case "price":
+                        price = decimal(parser, ctxt);
+                        break;
+                    case "price_unit":
+                        priceUnit = currency(parser, ctxt);
+                        break;
+                    case "start_date":
+                        startDate = text(parser, ctxt);
+                        break;
+                    case "subresource_uris":
+                        subresourceUris = stringMap(parser, ctxt);
+                        break;
+                    case "uri":
+                        uri = text(parser, ctxt);
+                        break;
+                    case "usage":
+                        usage = text(parser, ctxt);
+                        break;
+                    case "usage_unit":
+                        usageUnit = text(parser, ctxt);
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+
+            return new Record(accountSid,
+                              apiVersion,
+                              category,
+                              count,
+                              countUnit,
+                              description,
+                              endDate,
+                              price,
+                              priceUnit,
+                              startDate,
+                              subresourceUris,
+                              uri,
+                              usage,
+                              usageUnit);
+        }
+    }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -36,6 +37,35 @@ import java.util.Objects;
 public class Trigger extends Resource {
     private static final long serialVersionUID = 265472878252662L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        API_VERSION("api_version"),
+        CALLBACK_METHOD("callback_method"),
+        CALLBACK_URL("callback_url"),
+        CURRENT_VALUE("current_value"),
+        DATE_CREATED("date_created"),
+        DATE_FIRED("date_fired"),
+        DATE_UPDATED("date_updated"),
+        FRIENDLY_NAME("friendly_name"),
+        RECURRING("recurring"),
+        SID("sid"),
+        TRIGGER_BY("trigger_by"),
+        TRIGGER_VALUE("trigger_value"),
+        URI("uri"),
+        USAGE_CATEGORY("usage_category"),
+        USAGE_RECORD_URI("usage_record_uri");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum UsageCategory {
         AUTHY_AUTHENTICATIONS("authy-authentications"),
         AUTHY_CALLS_OUTBOUND("authy-calls-outbound"),
@@ -128,6 +158,8 @@ public class Trigger extends Resource {
         TURNMEGABYTES_USEAST("turnmegabytes-useast"),
         TURNMEGABYTES_USWEST("turnmegabytes-uswest");
     
+        private static final EnumLookup<UsageCategory> LOOKUP = EnumLookup.of(UsageCategory.class);
+        
         private final String value;
         
         private UsageCategory(final String value) {
@@ -145,14 +177,7 @@ public class Trigger extends Resource {
          */
         @JsonCreator
         public static UsageCategory forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return UsageCategory.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -162,6 +187,8 @@ public class Trigger extends Resource {
         YEARLY("yearly"),
         ALLTIME("alltime");
     
+        private static final EnumLookup<Recurring> LOOKUP = EnumLookup.of(Recurring.class);
+        
         private final String value;
         
         private Recurring(final String value) {
@@ -179,14 +206,7 @@ public class Trigger extends Resource {
          */
         @JsonCreator
         public static Recurring forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Recurring.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -195,6 +215,8 @@ public class Trigger extends Resource {
         USAGE("usage"),
         PRICE("price");
     
+        private static final EnumLookup<TriggerField> LOOKUP = EnumLookup.of(TriggerField.class);
+        
         private final String value;
         
         private TriggerField(final String value) {
@@ -212,14 +234,7 @@ public class Trigger extends Resource {
          */
         @JsonCreator
         public static TriggerField forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return TriggerField.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
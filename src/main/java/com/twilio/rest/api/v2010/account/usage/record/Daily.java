@@ -17,6 +17,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -38,6 +39,33 @@ import java.util.Objects;
 public class Daily extends Resource {
     private static final long serialVersionUID = 174526935435776L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        API_VERSION("api_version"),
+        CATEGORY("category"),
+        COUNT("count"),
+        COUNT_UNIT("count_unit"),
+        DESCRIPTION("description"),
+        END_DATE("end_date"),
+        PRICE("price"),
+        PRICE_UNIT("price_unit"),
+        START_DATE("start_date"),
+        SUBRESOURCE_URIS("subresource_uris"),
+        URI("uri"),
+        USAGE("usage"),
+        USAGE_UNIT("usage_unit");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum Category {
         AUTHY_AUTHENTICATIONS("authy-authentications"),
         AUTHY_CALLS_OUTBOUND("authy-calls-outbound"),
@@ -130,6 +158,8 @@ public class Daily extends Resource {
         TURNMEGABYTES_USEAST("turnmegabytes-useast"),
         TURNMEGABYTES_USWEST("turnmegabytes-uswest");
     
+        private static final EnumLookup<Category> LOOKUP = EnumLookup.of(Category.class);
+        
         private final String value;
         
         private Category(final String value) {
@@ -147,14 +177,7 @@ public class Daily extends Resource {
          */
         @JsonCreator
         public static Category forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Category.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -18,10 +18,16 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 import org.joda.time.LocalDate;
 
 public class LastMonthReader extends Reader<LastMonth> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{AccountSid}/Usage/Records/LastMonth.json"
+    );
+
     private String accountSid;
     private LastMonth.Category category;
     private LocalDate startDate;
@@ -87,36 +93,31 @@ public class LastMonthReader extends Reader<LastMonth> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return LastMonth ResourceSet
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<LastMonth> firstPage(final TwilioRestClient client) {
+    protected Request buildFirstPageRequest(final TwilioRestClient client) {
         this.accountSid = this.accountSid == null ? client.getAccountSid() : this.accountSid;
-        Request request = new Request(
-            HttpMethod.GET,
-            Domains.API.toString(),
-            "/2010-04-01/Accounts/" + this.accountSid + "/Usage/Records/LastMonth.json",
-            client.getRegion()
-        );
+        Request request = URL.request(HttpMethod.GET, client.getRegion(), this.accountSid);
         
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
-     * Retrieve the next page from the Twilio API.
+     * Build the request to the Twilio API for the next page of the read.
      * 
      * @param page current page
      * @param client TwilioRestClient with which to make the request
-     * @return Next Page
+     * @return Request to make
      */
     @Override
-    public Page<LastMonth> nextPage(final Page<LastMonth> page, 
-                                    final TwilioRestClient client) {
+    protected Request buildNextPageRequest(final Page<LastMonth> page, 
+                                           final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             page.getNextPageUrl(
@@ -124,19 +125,22 @@ public class LastMonthReader extends Reader<LastMonth> {
                 client.getRegion()
             )
         );
-        return pageForRequest(client, request);
+        request.setTemplate(URL);
+        return request;
     }
 
     /**
-     * Generate a Page of LastMonth Resources for a given request.
+     * Generate a Page of LastMonth Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param response Response to generate a page for
+     * @param client TwilioRestClient with which the request was made
+     * @param streaming whether records are decoded one at a time from the response
+     * @return Page for the Response
      */
-    private Page<LastMonth> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-        
+    @Override
+    protected Page<LastMonth> parsePage(final Response response, 
+                                        final TwilioRestClient client, 
+                                        final boolean streaming) {
         if (response == null) {
             throw new ApiConnectionException("LastMonth read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -154,11 +158,12 @@ public class LastMonthReader extends Reader<LastMonth> {
             );
         }
         
-        return Page.fromJson(
+        return pageForResponse(
             "usage_records",
-            response.getContent(),
+            response,
             LastMonth.class,
-            client.getObjectMapper()
+            client,
+            streaming
         );
     }
 
@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -36,10 +37,33 @@ import java.util.Objects;
 public class Credential extends Resource {
     private static final long serialVersionUID = 77946155752213L;
 
+    public enum Field implements Resource.Field {
+        SID("sid"),
+        ACCOUNT_SID("account_sid"),
+        FRIENDLY_NAME("friendly_name"),
+        TYPE("type"),
+        SANDBOX("sandbox"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum PushService {
         GCM("gcm"),
         APN("apn");
     
+        private static final EnumLookup<PushService> LOOKUP = EnumLookup.of(PushService.class);
+        
         private final String value;
         
         private PushService(final String value) {
@@ -57,14 +81,7 @@ public class Credential extends Resource {
          */
         @JsonCreator
         public static PushService forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return PushService.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -15,9 +15,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class CredentialCreator extends Creator<Credential> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.CHAT,
+        "/v1/Credentials"
+    );
+
     private final Credential.PushService type;
     private String friendlyName;
     private String certificate;
@@ -90,24 +96,30 @@ public class CredentialCreator extends Creator<Credential> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the create.
+     * Build the request to the Twilio API to perform the create.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Created Credential
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Credential create(final TwilioRestClient client) {
-        Request request = new Request(
-            HttpMethod.POST,
-            Domains.CHAT.toString(),
-            "/v1/Credentials",
-            client.getRegion()
-        );
+    protected Request buildRequest(final TwilioRestClient client) {
+        Request request = URL.request(HttpMethod.POST, client.getRegion());
         
         addPostParams(request);
-        Response response = client.request(request);
-        
+        return request;
+    }
+
+    /**
+     * Convert the response of the Twilio API to the result of the create.
+     * 
+     * @param response Response of the request
+     * @param client TwilioRestClient with which the request was made
+     * @return Created Credential
+     */
+    @Override
+    @SuppressWarnings("checkstyle:linelength")
+    protected Credential parseResponse(final Response response, final TwilioRestClient client) {
         if (response == null) {
             throw new ApiConnectionException("Credential creation failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -15,9 +15,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class CredentialFetcher extends Fetcher<Credential> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.CHAT,
+        "/v1/Credentials/{Sid}"
+    );
+
     private final String sid;
 
     /**
@@ -30,23 +36,28 @@ public class CredentialFetcher extends Fetcher<Credential> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the fetch.
+     * Build the request to the Twilio API to perform the fetch.
      * 
      * @param client TwilioRestClient with which to make the request
+     * @return Request to make
+     */
+    @Override
+    @SuppressWarnings("checkstyle:linelength")
+    protected Request buildRequest(final TwilioRestClient client) {
+        Request request = URL.request(HttpMethod.GET, client.getRegion(), this.sid);
+        return request;
+    }
+
+    /**
+     * Convert the response of the Twilio API to the result of the fetch.
+     * 
+     * @param response Response of the request
+     * @param client TwilioRestClient with which the request was made
      * @return Fetched Credential
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Credential fetch(final TwilioRestClient client) {
-        Request request = new Request(
-            HttpMethod.GET,
-            Domains.CHAT.toString(),
-            "/v1/Credentials/" + this.sid + "",
-            client.getRegion()
-        );
-        
-        Response response = client.request(request);
-        
+    protected Credential parseResponse(final Response response, final TwilioRestClient client) {
         if (response == null) {
             throw new ApiConnectionException("Credential fetch failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -17,9 +17,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class CredentialReader extends Reader<Credential> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.CHAT,
+        "/v1/Credentials"
+    );
+
     /**
      * Make the request to the Twilio API to perform the read.
      * 
@@ -32,35 +38,30 @@ public class CredentialReader extends Reader<Credential> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Credential ResourceSet
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Credential> firstPage(final TwilioRestClient client) {
-        Request request = new Request(
-            HttpMethod.GET,
-            Domains.CHAT.toString(),
-            "/v1/Credentials",
-            client.getRegion()
-        );
+    protected Request buildFirstPageRequest(final TwilioRestClient client) {
+        Request request = URL.request(HttpMethod.GET, client.getRegion());
         
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
-     * Retrieve the next page from the Twilio API.
+     * Build the request to the Twilio API for the next page of the read.
      * 
      * @param page current page
      * @param client TwilioRestClient with which to make the request
-     * @return Next Page
+     * @return Request to make
      */
     @Override
-    public Page<Credential> nextPage(final Page<Credential> page, 
-                                     final TwilioRestClient client) {
+    protected Request buildNextPageRequest(final Page<Credential> page, 
+                                           final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             page.getNextPageUrl(
@@ -68,19 +69,22 @@ public class CredentialReader extends Reader<Credential> {
                 client.getRegion()
             )
         );
-        return pageForRequest(client, request);
+        request.setTemplate(URL);
+        return request;
     }
 
     /**
-     * Generate a Page of Credential Resources for a given request.
+     * Generate a Page of Credential Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param response Response to generate a page for
+     * @param client TwilioRestClient with which the request was made
+     * @param streaming whether records are decoded one at a time from the response
+     * @return Page for the Response
      */
-    private Page<Credential> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-        
+    @Override
+    protected Page<Credential> parsePage(final Response response, 
+                                         final TwilioRestClient client, 
+                                         final boolean streaming) {
         if (response == null) {
             throw new ApiConnectionException("Credential read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -98,11 +102,12 @@ public class CredentialReader extends Reader<Credential> {
             );
         }
         
-        return Page.fromJson(
+        return pageForResponse(
             "credentials",
-            response.getContent(),
+            response,
             Credential.class,
-            client.getObjectMapper()
+            client,
+            streaming
         );
     }
 
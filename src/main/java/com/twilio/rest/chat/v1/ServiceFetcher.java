@@ -15,9 +15,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class ServiceFetcher extends Fetcher<Service> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.CHAT,
+        "/v1/Services/{Sid}"
+    );
+
     private final String sid;
 
     /**
@@ -30,23 +36,28 @@ public class ServiceFetcher extends Fetcher<Service> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the fetch.
+     * Build the request to the Twilio API to perform the fetch.
      * 
      * @param client TwilioRestClient with which to make the request
+     * @return Request to make
+     */
+    @Override
+    @SuppressWarnings("checkstyle:linelength")
+    protected Request buildRequest(final TwilioRestClient client) {
+        Request request = URL.request(HttpMethod.GET, client.getRegion(), this.sid);
+        return request;
+    }
+
+    /**
+     * Convert the response of the Twilio API to the result of the fetch.
+     * 
+     * @param response Response of the request
+     * @param client TwilioRestClient with which the request was made
      * @return Fetched Service
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Service fetch(final TwilioRestClient client) {
-        Request request = new Request(
-            HttpMethod.GET,
-            Domains.CHAT.toString(),
-            "/v1/Services/" + this.sid + "",
-            client.getRegion()
-        );
-        
-        Response response = client.request(request);
-        
+    protected Service parseResponse(final Response response, final TwilioRestClient client) {
         if (response == null) {
             throw new ApiConnectionException("Service fetch failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -16,12 +16,18 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 import java.net.URI;
 import java.util.List;
 
 public class ServiceUpdater extends Updater<Service> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.CHAT,
+        "/v1/Services/{Sid}"
+    );
+
     private final String sid;
     private String friendlyName;
     private String defaultServiceRoleSid;
@@ -1048,24 +1054,30 @@ public class ServiceUpdater extends Updater<Service> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the update.
+     * Build the request to the Twilio API to perform the update.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Updated Service
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Service update(final TwilioRestClient client) {
-        Request request = new Request(
-            HttpMethod.POST,
-            Domains.CHAT.toString(),
-            "/v1/Services/" + this.sid + "",
-            client.getRegion()
-        );
+    protected Request buildRequest(final TwilioRestClient client) {
+        Request request = URL.request(HttpMethod.POST, client.getRegion(), this.sid);
         
         addPostParams(request);
-        Response response = client.request(request);
-        
+        return request;
+    }
+
+    /**
+     * Convert the response of the Twilio API to the result of the update.
+     * 
+     * @param response Response of the request
+     * @param client TwilioRestClient with which the request was made
+     * @return Updated Service
+     */
+    @Override
+    @SuppressWarnings("checkstyle:linelength")
+    protected Service parseResponse(final Response response, final TwilioRestClient client) {
         if (response == null) {
             throw new ApiConnectionException("Service update failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
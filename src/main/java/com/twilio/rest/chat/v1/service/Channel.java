@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -36,10 +37,37 @@ import java.util.Objects;
 public class Channel extends Resource {
     private static final long serialVersionUID = 147553862953443L;
 
+    public enum Field implements Resource.Field {
+        SID("sid"),
+        ACCOUNT_SID("account_sid"),
+        SERVICE_SID("service_sid"),
+        FRIENDLY_NAME("friendly_name"),
+        UNIQUE_NAME("unique_name"),
+        ATTRIBUTES("attributes"),
+        TYPE("type"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        CREATED_BY("created_by"),
+        URL("url"),
+        LINKS("links");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum ChannelType {
         PUBLIC("public"),
         PRIVATE("private");
     
+        private static final EnumLookup<ChannelType> LOOKUP = EnumLookup.of(ChannelType.class);
+        
         private final String value;
         
         private ChannelType(final String value) {
@@ -57,14 +85,7 @@ public class Channel extends Resource {
          */
         @JsonCreator
         public static ChannelType forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return ChannelType.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -17,9 +17,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class ChannelReader extends Reader<Channel> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.CHAT,
+        "/v1/Services/{ServiceSid}/Channels"
+    );
+
     private final String serviceSid;
 
     /**
@@ -43,35 +49,30 @@ public class ChannelReader extends Reader<Channel> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Channel ResourceSet
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Channel> firstPage(final TwilioRestClient client) {
-        Request request = new Request(
-            HttpMethod.GET,
-            Domains.CHAT.toString(),
-            "/v1/Services/" + this.serviceSid + "/Channels",
-            client.getRegion()
-        );
+    protected Request buildFirstPageRequest(final TwilioRestClient client) {
+        Request request = URL.request(HttpMethod.GET, client.getRegion(), this.serviceSid);
         
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
-     * Retrieve the next page from the Twilio API.
+     * Build the request to the Twilio API for the next page of the read.
      * 
      * @param page current page
      * @param client TwilioRestClient with which to make the request
-     * @return Next Page
+     * @return Request to make
      */
     @Override
-    public Page<Channel> nextPage(final Page<Channel> page, 
-                                  final TwilioRestClient client) {
+    protected Request buildNextPageRequest(final Page<Channel> page, 
+                                           final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             page.getNextPageUrl(
@@ -79,19 +80,22 @@ public class ChannelReader extends Reader<Channel> {
                 client.getRegion()
             )
         );
-        return pageForRequest(client, request);
+        request.setTemplate(URL);
+        return request;
     }
 
     /**
-     * Generate a Page of Channel Resources for a given request.
+     * Generate a Page of Channel Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param response Response to generate a page for
+     * @param client TwilioRestClient with which the request was made
+     * @param streaming whether records are decoded one at a time from the response
+     * @return Page for the Response
      */
-    private Page<Channel> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-        
+    @Override
+    protected Page<Channel> parsePage(final Response response, 
+                                      final TwilioRestClient client, 
+                                      final boolean streaming) {
         if (response == null) {
             throw new ApiConnectionException("Channel read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -109,11 +113,12 @@ public class ChannelReader extends Reader<Channel> {
             );
         }
         
-        return Page.fromJson(
+        return pageForResponse(
             "channels",
-            response.getContent(),
+            response,
             Channel.class,
-            client.getObjectMapper()
+            client,
+            streaming
         );
     }
 
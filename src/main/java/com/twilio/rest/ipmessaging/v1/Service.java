@@ -38,6 +38,39 @@ import java.util.Objects;
 public class Service extends Resource {
     private static final long serialVersionUID = 110406953204037L;
 
+    public enum Field implements Resource.Field {
+        SID("sid"),
+        ACCOUNT_SID("account_sid"),
+        FRIENDLY_NAME("friendly_name"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        DEFAULT_SERVICE_ROLE_SID("default_service_role_sid"),
+        DEFAULT_CHANNEL_ROLE_SID("default_channel_role_sid"),
+        DEFAULT_CHANNEL_CREATOR_ROLE_SID("default_channel_creator_role_sid"),
+        READ_STATUS_ENABLED("read_status_enabled"),
+        REACHABILITY_ENABLED("reachability_enabled"),
+        TYPING_INDICATOR_TIMEOUT("typing_indicator_timeout"),
+        CONSUMPTION_REPORT_INTERVAL("consumption_report_interval"),
+        WEBHOOKS("webhooks"),
+        PRE_WEBHOOK_URL("pre_webhook_url"),
+        POST_WEBHOOK_URL("post_webhook_url"),
+        WEBHOOK_METHOD("webhook_method"),
+        WEBHOOK_FILTERS("webhook_filters"),
+        NOTIFICATIONS("notifications"),
+        URL("url"),
+        LINKS("links");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a ServiceFetcher to execute fetch.
      * 
@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -37,10 +38,34 @@ import java.util.Objects;
 public class Role extends Resource {
     private static final long serialVersionUID = 136946012216407L;
 
+    public enum Field implements Resource.Field {
+        SID("sid"),
+        ACCOUNT_SID("account_sid"),
+        SERVICE_SID("service_sid"),
+        FRIENDLY_NAME("friendly_name"),
+        TYPE("type"),
+        PERMISSIONS("permissions"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum RoleType {
         CHANNEL("channel"),
         DEPLOYMENT("deployment");
     
+        private static final EnumLookup<RoleType> LOOKUP = EnumLookup.of(RoleType.class);
+        
         private final String value;
         
         private RoleType(final String value) {
@@ -58,14 +83,7 @@ public class Role extends Resource {
          */
         @JsonCreator
         public static RoleType forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return RoleType.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -36,6 +36,31 @@ import java.util.Objects;
 public class User extends Resource {
     private static final long serialVersionUID = 202906107580763L;
 
+    public enum Field implements Resource.Field {
+        SID("sid"),
+        ACCOUNT_SID("account_sid"),
+        SERVICE_SID("service_sid"),
+        ATTRIBUTES("attributes"),
+        FRIENDLY_NAME("friendly_name"),
+        ROLE_SID("role_sid"),
+        IDENTITY("identity"),
+        IS_ONLINE("is_online"),
+        IS_NOTIFIABLE("is_notifiable"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a UserFetcher to execute fetch.
      * 
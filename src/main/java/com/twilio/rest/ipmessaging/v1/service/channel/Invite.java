@@ -36,6 +36,29 @@ import java.util.Objects;
 public class Invite extends Resource {
     private static final long serialVersionUID = 189960368613614L;
 
+    public enum Field implements Resource.Field {
+        SID("sid"),
+        ACCOUNT_SID("account_sid"),
+        CHANNEL_SID("channel_sid"),
+        SERVICE_SID("service_sid"),
+        IDENTITY("identity"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        ROLE_SID("role_sid"),
+        CREATED_BY("created_by"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a InviteFetcher to execute fetch.
      * 
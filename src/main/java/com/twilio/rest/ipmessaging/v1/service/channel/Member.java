@@ -36,6 +36,30 @@ import java.util.Objects;
 public class Member extends Resource {
     private static final long serialVersionUID = 868140426804L;
 
+    public enum Field implements Resource.Field {
+        SID("sid"),
+        ACCOUNT_SID("account_sid"),
+        CHANNEL_SID("channel_sid"),
+        SERVICE_SID("service_sid"),
+        IDENTITY("identity"),
+        LAST_CONSUMED_MESSAGE_INDEX("last_consumed_message_index"),
+        LAST_CONSUMPTION_TIMESTAMP("last_consumption_timestamp"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        ROLE_SID("role_sid"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a MemberFetcher to execute fetch.
      * 
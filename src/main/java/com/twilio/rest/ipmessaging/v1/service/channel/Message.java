@@ -36,6 +36,31 @@ import java.util.Objects;
 public class Message extends Resource {
     private static final long serialVersionUID = 168059278252645L;
 
+    public enum Field implements Resource.Field {
+        SID("sid"),
+        ACCOUNT_SID("account_sid"),
+        ATTRIBUTES("attributes"),
+        SERVICE_SID("service_sid"),
+        TO("to"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        WAS_EDITED("was_edited"),
+        FROM("from"),
+        BODY("body"),
+        INDEX("index"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a MessageFetcher to execute fetch.
      * 
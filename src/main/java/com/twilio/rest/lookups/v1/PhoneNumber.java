@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.Converter;
+import com.twilio.converter.EnumLookup;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -35,11 +36,33 @@ import java.util.Objects;
 public class PhoneNumber extends Resource {
     private static final long serialVersionUID = 86959676472232L;
 
+    public enum Field implements Resource.Field {
+        CALLER_NAME("caller_name"),
+        COUNTRY_CODE("country_code"),
+        PHONE_NUMBER("phone_number"),
+        NATIONAL_FORMAT("national_format"),
+        CARRIER("carrier"),
+        ADD_ONS("add_ons"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum Type {
         LANDLINE("landline"),
         MOBILE("mobile"),
         VOIP("voip");
     
+        private static final EnumLookup<Type> LOOKUP = EnumLookup.of(Type.class);
+        
         private final String value;
         
         private Type(final String value) {
@@ -57,14 +80,7 @@ public class PhoneNumber extends Resource {
          */
         @JsonCreator
         public static Type forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Type.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
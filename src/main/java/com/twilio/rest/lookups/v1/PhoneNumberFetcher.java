@@ -17,12 +17,18 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 import java.util.List;
 import java.util.Map;
 
 public class PhoneNumberFetcher extends Fetcher<PhoneNumber> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.LOOKUPS,
+        "/v1/PhoneNumbers/{PhoneNumber}"
+    );
+
     private final com.twilio.type.PhoneNumber phoneNumber;
     private String countryCode;
     private List<String> type;
@@ -103,24 +109,30 @@ public class PhoneNumberFetcher extends Fetcher<PhoneNumber> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the fetch.
+     * Build the request to the Twilio API to perform the fetch.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Fetched PhoneNumber
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public PhoneNumber fetch(final TwilioRestClient client) {
-        Request request = new Request(
-            HttpMethod.GET,
-            Domains.LOOKUPS.toString(),
-            "/v1/PhoneNumbers/" + this.phoneNumber + "",
-            client.getRegion()
-        );
+    protected Request buildRequest(final TwilioRestClient client) {
+        Request request = URL.request(HttpMethod.GET, client.getRegion(), this.phoneNumber);
         
         addQueryParams(request);
-        Response response = client.request(request);
-        
+        return request;
+    }
+
+    /**
+     * Convert the response of the Twilio API to the result of the fetch.
+     * 
+     * @param response Response of the request
+     * @param client TwilioRestClient with which the request was made
+     * @return Fetched PhoneNumber
+     */
+    @Override
+    @SuppressWarnings("checkstyle:linelength")
+    protected PhoneNumber parseResponse(final Response response, final TwilioRestClient client) {
         if (response == null) {
             throw new ApiConnectionException("PhoneNumber fetch failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -36,6 +36,36 @@ import java.util.Objects;
 public class Alert extends Resource {
     private static final long serialVersionUID = 84420812948753L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        ALERT_TEXT("alert_text"),
+        API_VERSION("api_version"),
+        DATE_CREATED("date_created"),
+        DATE_GENERATED("date_generated"),
+        DATE_UPDATED("date_updated"),
+        ERROR_CODE("error_code"),
+        LOG_LEVEL("log_level"),
+        MORE_INFO("more_info"),
+        REQUEST_METHOD("request_method"),
+        REQUEST_URL("request_url"),
+        REQUEST_VARIABLES("request_variables"),
+        RESOURCE_SID("resource_sid"),
+        RESPONSE_BODY("response_body"),
+        RESPONSE_HEADERS("response_headers"),
+        SID("sid"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a AlertFetcher to execute fetch.
      * 
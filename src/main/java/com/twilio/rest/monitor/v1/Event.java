@@ -37,6 +37,33 @@ import java.util.Objects;
 public class Event extends Resource {
     private static final long serialVersionUID = 124591176455880L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        ACTOR_SID("actor_sid"),
+        ACTOR_TYPE("actor_type"),
+        DESCRIPTION("description"),
+        EVENT_DATA("event_data"),
+        EVENT_DATE("event_date"),
+        EVENT_TYPE("event_type"),
+        RESOURCE_SID("resource_sid"),
+        RESOURCE_TYPE("resource_type"),
+        SID("sid"),
+        SOURCE("source"),
+        SOURCE_IP_ADDRESS("source_ip_address"),
+        URL("url"),
+        LINKS("links");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a EventFetcher to execute fetch.
      * 
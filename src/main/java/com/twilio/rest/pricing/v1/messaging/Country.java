@@ -39,6 +39,25 @@ import java.util.Objects;
 public class Country extends Resource {
     private static final long serialVersionUID = 155838537182593L;
 
+    public enum Field implements Resource.Field {
+        COUNTRY("country"),
+        ISO_COUNTRY("iso_country"),
+        OUTBOUND_SMS_PRICES("outbound_sms_prices"),
+        INBOUND_SMS_PRICES("inbound_sms_prices"),
+        PRICE_UNIT("price_unit"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a CountryReader to execute read.
      * 
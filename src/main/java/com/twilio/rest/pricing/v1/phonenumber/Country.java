@@ -38,6 +38,24 @@ import java.util.Objects;
 public class Country extends Resource {
     private static final long serialVersionUID = 214707935181184L;
 
+    public enum Field implements Resource.Field {
+        COUNTRY("country"),
+        ISO_COUNTRY("iso_country"),
+        PHONE_NUMBER_PRICES("phone_number_prices"),
+        PRICE_UNIT("price_unit"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a CountryReader to execute read.
      * 
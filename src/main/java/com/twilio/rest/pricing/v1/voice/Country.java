@@ -39,6 +39,25 @@ import java.util.Objects;
 public class Country extends Resource {
     private static final long serialVersionUID = 270847470775437L;
 
+    public enum Field implements Resource.Field {
+        COUNTRY("country"),
+        ISO_COUNTRY("iso_country"),
+        OUTBOUND_PREFIX_PRICES("outbound_prefix_prices"),
+        INBOUND_CALL_PRICES("inbound_call_prices"),
+        PRICE_UNIT("price_unit"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a CountryReader to execute read.
      * 
@@ -38,6 +38,26 @@ import java.util.Objects;
 public class Number extends Resource {
     private static final long serialVersionUID = 198694876395979L;
 
+    public enum Field implements Resource.Field {
+        NUMBER("number"),
+        COUNTRY("country"),
+        ISO_COUNTRY("iso_country"),
+        OUTBOUND_CALL_PRICE("outbound_call_price"),
+        INBOUND_CALL_PRICE("inbound_call_price"),
+        PRICE_UNIT("price_unit"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a NumberFetcher to execute fetch.
      * 
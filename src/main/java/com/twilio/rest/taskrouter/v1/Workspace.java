@@ -36,6 +36,33 @@ import java.util.Objects;
 public class Workspace extends Resource {
     private static final long serialVersionUID = 197684323807396L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        DEFAULT_ACTIVITY_NAME("default_activity_name"),
+        DEFAULT_ACTIVITY_SID("default_activity_sid"),
+        EVENT_CALLBACK_URL("event_callback_url"),
+        EVENTS_FILTER("events_filter"),
+        FRIENDLY_NAME("friendly_name"),
+        MULTI_TASK_ENABLED("multi_task_enabled"),
+        SID("sid"),
+        TIMEOUT_ACTIVITY_NAME("timeout_activity_name"),
+        TIMEOUT_ACTIVITY_SID("timeout_activity_sid"),
+        URL("url"),
+        LINKS("links");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a WorkspaceFetcher to execute fetch.
      * 
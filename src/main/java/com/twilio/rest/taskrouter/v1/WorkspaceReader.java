@@ -17,9 +17,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class WorkspaceReader extends Reader<Workspace> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.TASKROUTER,
+        "/v1/Workspaces"
+    );
+
     private String friendlyName;
 
     /**
@@ -45,35 +51,30 @@ public class WorkspaceReader extends Reader<Workspace> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Workspace ResourceSet
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Workspace> firstPage(final TwilioRestClient client) {
-        Request request = new Request(
-            HttpMethod.GET,
-            Domains.TASKROUTER.toString(),
-            "/v1/Workspaces",
-            client.getRegion()
-        );
+    protected Request buildFirstPageRequest(final TwilioRestClient client) {
+        Request request = URL.request(HttpMethod.GET, client.getRegion());
         
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
-     * Retrieve the next page from the Twilio API.
+     * Build the request to the Twilio API for the next page of the read.
      * 
      * @param page current page
      * @param client TwilioRestClient with which to make the request
-     * @return Next Page
+     * @return Request to make
      */
     @Override
-    public Page<Workspace> nextPage(final Page<Workspace> page, 
-                                    final TwilioRestClient client) {
+    protected Request buildNextPageRequest(final Page<Workspace> page, 
+                                           final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             page.getNextPageUrl(
@@ -81,19 +82,22 @@ public class WorkspaceReader extends Reader<Workspace> {
                 client.getRegion()
             )
         );
-        return pageForRequest(client, request);
+        request.setTemplate(URL);
+        return request;
     }
 
     /**
-     * Generate a Page of Workspace Resources for a given request.
+     * Generate a Page of Workspace Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param response Response to generate a page for
+     * @param client TwilioRestClient with which the request was made
+     * @param streaming whether records are decoded one at a time from the response
+     * @return Page for the Response
      */
-    private Page<Workspace> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-        
+    @Override
+    protected Page<Workspace> parsePage(final Response response, 
+                                        final TwilioRestClient client, 
+                                        final boolean streaming) {
         if (response == null) {
             throw new ApiConnectionException("Workspace read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -111,11 +115,12 @@ public class WorkspaceReader extends Reader<Workspace> {
             );
         }
         
-        return Page.fromJson(
+        return pageForResponse(
             "workspaces",
-            response.getContent(),
+            response,
             Workspace.class,
-            client.getObjectMapper()
+            client,
+            streaming
         );
     }
 
@@ -36,6 +36,27 @@ import java.util.Objects;
 public class Activity extends Resource {
     private static final long serialVersionUID = 66226006406843L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        AVAILABLE("available"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        FRIENDLY_NAME("friendly_name"),
+        SID("sid"),
+        WORKSPACE_SID("workspace_sid"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a ActivityFetcher to execute fetch.
      * 
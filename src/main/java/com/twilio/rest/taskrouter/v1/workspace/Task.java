@@ -11,11 +11,15 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
+import com.twilio.converter.ResourceDeserializer;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -31,11 +35,41 @@ import java.io.InputStream;
 import java.net.URI;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class Task extends Resource {
     private static final long serialVersionUID = 210558338206180L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        AGE("age"),
+        ASSIGNMENT_STATUS("assignment_status"),
+        ATTRIBUTES("attributes"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        PRIORITY("priority"),
+        REASON("reason"),
+        SID("sid"),
+        TASK_QUEUE_SID("task_queue_sid"),
+        TASK_CHANNEL_SID("task_channel_sid"),
+        TASK_CHANNEL_UNIQUE_NAME("task_channel_unique_name"),
+        TIMEOUT("timeout"),
+        WORKFLOW_SID("workflow_sid"),
+        WORKSPACE_SID("workspace_sid"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum Status {
         PENDING("pending"),
         RESERVED("reserved"),
@@ -43,6 +77,8 @@ public class Task extends Resource {
         CANCELED("canceled"),
         COMPLETED("completed");
     
+        private static final EnumLookup<Status> LOOKUP = EnumLookup.of(Status.class);
+        
         private final String value;
         
         private Status(final String value) {
@@ -60,14 +96,7 @@ public class Task extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Status.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
@@ -451,4 +480,110 @@ public class Task extends Resource {
                           .add("url", url)
                           .toString();
     }
+
+    /**
+     * Decodes a Task by switching on its property names as they are read.
+     */
+    public static class Deserializer extends ResourceDeserializer<Task> {
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(Task.class);
+        }
+
+        @Override
+        public Task deserialize(final JsonParser parser, 
+                                final DeserializationContext ctxt) throws IOException {
+            Set<?> selected = begin(parser, ctxt);
+            String accountSid = null;
+            Integer age = null;
+            Task.Status assignmentStatus = null;
+            String attributes = null;
+            String dateCreated = null;
+            String dateUpdated = null;
+            Integer priority = null;
+            String reason = null;
+            String sid = null;
+            String taskQueueSid = null;
+            String taskChannelSid = null;
+            String taskChannelUniqueName = null;
+            Integer timeout = null;
+            String workflowSid = null;
+            String workspaceSid = null;
+            URI url = null;
+
+            for (String field = nextField(parser, selected); field != null; field = nextField(parser, selected)) {
+                switch (field) {
+                    case "account_sid":
+                        accountSid = text(parser, ctxt);
+                        break;
+                    case "age":
+                        age = integer(parser, ctxt);
+                        break;
+                    case "assignment_status":
+                        assignmentStatus = Task.Status.forValue(text(parser, ctxt));
+                        break;
+                    case "attributes":
+                        attributes = text(parser, ctxt);
+                        break;
+                    case "date_created":
+                        dateCreated = text(parser, ctxt);
+                        break;
+                    case "date_updated":
+                        dateUpdated = text(parser, ctxt);
+                        break;
+                    case "priority":
+                        priority = integer(parser, ctxt);
+                        break;
+                    case "reason":
+                        reason = text(parser, ctxt);
+                        break;
+                    case "sid":
+                        sid = text(parser, ctxt);
+                        break;
+                    case "task_queue_sid":
+                        taskQueueSid = text(parser, ctxt);
+                        break;
+                    case "task_channel_sid":
+                        taskChannelSid = text(parser, ctxt);
+                        break;
+                    case "task_channel_unique_name":
+                        taskChannelUniqueName = text(parser, ctxt);
+                        break;
+                    case "timeout":
+                        timeout = integer(parser, ctxt);
+                        break;
+                    case "workflow_sid":
+                        workflowSid = text(parser, ctxt);
+                        break;
+                    case "workspace_sid":
+                        workspaceSid = text(parser, ctxt);
+                        break;
+                    case "url":
+                        url = uri(parser, ctxt);
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+
+            return new Task(accountSid,
+                            age,
+                            assignmentStatus,
+                            attributes,
+                            dateCreated,
+                            dateUpdated,
+                            priority,
+                            reason,
+                            sid,
+                            taskQueueSid,
+                            taskChannelSid,
+                            taskChannelUniqueName,
+                            timeout,
+                            workflowSid,
+                            workspaceSid,
+                            url);
+        }
+    }
 }
\ No newline at end of file
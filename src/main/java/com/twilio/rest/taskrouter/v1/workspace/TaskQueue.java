@@ -36,6 +36,33 @@ import java.util.Objects;
 public class TaskQueue extends Resource {
     private static final long serialVersionUID = 97200418607847L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        ASSIGNMENT_ACTIVITY_SID("assignment_activity_sid"),
+        ASSIGNMENT_ACTIVITY_NAME("assignment_activity_name"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        FRIENDLY_NAME("friendly_name"),
+        MAX_RESERVED_WORKERS("max_reserved_workers"),
+        RESERVATION_ACTIVITY_SID("reservation_activity_sid"),
+        RESERVATION_ACTIVITY_NAME("reservation_activity_name"),
+        SID("sid"),
+        TARGET_WORKERS("target_workers"),
+        URL("url"),
+        WORKSPACE_SID("workspace_sid"),
+        LINKS("links");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a TaskQueueFetcher to execute fetch.
      * 
@@ -36,6 +36,32 @@ import java.util.Objects;
 public class Worker extends Resource {
     private static final long serialVersionUID = 71992031157502L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        ACTIVITY_NAME("activity_name"),
+        ACTIVITY_SID("activity_sid"),
+        ATTRIBUTES("attributes"),
+        AVAILABLE("available"),
+        DATE_CREATED("date_created"),
+        DATE_STATUS_CHANGED("date_status_changed"),
+        DATE_UPDATED("date_updated"),
+        FRIENDLY_NAME("friendly_name"),
+        SID("sid"),
+        WORKSPACE_SID("workspace_sid"),
+        URL("url"),
+        LINKS("links");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a WorkerReader to execute read.
      * 
@@ -36,6 +36,31 @@ import java.util.Objects;
 public class Workflow extends Resource {
     private static final long serialVersionUID = 90619369199227L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        ASSIGNMENT_CALLBACK_URL("assignment_callback_url"),
+        CONFIGURATION("configuration"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        DOCUMENT_CONTENT_TYPE("document_content_type"),
+        FALLBACK_ASSIGNMENT_CALLBACK_URL("fallback_assignment_callback_url"),
+        FRIENDLY_NAME("friendly_name"),
+        SID("sid"),
+        TASK_RESERVATION_TIMEOUT("task_reservation_timeout"),
+        WORKSPACE_SID("workspace_sid"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a WorkflowFetcher to execute fetch.
      * 
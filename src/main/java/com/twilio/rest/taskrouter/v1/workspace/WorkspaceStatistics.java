@@ -34,6 +34,23 @@ import java.util.Objects;
 public class WorkspaceStatistics extends Resource {
     private static final long serialVersionUID = 176548291123699L;
 
+    public enum Field implements Resource.Field {
+        REALTIME("realtime"),
+        CUMULATIVE("cumulative"),
+        ACCOUNT_SID("account_sid"),
+        WORKSPACE_SID("workspace_sid");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a WorkspaceStatisticsFetcher to execute fetch.
      * 
@@ -34,6 +34,24 @@ import java.util.Objects;
 public class TaskQueueStatistics extends Resource {
     private static final long serialVersionUID = 246523371655676L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        CUMULATIVE("cumulative"),
+        REALTIME("realtime"),
+        TASK_QUEUE_SID("task_queue_sid"),
+        WORKSPACE_SID("workspace_sid");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a TaskQueueStatisticsFetcher to execute fetch.
      * 
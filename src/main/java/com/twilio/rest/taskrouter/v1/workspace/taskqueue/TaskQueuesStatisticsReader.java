@@ -18,10 +18,16 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 import org.joda.time.DateTime;
 
 public class TaskQueuesStatisticsReader extends Reader<TaskQueuesStatistics> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.TASKROUTER,
+        "/v1/Workspaces/{WorkspaceSid}/TaskQueues/Statistics"
+    );
+
     private final String workspaceSid;
     private DateTime endDate;
     private String friendlyName;
@@ -93,35 +99,30 @@ public class TaskQueuesStatisticsReader extends Reader<TaskQueuesStatistics> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return TaskQueuesStatistics ResourceSet
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<TaskQueuesStatistics> firstPage(final TwilioRestClient client) {
-        Request request = new Request(
-            HttpMethod.GET,
-            Domains.TASKROUTER.toString(),
-            "/v1/Workspaces/" + this.workspaceSid + "/TaskQueues/Statistics",
-            client.getRegion()
-        );
+    protected Request buildFirstPageRequest(final TwilioRestClient client) {
+        Request request = URL.request(HttpMethod.GET, client.getRegion(), this.workspaceSid);
         
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
-     * Retrieve the next page from the Twilio API.
+     * Build the request to the Twilio API for the next page of the read.
      * 
      * @param page current page
      * @param client TwilioRestClient with which to make the request
-     * @return Next Page
+     * @return Request to make
      */
     @Override
-    public Page<TaskQueuesStatistics> nextPage(final Page<TaskQueuesStatistics> page, 
-                                               final TwilioRestClient client) {
+    protected Request buildNextPageRequest(final Page<TaskQueuesStatistics> page, 
+                                           final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             page.getNextPageUrl(
@@ -129,19 +130,22 @@ public class TaskQueuesStatisticsReader extends Reader<TaskQueuesStatistics> {
                 client.getRegion()
             )
         );
-        return pageForRequest(client, request);
+        request.setTemplate(URL);
+        return request;
     }
 
     /**
-     * Generate a Page of TaskQueuesStatistics Resources for a given request.
+     * Generate a Page of TaskQueuesStatistics Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param response Response to generate a page for
+     * @param client TwilioRestClient with which the request was made
+     * @param streaming whether records are decoded one at a time from the response
+     * @return Page for the Response
      */
-    private Page<TaskQueuesStatistics> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-        
+    @Override
+    protected Page<TaskQueuesStatistics> parsePage(final Response response, 
+                                                   final TwilioRestClient client, 
+                                                   final boolean streaming) {
         if (response == null) {
             throw new ApiConnectionException("TaskQueuesStatistics read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -159,11 +163,12 @@ public class TaskQueuesStatisticsReader extends Reader<TaskQueuesStatistics> {
             );
         }
         
-        return Page.fromJson(
+        return pageForResponse(
             "task_queues_statistics",
-            response.getContent(),
+            response,
             TaskQueuesStatistics.class,
-            client.getObjectMapper()
+            client,
+            streaming
         );
     }
 
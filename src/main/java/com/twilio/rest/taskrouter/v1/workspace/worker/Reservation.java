@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -36,6 +37,30 @@ import java.util.Objects;
 public class Reservation extends Resource {
     private static final long serialVersionUID = 156834658396048L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        RESERVATION_STATUS("reservation_status"),
+        SID("sid"),
+        TASK_SID("task_sid"),
+        WORKER_NAME("worker_name"),
+        WORKER_SID("worker_sid"),
+        WORKSPACE_SID("workspace_sid"),
+        URL("url"),
+        LINKS("links");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum Status {
         PENDING("pending"),
         ACCEPTED("accepted"),
@@ -44,6 +69,8 @@ public class Reservation extends Resource {
         CANCELED("canceled"),
         RESCINDED("rescinded");
     
+        private static final EnumLookup<Status> LOOKUP = EnumLookup.of(Status.class);
+        
         private final String value;
         
         private Status(final String value) {
@@ -61,14 +88,7 @@ public class Reservation extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return Status.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
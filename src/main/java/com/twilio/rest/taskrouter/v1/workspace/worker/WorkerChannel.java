@@ -36,6 +36,33 @@ import java.util.Objects;
 public class WorkerChannel extends Resource {
     private static final long serialVersionUID = 1787446627857L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        ASSIGNED_TASKS("assigned_tasks"),
+        AVAILABLE("available"),
+        AVAILABLE_CAPACITY_PERCENTAGE("available_capacity_percentage"),
+        CONFIGURED_CAPACITY("configured_capacity"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        SID("sid"),
+        TASK_CHANNEL_SID("task_channel_sid"),
+        TASK_CHANNEL_UNIQUE_NAME("task_channel_unique_name"),
+        WORKER_SID("worker_sid"),
+        WORKSPACE_SID("workspace_sid"),
+        LINKS("links"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a WorkerChannelReader to execute read.
      * 
@@ -17,9 +17,15 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 public class WorkerChannelReader extends Reader<WorkerChannel> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.TASKROUTER,
+        "/v1/Workspaces/{WorkspaceSid}/Workers/{WorkerSid}/Channels"
+    );
+
     private final String workspaceSid;
     private final String workerSid;
 
@@ -47,35 +53,30 @@ public class WorkerChannelReader extends Reader<WorkerChannel> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return WorkerChannel ResourceSet
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<WorkerChannel> firstPage(final TwilioRestClient client) {
-        Request request = new Request(
-            HttpMethod.GET,
-            Domains.TASKROUTER.toString(),
-            "/v1/Workspaces/" + this.workspaceSid + "/Workers/" + this.workerSid + "/Channels",
-            client.getRegion()
-        );
+    protected Request buildFirstPageRequest(final TwilioRestClient client) {
+        Request request = URL.request(HttpMethod.GET, client.getRegion(), this.workspaceSid, this.workerSid);
         
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
-     * Retrieve the next page from the Twilio API.
+     * Build the request to the Twilio API for the next page of the read.
      * 
      * @param page current page
      * @param client TwilioRestClient with which to make the request
-     * @return Next Page
+     * @return Request to make
      */
     @Override
-    public Page<WorkerChannel> nextPage(final Page<WorkerChannel> page, 
-                                        final TwilioRestClient client) {
+    protected Request buildNextPageRequest(final Page<WorkerChannel> page, 
+                                           final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             page.getNextPageUrl(
@@ -83,19 +84,22 @@ public class WorkerChannelReader extends Reader<WorkerChannel> {
                 client.getRegion()
             )
         );
-        return pageForRequest(client, request);
+        request.setTemplate(URL);
+        return request;
     }
 
     /**
-     * Generate a Page of WorkerChannel Resources for a given request.
+     * Generate a Page of WorkerChannel Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param response Response to generate a page for
+     * @param client TwilioRestClient with which the request was made
+     * @param streaming whether records are decoded one at a time from the response
+     * @return Page for the Response
      */
-    private Page<WorkerChannel> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-        
+    @Override
+    protected Page<WorkerChannel> parsePage(final Response response, 
+                                            final TwilioRestClient client, 
+                                            final boolean streaming) {
         if (response == null) {
             throw new ApiConnectionException("WorkerChannel read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -113,11 +117,12 @@ public class WorkerChannelReader extends Reader<WorkerChannel> {
             );
         }
         
-        return Page.fromJson(
+        return pageForResponse(
             "channels",
-            response.getContent(),
+            response,
             WorkerChannel.class,
-            client.getObjectMapper()
+            client,
+            streaming
         );
     }
 
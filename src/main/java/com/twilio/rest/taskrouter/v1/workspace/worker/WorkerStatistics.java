@@ -34,6 +34,23 @@ import java.util.Objects;
 public class WorkerStatistics extends Resource {
     private static final long serialVersionUID = 174071152398170L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        CUMULATIVE("cumulative"),
+        WORKER_SID("worker_sid"),
+        WORKSPACE_SID("workspace_sid");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a WorkerStatisticsFetcher to execute fetch.
      * 
@@ -34,6 +34,23 @@ import java.util.Objects;
 public class WorkersStatistics extends Resource {
     private static final long serialVersionUID = 176548291123699L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        CUMULATIVE("cumulative"),
+        REALTIME("realtime"),
+        WORKSPACE_SID("workspace_sid");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a WorkersStatisticsFetcher to execute fetch.
      * 
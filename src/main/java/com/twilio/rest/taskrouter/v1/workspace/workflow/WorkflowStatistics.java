@@ -34,6 +34,24 @@ import java.util.Objects;
 public class WorkflowStatistics extends Resource {
     private static final long serialVersionUID = 164789370388563L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        CUMULATIVE("cumulative"),
+        REALTIME("realtime"),
+        WORKFLOW_SID("workflow_sid"),
+        WORKSPACE_SID("workspace_sid");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a WorkflowStatisticsFetcher to execute fetch.
      * 
@@ -38,6 +38,33 @@ import java.util.Objects;
 public class Trunk extends Resource {
     private static final long serialVersionUID = 276011649758607L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        DOMAIN_NAME("domain_name"),
+        DISASTER_RECOVERY_METHOD("disaster_recovery_method"),
+        DISASTER_RECOVERY_URL("disaster_recovery_url"),
+        FRIENDLY_NAME("friendly_name"),
+        SECURE("secure"),
+        RECORDING("recording"),
+        AUTH_TYPE("auth_type"),
+        AUTH_TYPE_SET("auth_type_set"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        SID("sid"),
+        URL("url"),
+        LINKS("links");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a TrunkFetcher to execute fetch.
      * 
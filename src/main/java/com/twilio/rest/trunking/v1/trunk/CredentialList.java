@@ -36,6 +36,26 @@ import java.util.Objects;
 public class CredentialList extends Resource {
     private static final long serialVersionUID = 45032598628398L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        SID("sid"),
+        TRUNK_SID("trunk_sid"),
+        FRIENDLY_NAME("friendly_name"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a CredentialListFetcher to execute fetch.
      * 
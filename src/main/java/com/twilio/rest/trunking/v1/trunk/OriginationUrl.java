@@ -36,6 +36,30 @@ import java.util.Objects;
 public class OriginationUrl extends Resource {
     private static final long serialVersionUID = 147762448771620L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        SID("sid"),
+        TRUNK_SID("trunk_sid"),
+        WEIGHT("weight"),
+        ENABLED("enabled"),
+        SIP_URL("sip_url"),
+        FRIENDLY_NAME("friendly_name"),
+        PRIORITY("priority"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        URL("url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     /**
      * Create a OriginationUrlFetcher to execute fetch.
      * 
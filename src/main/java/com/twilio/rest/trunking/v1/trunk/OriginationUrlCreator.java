@@ -15,11 +15,17 @@ import com.twilio.http.HttpMethod;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import com.twilio.http.UrlTemplate;
 import com.twilio.rest.Domains;
 
 import java.net.URI;
 
 public class OriginationUrlCreator extends Creator<OriginationUrl> {
+    private static final UrlTemplate URL = UrlTemplate.compile(
+        Domains.TRUNKING,
+        "/v1/Trunks/{TrunkSid}/OriginationUrls"
+    );
+
     private final String trunkSid;
     private final Integer weight;
     private final Integer priority;
@@ -52,24 +58,30 @@ public class OriginationUrlCreator extends Creator<OriginationUrl> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the create.
+     * Build the request to the Twilio API to perform the create.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Created OriginationUrl
+     * @return Request to make
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public OriginationUrl create(final TwilioRestClient client) {
-        Request request = new Request(
-            HttpMethod.POST,
-            Domains.TRUNKING.toString(),
-            "/v1/Trunks/" + this.trunkSid + "/OriginationUrls",
-            client.getRegion()
-        );
+    protected Request buildRequest(final TwilioRestClient client) {
+        Request request = URL.request(HttpMethod.POST, client.getRegion(), this.trunkSid);
         
         addPostParams(request);
-        Response response = client.request(request);
-        
+        return request;
+    }
+
+    /**
+     * Convert the response of the Twilio API to the result of the create.
+     * 
+     * @param response Response of the request
+     * @param client TwilioRestClient with which the request was made
+     * @return Created OriginationUrl
+     */
+    @Override
+    @SuppressWarnings("checkstyle:linelength")
+    protected OriginationUrl parseResponse(final Response response, final TwilioRestClient client) {
         if (response == null) {
             throw new ApiConnectionException("OriginationUrl creation failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
+import com.twilio.converter.EnumLookup;
 import com.twilio.exception.ApiConnectionException;
 import com.twilio.exception.ApiException;
 import com.twilio.exception.RestException;
@@ -36,12 +37,53 @@ import java.util.Objects;
 public class PhoneNumber extends Resource {
     private static final long serialVersionUID = 99734519858175L;
 
+    public enum Field implements Resource.Field {
+        ACCOUNT_SID("account_sid"),
+        ADDRESS_REQUIREMENTS("address_requirements"),
+        API_VERSION("api_version"),
+        BETA("beta"),
+        CAPABILITIES("capabilities"),
+        DATE_CREATED("date_created"),
+        DATE_UPDATED("date_updated"),
+        FRIENDLY_NAME("friendly_name"),
+        LINKS("links"),
+        PHONE_NUMBER("phone_number"),
+        SID("sid"),
+        SMS_APPLICATION_SID("sms_application_sid"),
+        SMS_FALLBACK_METHOD("sms_fallback_method"),
+        SMS_FALLBACK_URL("sms_fallback_url"),
+        SMS_METHOD("sms_method"),
+        SMS_URL("sms_url"),
+        STATUS_CALLBACK("status_callback"),
+        STATUS_CALLBACK_METHOD("status_callback_method"),
+        TRUNK_SID("trunk_sid"),
+        URL("url"),
+        VOICE_APPLICATION_SID("voice_application_sid"),
+        VOICE_CALLER_ID_LOOKUP("voice_caller_id_lookup"),
+        VOICE_FALLBACK_METHOD("voice_fallback_method"),
+        VOICE_FALLBACK_URL("voice_fallback_url"),
+        VOICE_METHOD("voice_method"),
+        VOICE_URL("voice_url");
+    
+        private final String property;
+        
+        private Field(final String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+    }
+
     public enum AddressRequirement {
         NONE("none"),
         ANY("any"),
         LOCAL("local"),
         FOREIGN("foreign");
     
+        private static final EnumLookup<AddressRequirement> LOOKUP = EnumLookup.of(AddressRequirement.class);
+        
         private final String value;
         
         private AddressRequirement(final String value) {
@@ -59,14 +101,7 @@ public class PhoneNumber extends Resource {
          */
         @JsonCreator
         public static AddressRequirement forValue(final String value) {
-            String normalized = value.replace("-", "_").toUpperCase();
-            try {
-                return AddressRequirement.valueOf(normalized);
-            } catch (RuntimeException e) {
-        
-                // Don't blow up of value does not exist
-                return null;
-            }
+            return LOOKUP.forValue(value);
         }
     }
 
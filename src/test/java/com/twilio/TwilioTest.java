@@ -2,8 +2,11 @@ package com.twilio;
 
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.twilio.http.NetworkHttpClient;
 import com.twilio.http.TwilioRestClient;
 import com.twilio.exception.AuthenticationException;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
 import org.junit.Test;
 
 import java.util.concurrent.Executors;
@@ -60,4 +63,16 @@ public class TwilioTest {
         assertEquals(twilioRestClient, Twilio.getRestClient());
     }
 
+    @Test(expected = IllegalStateException.class)
+    public void testCredentialChangeClosesClient() {
+        Twilio.setRestClient(null);
+        Twilio.init("AC123", "AUTH TOKEN");
+        NetworkHttpClient httpClient = (NetworkHttpClient) Twilio.getRestClient().getHttpClient();
+
+        Twilio.setPassword("OTHER TOKEN");
+        httpClient.getConnectionManager().requestConnection(
+            new HttpRoute(new HttpHost("api.twilio.com", 443, "https"), null, true), null
+        );
+    }
+
 }
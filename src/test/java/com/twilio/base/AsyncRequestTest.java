@@ -0,0 +1,75 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.Futures;
+import com.twilio.exception.ApiException;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Call;
+import com.twilio.rest.api.v2010.account.CallDeleter;
+import com.twilio.rest.api.v2010.account.CallFetcher;
+import com.twilio.rest.api.v2010.account.CallReader;
+import mockit.Mocked;
+import mockit.NonStrictExpectations;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+
+public class AsyncRequestTest {
+
+    @Mocked
+    private TwilioRestClient client;
+
+    @Test
+    public void testFetchAsyncUsesAsyncTransport() throws Exception {
+        new NonStrictExpectations() {{
+            client.requestAsync((Request) any);
+            result = Futures.immediateFuture(new Response("{\"sid\": \"CA123\"}", 200));
+            client.request((Request) any);
+            times = 0;
+            client.getObjectMapper();
+            result = new ObjectMapper();
+        }};
+
+        Call call = new CallFetcher("AC123", "CA123").fetchAsync(client).get();
+        Assert.assertEquals("CA123", call.getSid());
+    }
+
+    @Test
+    public void testReadAsyncUsesAsyncTransport() throws Exception {
+        new NonStrictExpectations() {{
+            client.requestAsync((Request) any);
+            result = Futures.immediateFuture(new Response(
+                "{\"calls\": [{\"sid\": \"CA123\"}],\"next_page_uri\": null,\"uri\": \"/Calls.json\"}", 200
+            ));
+            client.request((Request) any);
+            times = 0;
+            client.getObjectMapper();
+            result = new ObjectMapper();
+        }};
+
+        Iterator<Call> calls = new CallReader("AC123").readAsync(client).get().iterator();
+        Assert.assertEquals("CA123", calls.next().getSid());
+        Assert.assertFalse(calls.hasNext());
+    }
+
+    @Test
+    public void testDeleteAsyncError() throws Exception {
+        new NonStrictExpectations() {{
+            client.requestAsync((Request) any);
+            result = Futures.immediateFuture(new Response("{\"status\": 404, \"message\": \"Not found\"}", 404));
+            client.getObjectMapper();
+            result = new ObjectMapper();
+        }};
+
+        try {
+            new CallDeleter("AC123", "CA123").deleteAsync(client).get();
+            Assert.fail("Expected ApiException");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof ApiException);
+        }
+    }
+}
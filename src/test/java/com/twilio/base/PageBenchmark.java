@@ -0,0 +1,110 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.rest.api.v2010.account.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of the streaming and lazy {@link Page} decoders against the tree based decoder they replaced.
+ *
+ * <p>
+ *     Run with {@code java -cp target/test-classes:target/classes:<test classpath> org.openjdk.jmh.Main PageBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PageBenchmark {
+
+    private static final String MESSAGE = "{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\","
+        + "\"api_version\": \"2010-04-01\",\"body\": \"O Slash: \\u00d8, PoP: \\ud83d\\udca9\","
+        + "\"date_created\": \"Thu, 30 Jul 2015 20:12:31 +0000\",\"date_sent\": \"Thu, 30 Jul 2015 20:12:33 +0000\","
+        + "\"date_updated\": \"Thu, 30 Jul 2015 20:12:33 +0000\",\"direction\": \"outbound-api\","
+        + "\"error_code\": null,\"error_message\": null,\"from\": \"+14155552345\","
+        + "\"messaging_service_sid\": \"MGaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"num_media\": \"0\","
+        + "\"num_segments\": \"1\",\"price\": \"-0.00750\",\"price_unit\": \"USD\","
+        + "\"sid\": \"SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"status\": \"sent\","
+        + "\"subresource_uris\": {\"media\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages/"
+        + "SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Media.json\"},\"to\": \"+14155552345\","
+        + "\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages/"
+        + "SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa.json\"}";
+
+    @Param({"50", "1000"})
+    private int records;
+
+    private ObjectMapper mapper;
+    private byte[] bytes;
+
+    /**
+     * Build a list response with the requested number of records.
+     */
+    @Setup
+    public void setUp() {
+        mapper = new ObjectMapper();
+
+        StringBuilder sb = new StringBuilder("{\"end\": 0,\"first_page_uri\": \"/2010-04-01/Accounts/"
+            + "ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages.json?PageSize=50&Page=0\",\"messages\": [");
+        for (int i = 0; i < records; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(MESSAGE);
+        }
+        sb.append("],\"next_page_uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages.json"
+            + "?PageSize=50&Page=1\",\"page\": 0,\"page_size\": 50,\"previous_page_uri\": null,\"start\": 0,"
+            + "\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages.json?PageSize=50&Page=0\"}");
+
+        bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Page<Message> streaming() {
+        return Page.fromJson("messages", new ByteArrayInputStream(bytes), Message.class, mapper);
+    }
+
+    /**
+     * Scan the page for record bounds and decode only the first record.
+     */
+    @Benchmark
+    public Message lazyFirstRecord() {
+        return Page.lazyFromJson("messages", new ByteArrayInputStream(bytes), Message.class, mapper)
+            .getRecords().get(0);
+    }
+
+    /**
+     * Decode the page the way {@code Page.fromJson} did before it streamed: read a tree, then re-serialize
+     * and re-parse every record.
+     */
+    @Benchmark
+    public List<Message> tree() throws IOException {
+        String content = new String(bytes, StandardCharsets.UTF_8);
+        List<Message> results = new ArrayList<>();
+        JsonNode root = mapper.readTree(content);
+        for (final JsonNode record : root.get("messages")) {
+            results.add(mapper.readValue(record.toString(), Message.class));
+        }
+        root.get("next_page_uri").asText();
+        return results;
+    }
+}
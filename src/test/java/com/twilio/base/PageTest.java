@@ -0,0 +1,114 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.rest.api.v2010.account.Call;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+public class PageTest {
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testFromJsonStream() {
+        String json = "{\"calls\": [{\"sid\": \"CA123\", \"to\": \"+14155551234\"}, {\"sid\": \"CA456\"}],"
+            + "\"uri\": \"/2010-04-01/Accounts/AC123/Calls.json?PageSize=2&Page=0\","
+            + "\"next_page_uri\": \"/2010-04-01/Accounts/AC123/Calls.json?PageSize=2&Page=1\","
+            + "\"previous_page_uri\": null,\"page_size\": 2,\"start\": 0}";
+
+        Page<Call> page = Page.fromJson("calls", stream(json), Call.class, new ObjectMapper());
+
+        Assert.assertEquals(2, page.getRecords().size());
+        Assert.assertEquals("CA123", page.getRecords().get(0).getSid());
+        Assert.assertEquals("CA456", page.getRecords().get(1).getSid());
+        Assert.assertEquals(2, page.getPageSize());
+        Assert.assertTrue(page.hasNextPage());
+        Assert.assertEquals(
+            "https://api.twilio.com/2010-04-01/Accounts/AC123/Calls.json?PageSize=2&Page=1",
+            page.getNextPageUrl("api", null)
+        );
+    }
+
+    @Test
+    public void testFromJsonMetadataBeforeRecords() {
+        String json = "{\"page_size\": 50,\"next_page_uri\": null,\"uri\": \"/2010-04-01/Accounts/AC123/Calls.json\","
+            + "\"calls\": [{\"sid\": \"CA123\"}]}";
+
+        Page<Call> page = Page.fromJson("calls", json, Call.class, new ObjectMapper());
+
+        Assert.assertEquals(1, page.getRecords().size());
+        Assert.assertEquals(50, page.getPageSize());
+        Assert.assertFalse(page.hasNextPage());
+    }
+
+    @Test
+    public void testFromJsonNextGen() {
+        String json = "{\"calls\": [{\"sid\": \"CA123\"}],\"meta\": {\"page\": 0,\"page_size\": 1,"
+            + "\"first_page_url\": \"https://example.twilio.com/v1/Calls?PageSize=1&Page=0\","
+            + "\"previous_page_url\": null,\"url\": \"https://example.twilio.com/v1/Calls?PageSize=1&Page=0\","
+            + "\"next_page_url\": \"https://example.twilio.com/v1/Calls?PageSize=1&Page=1\",\"key\": \"calls\"}}";
+
+        Page<Call> page = Page.fromJson("calls", stream(json), Call.class, new ObjectMapper());
+
+        Assert.assertEquals(1, page.getRecords().size());
+        Assert.assertEquals(1, page.getPageSize());
+        Assert.assertTrue(page.hasNextPage());
+        Assert.assertEquals(
+            "https://example.twilio.com/v1/Calls?PageSize=1&Page=1",
+            page.getNextPageUrl("example", null)
+        );
+    }
+
+    @Test
+    public void testFromJsonDefaultPageSize() {
+        String json = "{\"calls\": [{\"sid\": \"CA123\"}, {\"sid\": \"CA456\"}, {\"sid\": \"CA789\"}],"
+            + "\"meta\": {\"page_size\": null,\"next_page_url\": null}}";
+
+        Page<Call> page = Page.fromJson("calls", stream(json), Call.class, new ObjectMapper());
+
+        Assert.assertEquals(3, page.getPageSize());
+        Assert.assertFalse(page.hasNextPage());
+    }
+
+    @Test(expected = ApiConnectionException.class)
+    public void testFromJsonInvalid() {
+        Page.fromJson("calls", stream("{\"calls\": [{\"sid\": "), Call.class, new ObjectMapper());
+    }
+
+    @Test
+    public void testLazyFromJson() {
+        String json = "{\"calls\": [ {\"sid\": \"CA123\", \"to\": \"+14155551234\"} , null,"
+            + "{\"sid\": \"CA456\", \"caller_name\": \"\u00d8 \u00e9\u00e8\"}],"
+            + "\"next_page_uri\": \"/2010-04-01/Accounts/AC123/Calls.json?PageSize=3&Page=1\",\"page_size\": 3}";
+        ObjectMapper mapper = new ObjectMapper();
+
+        Page<Call> eager = Page.fromJson("calls", stream(json), Call.class, mapper);
+        Page<Call> lazy = Page.lazyFromJson("calls", stream(json), Call.class, mapper);
+        LazyRecordList<Call> records = (LazyRecordList<Call>) lazy.getRecords();
+
+        Assert.assertEquals(3, records.size());
+        Assert.assertEquals(0, records.getDecoded());
+        Assert.assertEquals(3, lazy.getPageSize());
+        Assert.assertTrue(lazy.hasNextPage());
+
+        Assert.assertEquals(eager.getRecords().get(2), records.get(2));
+        Assert.assertEquals("\u00d8 \u00e9\u00e8", records.get(2).getCallerName());
+        Assert.assertSame(records.get(2), records.get(2));
+        Assert.assertEquals(1, records.getDecoded());
+
+        Assert.assertEquals(eager.getRecords(), records);
+        Assert.assertNull(records.get(1));
+    }
+
+    @Test(expected = ApiConnectionException.class)
+    public void testLazyFromJsonInvalid() {
+        Page.lazyFromJson("calls", stream("{\"calls\": [{\"sid\": "), Call.class, new ObjectMapper());
+    }
+}
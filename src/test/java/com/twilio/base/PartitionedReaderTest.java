@@ -0,0 +1,200 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Function;
+import com.google.common.collect.Range;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.twilio.exception.InvalidRequestException;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.rest.api.v2010.account.MessageReader;
+import mockit.Delegate;
+import mockit.Mocked;
+import mockit.NonStrictExpectations;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+public class PartitionedReaderTest {
+
+    private static final Function<Range<DateTime>, MessageReader> FACTORY =
+        new Function<Range<DateTime>, MessageReader>() {
+            @Override
+            public MessageReader apply(Range<DateTime> range) {
+                return new MessageReader("AC123").setDateSent(range);
+            }
+        };
+
+    @Mocked
+    private TwilioRestClient client;
+
+    private static String page(String... sids) {
+        StringBuilder sb = new StringBuilder("{\"messages\": [");
+        for (int i = 0; i < sids.length; i++) {
+            sb.append(i > 0 ? "," : "").append("{\"sid\": \"").append(sids[i]).append("\"}");
+        }
+        return sb.append("],\"next_page_uri\": null,\"uri\": \"/Messages.json\"}").toString();
+    }
+
+    private static List<String> sids(Iterable<Message> messages) {
+        List<String> sids = new ArrayList<>();
+        for (Message message : messages) {
+            sids.add(message.getSid());
+        }
+        return sids;
+    }
+
+    @Test
+    public void testPartitionDateTimes() {
+        DateTime start = new DateTime(2016, 1, 1, 0, 0, 0, DateTimeZone.UTC);
+        List<Range<DateTime>> slices = PartitionedReader.partitionDateTimes(
+            Range.closedOpen(start, start.plusDays(1)), 4
+        );
+
+        Assert.assertEquals(4, slices.size());
+        Assert.assertEquals(Range.closed(start.plusHours(18), start.plusDays(1).minusSeconds(1)), slices.get(0));
+        Assert.assertEquals(Range.closed(start, start.plusHours(6).minusSeconds(1)), slices.get(3));
+    }
+
+    @Test
+    public void testPartitionDateTimesUneven() {
+        DateTime start = new DateTime(2016, 1, 1, 0, 0, 0, DateTimeZone.UTC);
+        List<Range<DateTime>> slices = PartitionedReader.partitionDateTimes(
+            Range.closed(start, start.plusSeconds(4)), 2
+        );
+
+        Assert.assertEquals(2, slices.size());
+        Assert.assertEquals(Range.closed(start.plusSeconds(3), start.plusSeconds(4)), slices.get(0));
+        Assert.assertEquals(Range.closed(start, start.plusSeconds(2)), slices.get(1));
+    }
+
+    @Test
+    public void testPartitionDates() {
+        LocalDate start = new LocalDate(2016, 1, 1);
+        List<Range<LocalDate>> slices = PartitionedReader.partitionDates(
+            Range.closed(start, new LocalDate(2016, 1, 31)), 4
+        );
+
+        Assert.assertEquals(4, slices.size());
+        Assert.assertEquals(Range.closed(new LocalDate(2016, 1, 25), new LocalDate(2016, 1, 31)), slices.get(0));
+        Assert.assertEquals(Range.closed(start, new LocalDate(2016, 1, 8)), slices.get(3));
+    }
+
+    @Test
+    public void testPartitionDatesMorePartitionsThanDays() {
+        LocalDate start = new LocalDate(2016, 1, 1);
+        List<Range<LocalDate>> slices = PartitionedReader.partitionDates(
+            Range.closedOpen(start, new LocalDate(2016, 1, 3)), 10
+        );
+
+        Assert.assertEquals(2, slices.size());
+        Assert.assertEquals(Range.singleton(new LocalDate(2016, 1, 2)), slices.get(0));
+        Assert.assertEquals(Range.singleton(start), slices.get(1));
+    }
+
+    @Test(expected = InvalidRequestException.class)
+    public void testPartitionUnboundedRange() {
+        PartitionedReader.partitionDateTimes(Range.atLeast(DateTime.now()), 4);
+    }
+
+    @Test
+    public void testReadOrdered() {
+        new NonStrictExpectations() {{
+            client.request((Request) any);
+            returns(
+                new Response(page("SM4", "SM3"), 200),
+                new Response(page("SM2"), 200),
+                new Response(page("SM1"), 200)
+            );
+            client.getObjectMapper();
+            result = new ObjectMapper();
+        }};
+
+        DateTime start = new DateTime(2016, 1, 1, 0, 0, 0, DateTimeZone.UTC);
+        PartitionedReader<Message> reader = PartitionedReader.byDateTime(Range.closed(start, start.plusDays(3)), 3, FACTORY)
+            .executorService(MoreExecutors.sameThreadExecutor())
+            .concurrency(2);
+
+        Assert.assertEquals(3, reader.getReaders().size());
+        List<String> sids = sids(reader.read(client));
+        Assert.assertEquals(4, sids.size());
+        Assert.assertEquals("SM4", sids.get(0));
+        Assert.assertEquals("SM1", sids.get(3));
+    }
+
+    @Test
+    public void testReadUnordered() {
+        new NonStrictExpectations() {{
+            client.request((Request) any);
+            result = new Response(page("SM1", "SM2"), 200);
+            times = 6;
+            client.getObjectMapper();
+            result = new ObjectMapper();
+        }};
+
+        ListeningExecutorService executor = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(3));
+        try {
+            DateTime start = new DateTime(2016, 1, 1, 0, 0, 0, DateTimeZone.UTC);
+            PartitionedReader<Message> reader = PartitionedReader.byDateTime(Range.closed(start, start.plusDays(6)), 6, FACTORY)
+                .executorService(executor)
+                .concurrency(3)
+                .bufferSize(2);
+
+            PartitionedResourceSet<Message> set = reader.readUnordered(client);
+            Assert.assertFalse(set.isOrdered());
+            Assert.assertEquals(12, sids(set).size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testPrefetchOnBoundedPool() {
+        new NonStrictExpectations() {{
+            client.request((Request) any);
+            result = new Delegate<Response>() {
+                @SuppressWarnings("unused")
+                Response request(final Request request) {
+                    if (request.getUrl().contains("Page=2")) {
+                        return new Response(page("SM3"), 200);
+                    }
+                    return new Response(
+                        "{\"messages\": [{\"sid\": \"SM1\"},{\"sid\": \"SM2\"}]," +
+                        "\"next_page_uri\": \"/2010-04-01/Accounts/AC123/Messages.json?Page=2\"," +
+                        "\"uri\": \"/Messages.json\"}",
+                        200
+                    );
+                }
+            };
+            client.getObjectMapper();
+            result = new ObjectMapper();
+        }};
+
+        ListeningExecutorService executor = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(2));
+        try {
+            DateTime start = new DateTime(2016, 1, 1, 0, 0, 0, DateTimeZone.UTC);
+            PartitionedReader<Message> reader = PartitionedReader.byDateTime(Range.closed(start, start.plusDays(4)), 4, FACTORY)
+                .executorService(executor)
+                .concurrency(2)
+                .prefetchPages(1)
+                .bufferSize(1);
+
+            List<String> ordered = sids(reader.read(client));
+            Assert.assertEquals(12, ordered.size());
+            Assert.assertEquals("SM3", ordered.get(2));
+            Assert.assertEquals("SM1", ordered.get(3));
+            Assert.assertEquals(12, sids(reader.readUnordered(client)).size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
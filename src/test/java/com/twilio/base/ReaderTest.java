@@ -1,5 +1,9 @@
 package com.twilio.base;
 
+import com.twilio.exception.InvalidRequestException;
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
 import com.twilio.rest.api.v2010.account.Call;
 import com.twilio.rest.api.v2010.account.CallReader;
@@ -8,7 +12,9 @@ import mockit.Mocked;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 
 public class ReaderTest {
 
@@ -89,4 +95,72 @@ public class ReaderTest {
         Assert.assertEquals(3, set.getPageLimit());
     }
 
+    @Test
+    public void testLazyRecords() {
+        TwilioRestClient client = new TwilioRestClient.Builder("AC123", "AUTH TOKEN")
+            .httpClient(new HttpClient() {
+                @Override
+                public Response makeRequest(Request request) {
+                    return new Response("{\"calls\": [{\"sid\": \"CA123\"}],\"page_size\": 1}", 200);
+                }
+            })
+            .lazyRecords(true)
+            .build();
+
+        Page<Call> lazy = new CallReader().firstPage(client);
+        Page<Call> eager = new CallReader().lazy(false).firstPage(client);
+
+        Assert.assertTrue(lazy.getRecords() instanceof LazyRecordList);
+        Assert.assertFalse(eager.getRecords() instanceof LazyRecordList);
+        Assert.assertEquals("CA123", lazy.getRecords().get(0).getSid());
+        Assert.assertEquals(eager.getRecords(), lazy.getRecords());
+    }
+
+    @Test
+    public void testSelect() {
+        TwilioRestClient client = new TwilioRestClient.Builder("AC123", "AUTH TOKEN")
+            .httpClient(new HttpClient() {
+                @Override
+                public Response makeRequest(Request request) {
+                    return new Response("{\"calls\": [{\"sid\": \"CA123\",\"duration\": \"15\","
+                        + "\"to\": \"+14155551234\",\"subresource_uris\": {\"notifications\": \"/N.json\"}}]}", 200);
+                }
+            })
+            .build();
+
+        Reader<Call> reader = new CallReader().select("sid", "duration");
+        Call call = reader.firstPage(client).getRecords().get(0);
+        Call lazy = reader.lazy(true).firstPage(client).getRecords().get(0);
+
+        Assert.assertEquals("CA123", call.getSid());
+        Assert.assertEquals("15", call.getDuration());
+        Assert.assertNull(call.getTo());
+        Assert.assertNull(call.getSubresourceUris());
+        Assert.assertEquals(call, lazy);
+    }
+
+    @Test(expected = InvalidRequestException.class)
+    public void testSelectUnknownProperty() {
+        new CallReader().select("sid", "durration");
+    }
+
+    @Test
+    public void testSelectFields() {
+        TwilioRestClient client = new TwilioRestClient.Builder("AC123", "AUTH TOKEN")
+            .httpClient(new HttpClient() {
+                @Override
+                public Response makeRequest(Request request) {
+                    return new Response("{\"calls\": [{\"sid\": \"CA123\",\"duration\": \"15\","
+                        + "\"to\": \"+14155551234\"}]}", 200);
+                }
+            })
+            .build();
+
+        Reader<Call> reader = new CallReader().select(Call.Field.SID, Call.Field.DURATION);
+        Call call = reader.firstPage(client).getRecords().get(0);
+
+        Assert.assertEquals(new HashSet<>(Arrays.asList("sid", "duration")), reader.getSelected());
+        Assert.assertEquals("15", call.getDuration());
+        Assert.assertNull(call.getTo());
+    }
 }
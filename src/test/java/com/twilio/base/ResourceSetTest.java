@@ -0,0 +1,173 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.twilio.exception.ApiException;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Call;
+import com.twilio.rest.api.v2010.account.CallReader;
+import mockit.Mocked;
+import mockit.NonStrictExpectations;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class ResourceSetTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Mocked
+    private TwilioRestClient client;
+
+    private static String page(int number, boolean last) {
+        String next = last ? "null" : "\"/2010-04-01/Accounts/AC123/Calls.json?Page=" + (number + 1) + "\"";
+        return "{\"calls\": [{\"sid\": \"CA" + number + "a\"}, {\"sid\": \"CA" + number + "b\"}],"
+            + "\"next_page_uri\": " + next + ",\"page_size\": 2,"
+            + "\"uri\": \"/2010-04-01/Accounts/AC123/Calls.json?Page=" + number + "\"}";
+    }
+
+    private static List<String> sids(Iterable<Call> calls) {
+        List<String> sids = new ArrayList<>();
+        for (Call call : calls) {
+            sids.add(call.getSid());
+        }
+        return sids;
+    }
+
+    @Test
+    public void testPrefetchReadsAllPages() {
+        new NonStrictExpectations() {{
+            client.request((Request) any);
+            returns(
+                new Response(page(1, false), 200),
+                new Response(page(2, false), 200),
+                new Response(page(3, true), 200)
+            );
+            times = 3;
+            client.getObjectMapper();
+            result = MAPPER;
+        }};
+
+        ResourceSet<Call> set = new CallReader("AC123").read(client)
+            .setExecutorService(MoreExecutors.sameThreadExecutor())
+            .setPrefetchPages(2);
+
+        Assert.assertEquals(2, set.getPrefetchPages());
+        List<String> sids = sids(set);
+        Assert.assertEquals(6, sids.size());
+        Assert.assertEquals("CA1a", sids.get(0));
+        Assert.assertEquals("CA3b", sids.get(5));
+    }
+
+    @Test
+    public void testPrefetchRespectsPageLimit() {
+        new NonStrictExpectations() {{
+            client.request((Request) any);
+            returns(new Response(page(1, false), 200), new Response(page(2, false), 200));
+            times = 2;
+            client.getObjectMapper();
+            result = MAPPER;
+        }};
+
+        ResourceSet<Call> set = new CallReader("AC123").limit(3).read(client)
+            .setExecutorService(MoreExecutors.sameThreadExecutor())
+            .setPrefetchPages(5);
+
+        Assert.assertEquals(2, set.getPageLimit());
+        Assert.assertEquals(3, sids(set).size());
+    }
+
+    @Test
+    public void testPrefetchStopsAtLastPage() {
+        new NonStrictExpectations() {{
+            client.request((Request) any);
+            result = new Response(page(1, true), 200);
+            times = 1;
+            client.getObjectMapper();
+            result = MAPPER;
+        }};
+
+        ResourceSet<Call> set = new CallReader("AC123").read(client)
+            .setExecutorService(MoreExecutors.sameThreadExecutor())
+            .setPrefetchPages(3);
+
+        Assert.assertEquals(2, sids(set).size());
+    }
+
+    @Test(expected = ApiException.class)
+    public void testPrefetchPropagatesErrors() {
+        new NonStrictExpectations() {{
+            client.request((Request) any);
+            returns(new Response(page(1, false), 200), new Response("{\"status\": 500}", 500));
+            client.getObjectMapper();
+            result = MAPPER;
+        }};
+
+        ResourceSet<Call> set = new CallReader("AC123").read(client)
+            .setExecutorService(MoreExecutors.sameThreadExecutor())
+            .setPrefetchPages(1);
+
+        sids(set);
+    }
+
+    @Test
+    public void testNoPrefetchWithoutAutoPaging() {
+        new NonStrictExpectations() {{
+            client.request((Request) any);
+            result = new Response(page(1, false), 200);
+            times = 1;
+            client.getObjectMapper();
+            result = MAPPER;
+        }};
+
+        ResourceSet<Call> set = new CallReader("AC123").read(client)
+            .setAutoPaging(false);
+        set.setExecutorService(MoreExecutors.sameThreadExecutor())
+            .setPrefetchPages(2);
+
+        Assert.assertEquals(2, sids(set).size());
+    }
+
+    @Test
+    public void testCloseCancelsPrefetch() throws Exception {
+        new NonStrictExpectations() {{
+            client.request((Request) any);
+            result = new Response(page(1, false), 200);
+            times = 1;
+            client.getObjectMapper();
+            result = MAPPER;
+        }};
+
+        ListeningExecutorService executor = MoreExecutors.listeningDecorator(Executors.newSingleThreadExecutor());
+        final CountDownLatch blocked = new CountDownLatch(1);
+        executor.submit(new Runnable() {
+            @Override
+            public void run() {
+                Uninterruptibles.awaitUninterruptibly(blocked);
+            }
+        });
+
+        try {
+            ResourceSet<Call> set = new CallReader("AC123").read(client)
+                .setExecutorService(executor)
+                .setPrefetchPages(2);
+            set.close();
+
+            Assert.assertFalse(set.isAutoPaging());
+            Assert.assertEquals(2, sids(set).size());
+        } finally {
+            blocked.countDown();
+            executor.shutdown();
+            Assert.assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+        }
+    }
+}
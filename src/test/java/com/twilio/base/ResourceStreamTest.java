@@ -0,0 +1,180 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Call;
+import com.twilio.rest.api.v2010.account.CallReader;
+import mockit.Delegate;
+import mockit.Mocked;
+import mockit.NonStrictExpectations;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ResourceStreamTest {
+
+    private static final String FIRST_PAGE = "{\"calls\": [{\"sid\": \"CA1\"}, {\"sid\": \"CA2\"}],"
+        + "\"next_page_uri\": \"/2010-04-01/Accounts/AC123/Calls.json?PageSize=2&Page=1\","
+        + "\"page_size\": 2,\"uri\": \"/2010-04-01/Accounts/AC123/Calls.json?PageSize=2&Page=0\"}";
+
+    private static final String LAST_PAGE = "{\"calls\": [{\"sid\": \"CA3\"}],\"next_page_uri\": null,"
+        + "\"page_size\": 2,\"uri\": \"/2010-04-01/Accounts/AC123/Calls.json?PageSize=2&Page=1\"}";
+
+    @Mocked
+    private TwilioRestClient client;
+
+    private static Response response(String json) {
+        return new Response(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), 200);
+    }
+
+    private static List<String> sids(Iterable<Call> calls) {
+        List<String> sids = new ArrayList<>();
+        for (Call call : calls) {
+            sids.add(call.getSid());
+        }
+        return sids;
+    }
+
+    @Test
+    public void testStreamsAllPages() {
+        new NonStrictExpectations() {{
+            client.request((Request) any);
+            returns(response(FIRST_PAGE), response(LAST_PAGE));
+            client.getObjectMapper();
+            result = new ObjectMapper();
+        }};
+
+        List<String> sids = sids(new CallReader("AC123").stream(client));
+        Assert.assertEquals(3, sids.size());
+        Assert.assertEquals("CA3", sids.get(2));
+    }
+
+    @Test
+    public void testStreamRespectsLimit() {
+        new NonStrictExpectations() {{
+            client.request((Request) any);
+            result = response(FIRST_PAGE);
+            times = 1;
+            client.getObjectMapper();
+            result = new ObjectMapper();
+        }};
+
+        ResourceStream<Call> stream = new CallReader("AC123").limit(2).stream(client);
+        List<String> sids = sids(stream);
+        Assert.assertEquals(2, sids.size());
+        Assert.assertEquals("CA1", sids.get(0));
+        Assert.assertEquals("CA2", sids.get(1));
+    }
+
+    @Test
+    public void testStreamWithoutAutoPaging() {
+        new NonStrictExpectations() {{
+            client.request((Request) any);
+            result = response(FIRST_PAGE);
+            times = 1;
+            client.getObjectMapper();
+            result = new ObjectMapper();
+        }};
+
+        ResourceStream<Call> stream = new CallReader("AC123").stream(client).setAutoPaging(false);
+        Assert.assertEquals(2, sids(stream).size());
+    }
+
+    @Test
+    public void testCloseReleasesStream() {
+        final ClosableInputStream body = new ClosableInputStream(FIRST_PAGE);
+        new NonStrictExpectations() {{
+            client.request((Request) any);
+            result = new Response(body, 200);
+            client.getObjectMapper();
+            result = new ObjectMapper();
+        }};
+
+        ResourceStream<Call> stream = new CallReader("AC123").stream(client);
+        Iterator<Call> iterator = stream.iterator();
+        Assert.assertEquals("CA1", iterator.next().getSid());
+        Assert.assertFalse(body.closed);
+
+        stream.close();
+        Assert.assertTrue(body.closed);
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testNextPastEnd() {
+        new NonStrictExpectations() {{
+            client.request((Request) any);
+            result = response(LAST_PAGE);
+            client.getObjectMapper();
+            result = new ObjectMapper();
+        }};
+
+        Iterator<Call> iterator = new CallReader("AC123").stream(client).iterator();
+        iterator.next();
+        iterator.next();
+    }
+
+    @Test
+    public void testStreamDoesNotAffectConcurrentRead() throws Exception {
+        final CountDownLatch streaming = new CountDownLatch(1);
+        final CountDownLatch read = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        new NonStrictExpectations() {{
+            client.request((Request) any);
+            result = new Delegate<Response>() {
+                Response request(Request request) throws InterruptedException {
+                    if (calls.getAndIncrement() == 0) {
+                        streaming.countDown();
+                        read.await();
+                    }
+                    return response(FIRST_PAGE);
+                }
+            };
+            client.getObjectMapper();
+            result = new ObjectMapper();
+        }};
+
+        final CallReader reader = new CallReader("AC123");
+        FutureTask<ResourceStream<Call>> stream = new FutureTask<>(new Callable<ResourceStream<Call>>() {
+            @Override
+            public ResourceStream<Call> call() {
+                return reader.stream(client);
+            }
+        });
+        new Thread(stream).start();
+        streaming.await();
+
+        Page<Call> page = reader.firstPage(client);
+        read.countDown();
+
+        Assert.assertFalse(page instanceof StreamingPage);
+        Assert.assertEquals(2, sids(stream.get().setAutoPaging(false)).size());
+    }
+
+    private static class ClosableInputStream extends ByteArrayInputStream {
+        private boolean closed;
+
+        ClosableInputStream(String json) {
+            super(json.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
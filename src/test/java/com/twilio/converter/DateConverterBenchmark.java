@@ -0,0 +1,84 @@
+package com.twilio.converter;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of {@link DateConverter#rfc2822DateTimeFromString} against the Joda formatter it used to call.
+ *
+ * <p>
+ *     Run with {@code java -cp target/test-classes:target/classes:<test classpath> org.openjdk.jmh.Main
+ *     DateConverterBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DateConverterBenchmark {
+
+    private static final int TIMESTAMPS = 1024;
+
+    private static final DateTimeFormatter JODA = DateTimeFormat.forPattern("EEE, dd MMM yyyy HH:mm:ss Z")
+        .withLocale(Locale.US).withZone(DateTimeZone.UTC);
+
+    /**
+     * Number of distinct timestamps cycled through. A page of records repeats a handful of seconds, a big export
+     * hardly repeats at all.
+     */
+    @Param({"16", "1024"})
+    private int distinct;
+
+    private String[] timestamps;
+    private int next;
+
+    /**
+     * Build timestamps one second apart.
+     */
+    @Setup
+    public void setUp() {
+        timestamps = new String[TIMESTAMPS];
+        long start = new DateTime(2015, 7, 30, 20, 12, 31, DateTimeZone.UTC).getMillis();
+        for (int i = 0; i < TIMESTAMPS; i++) {
+            timestamps[i] = JODA.print(start + (i % distinct) * 1000L);
+        }
+    }
+
+    @Benchmark
+    public DateTime joda() {
+        return DateTime.parse(nextTimestamp(), JODA);
+    }
+
+    @Benchmark
+    public DateTime handWritten() {
+        return DateConverter.parseRfc2822(nextTimestamp());
+    }
+
+    @Benchmark
+    public DateTime cached() {
+        return DateConverter.rfc2822DateTimeFromString(nextTimestamp());
+    }
+
+    private String nextTimestamp() {
+        next = (next + 1) & (TIMESTAMPS - 1);
+        return timestamps[next];
+    }
+}
@@ -1,10 +1,16 @@
 package com.twilio.converter;
 
 import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
 import org.joda.time.LocalDate;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Locale;
+import java.util.Random;
+
 /**
  * Test Class for {@link DateConverter}.
  */
@@ -67,4 +73,60 @@ public class DateConverterTest {
         String date = DateConverter.dateStringFromLocalDate(new LocalDate(2016, 9, 21));
         Assert.assertEquals("2016-09-21", date);
     }
+
+    @Test
+    public void testMatchesJoda() {
+        DateTimeFormatter rfc2822 = DateTimeFormat.forPattern("EEE, dd MMM yyyy HH:mm:ss Z")
+            .withLocale(Locale.US).withZone(DateTimeZone.UTC);
+        DateTimeFormatter iso8601 = DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ssZ").withZone(DateTimeZone.UTC);
+        String[] zones = {"UTC", "America/Los_Angeles", "Asia/Kolkata", "Pacific/Chatham"};
+
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            DateTimeZone zone = DateTimeZone.forID(zones[i % zones.length]);
+            DateTime expected = new DateTime(random.nextInt(Integer.MAX_VALUE) * 1000L, DateTimeZone.UTC);
+
+            String rfc = rfc2822.withZone(zone).print(expected);
+            String iso = iso8601.withZone(zone).print(expected);
+            Assert.assertEquals(rfc, expected, DateConverter.parseRfc2822(rfc));
+            Assert.assertEquals(iso, expected, DateConverter.parseIso8601(iso));
+            Assert.assertEquals(rfc, expected, DateConverter.rfc2822DateTimeFromString(rfc));
+            Assert.assertEquals(iso, expected, DateConverter.iso8601DateTimeFromString(iso));
+        }
+    }
+
+    @Test
+    public void testIso8601Offsets() {
+        DateTime expected = new DateTime(2016, 1, 15, 21, 49, 24, DateTimeZone.UTC);
+
+        Assert.assertEquals(expected, DateConverter.iso8601DateTimeFromString("2016-01-15T21:49:24+0000"));
+        Assert.assertEquals(expected, DateConverter.iso8601DateTimeFromString("2016-01-15T13:49:24-08:00"));
+    }
+
+    @Test
+    public void testRepeatedValueCached() {
+        DateTime first = DateConverter.rfc2822DateTimeFromString("Thu, 30 Jul 2015 20:12:31 +0000");
+
+        Assert.assertSame(first, DateConverter.rfc2822DateTimeFromString(new String("Thu, 30 Jul 2015 20:12:31 +0000")));
+    }
+
+    @Test
+    public void testOtherShapesFallBack() {
+        DateTime expected = new DateTime(2016, 3, 9, 13, 0, 5, DateTimeZone.UTC);
+
+        Assert.assertNull(DateConverter.parseRfc2822("Wed, 9 Mar 2016 13:00:05 +0000"));
+        Assert.assertEquals(expected, DateConverter.rfc2822DateTimeFromString("Wed, 9 Mar 2016 13:00:05 +0000"));
+    }
+
+    @Test
+    public void testInvalidFields() {
+        Assert.assertNull(DateConverter.rfc2822DateTimeFromString(null));
+        Assert.assertNull(DateConverter.rfc2822DateTimeFromString(""));
+        Assert.assertNull(DateConverter.rfc2822DateTimeFromString("Tue, 30 Feb 2016 13:00:05 +0000"));
+        Assert.assertNull(DateConverter.rfc2822DateTimeFromString("Tue, 29 Mar 2016 24:00:05 +0000"));
+        Assert.assertNull(DateConverter.parseRfc2822("Mon, 29 Mar 2016 13:00:05 +0000"));
+        Assert.assertNull(DateConverter.iso8601DateTimeFromString(null));
+        Assert.assertNull(DateConverter.iso8601DateTimeFromString("2016-13-15T21:49:24Z"));
+        Assert.assertNull(DateConverter.iso8601DateTimeFromString("2016-01-15T21:49:24X"));
+    }
 }
@@ -0,0 +1,58 @@
+package com.twilio.converter;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test class for {@link EnumLookup}.
+ */
+public class EnumLookupTest {
+
+    private enum Status {
+        IN_PROGRESS("in-progress"),
+        NO_ANSWER("no-answer"),
+        DOTTED("dotted.value");
+
+        private static final EnumLookup<Status> LOOKUP = EnumLookup.of(Status.class);
+
+        private final String value;
+
+        Status(final String value) {
+            this.value = value;
+        }
+
+        public String toString() {
+            return value;
+        }
+    }
+
+    @Test
+    public void testApiValues() {
+        assertSame(Status.IN_PROGRESS, Status.LOOKUP.forValue("in-progress"));
+        assertSame(Status.NO_ANSWER, Status.LOOKUP.forValue("no-answer"));
+        assertSame(Status.DOTTED, Status.LOOKUP.forValue("dotted.value"));
+    }
+
+    @Test
+    public void testNormalizedValues() {
+        assertSame(Status.IN_PROGRESS, Status.LOOKUP.forValue("IN_PROGRESS"));
+        assertSame(Status.IN_PROGRESS, Status.LOOKUP.forValue("In-Progress"));
+        assertSame(Status.NO_ANSWER, Status.LOOKUP.forValue("no_answer"));
+    }
+
+    @Test
+    public void testUnknownValuesCounted() {
+        long before = Status.LOOKUP.getUnknown();
+
+        assertNull(Status.LOOKUP.forValue("brand-new-status"));
+        assertNull(Status.LOOKUP.forValue(""));
+        assertNull(Status.LOOKUP.forValue(null));
+
+        assertEquals(before + 2, Status.LOOKUP.getUnknown());
+        assertEquals("", Status.LOOKUP.getLastUnknown());
+        assertEquals(Long.valueOf(before + 2), EnumLookup.getUnknownCounts().get(Status.class));
+    }
+}
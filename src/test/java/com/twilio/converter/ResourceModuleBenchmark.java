@@ -0,0 +1,129 @@
+package com.twilio.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.twilio.rest.api.v2010.account.Call;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.rest.taskrouter.v1.workspace.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of decoding single records through Jackson's reflective creator path and through the hand-written
+ * deserializers of the {@link ResourceModule}, with every property bound and with only a few properties selected.
+ *
+ * <p>
+ *     Run with {@code java -cp target/test-classes:target/classes:<test classpath> org.openjdk.jmh.Main
+ *     ResourceModuleBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ResourceModuleBenchmark {
+
+    private static final String MESSAGE = "{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\","
+        + "\"api_version\": \"2010-04-01\",\"body\": \"O Slash: \\u00d8, PoP: \\ud83d\\udca9\","
+        + "\"date_created\": \"Thu, 30 Jul 2015 20:12:31 +0000\",\"date_sent\": \"Thu, 30 Jul 2015 20:12:33 +0000\","
+        + "\"date_updated\": \"Thu, 30 Jul 2015 20:12:33 +0000\",\"direction\": \"outbound-api\","
+        + "\"error_code\": null,\"error_message\": null,\"from\": \"+14155552345\","
+        + "\"messaging_service_sid\": \"MGaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"num_media\": \"0\","
+        + "\"num_segments\": \"1\",\"price\": \"-0.00750\",\"price_unit\": \"USD\","
+        + "\"sid\": \"SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"status\": \"sent\","
+        + "\"subresource_uris\": {\"media\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages/"
+        + "SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Media.json\"},\"to\": \"+14155552345\","
+        + "\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages/"
+        + "SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa.json\"}";
+
+    private static final String CALL = "{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\","
+        + "\"annotation\": null,\"answered_by\": null,\"api_version\": \"2010-04-01\",\"caller_name\": null,"
+        + "\"date_created\": \"Tue, 31 Aug 2010 20:36:28 +0000\",\"date_updated\": \"Tue, 31 Aug 2010 20:36:44 +0000\","
+        + "\"direction\": \"inbound\",\"duration\": \"15\",\"end_time\": \"Tue, 31 Aug 2010 20:36:44 +0000\","
+        + "\"forwarded_from\": \"+141586753093\",\"from\": \"+14158675309\",\"from_formatted\": \"(415) 867-5309\","
+        + "\"group_sid\": null,\"parent_call_sid\": null,\"phone_number_sid\": \"PNaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\","
+        + "\"price\": \"-0.03000\",\"price_unit\": \"USD\",\"sid\": \"CAaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\","
+        + "\"start_time\": \"Tue, 31 Aug 2010 20:36:29 +0000\",\"status\": \"completed\","
+        + "\"subresource_uris\": {\"notifications\": \"/2010-04-01/Accounts/AC/Calls/CA/Notifications.json\","
+        + "\"recordings\": \"/2010-04-01/Accounts/AC/Calls/CA/Recordings.json\"},\"to\": \"+14158675309\","
+        + "\"to_formatted\": \"(415) 867-5309\",\"uri\": \"/2010-04-01/Accounts/AC/Calls/CA.json\"}";
+
+    private static final String TASK = "{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"age\": 25200,"
+        + "\"assignment_status\": \"pending\",\"attributes\": \"{\\\"body\\\": \\\"hello\\\"}\","
+        + "\"date_created\": \"2014-05-14T18:50:02Z\",\"date_updated\": \"2014-05-15T07:26:06Z\","
+        + "\"priority\": 0,\"reason\": \"Test Reason\",\"sid\": \"WTaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\","
+        + "\"task_queue_sid\": \"WQaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"task_channel_sid\": null,"
+        + "\"task_channel_unique_name\": null,\"timeout\": 86400,"
+        + "\"workflow_sid\": \"WWaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"workspace_sid\": \"WSaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\","
+        + "\"url\": \"https://taskrouter.twilio.com/v1/Workspaces/WS/Tasks/WT\"}";
+
+    /**
+     * Record to decode.
+     */
+    @Param({"message", "call", "task"})
+    private String record;
+
+    private ObjectReader reflective;
+    private ObjectReader handWritten;
+    private ObjectReader selected;
+    private byte[] bytes;
+
+    /**
+     * Build readers with and without the resource module.
+     */
+    @Setup
+    public void setUp() {
+        Class<?> type;
+        String json;
+        if ("call".equals(record)) {
+            type = Call.class;
+            json = CALL;
+        } else if ("task".equals(record)) {
+            type = Task.class;
+            json = TASK;
+        } else {
+            type = Message.class;
+            json = MESSAGE;
+        }
+
+        reflective = new ObjectMapper().reader(type);
+        handWritten = new ObjectMapper().registerModule(new ResourceModule()).reader(type);
+        bytes = json.getBytes(StandardCharsets.UTF_8);
+        selected = ResourceModule.select(handWritten, new HashSet<>(Arrays.asList("sid", "date_created", "status")));
+    }
+
+    @Benchmark
+    public Object reflective() throws IOException {
+        return reflective.readValue(bytes);
+    }
+
+    @Benchmark
+    public Object handWritten() throws IOException {
+        return handWritten.readValue(bytes);
+    }
+
+    /**
+     * Bind only the few properties a status report needs.
+     */
+    @Benchmark
+    public Object selected() throws IOException {
+        return selected.readValue(bytes);
+    }
+}
@@ -0,0 +1,191 @@
+package com.twilio.converter;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.twilio.base.Page;
+import com.twilio.rest.api.v2010.account.Call;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.rest.api.v2010.account.Recording;
+import com.twilio.rest.api.v2010.account.usage.Record;
+import com.twilio.rest.taskrouter.v1.workspace.Task;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for {@link ResourceModule}.
+ */
+public class ResourceModuleTest {
+
+    private static final String MESSAGE = "{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\","
+        + "\"api_version\": \"2010-04-01\",\"body\": \"O Slash: \\u00d8, PoP: \\ud83d\\udca9\","
+        + "\"date_created\": \"Thu, 30 Jul 2015 20:12:31 +0000\",\"date_sent\": \"Thu, 30 Jul 2015 20:12:33 +0000\","
+        + "\"date_updated\": \"Thu, 30 Jul 2015 20:12:33 +0000\",\"direction\": \"outbound-api\","
+        + "\"error_code\": 30008,\"error_message\": null,\"from\": \"+14155552345\","
+        + "\"messaging_service_sid\": \"MGaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"num_media\": 0,"
+        + "\"num_segments\": \"1\",\"price\": \"-0.00750\",\"price_unit\": \"usd\","
+        + "\"sid\": \"SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"status\": \"sent\","
+        + "\"subresource_uris\": {\"media\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages/"
+        + "SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Media.json\"},\"to\": \"+14155552345\","
+        + "\"unknown\": {\"nested\": [1, 2, {\"sid\": \"XX\"}]},"
+        + "\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages/"
+        + "SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa.json\"}";
+
+    private static final String CALL = "{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\","
+        + "\"annotation\": null,\"answered_by\": null,\"api_version\": \"2010-04-01\",\"caller_name\": null,"
+        + "\"date_created\": \"Tue, 31 Aug 2010 20:36:28 +0000\",\"date_updated\": \"Tue, 31 Aug 2010 20:36:44 +0000\","
+        + "\"direction\": \"inbound\",\"duration\": \"15\",\"end_time\": \"Tue, 31 Aug 2010 20:36:44 +0000\","
+        + "\"forwarded_from\": \"+141586753093\",\"from\": \"+14158675309\",\"from_formatted\": \"(415) 867-5309\","
+        + "\"group_sid\": null,\"parent_call_sid\": null,\"phone_number_sid\": \"PNaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\","
+        + "\"price\": -0.03000,\"price_unit\": \"USD\",\"sid\": \"CAaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\","
+        + "\"start_time\": \"Tue, 31 Aug 2010 20:36:29 +0000\",\"status\": \"completed\","
+        + "\"subresource_uris\": {\"notifications\": \"/2010-04-01/Accounts/AC/Calls/CA/Notifications.json\","
+        + "\"recordings\": \"/2010-04-01/Accounts/AC/Calls/CA/Recordings.json\"},\"to\": \"+14158675309\","
+        + "\"to_formatted\": \"(415) 867-5309\",\"uri\": \"/2010-04-01/Accounts/AC/Calls/CA.json\"}";
+
+    private static final String TASK = "{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"age\": 25200,"
+        + "\"assignment_status\": \"pending\",\"attributes\": \"{\\\"body\\\": \\\"hello\\\"}\","
+        + "\"date_created\": \"2014-05-14T18:50:02Z\",\"date_updated\": \"2014-05-15T07:26:06Z\","
+        + "\"priority\": 0,\"reason\": \"Test Reason\",\"sid\": \"WTaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\","
+        + "\"task_queue_sid\": \"WQaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"task_channel_sid\": null,"
+        + "\"task_channel_unique_name\": null,\"timeout\": 86400,"
+        + "\"workflow_sid\": \"WWaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"workspace_sid\": \"WSaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\","
+        + "\"url\": \"https://taskrouter.twilio.com/v1/Workspaces/WS/Tasks/WT\"}";
+
+    private static final String RECORDING = "{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\","
+        + "\"api_version\": \"2010-04-01\",\"call_sid\": \"CAaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\","
+        + "\"date_created\": \"Wed, 01 Sep 2010 15:15:41 +0000\",\"date_updated\": \"Wed, 01 Sep 2010 15:15:41 +0000\","
+        + "\"duration\": \"6\",\"sid\": \"REaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"price\": 0.04,\"price_unit\": \"USD\","
+        + "\"status\": \"completed\",\"channels\": \"2\",\"source\": \"Trunking\","
+        + "\"uri\": \"/2010-04-01/Accounts/AC/Recordings/RE.json\"}";
+
+    private static final String RECORD = "{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\","
+        + "\"api_version\": \"2010-04-01\",\"category\": \"totalprice\",\"count\": null,\"count_unit\": \"\","
+        + "\"description\": \"Total Price\",\"end_date\": \"2015-09-04\",\"price\": \"2192.84855\","
+        + "\"price_unit\": \"usd\",\"start_date\": \"2011-08-23\","
+        + "\"subresource_uris\": {\"daily\": \"/2010-04-01/Accounts/AC/Usage/Records/Daily.json\"},"
+        + "\"uri\": \"/2010-04-01/Accounts/AC/Usage/Records?Category=totalprice\",\"usage\": \"2192.84855\","
+        + "\"usage_unit\": \"usd\"}";
+
+    private final ObjectMapper reflective = new ObjectMapper();
+    private final ObjectMapper module = new ObjectMapper().registerModule(new ResourceModule());
+
+    private JsonDeserializer<?> deserializer(Class<?> type) throws IOException {
+        DefaultDeserializationContext ctxt = ((DefaultDeserializationContext) module.getDeserializationContext())
+            .createInstance(module.getDeserializationConfig(), null, null);
+        return ctxt.findRootValueDeserializer(module.constructType(type));
+    }
+
+    @Test
+    public void testMatchesReflectiveDecoding() throws IOException {
+        assertEquals(reflective.readValue(MESSAGE, Message.class), module.readValue(MESSAGE, Message.class));
+        assertEquals(reflective.readValue(CALL, Call.class), module.readValue(CALL, Call.class));
+        assertEquals(reflective.readValue(TASK, Task.class), module.readValue(TASK, Task.class));
+        assertEquals(reflective.readValue(RECORDING, Recording.class), module.readValue(RECORDING, Recording.class));
+        assertEquals(reflective.readValue(RECORD, Record.class), module.readValue(RECORD, Record.class));
+    }
+
+    @Test
+    public void testHandWrittenDeserializersRegistered() throws IOException {
+        assertTrue(deserializer(Message.class) instanceof Message.Deserializer);
+        assertTrue(deserializer(Call.class) instanceof Call.Deserializer);
+        assertTrue(deserializer(Recording.class) instanceof Recording.Deserializer);
+        assertTrue(deserializer(Record.class) instanceof Record.Deserializer);
+        assertTrue(deserializer(Task.class) instanceof Task.Deserializer);
+    }
+
+    @Test
+    public void testSelectWithHandWrittenDeserializer() throws IOException {
+        ObjectReader reader = ResourceModule.select(
+            module.reader(Task.class),
+            new HashSet<>(Arrays.asList("sid", "priority"))
+        );
+        Task task = reader.readValue(TASK);
+
+        assertEquals("WTaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", task.getSid());
+        assertEquals(Integer.valueOf(0), task.getPriority());
+        assertNull(task.getUrl());
+        assertNull(task.getAssignmentStatus());
+    }
+
+    @Test
+    public void testDecodesFields() throws IOException {
+        Message message = module.readValue(MESSAGE, Message.class);
+
+        assertEquals("SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", message.getSid());
+        assertEquals(Integer.valueOf(30008), message.getErrorCode());
+        assertNull(message.getErrorMessage());
+        assertEquals("0", message.getNumMedia());
+        assertEquals(Currency.getInstance("USD"), message.getPriceUnit());
+        assertEquals(Message.Status.SENT, message.getStatus());
+        assertEquals("+14155552345", message.getFrom().toString());
+        assertEquals(1, message.getSubresourceUris().size());
+        assertNotNull(message.getDateCreated());
+    }
+
+    @Test
+    public void testMissingFieldsAreNull() throws IOException {
+        Message message = module.readValue("{\"sid\": \"SM123\"}", Message.class);
+
+        assertEquals("SM123", message.getSid());
+        assertNull(message.getBody());
+        assertNull(message.getStatus());
+    }
+
+    @Test
+    public void testPageOfResources() throws IOException {
+        Page<Message> page = Page.fromJson("messages", "{\"messages\": [" + MESSAGE + "," + MESSAGE + "]}",
+            Message.class, module);
+
+        assertEquals(2, page.getRecords().size());
+        assertEquals(reflective.readValue(MESSAGE, Message.class), page.getRecords().get(1));
+    }
+
+    @Test
+    public void testSelect() throws IOException {
+        ObjectReader reader = ResourceModule.select(
+            module.reader(Message.class),
+            new HashSet<>(Arrays.asList("sid", "price", "price_unit", "date_created"))
+        );
+        Message message = reader.readValue(MESSAGE);
+        Message full = module.readValue(MESSAGE, Message.class);
+
+        assertEquals(full.getSid(), message.getSid());
+        assertEquals(full.getPrice(), message.getPrice());
+        assertEquals(full.getPriceUnit(), message.getPriceUnit());
+        assertEquals(full.getDateCreated(), message.getDateCreated());
+        assertNull(message.getBody());
+        assertNull(message.getStatus());
+        assertNull(message.getSubresourceUris());
+        assertNull(message.getDateUpdated());
+    }
+
+    @Test
+    public void testSelectSkipsNestedStructures() throws IOException {
+        ObjectReader reader = ResourceModule.select(
+            module.reader(Message.class),
+            new HashSet<>(Arrays.asList("sid", "uri"))
+        );
+        Message message = reader.readValue(MESSAGE);
+
+        assertEquals("SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", message.getSid());
+        assertNotNull(message.getUri());
+        assertNull(message.getSubresourceUris());
+    }
+
+    @Test(expected = JsonMappingException.class)
+    public void testNotAnObject() throws IOException {
+        module.readValue("[\"SM123\"]", Message.class);
+    }
+}
@@ -0,0 +1,193 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.twilio.exception.ApiException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncHttpClientTest {
+
+    private HttpServer server;
+    private AsyncHttpClient client;
+    private String baseUrl;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        client = new AsyncHttpClient();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        OutputStream os = exchange.getResponseBody();
+        os.write(bytes);
+        os.close();
+    }
+
+    @Test
+    public void testGetAsync() throws Exception {
+        server.createContext("/get", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                respond(exchange, 200, exchange.getRequestMethod() + " " + exchange.getRequestURI().getQuery());
+            }
+        });
+
+        Request request = new Request(HttpMethod.GET, baseUrl + "/get");
+        request.addQueryParam("To", "+14155551234");
+        Response response = client.makeRequestAsync(request).get(5, TimeUnit.SECONDS);
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals("GET To=+14155551234", response.getContent());
+    }
+
+    @Test
+    public void testPostBlocking() {
+        server.createContext("/post", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                Scanner scanner = new Scanner(exchange.getRequestBody(), "UTF-8").useDelimiter("\\A");
+                respond(exchange, 201, scanner.next());
+            }
+        });
+
+        Request request = new Request(HttpMethod.POST, baseUrl + "/post");
+        request.addPostParam("Body", "hello world");
+        Response response = client.makeRequest(request);
+
+        assertEquals(201, response.getStatusCode());
+        assertEquals("Body=hello+world", response.getContent());
+    }
+
+    @Test
+    public void testReliableRequestAsyncRetries() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+        server.createContext("/flaky", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                if (attempts.incrementAndGet() < 3) {
+                    respond(exchange, 503, "unavailable");
+                } else {
+                    respond(exchange, 200, "ok");
+                }
+            }
+        });
+
+        Response response = client.reliableRequestAsync(new Request(HttpMethod.GET, baseUrl + "/flaky"))
+            .get(5, TimeUnit.SECONDS);
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void testReliableRequestAsyncExhaustsRetries() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+        server.createContext("/down", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                attempts.incrementAndGet();
+                respond(exchange, 500, "error");
+            }
+        });
+
+        Response response = client.reliableRequestAsync(new Request(HttpMethod.GET, baseUrl + "/down"))
+            .get(5, TimeUnit.SECONDS);
+
+        assertEquals(500, response.getStatusCode());
+        assertEquals(HttpClient.RETRIES, attempts.get());
+    }
+
+    @Test
+    public void testConnectionFailure() throws Exception {
+        server.stop(0);
+
+        try {
+            client.makeRequestAsync(new Request(HttpMethod.GET, baseUrl + "/get")).get(5, TimeUnit.SECONDS);
+            fail("Expected connection failure");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ApiException);
+        }
+    }
+
+    @Test
+    public void testReliableRequestAsyncFailsWhenRetryThrows() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+        HttpClient throwing = new HttpClient() {
+            @Override
+            public Response makeRequest(Request request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public ListenableFuture<Response> makeRequestAsync(Request request) {
+                if (attempts.incrementAndGet() == 1) {
+                    return Futures.immediateFuture(new Response("unavailable", 503));
+                }
+                throw new IllegalStateException("closed");
+            }
+        };
+
+        try {
+            throwing.reliableRequestAsync(new Request(HttpMethod.GET, baseUrl + "/get")).get(5, TimeUnit.SECONDS);
+            fail("Expected the retry to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void testReliableRequestAsyncFailsWhenListenerThrows() throws Exception {
+        server.createContext("/get", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                respond(exchange, 200, "ok");
+            }
+        });
+        client.setRequestListener(new RequestListener() {
+            @Override
+            public void onAttempt(RequestEvent event) {
+                throw new IllegalStateException("listener");
+            }
+
+            @Override
+            public void onRequest(RequestEvent event) {
+            }
+        });
+
+        try {
+            client.reliableRequestAsync(new Request(HttpMethod.GET, baseUrl + "/get")).get(5, TimeUnit.SECONDS);
+            fail("Expected the listener failure");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+}
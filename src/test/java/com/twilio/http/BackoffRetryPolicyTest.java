@@ -0,0 +1,143 @@
+package com.twilio.http;
+
+import org.apache.http.client.utils.DateUtils;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BackoffRetryPolicyTest {
+
+    private static final Request GET = new Request(HttpMethod.GET, "https://api.twilio.com/uri");
+
+    private static Response response(int statusCode) {
+        return new Response("", statusCode);
+    }
+
+    private static Response response(int statusCode, String retryAfter) {
+        Map<String, List<String>> headers = Collections.singletonMap("Retry-After", Collections.singletonList(retryAfter));
+        return new Response("", statusCode, headers);
+    }
+
+    @Test
+    public void testExponentialBackoff() {
+        BackoffRetryPolicy policy = new BackoffRetryPolicy.Builder()
+            .jitter(false)
+            .maxAttempts(5)
+            .baseDelay(100)
+            .maxDelay(300)
+            .build();
+
+        assertEquals(100, policy.retryDelay(GET, response(500), 1, 0));
+        assertEquals(200, policy.retryDelay(GET, response(503), 2, 0));
+        assertEquals(300, policy.retryDelay(GET, response(500), 3, 0));
+        assertEquals(300, policy.retryDelay(GET, response(500), 4, 0));
+        assertEquals(RetryPolicy.NO_RETRY, policy.retryDelay(GET, response(500), 5, 0));
+    }
+
+    @Test
+    public void testJitterWithinBackoff() {
+        BackoffRetryPolicy policy = new BackoffRetryPolicy.Builder().maxAttempts(100).retryBudget(0, 0).build();
+
+        for (int i = 0; i < 50; i++) {
+            long delay = policy.retryDelay(GET, response(500), 3, 0);
+            assertTrue(delay >= 0 && delay <= 400);
+        }
+    }
+
+    @Test
+    public void testStatusRules() {
+        BackoffRetryPolicy policy = new BackoffRetryPolicy.Builder().jitter(false).build();
+
+        assertEquals(RetryPolicy.NO_RETRY, policy.retryDelay(GET, response(200), 1, 0));
+        assertEquals(RetryPolicy.NO_RETRY, policy.retryDelay(GET, response(404), 1, 0));
+        assertEquals(100, policy.retryDelay(GET, response(429), 1, 0));
+        assertEquals(100, policy.retryDelay(GET, null, 1, 0));
+    }
+
+    @Test
+    public void testNonIdempotent() {
+        BackoffRetryPolicy policy = new BackoffRetryPolicy.Builder().jitter(false).build();
+        Request post = new Request(HttpMethod.POST, "https://api.twilio.com/uri");
+        post.setNonIdempotent(true);
+
+        assertEquals(RetryPolicy.NO_RETRY, policy.retryDelay(post, response(500), 1, 0));
+        assertEquals(RetryPolicy.NO_RETRY, policy.retryDelay(post, null, 1, 0));
+        assertEquals(100, policy.retryDelay(post, response(429), 1, 0));
+    }
+
+    @Test
+    public void testRetryAfterSeconds() {
+        BackoffRetryPolicy policy = new BackoffRetryPolicy.Builder().jitter(false).build();
+
+        assertEquals(2000, policy.retryDelay(GET, response(429, "2"), 1, 0));
+        assertEquals(100, policy.retryDelay(GET, response(429, "0"), 1, 0));
+    }
+
+    @Test
+    public void testRetryAfterDate() {
+        BackoffRetryPolicy policy = new BackoffRetryPolicy.Builder().jitter(false).build();
+        String date = DateUtils.formatDate(new Date(System.currentTimeMillis() + 5000));
+
+        long delay = policy.retryDelay(GET, response(503, date), 1, 0);
+        assertTrue(delay > 3000 && delay <= 5000);
+    }
+
+    @Test
+    public void testMaxElapsed() {
+        BackoffRetryPolicy policy = new BackoffRetryPolicy.Builder().jitter(false).maxElapsed(1000).build();
+
+        assertEquals(100, policy.retryDelay(GET, response(500), 1, 900));
+        assertEquals(RetryPolicy.NO_RETRY, policy.retryDelay(GET, response(500), 1, 950));
+        assertEquals(RetryPolicy.NO_RETRY, policy.retryDelay(GET, response(429, "5"), 1, 0));
+    }
+
+    @Test
+    public void testRetryBudget() {
+        BackoffRetryPolicy policy = new BackoffRetryPolicy.Builder()
+            .jitter(false)
+            .retryBudget(0.5, 2)
+            .build();
+
+        assertEquals(2, policy.getRemainingBudget());
+        assertEquals(100, policy.retryDelay(GET, response(500), 1, 0));
+        assertEquals(100, policy.retryDelay(GET, response(500), 1, 0));
+        assertEquals(RetryPolicy.NO_RETRY, policy.retryDelay(GET, response(500), 1, 0));
+
+        policy.onRequest(GET);
+        policy.onRequest(GET);
+        assertEquals(1, policy.getRemainingBudget());
+        assertEquals(100, policy.retryDelay(GET, response(500), 1, 0));
+    }
+
+    @Test
+    public void testDefaultPolicyPerClient() {
+        HttpClient first = new NetworkHttpClient.Builder().maxIdleTime(0).build();
+        HttpClient second = new NetworkHttpClient.Builder().maxIdleTime(0).build();
+
+        assertTrue(first.getDefaultRetryPolicy() != second.getDefaultRetryPolicy());
+        assertTrue(first.getDefaultRetryPolicy() == first.getDefaultRetryPolicy());
+    }
+
+    @Test
+    public void testReliableRequestUsesPolicy() {
+        final int[] attempts = new int[1];
+        HttpClient client = new HttpClient() {
+            @Override
+            public Response makeRequest(Request request) {
+                attempts[0]++;
+                return attempts[0] < 3 ? response(429, "0") : response(200);
+            }
+        };
+
+        Response response = client.reliableRequest(GET, new BackoffRetryPolicy.Builder().baseDelay(1).build());
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(3, attempts[0]);
+    }
+}
@@ -0,0 +1,102 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrencyLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void testAimdIncreaseAndBackoff() {
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit.Builder().initialLimit(10).maxLimit(11).build();
+
+        limit.onSample(10 * MILLIS, 10, false);
+        assertEquals(11, limit.getLimit());
+        limit.onSample(10 * MILLIS, 11, false);
+        assertEquals(11, limit.getLimit());
+        limit.onSample(10 * MILLIS, 11, true);
+        assertEquals(9, limit.getLimit());
+        limit.onSample(10 * MILLIS, 2, false);
+        assertEquals(9, limit.getLimit());
+    }
+
+    @Test
+    public void testAimdTimeout() {
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit.Builder().initialLimit(2).timeout(100).build();
+
+        limit.onSample(200 * MILLIS, 2, false);
+        assertEquals(1, limit.getLimit());
+        limit.onSample(200 * MILLIS, 1, false);
+        assertEquals(1, limit.getLimit());
+    }
+
+    @Test
+    public void testGradientFollowsLatency() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit.Builder().initialLimit(20).build();
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(10 * MILLIS, limit.getLimit(), false);
+        }
+        int grown = limit.getLimit();
+        assertTrue(grown > 20);
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(100 * MILLIS, limit.getLimit(), false);
+        }
+        assertTrue(limit.getLimit() < grown);
+
+        int before = limit.getLimit();
+        limit.onSample(100 * MILLIS, before, true);
+        assertTrue(limit.getLimit() < before);
+    }
+
+    @Test
+    public void testQueuesOverLimit() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter.Builder()
+            .limit(new AimdConcurrencyLimit.Builder().initialLimit(1).maxLimit(1).build())
+            .build();
+
+        limiter.acquire();
+        ListenableFuture<Void> waiter = limiter.acquireAsync();
+        assertFalse(waiter.isDone());
+        assertEquals(1, limiter.getQueued());
+
+        limiter.release(MILLIS, new Response("", 200));
+        waiter.get(1, TimeUnit.SECONDS);
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+    }
+
+    @Test
+    public void testRestClientBacksOffOnThrottle() {
+        final int[] attempts = new int[1];
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter.Builder()
+            .limit(new AimdConcurrencyLimit.Builder().initialLimit(10).build())
+            .build();
+        TwilioRestClient client = new TwilioRestClient.Builder("AC123", "AUTH TOKEN")
+            .httpClient(new HttpClient() {
+                @Override
+                public Response makeRequest(Request request) {
+                    attempts[0]++;
+                    return new Response("{}", attempts[0] == 1 ? 429 : 200);
+                }
+            })
+            .retryPolicy(new BackoffRetryPolicy.Builder().baseDelay(1).build())
+            .concurrencyLimiter(limiter)
+            .build();
+
+        Response response = client.request(new Request(HttpMethod.GET, "https://api.twilio.com/uri"));
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(2, attempts[0]);
+        assertEquals(9, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+}
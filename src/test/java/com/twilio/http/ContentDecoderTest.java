@@ -0,0 +1,92 @@
+package com.twilio.http;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ContentDecoderTest {
+
+    private static final String BODY;
+
+    static {
+        StringBuilder body = new StringBuilder("{\"messages\": [");
+        for (int i = 0; i < 100; i++) {
+            body.append("{\"body\": \"hello world\", \"status\": \"delivered\"},");
+        }
+        BODY = body.append("{}]}").toString();
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GZIPOutputStream out = new GZIPOutputStream(bytes);
+        out.write(content.getBytes(StandardCharsets.UTF_8));
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    private static byte[] deflate(String content, boolean nowrap) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DeflaterOutputStream out = new DeflaterOutputStream(bytes, new Deflater(Deflater.DEFAULT_COMPRESSION, nowrap));
+        out.write(content.getBytes(StandardCharsets.UTF_8));
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    private static String read(InputStream stream) throws IOException {
+        try {
+            return new Scanner(stream, "UTF-8").useDelimiter("\\A").next();
+        } finally {
+            stream.close();
+        }
+    }
+
+    @Test
+    public void testGzip() throws IOException {
+        ContentDecoder decoder = new ContentDecoder();
+        byte[] wire = gzip(BODY);
+
+        assertEquals(BODY, read(decoder.decode(new ByteArrayInputStream(wire), "gzip")));
+        assertEquals(wire.length, decoder.getWireBytes());
+        assertEquals(BODY.length(), decoder.getDecodedBytes());
+        assertTrue(decoder.getWireBytes() < decoder.getDecodedBytes() / 5);
+    }
+
+    @Test
+    public void testDeflate() throws IOException {
+        ContentDecoder decoder = new ContentDecoder();
+
+        assertEquals(BODY, read(decoder.decode(new ByteArrayInputStream(deflate(BODY, false)), "deflate")));
+        assertEquals(BODY, read(decoder.decode(new ByteArrayInputStream(deflate(BODY, true)), "Deflate")));
+        assertEquals(2 * BODY.length(), decoder.getDecodedBytes());
+    }
+
+    @Test
+    public void testIdentity() throws IOException {
+        ContentDecoder decoder = new ContentDecoder();
+        byte[] wire = BODY.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(BODY, read(decoder.decode(new ByteArrayInputStream(wire), null)));
+        assertEquals(wire.length, decoder.getWireBytes());
+        assertEquals(wire.length, decoder.getDecodedBytes());
+    }
+
+    @Test
+    public void testEmptyBody() throws IOException {
+        ContentDecoder decoder = new ContentDecoder();
+
+        assertEquals(-1, decoder.decode(new ByteArrayInputStream(new byte[0]), "gzip").read());
+        assertNull(decoder.decode(null, "gzip"));
+    }
+}
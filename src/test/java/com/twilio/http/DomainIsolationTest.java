@@ -0,0 +1,166 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.rest.Domains;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class DomainIsolationTest {
+
+    private static final Request API = new Request(HttpMethod.GET, Domains.API.toString(), "/2010-04-01/Accounts/AC123/Calls.json");
+    private static final Request LOOKUPS = new Request(HttpMethod.GET, Domains.LOOKUPS.toString(), "/v1/PhoneNumbers/+14155551234");
+
+    private static class StatusHttpClient extends HttpClient {
+        private int statusCode = 500;
+        private int requests;
+
+        @Override
+        public Response makeRequest(Request request) {
+            requests++;
+            return new Response("{}", statusCode);
+        }
+    }
+
+    @Test
+    public void testCircuitOpensAndRecovers() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker.Builder()
+            .window(4, 4)
+            .openDuration(50)
+            .halfOpenCalls(2)
+            .build();
+        StatusHttpClient network = new StatusHttpClient();
+        HttpClient client = new IsolatedHttpClient(
+            network,
+            new DomainIsolation.Builder().circuitBreaker(Domains.API, breaker).build()
+        );
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(500, client.makeRequest(API).getStatusCode());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(1, breaker.getOpened());
+
+        try {
+            client.makeRequest(API);
+            fail("Expected the open circuit to fail fast");
+        } catch (ApiConnectionException e) {
+            assertEquals(4, network.requests);
+            assertEquals(1, breaker.getRejected());
+        }
+        assertEquals(500, client.makeRequest(LOOKUPS).getStatusCode());
+
+        Thread.sleep(60);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        network.statusCode = 200;
+        client.makeRequest(API);
+        client.makeRequest(API);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void testHalfOpenFailureReopens() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker.Builder().window(2, 2).openDuration(20).build();
+        HttpClient client = new IsolatedHttpClient(
+            new StatusHttpClient(),
+            new DomainIsolation.Builder().circuitBreaker(Domains.API, breaker).build()
+        );
+
+        client.makeRequest(API);
+        client.makeRequest(API);
+        Thread.sleep(30);
+        client.makeRequest(API);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(2, breaker.getOpened());
+    }
+
+    @Test
+    public void testClientErrorsDoNotOpen() {
+        CircuitBreaker breaker = new CircuitBreaker.Builder().window(4, 4).build();
+        StatusHttpClient network = new StatusHttpClient();
+        network.statusCode = 404;
+        HttpClient client = new IsolatedHttpClient(
+            network,
+            new DomainIsolation.Builder().circuitBreaker(Domains.API, breaker).build()
+        );
+
+        for (int i = 0; i < 10; i++) {
+            client.makeRequest(API);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0.0, breaker.getFailureRate(), 0.0);
+    }
+
+    @Test
+    public void testBulkheadRejectsWhenFull() throws Exception {
+        final SettableFuture<Response> pending = SettableFuture.create();
+        DomainIsolation isolation = new DomainIsolation.Builder().bulkhead(Domains.API, 1).build();
+        HttpClient client = new IsolatedHttpClient(new HttpClient() {
+            @Override
+            public Response makeRequest(Request request) {
+                return new Response("{}", 200);
+            }
+
+            @Override
+            public ListenableFuture<Response> makeRequestAsync(Request request) {
+                return pending;
+            }
+        }, isolation);
+
+        ListenableFuture<Response> first = client.makeRequestAsync(API);
+        ListenableFuture<Response> second = client.makeRequestAsync(API);
+        try {
+            second.get();
+            fail("Expected the full bulkhead to reject");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ApiConnectionException);
+        }
+        assertEquals(200, client.makeRequest(LOOKUPS).getStatusCode());
+        assertEquals(1, isolation.getBulkhead(Domains.API).getInFlight());
+        assertEquals(1, isolation.getBulkhead(Domains.API).getRejected());
+
+        pending.set(new Response("{}", 200));
+        assertEquals(200, first.get().getStatusCode());
+        assertEquals(0, isolation.getBulkhead(Domains.API).getInFlight());
+        assertEquals(200, client.makeRequest(API).getStatusCode());
+    }
+
+    @Test
+    public void testDefaultCircuitBreakers() {
+        DomainIsolation isolation = new DomainIsolation.Builder()
+            .circuitBreakers(new CircuitBreaker.Builder())
+            .build();
+
+        assertTrue(isolation.getCircuitBreaker(Domains.API) != isolation.getCircuitBreaker(Domains.LOOKUPS));
+        assertTrue(isolation.getCircuitBreaker(Domains.CHAT) == isolation.getCircuitBreaker(Domains.IPMESSAGING));
+        assertEquals(CircuitBreaker.State.CLOSED, isolation.getCircuitStates().get("api"));
+        assertFalse(isolation.getCircuitStates().containsKey("CHAT"));
+    }
+
+    @Test
+    public void testRestClientFailsFast() {
+        StatusHttpClient network = new StatusHttpClient();
+        DomainIsolation isolation = new DomainIsolation.Builder()
+            .circuitBreaker(Domains.API, new CircuitBreaker.Builder().window(2, 2).build())
+            .build();
+        TwilioRestClient client = new TwilioRestClient.Builder("AC123", "AUTH TOKEN")
+            .httpClient(network)
+            .domainIsolation(isolation)
+            .build();
+
+        try {
+            client.request(API);
+            fail("Expected the retries to hit the open circuit");
+        } catch (ApiConnectionException e) {
+            assertEquals(2, network.requests);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.twilio.http;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class FormEncoderTest {
+
+    private static Map<String, List<String>> params(String... pairs) {
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            params.put(pairs[i], Collections.singletonList(pairs[i + 1]));
+        }
+        return params;
+    }
+
+    @Test
+    public void testMatchesUrlEncoder() throws Exception {
+        String[] values = {
+            "hello world",
+            "+14155551234",
+            "a&b=c?d/e%f",
+            ".-*_~!'()",
+            "O Slash: Ø, €",
+            "PoP: 💩",
+            "lone \ud83d surrogate",
+            ""
+        };
+
+        for (String value : values) {
+            String expected = "Body=" + URLEncoder.encode(value, "UTF-8");
+            Map<String, List<String>> params = params("Body", value);
+
+            assertEquals(expected, FormEncoder.encode(params));
+            assertEquals(expected.length(), FormEncoder.length(params));
+        }
+    }
+
+    @Test
+    public void testKeepsInsertionOrder() {
+        Request request = new Request(HttpMethod.POST, "https://api.twilio.com/2010-04-01/Accounts/AC123/Messages.json");
+        request.addPostParam("To", "+14155551234");
+        request.addPostParam("From", "+14155550000");
+        request.addPostParam("Body", "hi there");
+        request.addPostParam("MediaUrl", "https://example.com/a.png");
+        request.addPostParam("MediaUrl", "https://example.com/b.png");
+
+        assertEquals(
+            "To=%2B14155551234&From=%2B14155550000&Body=hi+there&" +
+            "MediaUrl=https%3A%2F%2Fexample.com%2Fa.png&MediaUrl=https%3A%2F%2Fexample.com%2Fb.png",
+            request.encodeFormBody()
+        );
+    }
+
+    @Test
+    public void testSkipsNullValues() {
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        params.put("Skipped", Collections.<String>singletonList(null));
+        params.put("To", Arrays.asList(null, "+1", null));
+
+        assertEquals("To=%2B1", FormEncoder.encode(params));
+        assertEquals(7, FormEncoder.length(params));
+        assertEquals("", FormEncoder.encode(new LinkedHashMap<String, List<String>>()));
+    }
+
+    @Test
+    public void testWriteTo() throws Exception {
+        Map<String, List<String>> params = params("To", "+14155551234", "Body", "café");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        FormEncoder.writeTo(params, out);
+
+        assertEquals("To=%2B14155551234&Body=caf%C3%A9", new String(out.toByteArray(), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testLargeBody() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            sb.append("é ");
+        }
+
+        String encoded = FormEncoder.encode(params("Body", sb.toString()));
+        assertEquals(5 + 100000 * 7, encoded.length());
+        assertEquals("Body=%C3%A9+", FormEncoder.encode(params("Body", "é ")));
+    }
+}
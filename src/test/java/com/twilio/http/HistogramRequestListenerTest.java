@@ -0,0 +1,122 @@
+package com.twilio.http;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HistogramRequestListenerTest {
+
+    private static final String SID = "AC0123456789abcdef0123456789abcdef";
+
+    @Test
+    public void testTemplatePath() {
+        assertEquals(
+            "/2010-04-01/Accounts/{sid}/Messages/{sid}.json",
+            RequestEvent.templatePath("https://api.twilio.com/2010-04-01/Accounts/" + SID + "/Messages/"
+                + SID.replace("AC", "SM") + ".json")
+        );
+        assertEquals("/v1/Services/{sid}", RequestEvent.templatePath("https://chat.twilio.com/v1/Services/" + SID));
+        assertEquals("/v1/Services/{id}", RequestEvent.templatePath("https://chat.twilio.com/v1/Services/AC123"));
+        assertEquals("/v1/PhoneNumbers/{id}", RequestEvent.templatePath("https://lookups.twilio.com/v1/PhoneNumbers/"
+            + "+14155552671?Type=carrier"));
+        assertEquals(
+            "/2010-04-01/Accounts/{sid}/AvailablePhoneNumbers/{id}/Local.json",
+            RequestEvent.templatePath("https://api.twilio.com/2010-04-01/Accounts/" + SID
+                + "/AvailablePhoneNumbers/US/Local.json")
+        );
+        assertEquals("/v1/DialingPermissions/Countries/{id}",
+            RequestEvent.templatePath("https://voice.twilio.com/v1/DialingPermissions/Countries/US"));
+    }
+
+    @Test
+    public void testPathFromTemplate() {
+        UrlTemplate template = UrlTemplate.compile("lookups", "/v1/PhoneNumbers/{PhoneNumber}");
+        Request request = template.request(HttpMethod.GET, null, "+14155552671");
+
+        assertEquals("/v1/PhoneNumbers/{PhoneNumber}", new RequestEvent(request, null, null, 1, 0).getPath());
+    }
+
+    @Test
+    public void testMaxEndpoints() {
+        HistogramRequestListener listener = new HistogramRequestListener(2);
+        for (String path : new String[] {"/v1/Foo", "/v1/Bar", "/v1/Baz", "/v1/Foo", "/v1/Qux"}) {
+            Request request = new Request(HttpMethod.GET, "https://api.twilio.com" + path);
+            RequestEvent event = new RequestEvent(request, new Response("", 200), null, 1, 0);
+            listener.onAttempt(event);
+            listener.onRequest(event);
+        }
+
+        assertEquals(3, listener.getAttemptLatencies().size());
+        assertEquals(2, listener.getAttemptLatencies().get("GET /v1/Foo").getCount());
+        assertEquals(1, listener.getAttemptLatencies().get("GET /v1/Bar").getCount());
+        assertEquals(2, listener.getRequestLatencies().get("GET " + EndpointKeys.OTHER).getCount());
+        assertEquals(Long.valueOf(2), listener.getStatusCounts().get("GET " + EndpointKeys.OTHER + " 200"));
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        HistogramRequestListener.Histogram histogram = new HistogramRequestListener.Histogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000, histogram.getMax());
+        assertEquals(500.5, histogram.getMean(), 0.001);
+
+        long p50 = histogram.getPercentile(50);
+        long p99 = histogram.getPercentile(99);
+        assertTrue(p50 >= 500 && p50 <= 563);
+        assertTrue(p99 >= 990 && p99 <= 1000);
+        assertEquals(1, histogram.getPercentile(0.01));
+    }
+
+    @Test
+    public void testRecordsAttemptsAndRetries() {
+        final int[] attempts = new int[1];
+        HttpClient client = new HttpClient() {
+            @Override
+            public Response makeRequest(Request request) {
+                attempts[0]++;
+                return new Response("", attempts[0] == 1 ? 503 : 200);
+            }
+        };
+        HistogramRequestListener listener = new HistogramRequestListener();
+        client.setRequestListener(listener);
+
+        Request request = new Request(HttpMethod.POST, "https://api.twilio.com/2010-04-01/Accounts/" + SID + "/Calls");
+        request.addPostParam("To", "+14155551234");
+        client.reliableRequest(request, new BackoffRetryPolicy.Builder().baseDelay(1).build());
+
+        String key = "POST /2010-04-01/Accounts/{sid}/Calls";
+        assertEquals(2, listener.getAttemptLatencies().get(key).getCount());
+        assertEquals(1, listener.getRequestLatencies().get(key).getCount());
+        assertEquals(Long.valueOf(1), listener.getStatusCounts().get(key + " 503"));
+        assertEquals(Long.valueOf(1), listener.getStatusCounts().get(key + " 200"));
+        assertEquals(1, listener.getRetries());
+        assertEquals(2 * "To=%2B14155551234".length(), listener.getRequestBytes());
+    }
+
+    @Test
+    public void testEventBytes() {
+        Request request = new Request(HttpMethod.POST, "https://api.twilio.com/2010-04-01/Accounts/" + SID + "/Calls");
+        request.addPostParam("Body", "h\u00e9llo");
+        Map<String, List<String>> headers = Collections.singletonMap("Content-Length", Collections.singletonList("9"));
+        Response response = new Response(new ByteArrayInputStream("{\"a\": 1}".getBytes(StandardCharsets.UTF_8)), 200);
+        Response declared = new Response(new ByteArrayInputStream(new byte[9]), 200, headers);
+
+        RequestEvent event = new RequestEvent(request, response, null, 1, 0);
+        assertEquals(request.encodeFormBody().length(), event.getRequestBytes());
+        assertEquals(-1, event.getResponseBytes());
+        response.getContent();
+        assertEquals(8, event.getResponseBytes());
+        assertEquals(9, new RequestEvent(request, declared, null, 1, 0).getResponseBytes());
+    }
+}
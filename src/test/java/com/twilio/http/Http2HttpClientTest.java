@@ -0,0 +1,209 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.twilio.exception.ApiException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class Http2HttpClientTest {
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private String baseUrl;
+
+    @Before
+    public void setUp() throws IOException {
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(executor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("X-Protocol", exchange.getProtocol());
+        exchange.sendResponseHeaders(status, bytes.length);
+        OutputStream os = exchange.getResponseBody();
+        os.write(bytes);
+        os.close();
+    }
+
+    @Test
+    public void testFallsBackToHttp11() {
+        server.createContext("/get", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                respond(exchange, 200, exchange.getRequestMethod() + " " + exchange.getRequestURI().getQuery());
+            }
+        });
+        HistogramRequestListener listener = new HistogramRequestListener();
+        Http2HttpClient client = new Http2HttpClient.Builder().requestListener(listener).build();
+
+        try {
+            Request request = new Request(HttpMethod.GET, baseUrl + "/get");
+            request.addQueryParam("To", "+14155551234");
+            Response response = client.makeRequest(request);
+
+            assertEquals(200, response.getStatusCode());
+            assertEquals("GET To=+14155551234", response.getContent());
+            assertEquals("HTTP/1.1", response.getHeader("X-Protocol"));
+            assertEquals(1, listener.getLeaseWaits().get("127.0.0.1").getCount());
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testPostAsync() throws Exception {
+        server.createContext("/post", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                Scanner scanner = new Scanner(exchange.getRequestBody(), "UTF-8").useDelimiter("\\A");
+                respond(exchange, 201, scanner.next());
+            }
+        });
+        Http2HttpClient client = new Http2HttpClient();
+
+        try {
+            Request request = new Request(HttpMethod.POST, baseUrl + "/post");
+            request.addPostParam("Body", "hello world");
+            Response response = client.makeRequestAsync(request).get(5, TimeUnit.SECONDS);
+
+            assertEquals(201, response.getStatusCode());
+            assertEquals("Body=hello+world", response.getContent());
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testMaxConcurrentStreams() throws Exception {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        server.createContext("/slow", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                int current = inFlight.incrementAndGet();
+                synchronized (maxInFlight) {
+                    maxInFlight.set(Math.max(maxInFlight.get(), current));
+                }
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+                respond(exchange, 200, "ok");
+            }
+        });
+        Http2HttpClient client = new Http2HttpClient.Builder().maxConcurrentStreams(2).build();
+
+        try {
+            List<ListenableFuture<Response>> responses = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                responses.add(client.makeRequestAsync(new Request(HttpMethod.GET, baseUrl + "/slow")));
+            }
+            assertTrue(client.getQueuedRequests() > 0);
+
+            for (Response response : Futures.allAsList(responses).get(5, TimeUnit.SECONDS)) {
+                assertEquals(200, response.getStatusCode());
+            }
+            assertEquals(2, maxInFlight.get());
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testConnectionFailure() throws Exception {
+        server.stop(0);
+        Http2HttpClient client = new Http2HttpClient();
+
+        try {
+            client.makeRequestAsync(new Request(HttpMethod.GET, baseUrl + "/get")).get(5, TimeUnit.SECONDS);
+            fail("Expected connection failure");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ApiException);
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testBlockingRequestNotDispatched() {
+        server.createContext("/get", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                respond(exchange, 200, "ok");
+            }
+        });
+        Http2HttpClient client = new Http2HttpClient();
+
+        try {
+            assertEquals("ok", client.makeRequest(new Request(HttpMethod.GET, baseUrl + "/get")).getContent());
+            assertEquals(0, client.getRunningRequests());
+            assertEquals(0, client.getQueuedRequests());
+
+            server.stop(0);
+            client.makeRequest(new Request(HttpMethod.GET, baseUrl + "/get"));
+            fail("Expected connection failure");
+        } catch (ApiException e) {
+            // Connection refused on the calling thread
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testBlockingGetHedged() {
+        server.createContext("/get", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                respond(exchange, 200, "{}");
+            }
+        });
+        RequestHedger hedger = new RequestHedger.Builder().build();
+        Http2HttpClient client = new Http2HttpClient.Builder().build();
+
+        try {
+            assertTrue(client.isNonBlocking());
+            Response response = new HedgedHttpClient(client, hedger).makeRequest(
+                new Request(HttpMethod.GET, baseUrl + "/get")
+            );
+
+            assertEquals(200, response.getStatusCode());
+            assertEquals(1, hedger.getRequests());
+        } finally {
+            client.close();
+        }
+    }
+}
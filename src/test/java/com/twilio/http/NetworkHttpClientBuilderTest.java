@@ -0,0 +1,219 @@
+package com.twilio.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.twilio.rest.Domains;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NetworkHttpClientBuilderTest {
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                byte[] bytes = "ok".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, bytes.length);
+                OutputStream os = exchange.getResponseBody();
+                os.write(bytes);
+                os.close();
+            }
+        });
+        server.createContext("/gzip", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                String accept = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+                exchange.sendResponseHeaders(200, 0);
+                GZIPOutputStream os = new GZIPOutputStream(exchange.getResponseBody());
+                for (int i = 0; i < 100; i++) {
+                    os.write(accept.getBytes(StandardCharsets.UTF_8));
+                }
+                os.close();
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    private String get(NetworkHttpClient client) throws IOException {
+        InputStream stream = client.makeRequest(new Request(HttpMethod.GET, baseUrl + "/")).getStream();
+        try {
+            return new Scanner(stream, "UTF-8").useDelimiter("\\A").next();
+        } finally {
+            stream.close();
+        }
+    }
+
+    @Test
+    public void testPoolSettings() throws IOException {
+        NetworkHttpClient client = new NetworkHttpClient.Builder()
+            .maxConnections(200)
+            .maxConnectionsPerRoute(100)
+            .validateAfterInactivity(500)
+            .build();
+
+        try {
+            PoolingHttpClientConnectionManager manager = client.getConnectionManager();
+            assertEquals(200, manager.getMaxTotal());
+            assertEquals(100, manager.getDefaultMaxPerRoute());
+            assertEquals(500, manager.getValidateAfterInactivity());
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testMaxConnectionsPerDomainInEveryRegion() throws IOException {
+        NetworkHttpClient client = new NetworkHttpClient.Builder()
+            .maxConnectionsPerRoute(10)
+            .maxConnectionsPerDomain(Domains.API, 3)
+            .build();
+
+        try {
+            PoolingHttpClientConnectionManager manager = client.getConnectionManager();
+            HttpRoute regional = new HttpRoute(new HttpHost("api.ie1.twilio.com", 443, "https"), null, true);
+            HttpRoute other = new HttpRoute(new HttpHost("chat.ie1.twilio.com", 443, "https"), null, true);
+            manager.requestConnection(regional, null).cancel();
+            manager.requestConnection(other, null).cancel();
+
+            assertEquals(3, manager.getMaxPerRoute(regional));
+            assertEquals(10, manager.getMaxPerRoute(other));
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testDefaults() throws IOException {
+        NetworkHttpClient client = new NetworkHttpClient();
+
+        try {
+            assertEquals(10, client.getConnectionManager().getDefaultMaxPerRoute());
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testConnectionReused() throws IOException {
+        NetworkHttpClient client = new NetworkHttpClient.Builder().keepAlive(10000).build();
+
+        try {
+            for (int i = 0; i < 3; i++) {
+                assertEquals("ok", get(client));
+            }
+
+            assertEquals(1, client.getConnectionManager().getTotalStats().getAvailable());
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testReaperClosesIdleConnections() throws Exception {
+        NetworkHttpClient client = new NetworkHttpClient.Builder().maxIdleTime(100).build();
+
+        try {
+            assertEquals("ok", get(client));
+            assertEquals(1, client.getConnectionManager().getTotalStats().getAvailable());
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (client.getConnectionManager().getTotalStats().getAvailable() > 0
+                && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+
+            assertEquals(0, client.getConnectionManager().getTotalStats().getAvailable());
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testClientsShareReaperThread() throws IOException {
+        NetworkHttpClient first = new NetworkHttpClient.Builder().maxIdleTime(100).build();
+        NetworkHttpClient second = new NetworkHttpClient.Builder().maxIdleTime(100).build();
+
+        try {
+            int reapers = 0;
+            for (Thread thread : Thread.getAllStackTraces().keySet()) {
+                if (thread.getName().startsWith("twilio-connection-reaper")) {
+                    reapers++;
+                }
+            }
+            assertEquals(1, reapers);
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    public void testRequestListener() throws IOException {
+        HistogramRequestListener listener = new HistogramRequestListener();
+        NetworkHttpClient client = new NetworkHttpClient.Builder().requestListener(listener).build();
+
+        try {
+            Response response = client.reliableRequest(new Request(HttpMethod.GET, baseUrl + "/"));
+            response.getStream().close();
+
+            assertEquals(1, listener.getLeaseWaits().get("127.0.0.1").getCount());
+            assertEquals(1, listener.getAttemptLatencies().get("GET /").getCount());
+            assertEquals(1, listener.getRequestLatencies().get("GET /").getCount());
+            assertEquals(Long.valueOf(1), listener.getStatusCounts().get("GET / 200"));
+            assertEquals(2, listener.getResponseBytes());
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testGzipResponse() throws IOException {
+        NetworkHttpClient client = new NetworkHttpClient();
+
+        try {
+            Response response = client.makeRequest(new Request(HttpMethod.GET, baseUrl + "/gzip"));
+            InputStream stream = response.getStream();
+            String content;
+            try {
+                content = new Scanner(stream, "UTF-8").useDelimiter("\\A").next();
+            } finally {
+                stream.close();
+            }
+
+            assertEquals(100 * "gzip, deflate".length(), content.length());
+            assertTrue(content.startsWith("gzip, deflate"));
+            assertEquals(content.length(), client.getContentDecoder().getDecodedBytes());
+            assertTrue(client.getContentDecoder().getWireBytes() < content.length() / 5);
+        } finally {
+            client.close();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.twilio.exception.ApiException;
+import com.twilio.rest.Domains;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RequestCoalescerTest {
+
+    private static final String CALL = "https://api.twilio.com/2010-04-01/Accounts/AC123/Calls/CA123.json";
+
+    private static Request get(String url, String username) {
+        Request request = new Request(HttpMethod.GET, url);
+        request.setAuth(username, "AUTH TOKEN");
+        return request;
+    }
+
+    @Test
+    public void testConcurrentGetsShareRequest() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        RequestCoalescer coalescer = new RequestCoalescer.Builder().build();
+        final TwilioRestClient client = new TwilioRestClient.Builder("AC123", "AUTH TOKEN")
+            .httpClient(new HttpClient() {
+                @Override
+                public Response makeRequest(Request request) {
+                    calls.incrementAndGet();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return new Response(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)), 200);
+                }
+            })
+            .requestCoalescer(coalescer)
+            .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<Response>> responses = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                responses.add(executor.submit(new Callable<Response>() {
+                    @Override
+                    public Response call() {
+                        return client.request(new Request(HttpMethod.GET, CALL));
+                    }
+                }));
+            }
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (coalescer.getCollapsed() < 4 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<Response> response : responses) {
+                assertEquals("{}", response.get(5, TimeUnit.SECONDS).getContent());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(1, coalescer.getRequests());
+        assertEquals(4, coalescer.getCollapsed());
+        assertEquals(0, coalescer.getInFlight());
+    }
+
+    @Test
+    public void testOnlyIdenticalRequestsShared() throws Exception {
+        final List<SettableFuture<Response>> sent = new ArrayList<>();
+        AsyncFunction<Request, Response> send = new AsyncFunction<Request, Response>() {
+            @Override
+            public ListenableFuture<Response> apply(Request request) {
+                SettableFuture<Response> future = SettableFuture.create();
+                sent.add(future);
+                return future;
+            }
+        };
+        RequestCoalescer coalescer = new RequestCoalescer.Builder().build();
+
+        Request query = get(CALL, "AC123");
+        query.addQueryParam("PageSize", "5");
+        ListenableFuture<Response> first = coalescer.requestAsync(get(CALL, "AC123"), send);
+        ListenableFuture<Response> second = coalescer.requestAsync(get(CALL, "AC123"), send);
+        coalescer.requestAsync(get(CALL, "AC456"), send);
+        coalescer.requestAsync(query, send);
+
+        assertEquals(3, sent.size());
+        assertEquals(1, coalescer.getCollapsed());
+
+        sent.get(0).set(new Response("{}", 200));
+        assertSame(first.get(1, TimeUnit.SECONDS), second.get(1, TimeUnit.SECONDS));
+
+        coalescer.requestAsync(get(CALL, "AC123"), send);
+        assertEquals(4, sent.size());
+    }
+
+    @Test
+    public void testFailureSharedWithWaiters() throws Exception {
+        final SettableFuture<Response> sent = SettableFuture.create();
+        AsyncFunction<Request, Response> send = new AsyncFunction<Request, Response>() {
+            @Override
+            public ListenableFuture<Response> apply(Request request) {
+                return sent;
+            }
+        };
+        RequestCoalescer coalescer = new RequestCoalescer.Builder().build();
+
+        coalescer.requestAsync(get(CALL, "AC123"), send);
+        ListenableFuture<Response> waiter = coalescer.requestAsync(get(CALL, "AC123"), send);
+        sent.setException(new ApiException("Connection reset"));
+
+        try {
+            waiter.get(1, TimeUnit.SECONDS);
+            fail("Expected the shared request to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ApiException);
+        }
+        assertEquals(0, coalescer.getInFlight());
+    }
+
+    @Test
+    public void testCancelDoesNotAffectOtherCallers() throws Exception {
+        final SettableFuture<Response> sent = SettableFuture.create();
+        AsyncFunction<Request, Response> send = new AsyncFunction<Request, Response>() {
+            @Override
+            public ListenableFuture<Response> apply(Request request) {
+                return sent;
+            }
+        };
+        RequestCoalescer coalescer = new RequestCoalescer.Builder().build();
+
+        ListenableFuture<Response> leader = coalescer.requestAsync(get(CALL, "AC123"), send);
+        ListenableFuture<Response> waiter = coalescer.requestAsync(get(CALL, "AC123"), send);
+        assertTrue(leader.cancel(true));
+        assertFalse(sent.isCancelled());
+
+        sent.set(new Response("{}", 200));
+        assertEquals(200, waiter.get(1, TimeUnit.SECONDS).getStatusCode());
+        assertTrue(leader.isCancelled());
+    }
+
+    @Test
+    public void testDomains() {
+        RequestCoalescer coalescer = new RequestCoalescer.Builder().domains(Domains.API).build();
+
+        assertTrue(coalescer.applies(get(CALL, "AC123")));
+        assertFalse(coalescer.applies(get("https://chat.twilio.com/v1/Services/IS123", "AC123")));
+        assertFalse(coalescer.applies(new Request(HttpMethod.POST, CALL)));
+    }
+}
@@ -0,0 +1,213 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.twilio.rest.Domains;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RequestHedgerTest {
+
+    private static final Request GET = new Request(HttpMethod.GET, Domains.TASKROUTER.toString(), "/v1/Workspaces/WS123/Workers/WK123");
+
+    /**
+     * Answers the first attempt with a future that never completes, and later attempts right away.
+     */
+    private static class StuckHttpClient extends HttpClient {
+        private final List<SettableFuture<Response>> attempts = new ArrayList<>();
+
+        @Override
+        public boolean isNonBlocking() {
+            return true;
+        }
+
+        @Override
+        public Response makeRequest(Request request) {
+            return new Response("{}", 200);
+        }
+
+        @Override
+        public synchronized ListenableFuture<Response> makeRequestAsync(Request request) {
+            SettableFuture<Response> attempt = SettableFuture.create();
+            if (!attempts.isEmpty()) {
+                attempt.set(new Response("{}", 200));
+            }
+            attempts.add(attempt);
+            return attempt;
+        }
+    }
+
+    @Test
+    public void testHedgeWinsAndCancelsLoser() throws Exception {
+        RequestHedger hedger = new RequestHedger.Builder().percentile(0).delay(10).build();
+        StuckHttpClient network = new StuckHttpClient();
+        HttpClient client = new HedgedHttpClient(network, hedger);
+
+        assertEquals(200, client.makeRequest(GET).getStatusCode());
+        assertEquals(2, network.attempts.size());
+        for (int i = 0; i < 100 && !network.attempts.get(0).isDone(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(network.attempts.get(0).isCancelled());
+        assertEquals(1, hedger.getRequests());
+        assertEquals(1, hedger.getHedged());
+        assertEquals(1, hedger.getWins());
+    }
+
+    @Test
+    public void testFastAttemptNotHedged() throws Exception {
+        RequestHedger hedger = new RequestHedger.Builder().percentile(0).delay(50).build();
+        HttpClient client = new HedgedHttpClient(new HttpClient() {
+            @Override
+            public Response makeRequest(Request request) {
+                return new Response("{}", 200);
+            }
+
+            @Override
+            public ListenableFuture<Response> makeRequestAsync(Request request) {
+                return Futures.immediateFuture(new Response("{}", 200));
+            }
+        }, hedger);
+
+        assertEquals(200, client.makeRequestAsync(GET).get(1, TimeUnit.SECONDS).getStatusCode());
+        Thread.sleep(80);
+        assertEquals(0, hedger.getHedged());
+    }
+
+    @Test
+    public void testOnlyGetsHedged() {
+        RequestHedger hedger = new RequestHedger.Builder().build();
+        Request post = new Request(HttpMethod.POST, Domains.TASKROUTER.toString(), "/v1/Workspaces/WS123/Workers");
+        Request delete = new Request(HttpMethod.DELETE, Domains.TASKROUTER.toString(), "/v1/Workspaces/WS123/Workers/WK123");
+
+        assertTrue(hedger.applies(GET));
+        assertFalse(hedger.applies(post));
+        assertFalse(hedger.applies(delete));
+    }
+
+    @Test
+    public void testFailedAttemptWaitsForOther() throws Exception {
+        final List<SettableFuture<Response>> attempts = new ArrayList<>();
+        RequestHedger hedger = new RequestHedger.Builder().percentile(0).delay(5).build();
+        HttpClient client = new HedgedHttpClient(new HttpClient() {
+            @Override
+            public Response makeRequest(Request request) {
+                return new Response("{}", 200);
+            }
+
+            @Override
+            public synchronized ListenableFuture<Response> makeRequestAsync(Request request) {
+                SettableFuture<Response> attempt = SettableFuture.create();
+                attempts.add(attempt);
+                return attempt;
+            }
+        }, hedger);
+
+        ListenableFuture<Response> future = client.makeRequestAsync(GET);
+        Thread.sleep(50);
+        assertEquals(2, attempts.size());
+
+        attempts.get(1).set(new Response("{}", 503));
+        assertFalse(future.isDone());
+        attempts.get(0).set(new Response("{}", 200));
+        assertEquals(200, future.get(1, TimeUnit.SECONDS).getStatusCode());
+        assertEquals(0, hedger.getWins());
+    }
+
+    @Test
+    public void testBudgetLimitsHedges() throws Exception {
+        RequestHedger hedger = new RequestHedger.Builder().percentile(0).delay(5).budget(0, 1).build();
+
+        for (int i = 0; i < 3; i++) {
+            new HedgedHttpClient(new StuckHttpClient(), hedger).makeRequestAsync(GET);
+        }
+        Thread.sleep(50);
+
+        assertEquals(3, hedger.getRequests());
+        assertEquals(1, hedger.getHedged());
+        assertEquals(0, hedger.getRemainingBudget());
+    }
+
+    @Test
+    public void testPercentileDelay() {
+        RequestHedger hedger = new RequestHedger.Builder().percentile(90, 10).delay(500).build();
+        assertEquals(500, hedger.getDelayMillis(GET));
+
+        for (int i = 1; i <= 100; i++) {
+            hedger.record(GET, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        long delay = hedger.getDelayMillis(GET);
+        assertTrue(delay >= 80 && delay <= 100);
+    }
+
+    @Test
+    public void testMaxEndpoints() {
+        RequestHedger hedger = new RequestHedger.Builder().percentile(90, 10).delay(500).maxEndpoints(1).build();
+        for (int i = 1; i <= 100; i++) {
+            hedger.record(GET, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        Request worker = new Request(HttpMethod.GET, Domains.TASKROUTER.toString(), "/v1/Workspaces/WS456/Workers/WK456");
+        Request task = new Request(HttpMethod.GET, Domains.TASKROUTER.toString(), "/v1/Workspaces/WS123/Tasks/WT123");
+        assertEquals(hedger.getDelayMillis(GET), hedger.getDelayMillis(worker));
+        assertEquals(500, hedger.getDelayMillis(task));
+
+        for (int i = 1; i <= 100; i++) {
+            hedger.record(new Request(HttpMethod.GET, Domains.TASKROUTER.toString(), "/v1/Workspaces/WS123/Tasks/"
+                + i), TimeUnit.MILLISECONDS.toNanos(1000));
+        }
+        long delay = hedger.getDelayMillis(task);
+        assertTrue(delay >= 875 && delay <= 1000);
+        assertTrue(hedger.getDelayMillis(GET) <= 100);
+    }
+
+    @Test
+    public void testPercentileForgetsOldLatencies() throws Exception {
+        RequestHedger hedger = new RequestHedger.Builder().percentile(90, 10).delay(500).window(50).build();
+        for (int i = 1; i <= 100; i++) {
+            hedger.record(GET, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        assertTrue(hedger.getDelayMillis(GET) < 500);
+
+        Thread.sleep(120);
+        assertEquals(500, hedger.getDelayMillis(GET));
+    }
+
+    @Test
+    public void testBlockingTransportNotHedged() {
+        RequestHedger hedger = new RequestHedger.Builder().percentile(0).delay(5).build();
+        final List<String> threads = new ArrayList<>();
+        HttpClient client = new HedgedHttpClient(new HttpClient() {
+            @Override
+            public Response makeRequest(Request request) {
+                threads.add(Thread.currentThread().getName());
+                return new Response("{}", 200);
+            }
+        }, hedger);
+
+        assertEquals(200, client.makeRequest(GET).getStatusCode());
+        assertEquals(Thread.currentThread().getName(), threads.get(0));
+        assertEquals(0, hedger.getRequests());
+    }
+
+    @Test
+    public void testLoserLatencyRecorded() throws Exception {
+        RequestHedger hedger = new RequestHedger.Builder().percentile(50, 2).delay(30).build();
+        StuckHttpClient network = new StuckHttpClient();
+
+        assertEquals(200, new HedgedHttpClient(network, hedger).makeRequest(GET).getStatusCode());
+        // The instant hedge and the cancelled first attempt are both counted, once the loser's cancellation lands
+        for (int i = 0; i < 100 && hedger.getDelayMillis(GET) >= 30; i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(hedger.getDelayMillis(GET) < 30);
+    }
+}
@@ -0,0 +1,149 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.twilio.rest.Domains;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RequestLimiterTest {
+
+    private static Request message(String from) {
+        Request request = new Request(HttpMethod.POST, Domains.API.toString(), "/2010-04-01/Accounts/AC123/Messages.json");
+        request.addPostParam("From", from);
+        return request;
+    }
+
+    @Test
+    public void testThroughputLimit() {
+        RequestLimit limit = new RequestLimit.Builder().permitsPerSecond(20).build();
+        RequestLimiter limiter = new RequestLimiter.Builder().limit(limit).build();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(message("+14155551234"), "AC123").release();
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsed >= 150);
+        assertEquals(5, limit.getAcquired());
+        assertEquals(4, limit.getQueued());
+        assertTrue(limit.getMaxQueuedMillis() > 0);
+        assertTrue(limit.getTotalQueuedMillis() >= limit.getMaxQueuedMillis());
+    }
+
+    @Test
+    public void testConcurrencyLimitAsync() throws Exception {
+        RequestLimit limit = new RequestLimit.Builder().maxConcurrent(1).build();
+        RequestLimiter limiter = new RequestLimiter.Builder().limit(limit).build();
+
+        RequestLimiter.Permit first = limiter.acquire(message("+14155551234"), "AC123");
+        ListenableFuture<RequestLimiter.Permit> second = limiter.acquireAsync(message("+14155551234"), "AC123");
+        assertFalse(second.isDone());
+
+        first.release();
+        first.release();
+        second.get(1, TimeUnit.SECONDS).release();
+
+        assertEquals(2, limit.getAcquired());
+        assertEquals(1, limit.getQueued());
+    }
+
+    @Test
+    public void testPartitionedByParam() throws Exception {
+        RequestLimit limit = new RequestLimit.Builder().maxConcurrent(1).partitionBy("From").build();
+        RequestLimiter limiter = new RequestLimiter.Builder().limit(limit).build();
+
+        RequestLimiter.Permit first = limiter.acquire(message("+14155551234"), "AC123");
+        assertTrue(limiter.acquireAsync(message("+14155550000"), "AC123").isDone());
+        assertTrue(limiter.acquireAsync(message("+14155551234"), "AC456").isDone());
+        assertFalse(limiter.acquireAsync(message("+14155551234"), "AC123").isDone());
+        first.release();
+    }
+
+    @Test
+    public void testOnlyMatchingRequestsLimited() {
+        RequestLimit limit = new RequestLimit.Builder()
+            .domain(Domains.API)
+            .path(".*/Messages\\.json")
+            .maxConcurrent(1)
+            .build();
+        RequestLimiter limiter = new RequestLimiter.Builder().limit(limit).build();
+
+        limiter.acquire(message("+14155551234"), "AC123");
+        assertTrue(limiter.acquireAsync(new Request(HttpMethod.GET, Domains.API.toString(), "/2010-04-01/Accounts/AC123/Calls.json"), "AC123").isDone());
+        assertTrue(limiter.acquireAsync(new Request(HttpMethod.GET, Domains.CHAT.toString(), "/v1/Messages.json"), "AC123").isDone());
+        assertFalse(limiter.acquireAsync(message("+14155551234"), "AC123").isDone());
+    }
+
+    @Test
+    public void testRestClientReleasesPermits() {
+        RequestLimit limit = new RequestLimit.Builder().maxConcurrent(1).build();
+        TwilioRestClient client = new TwilioRestClient.Builder("AC123", "AUTH TOKEN")
+            .httpClient(new HttpClient() {
+                @Override
+                public Response makeRequest(Request request) {
+                    return new Response("{}", 200);
+                }
+            })
+            .requestLimiter(new RequestLimiter.Builder().limit(limit).build())
+            .build();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, client.request(message("+14155551234")).getStatusCode());
+        }
+        assertEquals(3, limit.getAcquired());
+        assertEquals(0, limit.getQueued());
+    }
+
+    @Test
+    public void testRestClientReleasesPermitWhenSendThrows() throws Exception {
+        RequestLimit limit = new RequestLimit.Builder().maxConcurrent(1).build();
+        TwilioRestClient client = new TwilioRestClient.Builder("AC123", "AUTH TOKEN")
+            .httpClient(new HttpClient() {
+                @Override
+                public Response makeRequest(Request request) {
+                    return new Response("{}", 200);
+                }
+
+                @Override
+                public ListenableFuture<Response> reliableRequestAsync(Request request) {
+                    throw new IllegalStateException("closed");
+                }
+            })
+            .requestLimiter(new RequestLimiter.Builder().limit(limit).build())
+            .build();
+
+        for (int i = 0; i < 2; i++) {
+            ListenableFuture<Response> response = client.requestAsync(message("+14155551234"));
+            assertTrue(response.isDone());
+            try {
+                response.get();
+                fail("Expected the send to fail");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+        }
+    }
+
+    @Test
+    public void testPartitionsBounded() {
+        RequestLimit limit = new RequestLimit.Builder()
+            .partitionBy("From")
+            .maxConcurrent(1)
+            .maxPartitions(10)
+            .build();
+        RequestLimiter limiter = new RequestLimiter.Builder().limit(limit).build();
+
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire(message("+1415555" + (1000 + i)), "AC123").release();
+        }
+        assertTrue(limit.getPartitions() <= 10);
+    }
+}
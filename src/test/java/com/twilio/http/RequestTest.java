@@ -9,12 +9,15 @@ import org.junit.Test;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.twilio.Assert.assertQueryStringsEqual;
 import static com.twilio.Assert.assertUrlsEqual;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -166,5 +169,50 @@ public class RequestTest {
         assertTrue(request.requiresAuthentication());
     }
 
+    @Test
+    public void testGetAuthString() {
+        Request request = new Request(HttpMethod.GET, "/uri");
+        request.setAuth("AC123", "token");
+        assertEquals("Basic QUMxMjM6dG9rZW4=", request.getAuthString());
+    }
+
+    @Test
+    public void testSharedCredentials() {
+        Credentials credentials = Credentials.apiKey("SK123", "secret");
+        Request first = new Request(HttpMethod.GET, "/uri");
+        Request second = new Request(HttpMethod.GET, "/uri");
+        first.setCredentials(credentials);
+        second.setCredentials(credentials);
+
+        assertTrue(first.requiresAuthentication());
+        assertEquals("SK123", first.getUsername());
+        assertEquals("secret", first.getPassword());
+        assertSame(first.getAuthString(), second.getAuthString());
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void testRestClientSwapsCredentials() {
+        final List<String> authorizations = new ArrayList<>();
+        TwilioRestClient client = new TwilioRestClient.Builder(Credentials.apiKey("SK123", "secret"))
+            .accountSid("AC123")
+            .httpClient(new HttpClient() {
+                @Override
+                public Response makeRequest(Request request) {
+                    authorizations.add(request.getAuthString());
+                    return new Response("{}", 200);
+                }
+            })
+            .build();
+
+        client.request(new Request(HttpMethod.GET, Domains.API.toString(), "/2010-04-01/Accounts/AC123.json"));
+        client.setCredentials(Credentials.apiKey("SK456", "rotated"));
+        client.request(new Request(HttpMethod.GET, Domains.API.toString(), "/2010-04-01/Accounts/AC123.json"));
+
+        assertEquals("AC123", client.getAccountSid());
+        assertEquals(new Credentials("SK123", "secret").getAuthorization(), authorizations.get(0));
+        assertEquals(new Credentials("SK456", "rotated").getAuthorization(), authorizations.get(1));
+    }
+
 }
 
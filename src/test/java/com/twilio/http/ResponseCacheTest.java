@@ -0,0 +1,177 @@
+package com.twilio.http;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ResponseCacheTest {
+
+    private static final String COUNTRY = "https://pricing.twilio.com/v1/Voice/Countries/US";
+    private static final String NUMBER = "https://api.twilio.com/2010-04-01/Accounts/AC123/IncomingPhoneNumbers/PN123.json";
+
+    private final List<String> requests = new ArrayList<>();
+    private int status;
+
+    @Before
+    public void setUp() {
+        requests.clear();
+        status = 200;
+    }
+
+    private TwilioRestClient client(ResponseCache cache) {
+        return new TwilioRestClient.Builder("AC123", "AUTH TOKEN")
+            .httpClient(new HttpClient() {
+                @Override
+                public Response makeRequest(Request request) {
+                    requests.add(request.getMethod() + " " + request.getUrl());
+                    byte[] body = ("{\"n\": " + requests.size() + "}").getBytes(StandardCharsets.UTF_8);
+                    return new Response(new ByteArrayInputStream(body), status);
+                }
+            })
+            .retryPolicy(new BackoffRetryPolicy.Builder().maxAttempts(1).build())
+            .responseCache(cache)
+            .build();
+    }
+
+    private static Request get(String url) {
+        return new Request(HttpMethod.GET, url);
+    }
+
+    @Test
+    public void testCachesGetWithinTtl() throws Exception {
+        ResponseCache cache = new ResponseCache.Builder().ttl(60000).build();
+        TwilioRestClient client = client(cache);
+
+        assertEquals("{\"n\": 1}", client.request(get(COUNTRY)).getContent());
+        assertEquals("{\"n\": 1}", client.request(get(COUNTRY)).getContent());
+        assertEquals("{\"n\": 1}", client.requestAsync(get(COUNTRY)).get(1, TimeUnit.SECONDS).getContent());
+
+        assertEquals(1, requests.size());
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getSize());
+        assertEquals(8, cache.getBytes());
+    }
+
+    @Test
+    public void testExpires() throws Exception {
+        ResponseCache cache = new ResponseCache.Builder().ttl(1).build();
+        TwilioRestClient client = client(cache);
+
+        client.request(get(COUNTRY));
+        Thread.sleep(5);
+        assertEquals("{\"n\": 2}", client.request(get(COUNTRY)).getContent());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testTtlPerPath() {
+        ResponseCache cache = new ResponseCache.Builder()
+            .ttl("/v1/Voice/Countries/.*", 60000)
+            .ttl(".*/IncomingPhoneNumbers/.*", 0)
+            .build();
+        TwilioRestClient client = client(cache);
+
+        client.request(get(COUNTRY));
+        client.request(get(COUNTRY));
+        client.request(get(NUMBER));
+        client.request(get(NUMBER));
+
+        assertEquals(3, requests.size());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testLruEviction() {
+        ResponseCache cache = new ResponseCache.Builder().ttl(60000).maxEntries(2).build();
+        TwilioRestClient client = client(cache);
+
+        client.request(get(COUNTRY + "?1"));
+        client.request(get(COUNTRY + "?2"));
+        client.request(get(COUNTRY + "?1"));
+        client.request(get(COUNTRY + "?3"));
+        client.request(get(COUNTRY + "?1"));
+        client.request(get(COUNTRY + "?2"));
+
+        assertEquals(4, requests.size());
+        assertEquals(2, cache.getEvictions());
+        assertEquals(2, cache.getSize());
+    }
+
+    @Test
+    public void testWritesInvalidate() {
+        ResponseCache cache = new ResponseCache.Builder().ttl(60000).build();
+        TwilioRestClient client = client(cache);
+
+        Request query = get(NUMBER);
+        query.addQueryParam("PageSize", "5");
+        client.request(get(NUMBER));
+        client.request(query);
+        client.request(new Request(HttpMethod.POST, NUMBER));
+        assertEquals(2, cache.getInvalidations());
+
+        assertEquals("{\"n\": 4}", client.request(get(NUMBER)).getContent());
+        client.request(new Request(HttpMethod.DELETE, NUMBER));
+        client.request(get(NUMBER));
+
+        assertEquals(6, requests.size());
+        assertEquals(3, cache.getInvalidations());
+    }
+
+    @Test
+    public void testErrorsNotCached() {
+        ResponseCache cache = new ResponseCache.Builder().ttl(60000).build();
+        TwilioRestClient client = client(cache);
+
+        status = 404;
+        Response first = client.request(get(NUMBER));
+        client.request(get(NUMBER));
+
+        assertEquals(2, requests.size());
+        assertEquals(0, cache.getSize());
+        assertEquals(404, first.getStatusCode());
+    }
+
+    @Test
+    public void testCachedResponseShared() {
+        ResponseCache cache = new ResponseCache.Builder().ttl(60000).build();
+        TwilioRestClient client = client(cache);
+
+        assertSame(client.request(get(COUNTRY)), client.request(get(COUNTRY)));
+    }
+
+    @Test
+    public void testWriteDuringGetNotCached() {
+        ResponseCache cache = new ResponseCache.Builder().ttl(60000).build();
+
+        long generation = cache.generation(get(NUMBER));
+        cache.invalidate(new Request(HttpMethod.POST, NUMBER));
+        Response stale = cache.put(get(NUMBER), new Response("{\"n\": 1}", 200), generation);
+
+        assertEquals("{\"n\": 1}", stale.getContent());
+        assertEquals(0, cache.getSize());
+
+        cache.put(get(NUMBER), new Response("{\"n\": 2}", 200), cache.generation(get(NUMBER)));
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    public void testSizeInBytes() {
+        ResponseCache cache = new ResponseCache.Builder().ttl(60000).maxBytes(14).build();
+
+        cache.put(get(COUNTRY), new Response("{\"name\": \"\u00e9\"}", 200), cache.generation(get(COUNTRY)));
+        cache.put(get(NUMBER), new Response("{\"name\": \"\u00e9\u00e9\"}", 200), cache.generation(get(NUMBER)));
+
+        assertEquals(14, cache.getBytes());
+        assertEquals(1, cache.getSize());
+    }
+}
@@ -5,20 +5,42 @@ import mockit.Mocked;
 import mockit.NonStrictExpectations;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
 public class ResponseTest {
 
+    /**
+     * Stream that counts how many times it was closed.
+     */
+    private static class TrackingStream extends ByteArrayInputStream {
+        private int closed;
+
+        TrackingStream(String content) {
+            super(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed++;
+            super.close();
+        }
+    }
+
     @Test(expected = ApiConnectionException.class)
     public void testGetContentIOException(@Mocked final InputStream stream) throws IOException {
         Response response = new Response(stream, TwilioRestClient.HTTP_STATUS_CODE_OK);
 
         new NonStrictExpectations() {{
-            stream.available();
+            stream.read((byte[]) any, anyInt, anyInt);
             result = new IOException();
         }};
 
@@ -27,9 +49,74 @@ public class ResponseTest {
     }
 
     @Test
-    public void testGetStream(@Mocked final InputStream stream) {
+    public void testGetStream() throws IOException {
+        Response response = new Response(new TrackingStream("frobozz"), TwilioRestClient.HTTP_STATUS_CODE_OK);
+
+        byte[] read = new byte[16];
+        assertEquals(7, response.getStream().read(read));
+        assertEquals("frobozz", new String(read, 0, 7, StandardCharsets.UTF_8));
+        assertEquals(7, response.getBodyBytes());
+    }
+
+    @Test
+    public void testGetContentReadsWholeBodyAndCloses() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            sb.append("Ø ");
+        }
+        TrackingStream stream = new TrackingStream(sb.toString());
         Response response = new Response(stream, TwilioRestClient.HTTP_STATUS_CODE_OK);
-        assertEquals(stream, response.getStream());
+
+        assertEquals(sb.toString(), response.getContent());
+        assertEquals(sb.toString(), response.getContent());
+        assertEquals(15000, response.getBodyBytes());
+        assertEquals(1, stream.closed);
+    }
+
+    @Test
+    public void testGetContentEmptyBody() {
+        Response response = new Response(new TrackingStream(""), TwilioRestClient.HTTP_STATUS_CODE_NO_CONTENT);
+        assertEquals("", response.getContent());
     }
 
+    @Test
+    public void testCloseReleasesOnce() {
+        TrackingStream stream = new TrackingStream("{}");
+        Response response = new Response(stream, TwilioRestClient.HTTP_STATUS_CODE_NO_CONTENT);
+
+        response.close();
+        response.close();
+        assertEquals(1, stream.closed);
+    }
+
+    @Test
+    public void testContentLength() {
+        Map<String, List<String>> headers = Collections.singletonMap("content-length", Collections.singletonList("42"));
+
+        assertEquals(42, new Response("{}", 200, headers).getContentLength());
+        assertEquals(-1, new Response("{}", 200).getContentLength());
+        assertEquals(2, new Response("{}", 200).getBodyBytes());
+    }
+
+    @Test
+    public void testRetriesReleaseDiscardedResponses() {
+        final TrackingStream[] streams = {new TrackingStream("busy"), new TrackingStream("{}")};
+        final int[] attempts = new int[1];
+        HttpClient client = new HttpClient() {
+            @Override
+            public Response makeRequest(Request request) {
+                int attempt = attempts[0]++;
+                return new Response(streams[attempt], attempt == 0 ? 503 : 200);
+            }
+        };
+
+        Response response = client.reliableRequest(
+            new Request(HttpMethod.GET, "https://api.twilio.com/uri"),
+            new BackoffRetryPolicy.Builder().baseDelay(1).build()
+        );
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(1, streams[0].closed);
+        assertEquals(0, streams[1].closed);
+    }
 }
@@ -0,0 +1,100 @@
+package com.twilio.http;
+
+import com.twilio.exception.ApiException;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.type.PhoneNumber;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.junit.Test;
+
+import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class TwilioRestClientTest {
+
+    private static final HttpRoute ROUTE = new HttpRoute(new HttpHost("api.twilio.com", 443, "https"), null, true);
+
+    @Test(expected = IllegalStateException.class)
+    public void testCloseReleasesCreatedClient() {
+        TwilioRestClient client = new TwilioRestClient.Builder("AC123", "AUTH TOKEN").build();
+        NetworkHttpClient httpClient = (NetworkHttpClient) client.getHttpClient();
+
+        client.close();
+        httpClient.getConnectionManager().requestConnection(ROUTE, null);
+    }
+
+    @Test
+    public void testCloseLeavesGivenClientOpen() {
+        ClosableHttpClient httpClient = new ClosableHttpClient();
+        new TwilioRestClient.Builder("AC123", "AUTH TOKEN").httpClient(httpClient).build().close();
+
+        assertFalse(httpClient.closed);
+    }
+
+    @Test
+    public void testRequestListenerLeavesGivenClientUntouched() {
+        ClosableHttpClient httpClient = new ClosableHttpClient();
+        HistogramRequestListener listener = new HistogramRequestListener();
+        TwilioRestClient client = new TwilioRestClient.Builder("AC123", "AUTH TOKEN")
+            .httpClient(httpClient)
+            .requestListener(listener)
+            .build();
+
+        client.request(new Request(HttpMethod.GET, "https://api.twilio.com/v1/Services"));
+
+        assertSame(RequestListener.NO_OP, httpClient.getRequestListener());
+        assertEquals(1, listener.getAttemptLatencies().get("GET /v1/Services").getCount());
+        assertEquals(1, listener.getRequestLatencies().get("GET /v1/Services").getCount());
+    }
+
+    @Test
+    public void testSendingMessageNotRetried() {
+        final AtomicInteger attempts = new AtomicInteger();
+        TwilioRestClient client = new TwilioRestClient.Builder("AC123", "AUTH TOKEN")
+            .httpClient(new HttpClient() {
+                @Override
+                public Response makeRequest(Request request) {
+                    attempts.incrementAndGet();
+                    return new Response("{}", 500);
+                }
+            })
+            .retryPolicy(new BackoffRetryPolicy.Builder().maxAttempts(3).baseDelay(1).build())
+            .build();
+
+        try {
+            Message.creator(new PhoneNumber("+14155551234"), new PhoneNumber("+14155554321"), "body").create(client);
+            fail("Expected ApiException to be thrown for 500");
+        } catch (final ApiException e) {
+            assertEquals(1, attempts.get());
+        }
+
+        attempts.set(0);
+        try {
+            Message.creator(new PhoneNumber("+14155551234"), new PhoneNumber("+14155554321"), "body")
+                .idempotent(true)
+                .create(client);
+            fail("Expected ApiException to be thrown for 500");
+        } catch (final ApiException e) {
+            assertEquals(3, attempts.get());
+        }
+    }
+
+    private static class ClosableHttpClient extends HttpClient implements Closeable {
+        private boolean closed;
+
+        @Override
+        public Response makeRequest(Request request) {
+            return new Response("{}", 200);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
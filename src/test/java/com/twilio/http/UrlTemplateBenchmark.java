@@ -0,0 +1,57 @@
+package com.twilio.http;
+
+import com.google.common.base.Joiner;
+import com.twilio.rest.Domains;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of building a request URL from a {@link UrlTemplate} against joining the host and parsing the
+ * result with {@link Request#constructURL()}.
+ *
+ * <p>
+ *     Run with {@code java -cp target/test-classes:target/classes:<test classpath> org.openjdk.jmh.Main UrlTemplateBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class UrlTemplateBenchmark {
+
+    private static final UrlTemplate CALL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{AccountSid}/Calls/{Sid}.json"
+    );
+
+    private String accountSid = "ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+    private String sid = "CAaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+
+    @Benchmark
+    public String template() {
+        return CALL.request(HttpMethod.GET, null, accountSid, sid).buildUrl();
+    }
+
+    /**
+     * Build the URL the way generated classes without a template used to: join the host, concatenate the path,
+     * then parse it through {@code URI} and {@code URL}.
+     */
+    @Benchmark
+    public URL constructURL() {
+        String url = "https://" + Joiner.on(".").skipNulls().join(Domains.API.toString(), null, "twilio", "com") +
+            "/2010-04-01/Accounts/" + accountSid + "/Calls/" + sid + ".json";
+        return new Request(HttpMethod.GET, url).constructURL();
+    }
+}
@@ -0,0 +1,81 @@
+package com.twilio.http;
+
+import com.twilio.exception.InvalidRequestException;
+import com.twilio.rest.Domains;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class UrlTemplateTest {
+
+    private static final UrlTemplate CALL = UrlTemplate.compile(
+        Domains.API,
+        "/2010-04-01/Accounts/{AccountSid}/Calls/{Sid}.json"
+    );
+
+    @Test
+    public void testExpand() {
+        assertArrayEquals(new String[]{"AccountSid", "Sid"}, CALL.getHoles());
+        assertEquals(
+            "https://api.twilio.com/2010-04-01/Accounts/AC123/Calls/CA456.json",
+            CALL.expand(null, "AC123", "CA456")
+        );
+    }
+
+    @Test
+    public void testExpandWithRegion() {
+        assertEquals(
+            "https://api.us1.twilio.com/2010-04-01/Accounts/AC123/Calls/CA456.json",
+            CALL.expand("us1", "AC123", "CA456")
+        );
+    }
+
+    @Test
+    public void testMatchesRequestConstructor() {
+        Request request = new Request(HttpMethod.GET, Domains.API.toString(), "/2010-04-01/Accounts/AC123/Calls/CA456.json", "us1");
+        assertEquals(request, CALL.request(HttpMethod.GET, "us1", "AC123", "CA456"));
+    }
+
+    @Test
+    public void testEscapesUnsafeValues() {
+        UrlTemplate template = UrlTemplate.compile(Domains.LOOKUPS, "/v1/PhoneNumbers/{PhoneNumber}");
+
+        assertEquals("https://lookups.twilio.com/v1/PhoneNumbers/+14155551234", template.expand(null, "+14155551234"));
+        assertEquals("https://lookups.twilio.com/v1/PhoneNumbers/a%20b%2F%C3%A9", template.expand(null, "a b/é"));
+    }
+
+    @Test
+    public void testNoHoles() {
+        UrlTemplate template = UrlTemplate.compile(Domains.PRICING, "/v1/Voice/Countries");
+        assertEquals("https://pricing.twilio.com/v1/Voice/Countries", template.expand(null));
+    }
+
+    @Test
+    public void testBaseUrlCached() {
+        assertEquals("https://chat.eu1.twilio.com", UrlTemplate.baseUrl("chat", "eu1"));
+        assertSame(UrlTemplate.baseUrl("api", null), UrlTemplate.baseUrl("api", null));
+        assertSame(UrlTemplate.baseUrl("api", "us1"), UrlTemplate.baseUrl("api", "us1"));
+    }
+
+    @Test(expected = InvalidRequestException.class)
+    public void testWrongNumberOfValues() {
+        CALL.expand(null, "AC123");
+    }
+
+    @Test(expected = InvalidRequestException.class)
+    public void testMissingValue() {
+        CALL.expand(null, "AC123", null);
+    }
+
+    @Test
+    public void testBuildUrl() {
+        Request request = CALL.request(HttpMethod.GET, null, "AC123", "CA456");
+        assertEquals(request.getUrl(), request.buildUrl());
+
+        request.addQueryParam("PageSize", "50");
+        assertEquals(request.getUrl() + "?PageSize=50", request.buildUrl());
+        assertEquals(request.constructURL().toString(), request.buildUrl());
+    }
+}